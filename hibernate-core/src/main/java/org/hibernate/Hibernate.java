@@ -17,6 +17,7 @@
 import java.util.TreeSet;
 import java.util.function.Supplier;
 
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.metamodel.Attribute;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
@@ -29,6 +30,9 @@
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.loader.ast.internal.GraphBatchFetcher;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
@@ -395,6 +399,39 @@ public static <T> T unproxy(T proxy, Class<T> entityClass) {
 		return entityClass.cast( unproxy( proxy ) );
 	}
 
+	/**
+	 * Fetch the associations and collections named by the given {@link EntityGraph}
+	 * for every one of the given root entities, in a single pass over the graph.
+	 * <p>
+	 * The graph is traversed breadth-first. At each level, the unfetched references
+	 * and collections of all the roots are gathered together, and then fetched using
+	 * one batch load per entity type and one per collection role, with the identifiers
+	 * passed as a single SQL {@code ARRAY} parameter if the dialect supports arrays.
+	 * The number of queries executed therefore depends on the shape of the graph, and
+	 * not on the number of roots, nor on the configured batch fetch size.
+	 * <pre>
+	 * EntityGraph&lt;Order&gt; graph = session.createEntityGraph(Order.class);
+	 * graph.addSubgraph(Order_.lines).addSubgraph(OrderLine_.product).addAttributeNode(Product_.supplier);
+	 * List&lt;Order&gt; orders = session.createSelectionQuery("from Order", Order.class).getResultList();
+	 * Hibernate.fetchGraph(session, orders, graph);
+	 * </pre>
+	 *
+	 * @param session the session with which the roots are associated
+	 * @param roots entity instances or uninitialized proxies
+	 * @param graph the graph to fetch for each root
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public static void fetchGraph(Session session, Collection<?> roots, EntityGraph<?> graph) {
+		if ( !( graph instanceof GraphImplementor<?> graphImplementor ) ) {
+			throw new IllegalArgumentException( "Given graph was not created by Hibernate" );
+		}
+		if ( !roots.isEmpty() ) {
+			new GraphBatchFetcher( session.unwrap( SharedSessionContractImplementor.class ) ).fetch( roots, graphImplementor );
+		}
+	}
+
 	/**
 	 * Obtain a detached, uninitialized reference (a proxy) for a persistent entity with
 	 * the given identifier.
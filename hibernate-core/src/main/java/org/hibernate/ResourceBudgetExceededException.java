@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate;
+
+/**
+ * Thrown when a session exceeds a configured resource budget, for
+ * example, when it holds more entity instances than allowed by
+ * {@value org.hibernate.cfg.SessionEventSettings#MAX_MANAGED_ENTITIES}.
+ *
+ * @see org.hibernate.cfg.SessionEventSettings#FAIL_ON_SESSION_BUDGET_EXCEEDED
+ *
+ * @since 7.0
+ */
+@Incubating
+public class ResourceBudgetExceededException extends HibernateException {
+	/**
+	 * Constructs a {@code ResourceBudgetExceededException} using the supplied message.
+	 *
+	 * @param message The message explaining the exception condition
+	 */
+	public ResourceBudgetExceededException(String message) {
+		super( message );
+	}
+}
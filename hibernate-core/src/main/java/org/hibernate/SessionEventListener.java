@@ -60,5 +60,24 @@ default void partialFlushEnd(int numberOfEntities, int numberOfCollections) {}
 	default void dirtyCalculationStart() {}
 	default void dirtyCalculationEnd(boolean dirty) {}
 
+	/**
+	 * Called when an entity instance becomes associated with the
+	 * persistence context.
+	 *
+	 * @param numberOfManagedEntities the number of entity instances now
+	 *                                associated with the persistence context
+	 *
+	 * @since 7.0
+	 */
+	default void entityManaged(int numberOfManagedEntities) {}
+
+	/**
+	 * Called after the rows of a JDBC result set have been read into
+	 * a list of query results.
+	 *
+	 * @since 7.0
+	 */
+	default void jdbcRowsRead(int numberOfRows) {}
+
 	default void end() {}
 }
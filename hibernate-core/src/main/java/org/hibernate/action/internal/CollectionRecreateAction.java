@@ -63,7 +63,7 @@ public void execute() throws HibernateException {
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.recreateCollection( persister.getRole() );
+			statistics.recreateCollection( persister );
 		}
 	}
 
@@ -133,7 +133,7 @@ public void execute() throws HibernateException {
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.removeCollection( getPersister().getRole() );
+			statistics.removeCollection( getPersister() );
 		}
 	}
 
@@ -103,7 +103,7 @@ else if ( collection.needsRecreate( persister ) ) {
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.updateCollection( persister.getRole() );
+			statistics.updateCollection( persister );
 		}
 	}
 
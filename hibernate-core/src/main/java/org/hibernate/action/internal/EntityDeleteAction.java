@@ -150,7 +150,7 @@ public void execute() throws HibernateException {
 
 		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !veto ) {
-			statistics.deleteEntity( getPersister().getEntityName() );
+			statistics.deleteEntity( getPersister() );
 		}
 	}
 
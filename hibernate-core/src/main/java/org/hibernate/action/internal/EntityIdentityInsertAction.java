@@ -124,7 +124,7 @@ public void execute() throws HibernateException {
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
-			statistics.insertEntity( getPersister().getEntityName() );
+			statistics.insertEntity( getPersister() );
 		}
 
 		markExecuted();
@@ -132,7 +132,7 @@ public void execute() throws HibernateException {
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !veto ) {
-			statistics.insertEntity( getPersister().getEntityName() );
+			statistics.insertEntity( getPersister() );
 		}
 
 		markExecuted();
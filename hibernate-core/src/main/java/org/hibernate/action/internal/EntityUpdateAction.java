@@ -197,7 +197,7 @@ public void execute() throws HibernateException {
 
 			final StatisticsImplementor statistics = session.getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
-				statistics.updateEntity( getPersister().getEntityName() );
+				statistics.updateEntity( getPersister() );
 			}
 		}
 	}
@@ -73,6 +73,7 @@
 
 import jakarta.persistence.criteria.Nulls;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
@@ -88,19 +89,26 @@
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_CATALOG;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_SCHEMA;
+import static org.hibernate.cfg.AvailableSettings.DEFER_JDBC_TRANSACTION_BEGIN;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static org.hibernate.cfg.AvailableSettings.FAIL_ON_SESSION_BUDGET_EXCEEDED;
+import static org.hibernate.cfg.AvailableSettings.FETCH_SIZE_MEMORY_BUDGET;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_VALUES_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
+import static org.hibernate.cfg.AvailableSettings.LAZY_LOAD_DETECTION_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MAX_MANAGED_ENTITIES;
+import static org.hibernate.cfg.AvailableSettings.MAX_STATEMENTS;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
@@ -108,10 +116,14 @@
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.SCROLL_PREFETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SLOW_QUERY_CAPTURE_SIZE;
+import static org.hibernate.cfg.AvailableSettings.SLOW_QUERY_EXPLAIN;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
@@ -139,6 +151,7 @@
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 import static org.hibernate.type.format.jackson.JacksonIntegration.getJsonJacksonFormatMapperOrNull;
 import static org.hibernate.type.format.jackson.JacksonIntegration.getXMLJacksonFormatMapperOrNull;
@@ -203,6 +216,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private final int lazyLoadDetectionThreshold;
+	private final boolean adaptiveBatchFetchEnabled;
+	private final int scrollPrefetchSize;
 	private Nulls defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
@@ -254,10 +270,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private int jdbcStatementCacheSize;
+	private long jdbcFetchSizeMemoryBudget;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
 	private boolean connectionProviderDisablesAutoCommit;
+	private boolean jdbcTransactionBeginDeferred;
 	private TimeZone jdbcTimeZone;
 	private final ValueHandlingMode criteriaValueHandlingMode;
 	private final boolean criteriaCopyTreeEnabled;
@@ -276,12 +295,15 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final int inClauseValuesThreshold;
 
 	private final boolean portableIntegerDivisionEnabled;
 	private final boolean jsonFunctionsEnabled;
 	private final boolean xmlFunctionsEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final int slowQueryCaptureSize;
+	private final boolean slowQueryExplainEnabled;
 
 
 	@SuppressWarnings( "unchecked" )
@@ -356,7 +378,12 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 				? null
 				: strategySelector.selectStrategyImplementor( SessionEventListener.class, autoSessionEventsListenerName );
 
-		this.baselineSessionEventsListenerBuilder = new BaselineSessionEventsListenerBuilder( autoSessionEventsListener );
+		this.baselineSessionEventsListenerBuilder = new BaselineSessionEventsListenerBuilder(
+				autoSessionEventsListener,
+				getInt( MAX_MANAGED_ENTITIES, configurationSettings, -1 ),
+				getInt( MAX_STATEMENTS, configurationSettings, -1 ),
+				getBoolean( FAIL_ON_SESSION_BUDGET_EXCEEDED, configurationSettings )
+		);
 
 		this.customEntityDirtinessStrategy = strategySelector.resolveDefaultableStrategy(
 				CustomEntityDirtinessStrategy.class,
@@ -387,6 +414,9 @@ public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, Boo
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
+		this.lazyLoadDetectionThreshold = getInt( LAZY_LOAD_DETECTION_THRESHOLD, configurationSettings, 0 );
+		this.adaptiveBatchFetchEnabled = getBoolean( ADAPTIVE_BATCH_FETCH, configurationSettings );
+		this.scrollPrefetchSize = getInt( SCROLL_PREFETCH_SIZE, configurationSettings, 0 );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 
 		final Object defaultNullPrecedence = configurationSettings.get( DEFAULT_NULL_ORDERING );
@@ -545,6 +575,8 @@ else if ( defaultNullPrecedence != null ) {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcStatementCacheSize = getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 );
+		this.jdbcFetchSizeMemoryBudget = getLong( FETCH_SIZE_MEMORY_BUDGET, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -552,6 +584,7 @@ else if ( defaultNullPrecedence != null ) {
 				configurationSettings,
 				false
 		);
+		this.jdbcTransactionBeginDeferred = getBoolean( DEFER_JDBC_TRANSACTION_BEGIN, configurationSettings );
 
 		this.commentsEnabled = getBoolean( USE_SQL_COMMENTS, configurationSettings );
 
@@ -619,6 +652,7 @@ else if ( jdbcTimeZoneValue != null ) {
 				IN_CLAUSE_PARAMETER_PADDING,
 				configurationSettings
 		);
+		this.inClauseValuesThreshold = getInt( IN_CLAUSE_VALUES_THRESHOLD, configurationSettings, 0 );
 
 		this.portableIntegerDivisionEnabled = getBoolean(
 				PORTABLE_INTEGER_DIVISION,
@@ -638,6 +672,8 @@ else if ( jdbcTimeZoneValue != null ) {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+		this.slowQueryCaptureSize = getInt( SLOW_QUERY_CAPTURE_SIZE, configurationSettings, 0 );
+		this.slowQueryExplainEnabled = getBoolean( SLOW_QUERY_EXPLAIN, configurationSettings );
 
 		this.unownedAssociationTransientCheck = getBoolean(
 				UNOWNED_ASSOCIATION_TRANSIENT_CHECK,
@@ -1042,6 +1078,21 @@ public boolean isSubselectFetchEnabled() {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public int getLazyLoadDetectionThreshold() {
+		return lazyLoadDetectionThreshold;
+	}
+
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	@Override
+	public int getScrollPrefetchSize() {
+		return scrollPrefetchSize;
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -1152,6 +1203,16 @@ public Integer getJdbcFetchSize() {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return jdbcStatementCacheSize;
+	}
+
+	@Override
+	public long getJdbcFetchSizeMemoryBudget() {
+		return jdbcFetchSizeMemoryBudget;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1167,6 +1228,11 @@ public boolean doesConnectionProviderDisableAutoCommit() {
 		return connectionProviderDisablesAutoCommit;
 	}
 
+	@Override
+	public boolean isJdbcTransactionBeginDeferred() {
+		return jdbcTransactionBeginDeferred;
+	}
+
 	@Override
 	public boolean isCommentsEnabled() {
 		return commentsEnabled;
@@ -1242,6 +1308,11 @@ public boolean inClauseParameterPaddingEnabled() {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public int getInClauseValuesThreshold() {
+		return inClauseValuesThreshold;
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return jsonFunctionsEnabled;
@@ -1267,6 +1338,16 @@ public int getQueryStatisticsMaxSize() {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getSlowQueryCaptureSize() {
+		return slowQueryCaptureSize;
+	}
+
+	@Override
+	public boolean isSlowQueryExplainEnabled() {
+		return slowQueryExplainEnabled;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
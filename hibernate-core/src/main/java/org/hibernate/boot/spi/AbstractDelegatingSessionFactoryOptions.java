@@ -194,6 +194,21 @@ public boolean isSubselectFetchEnabled() {
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public int getLazyLoadDetectionThreshold() {
+		return delegate.getLazyLoadDetectionThreshold();
+	}
+
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
+	@Override
+	public int getScrollPrefetchSize() {
+		return delegate.getScrollPrefetchSize();
+	}
+
 	@Override
 	public Nulls getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -319,6 +334,21 @@ public Integer getJdbcFetchSize() {
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcStatementCacheSize() {
+		return delegate.getJdbcStatementCacheSize();
+	}
+
+	@Override
+	public boolean isJdbcTransactionBeginDeferred() {
+		return delegate.isJdbcTransactionBeginDeferred();
+	}
+
+	@Override
+	public long getJdbcFetchSizeMemoryBudget() {
+		return delegate.getJdbcFetchSizeMemoryBudget();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -428,6 +458,11 @@ public boolean inClauseParameterPaddingEnabled() {
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public int getInClauseValuesThreshold() {
+		return delegate.getInClauseValuesThreshold();
+	}
+
 	@Override
 	public boolean isJsonFunctionsEnabled() {
 		return delegate.isJsonFunctionsEnabled();
@@ -448,6 +483,16 @@ public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getSlowQueryCaptureSize() {
+		return delegate.getSlowQueryCaptureSize();
+	}
+
+	@Override
+	public boolean isSlowQueryExplainEnabled() {
+		return delegate.isSlowQueryExplainEnabled();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
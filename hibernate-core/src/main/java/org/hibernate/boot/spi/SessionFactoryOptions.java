@@ -206,6 +206,33 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#LAZY_LOAD_DETECTION_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	default int getLazyLoadDetectionThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 *
+	 * @since 7.0
+	 */
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#SCROLL_PREFETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default int getScrollPrefetchSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.QuerySettings#DEFAULT_NULL_ORDERING
 	 */
@@ -311,6 +338,33 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default int getJdbcStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.TransactionSettings#DEFER_JDBC_TRANSACTION_BEGIN
+	 *
+	 * @since 7.0
+	 */
+	default boolean isJdbcTransactionBeginDeferred() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.JdbcSettings#FETCH_SIZE_MEMORY_BUDGET
+	 *
+	 * @since 7.0
+	 */
+	default long getJdbcFetchSizeMemoryBudget() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.JdbcSettings#CONNECTION_HANDLING
 	 */
@@ -436,6 +490,15 @@ default boolean inClauseParameterPaddingEnabled() {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_VALUES_THRESHOLD
+	 *
+	 * @since 7.0
+	 */
+	default int getInClauseValuesThreshold() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#JSON_FUNCTIONS_ENABLED
 	 */
@@ -472,6 +535,32 @@ default boolean isPortableIntegerDivisionEnabled() {
 	 */
 	int getQueryStatisticsMaxSize();
 
+	/**
+	 * The number of slow query executions that should be retained by
+	 * {@link org.hibernate.stat.Statistics}, or {@code 0} if slow queries
+	 * should not be captured.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SLOW_QUERY_CAPTURE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getSlowQueryCaptureSize() {
+		return 0;
+	}
+
+	/**
+	 * Should the execution plan of captured slow queries be obtained?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SLOW_QUERY_EXPLAIN
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isSlowQueryExplainEnabled() {
+		return false;
+	}
+
 	/**
 	 * Should JPA entity lifecycle callbacks be processed by
 	 * the {@link org.hibernate.event.spi.EventEngine} and
@@ -75,6 +75,8 @@ public final class ByteBuddyState {
 	 */
 	private final TypeCache<TypeCache.SimpleKey> proxyCache;
 	private final TypeCache<TypeCache.SimpleKey> basicProxyCache;
+	// keyed by the constructor signature, since SimpleKey ignores the order of the types
+	private final TypeCache<String> constructorInvokerCache;
 
 	public ByteBuddyState() {
 		this( ClassFileVersion.ofThisVm( ClassFileVersion.JAVA_V11 ) );
@@ -84,6 +86,7 @@ public ByteBuddyState() {
 		this.byteBuddy = new ByteBuddy( classFileVersion ).with( TypeValidation.DISABLED );
 		this.proxyCache = new TypeCache( TypeCache.Sort.WEAK );
 		this.basicProxyCache = new TypeCache( TypeCache.Sort.WEAK );
+		this.constructorInvokerCache = new TypeCache<>( TypeCache.Sort.WEAK );
 		this.classRewriter = new StandardClassRewriter();
 	}
 
@@ -113,6 +116,29 @@ Class<?> loadBasicProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
 		return load( referenceClass, basicProxyCache, cacheKey, makeProxyFunction );
 	}
 
+	/**
+	 * Load a {@link org.hibernate.bytecode.spi.ConstructorInvoker} generated by the {@link BytecodeProviderImpl}.
+	 *
+	 * @param referenceClass The class declaring the constructor.
+	 * @param cacheKey The cache key, identifying the constructor.
+	 * @param makeClassFunction A function building the invoker.
+	 * @return The loaded invoker class.
+	 */
+	Class<?> loadConstructorInvoker(Class<?> referenceClass, String cacheKey,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		return constructorInvokerCache.findOrInsert(
+				referenceClass.getClassLoader(),
+				cacheKey,
+				() -> make( makeClassFunction.apply( byteBuddy ) )
+						.load(
+								referenceClass.getClassLoader(),
+								resolveClassLoadingStrategy( referenceClass )
+						)
+						.getLoaded(),
+				constructorInvokerCache
+		);
+	}
+
 	/**
 	 * Load a class generated by ByteBuddy.
 	 *
@@ -178,6 +204,7 @@ public ProxyDefinitionHelpers getProxyDefinitionHelpers() {
 	void clearState() {
 		proxyCache.clear();
 		basicProxyCache.clear();
+		constructorInvokerCache.clear();
 	}
 
 	private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
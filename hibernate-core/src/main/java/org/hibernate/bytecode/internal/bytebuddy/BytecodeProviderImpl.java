@@ -27,6 +27,7 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ConstructorInvoker;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.engine.spi.CompositeOwner;
@@ -56,10 +57,12 @@
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveBoxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveUnboxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.jar.asm.Label;
 import net.bytebuddy.jar.asm.MethodVisitor;
 import net.bytebuddy.jar.asm.Opcodes;
@@ -73,6 +76,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String CONSTRUCTOR_INVOKER_NAMING_SUFFIX = "HibernateConstructorInvoker";
 	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named(
 			"newInstance" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named(
@@ -264,6 +268,67 @@ public ReflectionOptimizer getReflectionOptimizer(
 		}
 	}
 
+	@Override
+	public @Nullable ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		final Class<?> clazz = constructor.getDeclaringClass();
+		if ( Modifier.isPrivate( constructor.getModifiers() ) || !isAccessibleFrom( clazz, clazz ) ) {
+			// the generated class lives in the package of the declaring class,
+			// so it can't call private constructors
+			return null;
+		}
+		for ( Class<?> parameterType : constructor.getParameterTypes() ) {
+			if ( !isAccessibleFrom( parameterType, clazz ) ) {
+				return null;
+			}
+		}
+
+		final int parameterCount = constructor.getParameterCount();
+		final String cacheKey = clazz.getName() + Arrays.toString( constructor.getParameterTypes() );
+		try {
+			final Class<?> invokerClass = byteBuddyState.loadConstructorInvoker( clazz, cacheKey, byteBuddy -> byteBuddy
+					.with( new NamingStrategy.SuffixingRandom(
+							CONSTRUCTOR_INVOKER_NAMING_SUFFIX,
+							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
+					) )
+					.subclass( ConstructorInvoker.class )
+					.method( newInstanceMethodName )
+					.intercept( parameterCount == 0
+							? MethodCall.construct( constructor )
+							: MethodCall.construct( constructor )
+									.withArgumentArrayElements( 0, parameterCount )
+									.withAssigner( NumberWideningAssigner.INSTANCE, Assigner.Typing.DYNAMIC ) )
+			);
+			return (ConstructorInvoker) invokerClass.getDeclaredConstructor().newInstance();
+		}
+		catch (Exception e) {
+			LOG.debugf( "Unable to generate constructor invoker for [%s]: %s", constructor, e.getMessage() );
+			return null;
+		}
+	}
+
+	/**
+	 * Can the given type be referenced by a class generated in the package of the given class?
+	 */
+	private static boolean isAccessibleFrom(Class<?> type, Class<?> clazz) {
+		while ( type.isArray() ) {
+			type = type.getComponentType();
+		}
+		if ( type.isPrimitive() ) {
+			return true;
+		}
+		for ( Class<?> current = type; current != null; current = current.getEnclosingClass() ) {
+			final int modifiers = current.getModifiers();
+			if ( Modifier.isPrivate( modifiers ) ) {
+				return false;
+			}
+			if ( !Modifier.isPublic( modifiers )
+					&& !current.getPackageName().equals( clazz.getPackageName() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private static class ForeignPackageClassInfo {
 		final Class<?> clazz;
 		final List<Member> getters = new ArrayList<>();
@@ -422,6 +487,56 @@ public boolean isSynthetic() {
 		}
 	}
 
+	/**
+	 * Like {@link Assigner#DEFAULT}, but also applies the widening primitive conversions
+	 * to the arguments for a primitive numeric parameter, as {@link Constructor#newInstance}
+	 * does, using {@link PrimitiveWidening}.
+	 */
+	private static class NumberWideningAssigner implements Assigner {
+		private static final NumberWideningAssigner INSTANCE = new NumberWideningAssigner();
+		private static final TypeDescription PRIMITIVE_WIDENING = TypeDescription.ForLoadedType.of( PrimitiveWidening.class );
+
+		@Override
+		public StackManipulation assign(
+				TypeDescription.Generic source,
+				TypeDescription.Generic target,
+				Typing typing) {
+			if ( target.isPrimitive() && !source.isPrimitive() ) {
+				final String wideningMethodName = wideningMethodName( target.asErasure() );
+				if ( wideningMethodName != null ) {
+					return MethodInvocation.invoke(
+							PRIMITIVE_WIDENING.getDeclaredMethods()
+									.filter( ElementMatchers.named( wideningMethodName ) )
+									.getOnly()
+					);
+				}
+			}
+			return Assigner.DEFAULT.assign( source, target, typing );
+		}
+
+		private static @Nullable String wideningMethodName(TypeDescription primitiveType) {
+			if ( primitiveType.represents( int.class ) ) {
+				return "toInt";
+			}
+			else if ( primitiveType.represents( long.class ) ) {
+				return "toLong";
+			}
+			else if ( primitiveType.represents( double.class ) ) {
+				return "toDouble";
+			}
+			else if ( primitiveType.represents( float.class ) ) {
+				return "toFloat";
+			}
+			else if ( primitiveType.represents( short.class ) ) {
+				return "toShort";
+			}
+			else {
+				// boolean, byte, and char are never the target of a widening conversion
+				return null;
+			}
+		}
+	}
+
 	private static class GetFieldOnArgument implements ByteCodeAppender {
 
 		private final Member getterMember;
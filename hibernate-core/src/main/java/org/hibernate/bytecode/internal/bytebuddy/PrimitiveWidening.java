@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.Internal;
+
+/**
+ * Unboxes the arguments of a generated {@link org.hibernate.bytecode.spi.ConstructorInvoker}
+ * for a primitive parameter, applying the widening primitive conversions which
+ * {@link java.lang.reflect.Constructor#newInstance reflection} applies, for example,
+ * from {@code Integer} to {@code long}. Any other argument is cast to the wrapper
+ * type of the parameter, exactly as by {@link net.bytebuddy.implementation.bytecode.assign.Assigner#DEFAULT},
+ * so that a narrowing conversion is never applied.
+ *
+ * @since 7.0
+ */
+@Internal
+public final class PrimitiveWidening {
+
+	private PrimitiveWidening() {
+	}
+
+	public static short toShort(Object value) {
+		if ( value instanceof Short s ) {
+			return s;
+		}
+		else if ( value instanceof Byte b ) {
+			return b;
+		}
+		return (Short) value;
+	}
+
+	public static int toInt(Object value) {
+		if ( value instanceof Integer i ) {
+			return i;
+		}
+		else if ( value instanceof Short s ) {
+			return s;
+		}
+		else if ( value instanceof Byte b ) {
+			return b;
+		}
+		else if ( value instanceof Character c ) {
+			return c;
+		}
+		return (Integer) value;
+	}
+
+	public static long toLong(Object value) {
+		if ( value instanceof Long l ) {
+			return l;
+		}
+		else if ( value instanceof Integer i ) {
+			return i;
+		}
+		else if ( value instanceof Short s ) {
+			return s;
+		}
+		else if ( value instanceof Byte b ) {
+			return b;
+		}
+		else if ( value instanceof Character c ) {
+			return c;
+		}
+		return (Long) value;
+	}
+
+	public static float toFloat(Object value) {
+		if ( value instanceof Float f ) {
+			return f;
+		}
+		else if ( value instanceof Integer i ) {
+			return i;
+		}
+		else if ( value instanceof Long l ) {
+			return l;
+		}
+		else if ( value instanceof Short s ) {
+			return s;
+		}
+		else if ( value instanceof Byte b ) {
+			return b;
+		}
+		else if ( value instanceof Character c ) {
+			return c;
+		}
+		return (Float) value;
+	}
+
+	public static double toDouble(Object value) {
+		if ( value instanceof Double d ) {
+			return d;
+		}
+		else if ( value instanceof Float f ) {
+			return f;
+		}
+		else if ( value instanceof Integer i ) {
+			return i;
+		}
+		else if ( value instanceof Long l ) {
+			return l;
+		}
+		else if ( value instanceof Short s ) {
+			return s;
+		}
+		else if ( value instanceof Byte b ) {
+			return b;
+		}
+		else if ( value instanceof Character c ) {
+			return c;
+		}
+		return (Double) value;
+	}
+}
@@ -4,8 +4,10 @@
  */
 package org.hibernate.bytecode.spi;
 
+import java.lang.reflect.Constructor;
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
@@ -20,6 +22,7 @@
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>constructor invocation for query results {@link #getConstructorInvoker}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -58,6 +61,21 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap);
 
+	/**
+	 * Retrieve a {@link ConstructorInvoker} which calls the given constructor
+	 * without reflection.
+	 *
+	 * @param constructor The constructor to call.
+	 * @return The invoker, or {@code null} if this provider can't generate one
+	 *         for the given constructor, in which case reflection should be used.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Calls a particular constructor directly, without the overhead of
+ * {@link java.lang.reflect.Constructor#newInstance reflection}. Used to
+ * instantiate the results of queries with a constructor expression or
+ * a record or class result type.
+ *
+ * @see BytecodeProvider#getConstructorInvoker
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface ConstructorInvoker {
+	/**
+	 * Call the constructor with the given arguments, which must match
+	 * its parameter types after unboxing.
+	 */
+	Object newInstance(Object[] arguments);
+}
@@ -27,10 +27,10 @@
  * @author Steve Ebersole
  */
 public interface AvailableSettings
-		extends BatchSettings, BytecodeSettings, CacheSettings, EnvironmentSettings, FetchSettings,
-		JdbcSettings, JpaComplianceSettings, ManagedBeanSettings, MappingSettings, MultiTenancySettings,
-		PersistenceSettings, QuerySettings, SchemaToolingSettings, SessionEventSettings, StatisticsSettings,
-		TransactionSettings, ValidationSettings {
+		extends BatchSettings, BytecodeSettings, CacheSettings, ConnectionPoolSettings, EnvironmentSettings,
+		FetchSettings, JdbcSettings, JpaComplianceSettings, ManagedBeanSettings, MappingSettings, MultiTenancySettings,
+		PersistenceSettings, QuerySettings, ReplicaSettings, SchemaToolingSettings, SessionEventSettings,
+		StatisticsSettings, TransactionSettings, ValidationSettings {
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// JPA settings
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cfg;
+
+import org.hibernate.Incubating;
+
+/**
+ * Settings for the built-in
+ * {@linkplain org.hibernate.engine.jdbc.connections.internal.PooledConnectionProviderImpl
+ * connection pool}, which is used when {@value JdbcSettings#CONNECTION_PROVIDER}
+ * is set to {@code pooled}, or when any of these settings is specified.
+ * <p>
+ * The maximum size of the pool is given by {@value JdbcSettings#POOL_SIZE},
+ * and defaults to 10.
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface ConnectionPoolSettings {
+
+	/**
+	 * A setting prefix used to indicate settings that target the built-in connection pool.
+	 */
+	String POOL_CONFIG_PREFIX = "hibernate.pool";
+
+	/**
+	 * The minimum number of idle connections the pool tries to maintain.
+	 *
+	 * @settingDefault {@code 0}
+	 */
+	String POOL_MIN_IDLE = POOL_CONFIG_PREFIX + ".min_idle";
+
+	/**
+	 * The maximum amount of time, in milliseconds, a connection may live, after
+	 * which it is closed once it is returned to the pool. A value of {@code 0}
+	 * means connections are never retired because of their age.
+	 *
+	 * @settingDefault {@code 1800000}, that is, 30 minutes
+	 */
+	String POOL_MAX_LIFETIME = POOL_CONFIG_PREFIX + ".max_lifetime";
+
+	/**
+	 * The maximum amount of time, in milliseconds, a connection may sit idle in
+	 * the pool, after which it is closed, as long as more than
+	 * {@value #POOL_MIN_IDLE} connections are idle. A value of {@code 0}
+	 * means idle connections are never closed.
+	 *
+	 * @settingDefault {@code 600000}, that is, 10 minutes
+	 */
+	String POOL_IDLE_TIMEOUT = POOL_CONFIG_PREFIX + ".idle_timeout";
+
+	/**
+	 * The maximum amount of time, in milliseconds, a thread waits for a connection
+	 * when the pool is exhausted, after which the attempt to obtain a connection
+	 * fails.
+	 *
+	 * @settingDefault {@code 30000}, that is, 30 seconds
+	 */
+	String POOL_ACQUISITION_TIMEOUT = POOL_CONFIG_PREFIX + ".acquisition_timeout";
+
+	/**
+	 * The amount of time, in milliseconds, a connection may be held outside the
+	 * pool before it is reported as a possible leak, along with the stack trace
+	 * of the code which obtained it. A value of {@code 0} disables leak detection.
+	 *
+	 * @settingDefault {@code 0}
+	 */
+	String POOL_LEAK_DETECTION_THRESHOLD = POOL_CONFIG_PREFIX + ".leak_detection_threshold";
+}
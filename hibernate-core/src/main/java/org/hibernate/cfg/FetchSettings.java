@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -46,4 +47,60 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * Specifies the number of times the same collection role or entity type may be
+	 * lazily fetched from the database within a single session before Hibernate
+	 * reports the lazy fetching as an instance of the <em>N+1 selects problem</em>.
+	 * <p>
+	 * A detected problem is logged, counted by the {@linkplain org.hibernate.stat.Statistics
+	 * statistics}, along with the query most recently executed by the session, and reported
+	 * to the {@linkplain org.hibernate.event.monitor.spi.EventMonitor event monitor}.
+	 *
+	 * @see org.hibernate.stat.Statistics#getRepeatedLazyLoads()
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LAZY_LOAD_DETECTION_THRESHOLD = "hibernate.lazy_load_detection_threshold";
+
+	/**
+	 * When enabled, and {@value #LAZY_LOAD_DETECTION_THRESHOLD} is set, Hibernate raises the
+	 * effective {@linkplain BatchSize batch size} of any collection role or entity type for
+	 * which repeated lazy fetching was detected, so that it is batch fetched from then on,
+	 * in every session.
+	 * <p>
+	 * The batch size is doubled each time the problem is detected again, up to a limit.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
+	/**
+	 * Specifies the number of rows a {@linkplain org.hibernate.ScrollMode#FORWARD_ONLY
+	 * forward-only} {@link org.hibernate.ScrollableResults} reads ahead of the row being
+	 * consumed, so that the uninitialized collections of the entities in those rows may
+	 * be initialized together, with one batch fetch per collection role, before any of
+	 * them is accessed.
+	 * <p>
+	 * Only collections for which {@linkplain BatchSize batch fetching} is enabled are
+	 * initialized ahead of time. This setting has no effect on a stateless session.
+	 * <p>
+	 * The rows are only read ahead when the entities are loaded
+	 * {@linkplain org.hibernate.query.SelectionQuery#setReadOnly read-only}. Otherwise,
+	 * the usual idiom of periodically calling {@code flush()} and {@code clear()} while
+	 * scrolling would detach rows read ahead before they are consumed, and changes made
+	 * to them would be lost.
+	 *
+	 * @settingDefault 0 (no look-ahead)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCROLL_PREFETCH_SIZE = "hibernate.scroll_prefetch_size";
 }
@@ -235,7 +235,9 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 * either:
 	 * <ul>
 	 *     <li>a short strategy name like {@code agroal}, {@code hikaricp},
-	 *         {@code c3p0}, or {@code ucp},
+	 *         {@code c3p0}, {@code ucp}, or {@code pooled} for the
+	 *         {@linkplain org.hibernate.engine.jdbc.connections.internal.PooledConnectionProviderImpl
+	 *         built-in connection pool},
 	 *     <li>an instance of {@code ConnectionProvider},
 	 *     <li>a {@link Class} object representing a class that implements
 	 *         {@code ConnectionProvider}, or
@@ -256,6 +258,8 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 * </ul>
 	 * <p>
 	 * The default implementation is not recommended for use in production.
+	 * The built-in connection pool is used instead if any of the
+	 * {@linkplain ConnectionPoolSettings pool settings} is specified.
 	 *
 	 * @apiNote The term {@code "class"} appears in the setting name due to legacy reasons;
 	 *          however it can accept instances.
@@ -404,6 +408,45 @@ public interface JdbcSettings extends C3p0Settings, AgroalSettings, HikariCPSett
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Enables adaptive JDBC fetch sizes for queries which don't explicitly specify a
+	 * {@linkplain org.hibernate.query.SelectionQuery#setFetchSize fetch size}, limiting
+	 * the estimated number of bytes fetched per database round trip to the given value.
+	 * <p>
+	 * The fetch size of each query is derived from the average number of rows returned
+	 * by its previous executions, as recorded in its {@link org.hibernate.stat.QueryStatistics},
+	 * and from an estimate of the width of its rows. The fetch size is only ever increased
+	 * beyond the {@linkplain #STATEMENT_FETCH_SIZE configured} or driver default fetch size.
+	 * Has no effect unless {@linkplain StatisticsSettings#GENERATE_STATISTICS statistics}
+	 * are enabled.
+	 * <p>
+	 * This is mainly useful with drivers which fetch few rows per round trip by default,
+	 * such as the Oracle driver.
+	 *
+	 * @settingDefault {@code 0}, adaptive fetch sizes are disabled
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String FETCH_SIZE_MEMORY_BUDGET = "hibernate.jdbc.fetch_size_memory_budget";
+
+	/**
+	 * The maximum number of idle {@linkplain java.sql.PreparedStatement prepared statements}
+	 * Hibernate keeps open for reuse on each JDBC connection. Statements are cached by SQL
+	 * and result set options, and are reset before being handed out again. The cache is
+	 * discarded when the connection is released. If {@code 0}, statements are closed as soon
+	 * as they are released, and any caching is left to the JDBC driver or connection pool.
+	 * <p>
+	 * This is useful with drivers which don't cache statements themselves, for example,
+	 * when the same entity is repeatedly loaded by id within a transaction.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
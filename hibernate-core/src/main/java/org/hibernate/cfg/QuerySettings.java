@@ -236,6 +236,32 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When set to a positive value, specifies that a SQL {@code IN} predicate with more
+	 * list elements than the given number is rendered as a subquery over a {@code VALUES}
+	 * derived table, if the database {@linkplain org.hibernate.dialect.Dialect#supportsValuesList
+	 * supports it}:
+	 * <pre>
+	 * id in (select * from (values (?), (?), (?)) v_(c0))
+	 * </pre>
+	 * <p>
+	 * Such a subquery is not subject to the
+	 * {@linkplain org.hibernate.dialect.Dialect#getInExpressionCountLimit limit on the number
+	 * of elements} of an {@code IN} list, so it's never split into multiple {@code IN} lists,
+	 * and it may be joined against the table, instead of being evaluated as a long chain of
+	 * comparisons. This affects {@code IN} predicates in queries, and also the SQL used to
+	 * {@linkplain org.hibernate.Session#findMultiple load many entities by id}.
+	 * <p>
+	 * If {@value #IN_CLAUSE_PARAMETER_PADDING} is enabled, the number of rows of the
+	 * {@code VALUES} table is padded in the same way.
+	 *
+	 * @settingDefault 0 (never)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String IN_CLAUSE_VALUES_THRESHOLD = "hibernate.query.in_clause_values_threshold";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -270,6 +296,61 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The maximum total weight, an estimate in bytes of the memory retained, of the
+	 * entries of the {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}. When this setting is specified, the cache is bounded
+	 * by the estimated size of the cached query plans and interpretations, and
+	 * {@value #QUERY_PLAN_CACHE_MAX_SIZE} is ignored.
+	 * <p>
+	 * The weight of an entry is a heuristic based only on the length of its query
+	 * string, so that one large generated query counts for more than many small
+	 * queries. It is not a measurement of the memory retained by the query plan,
+	 * and so the limit is only approximate.
+	 *
+	 * @settingDefault none, the cache is bounded by {@value #QUERY_PLAN_CACHE_MAX_SIZE}
+	 *
+	 * @see #QUERY_PLAN_CACHE_EVICTION_POLICY
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_MAX_WEIGHT = "hibernate.query.plan_cache_max_weight";
+
+	/**
+	 * Specifies a {@link org.hibernate.query.spi.QueryInterpretationCacheEvictionPolicy}
+	 * used to evict entries from the query interpretation cache, when it is bounded by
+	 * {@linkplain #QUERY_PLAN_CACHE_MAX_WEIGHT weight}.
+	 * <p>
+	 * Accepts either:
+	 * <ul>
+	 *     <li>an instance of {@code QueryInterpretationCacheEvictionPolicy},
+	 *     <li>a {@link Class} implementing {@code QueryInterpretationCacheEvictionPolicy}, or
+	 *     <li>the name of such a class.
+	 * </ul>
+	 *
+	 * @settingDefault an LRU policy
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_EVICTION_POLICY = "hibernate.query.plan_cache_eviction_policy";
+
+	/**
+	 * When enabled, specifies that HQL query strings should be normalized before
+	 * they are used as keys in the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}. Queries which differ only in whitespace or comments
+	 * then share a single interpretation, and are parsed only once.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.query.internal.HqlQueryStringNormalizer
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_NORMALIZE_HQL = "hibernate.query.plan_cache_normalize_hql";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cfg;
+
+import org.hibernate.Incubating;
+
+/**
+ * Settings for routing read-only work to read replicas of the primary database,
+ * using the built-in
+ * {@linkplain org.hibernate.engine.jdbc.connections.internal.ReplicaRoutingConnectionProviderImpl
+ * routing connection provider}, which is used when {@value #REPLICA_URLS} is specified.
+ * <p>
+ * The primary database is the one given by {@value JdbcSettings#JAKARTA_JDBC_URL}.
+ * Connections to the primary and to each replica are pooled by the
+ * {@linkplain ConnectionPoolSettings built-in connection pool}, configured
+ * identically.
+ *
+ * @see org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface ReplicaSettings {
+
+	/**
+	 * A setting prefix used to indicate settings that target read replica routing.
+	 */
+	String REPLICA_CONFIG_PREFIX = "hibernate.replica";
+
+	/**
+	 * A comma-separated list of the JDBC URLs of the read replicas.
+	 */
+	String REPLICA_URLS = REPLICA_CONFIG_PREFIX + ".urls";
+
+	/**
+	 * Specifies how a read replica is chosen for read-only work, either:
+	 * <ul>
+	 *     <li>{@code round-robin}, to use each replica in turn,
+	 *     <li>{@code least-latency}, to prefer the replica which has recently
+	 *         responded the fastest,
+	 *     <li>an instance of {@link org.hibernate.engine.jdbc.connections.spi.ReplicaSelector},
+	 *     <li>a {@link Class} object representing a class that implements
+	 *         {@code ReplicaSelector}, or
+	 *     <li>the name of a class that implements {@code ReplicaSelector}.
+	 * </ul>
+	 *
+	 * @settingDefault {@code round-robin}
+	 */
+	String REPLICA_SELECTOR = REPLICA_CONFIG_PREFIX + ".selector";
+}
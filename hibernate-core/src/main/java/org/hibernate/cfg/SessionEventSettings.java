@@ -6,6 +6,7 @@
 
 import java.util.function.Supplier;
 
+import org.hibernate.Incubating;
 import org.hibernate.Interceptor;
 
 /**
@@ -71,4 +72,53 @@ public interface SessionEventSettings {
 	 */
 	@Deprecated(since = "7", forRemoval = true)
 	String LOG_SESSION_METRICS = "hibernate.session.events.log";
+
+	/**
+	 * The maximum number of entity instances which may be associated with the
+	 * persistence context of a single session. A session which exceeds this
+	 * budget, typically by accidentally loading a huge number of entities, is
+	 * reported when the limit is crossed.
+	 * <p>
+	 * Configuring a budget enables tracking of the resources used by each session,
+	 * which may be inspected via {@link org.hibernate.stat.SessionStatistics}.
+	 *
+	 * @settingDefault 0 (no limit)
+	 *
+	 * @see #FAIL_ON_SESSION_BUDGET_EXCEEDED
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MAX_MANAGED_ENTITIES = "hibernate.session.max_managed_entities";
+
+	/**
+	 * The maximum number of JDBC statements, including batches, which may be
+	 * executed by a single session. A session which exceeds this budget is
+	 * reported when the limit is crossed.
+	 * <p>
+	 * Configuring a budget enables tracking of the resources used by each session,
+	 * which may be inspected via {@link org.hibernate.stat.SessionStatistics}.
+	 *
+	 * @settingDefault 0 (no limit)
+	 *
+	 * @see #FAIL_ON_SESSION_BUDGET_EXCEEDED
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MAX_STATEMENTS = "hibernate.session.max_statements";
+
+	/**
+	 * When enabled, a session which exceeds its {@linkplain #MAX_MANAGED_ENTITIES
+	 * entity} or {@linkplain #MAX_STATEMENTS statement} budget throws a
+	 * {@link org.hibernate.ResourceBudgetExceededException} from the operation
+	 * which crossed the limit.
+	 *
+	 * @settingDefault {@code false} (disabled) - a warning, including the stack
+	 * trace of the operation which crossed the limit, is logged once per session.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String FAIL_ON_SESSION_BUDGET_EXCEEDED = "hibernate.session.fail_on_budget_exceeded";
 }
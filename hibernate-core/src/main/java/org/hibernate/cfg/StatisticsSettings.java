@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -41,4 +42,58 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When statistics are {@linkplain #GENERATE_STATISTICS enabled}, and
+	 * {@value JdbcSettings#LOG_SLOW_QUERY} is set, specifies how many of the
+	 * slowest SQL query executions should be retained, along with their
+	 * bind parameter types, row count, and the application code which
+	 * executed them.
+	 * <p>
+	 * A value of {@code 0}, the default, disables capture of slow queries.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getSlowestQueries()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SLOW_QUERY_CAPTURE_SIZE = "hibernate.statistics.slow_query_capture_size";
+
+	/**
+	 * When slow queries are {@linkplain #SLOW_QUERY_CAPTURE_SIZE captured},
+	 * specifies that the execution plan of each captured query should be
+	 * obtained from the database, if the {@linkplain org.hibernate.dialect.Dialect
+	 * dialect} knows how. The plan is obtained in the background, using a
+	 * separate connection.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.stat.SlowQuery#getExecutionPlan()
+	 * @see org.hibernate.dialect.Dialect#getExplainStatement(String)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SLOW_QUERY_EXPLAIN = "hibernate.statistics.slow_query_explain";
+
+	/**
+	 * Specifies the {@link org.hibernate.event.monitor.spi.EventMonitor} which
+	 * receives diagnostic events, either:
+	 * <ul>
+	 *     <li>an instance of {@code EventMonitor},
+	 *     <li>a {@link Class} object representing a class that implements
+	 *         {@code EventMonitor}, or
+	 *     <li>the name of a class that implements {@code EventMonitor}.
+	 * </ul>
+	 * <p>
+	 * By default, an {@code EventMonitor} discovered by the Java
+	 * {@link java.util.ServiceLoader}, for example, the one provided by
+	 * Hibernate JFR, is used.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String EVENT_MONITOR = "hibernate.event_monitor";
 }
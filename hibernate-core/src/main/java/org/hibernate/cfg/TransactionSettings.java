@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 
 import jakarta.persistence.spi.PersistenceUnitInfo;
 
@@ -190,4 +191,25 @@ public interface TransactionSettings {
 	 */
 	@Unsafe
 	String ALLOW_UPDATE_OUTSIDE_TRANSACTION = "hibernate.allow_update_outside_transaction";
+
+	/**
+	 * When enabled, beginning a resource-local transaction does not, by itself,
+	 * acquire a JDBC connection. Instead, the call to
+	 * {@link java.sql.Connection#setAutoCommit(boolean) setAutoCommit(false)} is
+	 * deferred until a connection is first needed, and a transaction which never
+	 * executes any SQL, for example, because everything it reads is in the
+	 * second-level cache, never obtains a connection from the pool.
+	 * <p>
+	 * This setting has no effect when connections are acquired
+	 * {@linkplain org.hibernate.ConnectionAcquisitionMode#IMMEDIATELY immediately}
+	 * when the session is opened, nor with JTA transactions.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isJdbcTransactionBeginDeferred
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String DEFER_JDBC_TRANSACTION_BEGIN = "hibernate.transaction.defer_jdbc_begin";
 }
@@ -687,6 +687,12 @@ public boolean supportsStandardArrays() {
 		return true;
 	}
 
+	@Override
+	public boolean useArraysForMultiValuedTupleParameters() {
+		// unnest() accepts several arrays
+		return useArrayForMultiValuedParameters();
+	}
+
 	@Override
 	public boolean supportsTemporalLiteralOffset() {
 		return true;
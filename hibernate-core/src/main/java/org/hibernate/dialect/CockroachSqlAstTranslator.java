@@ -223,6 +223,10 @@ protected boolean supportsRowValueConstructorSyntaxInQuantifiedPredicates() {
 
 	@Override
 	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		if ( inArrayPredicate.isTupleComparison() ) {
+			renderTupleInArrayPredicate( inArrayPredicate );
+			return;
+		}
 		inArrayPredicate.getTestExpression().accept( this );
 		appendSql( " = any(" );
 		inArrayPredicate.getArrayParameter().accept( this );
@@ -4181,6 +4181,26 @@ public String getQueryHintString(String query, String hints) {
 		return query;
 	}
 
+	/**
+	 * The SQL statement which obtains the execution plan of the given
+	 * query, without executing the query. The statement must accept
+	 * the same JDBC parameters as the query, and return the plan as a
+	 * result set.
+	 * <p>
+	 * By default, return {@code null}, since there's no standard syntax.
+	 *
+	 * @param sql The SQL query
+	 * @return The SQL statement, or {@code null} if not supported
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SLOW_QUERY_EXPLAIN
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public @Nullable String getExplainStatement(String sql) {
+		return null;
+	}
+
 	/**
 	 * A default {@link ScrollMode} to be used by {@link Query#scroll()}.
 	 *
@@ -4493,6 +4513,22 @@ public boolean useArrayForMultiValuedParameters() {
 		return supportsStandardArrays() && getPreferredSqlTypeCodeForArray() == SqlTypes.ARRAY;
 	}
 
+	/**
+	 * Does this database prefer to use array types for multi-valued parameters
+	 * matched against a tuple of columns, for example, a list of composite ids?
+	 * If so, there is one array parameter for each column, and the arrays are
+	 * unnested in parallel, by passing them all to {@code unnest()}.
+	 *
+	 * @return boolean
+	 *
+	 * @see org.hibernate.sql.ast.tree.predicate.InArrayPredicate
+	 *
+	 * @since 7.0
+	 */
+	public boolean useArraysForMultiValuedTupleParameters() {
+		return false;
+	}
+
 	/**
 	 * The SQL type name for the array type with elements of the given type name.
 	 * <p>
@@ -1772,6 +1772,11 @@ public boolean useArrayForMultiValuedParameters() {
 		return wrapped.useArrayForMultiValuedParameters();
 	}
 
+	@Override
+	public boolean useArraysForMultiValuedTupleParameters() {
+		return wrapped.useArraysForMultiValuedTupleParameters();
+	}
+
 	@Override
 	public boolean supportsConflictClauseForInsertCTE() {
 		return wrapped.supportsConflictClauseForInsertCTE();
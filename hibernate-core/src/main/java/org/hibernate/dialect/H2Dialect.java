@@ -938,6 +938,11 @@ public String getQueryHintString(String query, String hints) {
 		return addQueryHints( query, hints );
 	}
 
+	@Override
+	public String getExplainStatement(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public void appendDatetimeFormat(SqlAppender appender, String format) {
 		appender.appendSql(
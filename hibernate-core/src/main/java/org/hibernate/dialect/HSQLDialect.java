@@ -443,6 +443,12 @@ public boolean supportsStandardArrays() {
 		return true;
 	}
 
+	@Override
+	public boolean useArraysForMultiValuedTupleParameters() {
+		// unnest() accepts several arrays
+		return useArrayForMultiValuedParameters();
+	}
+
 	@Override
 	public ViolatedConstraintNameExtractor getViolatedConstraintNameExtractor() {
 		return EXTRACTOR_20;
@@ -114,6 +114,10 @@ public void visitBooleanExpressionPredicate(BooleanExpressionPredicate booleanEx
 
 	@Override
 	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		if ( inArrayPredicate.isTupleComparison() ) {
+			renderTupleInArrayPredicate( inArrayPredicate );
+			return;
+		}
 		// column in ( unnest(?) )
 		inArrayPredicate.getTestExpression().accept( this );
 		appendSql( " in (unnest(" );
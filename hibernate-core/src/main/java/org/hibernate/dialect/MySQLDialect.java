@@ -962,6 +962,11 @@ public String getQueryHintString(String query, String hints) {
 		return addQueryHints( query, hints );
 	}
 
+	@Override
+	public String getExplainStatement(String sql) {
+		return "explain " + sql;
+	}
+
 	/**
 	 * No support for sequences.
 	 */
@@ -1133,6 +1133,17 @@ public boolean supportsStandardArrays() {
 		return true;
 	}
 
+	@Override
+	public boolean useArraysForMultiValuedTupleParameters() {
+		// unnest() accepts several arrays
+		return useArrayForMultiValuedParameters();
+	}
+
+	@Override
+	public String getExplainStatement(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
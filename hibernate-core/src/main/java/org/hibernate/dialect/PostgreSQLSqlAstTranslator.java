@@ -47,6 +47,10 @@ public PostgreSQLSqlAstTranslator(SessionFactoryImplementor sessionFactory, Stat
 
 	@Override
 	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		if ( inArrayPredicate.isTupleComparison() ) {
+			renderTupleInArrayPredicate( inArrayPredicate );
+			return;
+		}
 		inArrayPredicate.getTestExpression().accept( this );
 		appendSql( " = any (" );
 		inArrayPredicate.getArrayParameter().accept( this );
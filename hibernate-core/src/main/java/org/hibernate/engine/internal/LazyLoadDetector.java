@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.logging.Logger;
+
+/**
+ * Detects the <em>N+1 selects problem</em>, that is, a collection role or entity
+ * type being lazily fetched over and over within one session, one key at a time,
+ * and, if {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive
+ * batch fetching} is enabled, remembers a larger batch size for it.
+ * <p>
+ * There is one instance per session factory. The fetches are counted by the
+ * {@link LazyLoadTracker} belonging to each session.
+ *
+ * @see org.hibernate.cfg.FetchSettings#LAZY_LOAD_DETECTION_THRESHOLD
+ *
+ * @since 7.0
+ */
+public final class LazyLoadDetector {
+	private static final Logger LOG = Logger.getLogger( LazyLoadDetector.class );
+
+	/**
+	 * The largest batch size adaptive batch fetching will ever use
+	 */
+	public static final int MAX_ADAPTED_BATCH_SIZE = 256;
+
+	/**
+	 * The largest number of loaders for batch sizes other than the configured
+	 * batch size which a persister keeps
+	 */
+	public static final int MAX_ADAPTED_BATCH_LOADERS = 8;
+
+	/**
+	 * The largest number of collection roles and entity types for which a
+	 * larger batch size is remembered
+	 */
+	public static final int MAX_ADAPTED_ROLES = 512;
+
+	private final int threshold;
+	private final boolean adaptive;
+
+	/**
+	 * Keyed by collection role or entity name, evicting the least recently used
+	 */
+	private final Map<String, Integer> adaptedBatchSizes =
+			new BoundedConcurrentHashMap<>( MAX_ADAPTED_ROLES, 16, BoundedConcurrentHashMap.Eviction.LRU );
+
+	public LazyLoadDetector(int threshold, boolean adaptive) {
+		this.threshold = threshold;
+		this.adaptive = adaptive;
+	}
+
+	/**
+	 * @return a detector, or {@code null} if detection is disabled
+	 */
+	public static @Nullable LazyLoadDetector create(SessionFactoryOptions options) {
+		final int threshold = options.getLazyLoadDetectionThreshold();
+		return threshold > 0 ? new LazyLoadDetector( threshold, options.isAdaptiveBatchFetchEnabled() ) : null;
+	}
+
+	public int getThreshold() {
+		return threshold;
+	}
+
+	public boolean isAdaptive() {
+		return adaptive;
+	}
+
+	/**
+	 * The batch size to use for the given collection role or entity type, taking
+	 * into account what was learned from previously detected repeated fetching.
+	 */
+	public int adaptBatchSize(String role, int batchSize) {
+		if ( adaptive ) {
+			final Integer adaptedBatchSize = adaptedBatchSizes.get( role );
+			return adaptedBatchSize == null ? batchSize : Math.max( adaptedBatchSize, batchSize );
+		}
+		else {
+			return batchSize;
+		}
+	}
+
+	/**
+	 * Whether a larger batch size was learned for the given collection role or entity type
+	 */
+	public boolean isBatchSizeAdapted(String role) {
+		return adaptive && adaptedBatchSizes.containsKey( role );
+	}
+
+	void repeatedLazyLoad(
+			String role,
+			int loadCount,
+			int batchSize,
+			@Nullable String originatingQuery,
+			SharedSessionContractImplementor session) {
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf(
+					"Detected %s lazy fetches of '%s' in one session, following the query: %s",
+					loadCount,
+					role,
+					originatingQuery
+			);
+		}
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.repeatedLazyLoad( role, originatingQuery );
+		}
+
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent event = eventMonitor.beginRepeatedLazyLoadEvent();
+		eventMonitor.completeRepeatedLazyLoadEvent( event, role, originatingQuery, loadCount, session );
+
+		if ( adaptive ) {
+			// double the batch size each time the problem is detected again, keeping
+			// to powers of two so that few distinct batch loaders are ever needed
+			final int adaptedBatchSize = Math.min(
+					MAX_ADAPTED_BATCH_SIZE,
+					Integer.highestOneBit( Math.max( threshold, 2 * batchSize ) - 1 ) << 1
+			);
+			adaptedBatchSizes.merge( role, adaptedBatchSize, Math::max );
+		}
+	}
+}
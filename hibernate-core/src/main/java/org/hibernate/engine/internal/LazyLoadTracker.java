@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Counts the lazy fetches of each collection role and entity type which hit the
+ * database within one session, and reports them to the {@link LazyLoadDetector}
+ * once their number reaches its threshold. Also remembers the query most recently
+ * executed by the session, since that's usually the query which returned the
+ * owners of the lazily fetched associations.
+ * <p>
+ * Counting a fetch costs a single hash lookup.
+ *
+ * @since 7.0
+ */
+public final class LazyLoadTracker {
+	private final LazyLoadDetector detector;
+	private final Map<String, int[]> loadCounts = new HashMap<>();
+	private @Nullable String lastQuery;
+
+	public LazyLoadTracker(LazyLoadDetector detector) {
+		this.detector = detector;
+	}
+
+	public LazyLoadDetector getDetector() {
+		return detector;
+	}
+
+	/**
+	 * Called when the session executes a query.
+	 */
+	public void queryExecuted(String query) {
+		lastQuery = query;
+	}
+
+	/**
+	 * Called when a collection is lazily fetched from the database.
+	 */
+	public void collectionLoaded(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final String role = persister.getRole();
+		final int loadCount = increment( role );
+		if ( loadCount == detector.getThreshold() ) {
+			final int batchSize = session.getLoadQueryInfluencers().effectiveBatchSize( persister );
+			detector.repeatedLazyLoad( role, loadCount, batchSize, lastQuery, session );
+		}
+	}
+
+	/**
+	 * Called when an entity is fetched from the database on behalf of an association.
+	 */
+	public void entityLoaded(EntityPersister persister, SharedSessionContractImplementor session) {
+		final String entityName = persister.getEntityName();
+		final int loadCount = increment( entityName );
+		if ( loadCount == detector.getThreshold() ) {
+			final int batchSize = session.getLoadQueryInfluencers().effectiveBatchSize( persister );
+			detector.repeatedLazyLoad( entityName, loadCount, batchSize, lastQuery, session );
+		}
+	}
+
+	private int increment(String role) {
+		return ++loadCounts.computeIfAbsent( role, key -> new int[1] )[0];
+	}
+}
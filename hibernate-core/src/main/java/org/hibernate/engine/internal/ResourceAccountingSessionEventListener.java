@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import org.hibernate.ResourceBudgetExceededException;
+import org.hibernate.SessionEventListener;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Tracks the resources used by a session, and enforces the configured
+ * budgets on them.
+ *
+ * @see org.hibernate.cfg.SessionEventSettings#MAX_MANAGED_ENTITIES
+ * @see org.hibernate.cfg.SessionEventSettings#MAX_STATEMENTS
+ * @see org.hibernate.stat.SessionStatistics
+ *
+ * @since 7.0
+ */
+public class ResourceAccountingSessionEventListener implements SessionEventListener {
+	private static final Logger log = Logger.getLogger( ResourceAccountingSessionEventListener.class );
+
+	private final int maxManagedEntities;
+	private final int maxStatements;
+	private final boolean failOnBudgetExceeded;
+
+	private long statementCount;
+	private long rowCount;
+	private int peakManagedEntityCount;
+	private long flushTime;
+
+	private long flushStart = -1;
+	private boolean managedEntitiesReported;
+	private boolean statementsReported;
+
+	public ResourceAccountingSessionEventListener(
+			int maxManagedEntities,
+			int maxStatements,
+			boolean failOnBudgetExceeded) {
+		this.maxManagedEntities = maxManagedEntities;
+		this.maxStatements = maxStatements;
+		this.failOnBudgetExceeded = failOnBudgetExceeded;
+	}
+
+	/**
+	 * The number of JDBC statements and batches executed so far.
+	 */
+	public long getStatementCount() {
+		return statementCount;
+	}
+
+	/**
+	 * The number of result set rows read into query result lists so far.
+	 */
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * The largest number of entity instances associated with the
+	 * persistence context at any one time.
+	 */
+	public int getPeakManagedEntityCount() {
+		return peakManagedEntityCount;
+	}
+
+	/**
+	 * The time spent flushing, in nanoseconds.
+	 */
+	public long getFlushTime() {
+		return flushTime;
+	}
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		statementExecuted();
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		statementExecuted();
+	}
+
+	private void statementExecuted() {
+		statementCount++;
+		if ( maxStatements > 0 && statementCount > maxStatements && !statementsReported ) {
+			statementsReported = !failOnBudgetExceeded;
+			budgetExceeded( "Session executed more than " + maxStatements + " JDBC statements" );
+		}
+	}
+
+	@Override
+	public void jdbcRowsRead(int numberOfRows) {
+		rowCount += numberOfRows;
+	}
+
+	@Override
+	public void entityManaged(int numberOfManagedEntities) {
+		if ( numberOfManagedEntities > peakManagedEntityCount ) {
+			peakManagedEntityCount = numberOfManagedEntities;
+		}
+		if ( maxManagedEntities > 0 && numberOfManagedEntities > maxManagedEntities && !managedEntitiesReported ) {
+			managedEntitiesReported = !failOnBudgetExceeded;
+			budgetExceeded( "Session holds more than " + maxManagedEntities + " entity instances" );
+		}
+	}
+
+	private void budgetExceeded(String message) {
+		final ResourceBudgetExceededException exception = new ResourceBudgetExceededException( message );
+		if ( failOnBudgetExceeded ) {
+			throw exception;
+		}
+		else {
+			// log the exception so that the stack trace shows where the budget was exceeded
+			log.warn( message, exception );
+		}
+	}
+
+	@Override
+	public void flushStart() {
+		flushStart = System.nanoTime();
+	}
+
+	@Override
+	public void flushEnd(int numberOfEntities, int numberOfCollections) {
+		flushEnded();
+	}
+
+	@Override
+	public void partialFlushStart() {
+		flushStart = System.nanoTime();
+	}
+
+	@Override
+	public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+		flushEnded();
+	}
+
+	private void flushEnded() {
+		if ( flushStart >= 0 ) {
+			flushTime += System.nanoTime() - flushStart;
+			flushStart = -1;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceAccounting"
+				+ "[statementCount=" + statementCount
+				+ ",rowCount=" + rowCount
+				+ ",peakManagedEntityCount=" + peakManagedEntityCount
+				+ ",flushTime=" + flushTime
+				+ ']';
+	}
+}
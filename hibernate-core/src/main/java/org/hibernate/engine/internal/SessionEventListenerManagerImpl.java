@@ -293,6 +293,40 @@ public void dirtyCalculationEnd(boolean dirty) {
 		}
 	}
 
+	@Override
+	public void entityManaged(int numberOfManagedEntities) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.entityManaged( numberOfManagedEntities );
+		}
+	}
+
+	@Override
+	public void jdbcRowsRead(int numberOfRows) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.jdbcRowsRead( numberOfRows );
+		}
+	}
+
+	@Override
+	public <T extends SessionEventListener> T findListener(Class<T> listenerType) {
+		if ( listeners != null ) {
+			for ( SessionEventListener listener : listeners ) {
+				if ( listenerType.isInstance( listener ) ) {
+					return listenerType.cast( listener );
+				}
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public void end() {
 		if ( listeners == null ) {
@@ -706,6 +706,7 @@ public EntityEntry addEntry(
 		}
 
 		entityEntryContext.addEntityEntry( entity, e );
+		session.getEventListenerManager().entityManaged( entityEntryContext.getNumberOfManagedEntities() );
 
 		setHasNonReadOnlyEnties( status );
 		return e;
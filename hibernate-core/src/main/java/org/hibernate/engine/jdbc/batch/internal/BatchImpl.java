@@ -265,7 +265,7 @@ protected void performExecution() {
 								rowCounts = statement.executeBatch();
 							}
 							finally {
-								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql );
+								eventMonitor.completeJdbcBatchExecutionEvent( executionEvent, sql, batchPosition );
 								eventHandler.jdbcExecuteBatchEnd();
 							}
 							checkRowCounts( rowCounts, statementDetails );
@@ -0,0 +1,277 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A lock-free collection of pooled connections used by
+ * {@link PooledConnectionProviderImpl}, after the design of the
+ * {@code ConcurrentBag} of HikariCP.
+ * <p>
+ * A connection is claimed by a compare-and-set of the state of its
+ * {@link Entry}, so that borrowing and returning never lock. A thread
+ * first tries the connections it most recently returned, which are
+ * likely to still be idle, then scans the shared list of connections,
+ * then asks the pool to open a new connection, and finally waits for
+ * a connection to be handed off by another thread returning it.
+ *
+ * @since 7.0
+ */
+final class ConnectionBag {
+
+	static final int IDLE = 0;
+	static final int IN_USE = 1;
+	static final int RESERVED = 2;
+	static final int REMOVED = -1;
+
+	/**
+	 * The number of connections remembered per thread.
+	 */
+	private static final int THREAD_LIST_SIZE = 16;
+
+	/**
+	 * How long a waiting thread waits for a handoff before it
+	 * rescans the shared list and tries to grow the pool again.
+	 */
+	private static final long WAIT_SLICE_NANOS = MILLISECONDS.toNanos( 100 );
+
+	private static final MethodHandle IS_VIRTUAL = isVirtualMethod();
+
+	/**
+	 * A pooled connection, and its state in the bag.
+	 */
+	static final class Entry {
+		final Connection connection;
+		final long createdAt = System.nanoTime();
+		volatile long lastAccessed = createdAt;
+		volatile long borrowedAt;
+		volatile ScheduledFuture<?> leakTask;
+		private final AtomicInteger state;
+
+		Entry(Connection connection, int state) {
+			this.connection = connection;
+			this.state = new AtomicInteger( state );
+		}
+
+		int getState() {
+			return state.get();
+		}
+
+		boolean compareAndSetState(int expected, int state) {
+			return this.state.compareAndSet( expected, state );
+		}
+	}
+
+	private final CopyOnWriteArrayList<Entry> sharedList = new CopyOnWriteArrayList<>();
+	// a virtual thread is usually short-lived, and many of them may
+	// be live at once, so only platform threads get a thread list
+	private final ThreadLocal<List<Entry>> threadList =
+			ThreadLocal.withInitial( () -> new ArrayList<>( THREAD_LIST_SIZE ) );
+	private final SynchronousQueue<Entry> handoffQueue = new SynchronousQueue<>( true );
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	/**
+	 * Borrow a connection, waiting at most the given number of nanoseconds.
+	 *
+	 * @param timeoutNanos how long to wait for a connection to be returned
+	 * @param grow opens a new connection, already {@link #IN_USE}, or returns
+	 *             {@code null} if the pool is at its maximum size
+	 *
+	 * @return the entry, now {@link #IN_USE}, or {@code null} if the timeout elapsed
+	 */
+	Entry borrow(long timeoutNanos, Supplier<Entry> grow) throws InterruptedException {
+		if ( !isVirtualThread() ) {
+			final List<Entry> list = threadList.get();
+			// don't hold on to connections which were retired since
+			list.removeIf( ConnectionBag::isRemoved );
+			for ( int i = list.size() - 1; i >= 0; i-- ) {
+				final Entry entry = list.remove( i );
+				if ( entry.compareAndSetState( IDLE, IN_USE ) ) {
+					return entry;
+				}
+			}
+		}
+
+		final long deadline = System.nanoTime() + timeoutNanos;
+		while ( true ) {
+			final Entry idle = claimIdle();
+			if ( idle != null ) {
+				return idle;
+			}
+
+			// opening a connection may take a while, so we don't count
+			// as a waiter here, or threads returning connections would
+			// spin trying to hand them off to us
+			final Entry created = grow.get();
+			if ( created != null ) {
+				sharedList.add( created );
+				return created;
+			}
+
+			final long remaining = deadline - System.nanoTime();
+			if ( remaining <= 0 ) {
+				return null;
+			}
+			final Entry handedOff;
+			waiters.incrementAndGet();
+			try {
+				// a connection returned before we were counted as a
+				// waiter was not handed off, but is idle in the list
+				final Entry returned = claimIdle();
+				if ( returned != null ) {
+					return returned;
+				}
+				handedOff = handoffQueue.poll( Math.min( remaining, WAIT_SLICE_NANOS ), NANOSECONDS );
+			}
+			finally {
+				waiters.decrementAndGet();
+			}
+			if ( handedOff != null && handedOff.compareAndSetState( IDLE, IN_USE ) ) {
+				return handedOff;
+			}
+		}
+	}
+
+	private Entry claimIdle() {
+		for ( Entry entry : sharedList ) {
+			if ( entry.compareAndSetState( IDLE, IN_USE ) ) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return a borrowed connection to the bag, handing it off to a waiting
+	 * thread if there is one. A thread only counts as waiting while it is
+	 * about to wait for a handoff, so the spin here is short.
+	 */
+	void requite(Entry entry) {
+		entry.lastAccessed = System.nanoTime();
+		entry.state.set( IDLE );
+
+		for ( int i = 0; waiters.get() > 0; i++ ) {
+			if ( entry.getState() != IDLE || handoffQueue.offer( entry ) ) {
+				return;
+			}
+			else if ( ( i & 0xff ) == 0xff ) {
+				LockSupport.parkNanos( 10_000 );
+			}
+			else {
+				Thread.yield();
+			}
+		}
+
+		if ( !isVirtualThread() ) {
+			final List<Entry> list = threadList.get();
+			list.removeIf( ConnectionBag::isRemoved );
+			// the connection might have been retired already
+			if ( list.size() < THREAD_LIST_SIZE && !isRemoved( entry ) ) {
+				list.add( entry );
+			}
+		}
+	}
+
+	/**
+	 * Add a new, idle, connection to the bag.
+	 */
+	void add(Entry entry) {
+		sharedList.add( entry );
+		// hand it off if someone is waiting
+		while ( waiters.get() > 0 && entry.getState() == IDLE && !handoffQueue.offer( entry ) ) {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Remove a connection which is {@link #IN_USE} or {@link #RESERVED}.
+	 *
+	 * @return {@code true} if the connection was removed by this call
+	 */
+	boolean remove(Entry entry) {
+		if ( entry.compareAndSetState( IN_USE, REMOVED )
+				|| entry.compareAndSetState( RESERVED, REMOVED ) ) {
+			sharedList.remove( entry );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Reserve an idle connection, so that it cannot be borrowed, usually
+	 * in order to {@linkplain #remove remove} it.
+	 */
+	boolean reserve(Entry entry) {
+		return entry.compareAndSetState( IDLE, RESERVED );
+	}
+
+	/**
+	 * A snapshot of the connections in the bag.
+	 */
+	List<Entry> values() {
+		return new ArrayList<>( sharedList );
+	}
+
+	int getCount(int state) {
+		int count = 0;
+		for ( Entry entry : sharedList ) {
+			if ( entry.getState() == state ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * The number of threads waiting for a connection to be handed off.
+	 */
+	int getWaitingThreadCount() {
+		return waiters.get();
+	}
+
+	private static boolean isRemoved(Entry entry) {
+		return entry.getState() == REMOVED;
+	}
+
+	private static boolean isVirtualThread() {
+		if ( IS_VIRTUAL == null ) {
+			return false;
+		}
+		try {
+			return (boolean) IS_VIRTUAL.invokeExact( Thread.currentThread() );
+		}
+		catch (Throwable e) {
+			return false;
+		}
+	}
+
+	private static MethodHandle isVirtualMethod() {
+		try {
+			// Thread.isVirtual() was added in JDK 21
+			return MethodHandles.publicLookup()
+					.findVirtual( Thread.class, "isVirtual", MethodType.methodType( boolean.class ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+}
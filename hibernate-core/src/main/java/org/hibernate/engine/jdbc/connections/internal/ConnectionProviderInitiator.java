@@ -31,6 +31,7 @@
 import static java.sql.Connection.TRANSACTION_SERIALIZABLE;
 import static org.hibernate.cfg.AgroalSettings.AGROAL_CONFIG_PREFIX;
 import static org.hibernate.cfg.C3p0Settings.C3P0_CONFIG_PREFIX;
+import static org.hibernate.cfg.ConnectionPoolSettings.POOL_CONFIG_PREFIX;
 import static org.hibernate.cfg.HikariCPSettings.HIKARI_CONFIG_PREFIX;
 import static org.hibernate.cfg.JdbcSettings.CONNECTION_PREFIX;
 import static org.hibernate.cfg.JdbcSettings.CONNECTION_PROVIDER;
@@ -41,6 +42,7 @@
 import static org.hibernate.cfg.JdbcSettings.POOL_SIZE;
 import static org.hibernate.cfg.JdbcSettings.URL;
 import static org.hibernate.cfg.JdbcSettings.USER;
+import static org.hibernate.cfg.ReplicaSettings.REPLICA_URLS;
 import static org.hibernate.cfg.SchemaToolingSettings.ENABLE_SYNONYMS;
 import static org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentImpl.isMultiTenancyEnabled;
 import static org.hibernate.internal.util.StringHelper.isBlank;
@@ -81,6 +83,11 @@ public class ConnectionProviderInitiator implements StandardServiceInitiator<Con
 	 */
 	public static final String AGROAL_STRATEGY = "agroal";
 
+	/**
+	 * The strategy for the built-in {@linkplain PooledConnectionProviderImpl connection pool}
+	 */
+	public static final String POOLED_STRATEGY = "pooled";
+
 	@Override
 	public Class<ConnectionProvider> getServiceInitiated() {
 		return ConnectionProvider.class;
@@ -121,6 +128,9 @@ else if ( explicitSetting instanceof Class<?> providerClass ) {
 	private ConnectionProvider instantiateNamedConnectionProvider(
 			String providerName, StrategySelector strategySelector, BeanContainer beanContainer) {
 		LOG.instantiatingExplicitConnectionProvider( providerName );
+		if ( POOLED_STRATEGY.equals( providerName ) ) {
+			return new PooledConnectionProviderImpl();
+		}
 		final Class<?> providerClass =
 				strategySelector.selectStrategyImplementor( ConnectionProvider.class, providerName );
 		try {
@@ -159,6 +169,12 @@ else if (hasConfiguration( configurationValues, "hibernate.oracleucp" ) ) {
 		else if ( hasConfiguration( configurationValues, AGROAL_CONFIG_PREFIX ) ) {
 			return instantiateProvider( strategySelector, AGROAL_STRATEGY );
 		}
+		else if ( configurationValues.containsKey( REPLICA_URLS ) ) {
+			return new ReplicaRoutingConnectionProviderImpl();
+		}
+		else if ( hasConfiguration( configurationValues, POOL_CONFIG_PREFIX ) ) {
+			return new PooledConnectionProviderImpl();
+		}
 		else if ( configurationValues.containsKey( URL ) ) {
 			return new DriverManagerConnectionProviderImpl();
 		}
@@ -17,7 +17,9 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.HibernateException;
@@ -66,6 +68,11 @@
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
+	/**
+	 * The default {@value AvailableSettings#POOL_SIZE} of the built-in pools.
+	 */
+	static final int DEFAULT_POOL_SIZE = 20;
+
 	private volatile PoolState state;
 
 	private static DatabaseConnectionInfo dbInfo;
@@ -90,10 +97,24 @@ public void configure(Map<String, Object> configurationValues) {
 	private PooledConnections buildPool(Map<String,Object> configurationValues, ServiceRegistryImplementor serviceRegistry) {
 		final boolean autoCommit = getBoolean( AvailableSettings.AUTOCOMMIT, configurationValues ); // default to false
 		final int minSize = getInt( MIN_SIZE, configurationValues, 1 );
-		final int maxSize = getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
+		final int maxSize = getInt( AvailableSettings.POOL_SIZE, configurationValues, DEFAULT_POOL_SIZE );
 		final int initialSize = getInt( INITIAL_SIZE, configurationValues, minSize );
 
 		final ConnectionCreator creator = buildCreator( configurationValues, serviceRegistry );
+
+		final String driverClassName = driverClassName( configurationValues );
+		final Integer isolation = ConnectionProviderInitiator.extractIsolation( configurationValues );
+		dbInfo = new DatabaseConnectionInfoImpl(
+				DriverManagerConnectionProviderImpl.class,
+				jdbcUrl( configurationValues ),
+				driverClassName == null ? driverList() : driverClassName,
+				SimpleDatabaseVersion.ZERO_VERSION,
+				Boolean.toString( autoCommit ),
+				isolation != null ? toIsolationNiceName( isolation ) : null,
+				minSize,
+				maxSize
+		);
+
 		return new PooledConnections.Builder( creator, autoCommit )
 				.initialSize( initialSize )
 				.minSize( minSize )
@@ -102,39 +123,33 @@ private PooledConnections buildPool(Map<String,Object> configurationValues, Serv
 				.build();
 	}
 
-	private static ConnectionCreator buildCreator(
+	/**
+	 * Build a {@link ConnectionCreator} which opens new connections using the
+	 * configured JDBC driver and URL. Also used by {@link PooledConnectionProviderImpl}.
+	 */
+	static ConnectionCreator buildCreator(
 			Map<String,Object> configurationValues, ServiceRegistryImplementor serviceRegistry) {
 		final String url = jdbcUrl( configurationValues );
 
-		String driverClassName = (String) configurationValues.get( AvailableSettings.DRIVER );
-		boolean success = false;
+		final String explicitDriverClassName = (String) configurationValues.get( AvailableSettings.DRIVER );
 		Driver driver = null;
-		if ( driverClassName != null ) {
-			driver = loadDriverIfPossible( driverClassName, serviceRegistry );
-			success = true;
+		if ( explicitDriverClassName != null ) {
+			driver = loadDriverIfPossible( explicitDriverClassName, serviceRegistry );
 		}
 		else {
 			//try to guess the driver class from the JDBC URL
-			for ( Database database: Database.values() ) {
-				if ( database.matchesUrl( url ) ) {
-					driverClassName = database.getDriverClassName( url );
-					if ( driverClassName != null ) {
-						try {
-							loadDriverIfPossible( driverClassName, serviceRegistry );
-							success = true;
-						}
-						catch (Exception e) {
-							//swallow it, since this was not
-							//an explicit setting by the user
-						}
-						break;
-					}
+			final String driverClassName = driverClassName( configurationValues );
+			if ( driverClassName != null ) {
+				try {
+					loadDriverIfPossible( driverClassName, serviceRegistry );
+				}
+				catch (Exception e) {
+					//swallow it, since this was not
+					//an explicit setting by the user
 				}
 			}
 		}
 
-		final String driverList = success ? driverClassName : driverList();
-
 		final Properties connectionProps = ConnectionProviderInitiator.getConnectionProperties( configurationValues );
 
 		final boolean autoCommit = getBoolean( AvailableSettings.AUTOCOMMIT, configurationValues );
@@ -143,17 +158,6 @@ private static ConnectionCreator buildCreator(
 
 		final ConnectionCreatorFactory factory = getConnectionCreatorFactory( configurationValues, serviceRegistry );
 
-		dbInfo = new DatabaseConnectionInfoImpl(
-				DriverManagerConnectionProviderImpl.class,
-				url,
-				driverList,
-				SimpleDatabaseVersion.ZERO_VERSION,
-				Boolean.toString( autoCommit ),
-				isolation != null ? toIsolationNiceName( isolation ) : null,
-				getInt( MIN_SIZE, configurationValues, 1 ),
-				getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 )
-		);
-
 		return factory.create(
 				driver,
 				serviceRegistry,
@@ -166,6 +170,29 @@ private static ConnectionCreator buildCreator(
 		);
 	}
 
+	/**
+	 * The explicitly configured JDBC driver class name, or the name of the
+	 * driver class inferred from the JDBC URL.
+	 */
+	static String driverClassName(Map<String,Object> configurationValues) {
+		final String driverClassName = (String) configurationValues.get( AvailableSettings.DRIVER );
+		if ( driverClassName != null ) {
+			return driverClassName;
+		}
+		else {
+			final String url = jdbcUrl( configurationValues );
+			for ( Database database: Database.values() ) {
+				if ( database.matchesUrl( url ) ) {
+					final String guessedDriverClassName = database.getDriverClassName( url );
+					if ( guessedDriverClassName != null ) {
+						return guessedDriverClassName;
+					}
+				}
+			}
+			return null;
+		}
+	}
+
 	private static String driverList() {
 		//we're hoping that the driver is already loaded
 		ConnectionInfoLogger.INSTANCE.jdbcDriverNotSpecified();
@@ -180,7 +207,7 @@ private static String driverList() {
 		return list.toString();
 	}
 
-	private static String jdbcUrl(Map<String, Object> configurationValues) {
+	static String jdbcUrl(Map<String, Object> configurationValues) {
 		final String url = (String) configurationValues.get( AvailableSettings.URL );
 		if ( url == null ) {
 			throw new ConnectionProviderConfigurationException( "No JDBC URL specified by property '" + JAKARTA_JDBC_URL + "'" );
@@ -357,6 +384,9 @@ public static class PooledConnections {
 
 		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
 		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		// Use a lock instead of the monitor lock to avoid pinning when using virtual
+		// threads, since the driver is called to open a connection while it is held
+		private final Lock growLock = new ReentrantLock();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
@@ -430,14 +460,18 @@ private Connection poll() {
 			do {
 				conn = availableConnections.poll();
 				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
+					growLock.lock();
+					try {
+						if ( allConnections.size() >= maxSize ) {
+							throw new HibernateException(
+									"The internal connection pool has reached its maximum size and no connection is currently available" );
 						}
+						addConnections( 1 );
+					}
+					finally {
+						growLock.unlock();
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
+					return poll();
 				}
 				conn = prepareConnection( conn );
 			} while ( conn == null );
@@ -519,7 +553,7 @@ private static class Builder {
 			private final boolean autoCommit;
 			private int initialSize = 1;
 			private int minSize = 1;
-			private int maxSize = 20;
+			private int maxSize = DEFAULT_POOL_SIZE;
 
 			private Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.jdbc.connections.spi.ReplicaSelector;
+
+/**
+ * A {@link ReplicaSelector} which prefers the replica with the lowest
+ * {@linkplain Replica#getLatency() round-trip latency}.
+ * A replica which has not been measured yet is always tried first, and
+ * every so often a replica is chosen in turn, so that the other replicas
+ * keep warm connections.
+ *
+ * @since 7.0
+ */
+public class LeastLatencyReplicaSelector implements ReplicaSelector {
+	public static final String NAME = "least-latency";
+
+	/**
+	 * One selection in this many is made in turn, rather than by latency.
+	 */
+	private static final int EXPLORATION_INTERVAL = 16;
+
+	private final AtomicInteger count = new AtomicInteger();
+
+	@Override
+	public int select(List<? extends Replica> replicas) {
+		final int current = count.getAndIncrement();
+		if ( current % EXPLORATION_INTERVAL == 0 ) {
+			return Math.floorMod( current / EXPLORATION_INTERVAL, replicas.size() );
+		}
+		int selected = 0;
+		long lowestLatency = Long.MAX_VALUE;
+		for ( int i = 0; i < replicas.size(); i++ ) {
+			final long latency = replicas.get( i ).getLatency();
+			if ( latency == 0 ) {
+				// not measured yet
+				return i;
+			}
+			else if ( latency < lowestLatency ) {
+				lowestLatency = latency;
+				selected = i;
+			}
+		}
+		return selected;
+	}
+}
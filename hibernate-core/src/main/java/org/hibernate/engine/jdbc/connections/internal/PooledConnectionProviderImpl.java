@@ -0,0 +1,449 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.SimpleDatabaseVersion;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.DatabaseConnectionInfo;
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.internal.log.ConnectionInfoLogger;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hibernate.cfg.ConnectionPoolSettings.POOL_ACQUISITION_TIMEOUT;
+import static org.hibernate.cfg.ConnectionPoolSettings.POOL_IDLE_TIMEOUT;
+import static org.hibernate.cfg.ConnectionPoolSettings.POOL_LEAK_DETECTION_THRESHOLD;
+import static org.hibernate.cfg.ConnectionPoolSettings.POOL_MAX_LIFETIME;
+import static org.hibernate.cfg.ConnectionPoolSettings.POOL_MIN_IDLE;
+import static org.hibernate.engine.jdbc.connections.internal.ConnectionBag.IDLE;
+import static org.hibernate.engine.jdbc.connections.internal.ConnectionBag.IN_USE;
+import static org.hibernate.engine.jdbc.connections.internal.ConnectionProviderInitiator.toIsolationNiceName;
+import static org.hibernate.event.monitor.internal.EventMonitors.loadEventMonitor;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A built-in connection pool suitable for production use, which opens
+ * connections using the {@link java.sql.DriverManager}, just like
+ * {@link DriverManagerConnectionProviderImpl}, and is configured by the
+ * {@linkplain org.hibernate.cfg.ConnectionPoolSettings pool settings}.
+ * <ul>
+ * <li>Obtaining and returning a connection never locks: the pooled
+ *     connections are kept in a lock-free {@link ConnectionBag}, and a
+ *     thread preferentially reuses the connection it most recently returned.
+ * <li>The pool grows on demand up to {@value AvailableSettings#POOL_SIZE}
+ *     connections, by default 20, and a thread which finds the pool exhausted
+ *     waits for at most the {@linkplain org.hibernate.cfg.ConnectionPoolSettings#POOL_ACQUISITION_TIMEOUT
+ *     acquisition timeout}.
+ * <li>Connections are retired once they reach their
+ *     {@linkplain org.hibernate.cfg.ConnectionPoolSettings#POOL_MAX_LIFETIME maximum lifetime},
+ *     or have been idle for longer than the
+ *     {@linkplain org.hibernate.cfg.ConnectionPoolSettings#POOL_IDLE_TIMEOUT idle timeout}.
+ *     A connection which has been idle for a little while is validated before
+ *     it is handed out.
+ * <li>A connection held for longer than the
+ *     {@linkplain org.hibernate.cfg.ConnectionPoolSettings#POOL_LEAK_DETECTION_THRESHOLD
+ *     leak detection threshold} is reported, along with the stack trace of the
+ *     code which obtained it.
+ * <li>Acquisitions and leaks are reported to the {@link EventMonitor}
+ *     specified by {@value org.hibernate.cfg.AvailableSettings#EVENT_MONITOR}.
+ * </ul>
+ *
+ * @since 7.0
+ */
+@Incubating
+public class PooledConnectionProviderImpl
+		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
+
+	/**
+	 * A connection returned more recently than this is not validated
+	 * before it is handed out again.
+	 */
+	private static final long VALIDATION_BYPASS_NANOS = MILLISECONDS.toNanos( 500 );
+	private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+	private static final long HOUSEKEEPING_PERIOD_MILLIS = 30_000;
+
+	private volatile ServiceRegistryImplementor serviceRegistry;
+	private EventMonitor eventMonitor;
+
+	private ConnectionCreator creator;
+	private ConnectionBag bag;
+	private ScheduledThreadPoolExecutor housekeeper;
+	private DatabaseConnectionInfo dbInfo;
+
+	private final Map<Connection, ConnectionBag.Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicInteger totalConnections = new AtomicInteger();
+
+	private boolean autoCommit;
+	private int maxSize;
+	private int minIdle;
+	private long maxLifetimeNanos;
+	private long idleTimeoutNanos;
+	private long acquisitionTimeoutNanos;
+	private long leakDetectionThreshold;
+	private volatile boolean stopped;
+
+	// create the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map<String, Object> configurationValues) {
+		ConnectionInfoLogger.INSTANCE.configureConnectionPool( "Hibernate built-in pool" );
+
+		autoCommit = getBoolean( AvailableSettings.AUTOCOMMIT, configurationValues ); // default to false
+		maxSize = getInt( AvailableSettings.POOL_SIZE, configurationValues,
+				DriverManagerConnectionProviderImpl.DEFAULT_POOL_SIZE );
+		minIdle = Math.min( getInt( POOL_MIN_IDLE, configurationValues, 0 ), maxSize );
+		maxLifetimeNanos = MILLISECONDS.toNanos( getLong( POOL_MAX_LIFETIME, configurationValues, 1_800_000 ) );
+		idleTimeoutNanos = MILLISECONDS.toNanos( getLong( POOL_IDLE_TIMEOUT, configurationValues, 600_000 ) );
+		acquisitionTimeoutNanos = MILLISECONDS.toNanos( getLong( POOL_ACQUISITION_TIMEOUT, configurationValues, 30_000 ) );
+		leakDetectionThreshold = getLong( POOL_LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
+
+		eventMonitor = serviceRegistry == null
+				? new EmptyEventMonitor()
+				: loadEventMonitor( configurationValues, serviceRegistry.requireService( ClassLoaderService.class ) );
+
+		creator = DriverManagerConnectionProviderImpl.buildCreator( configurationValues, serviceRegistry );
+		final String driverClassName = DriverManagerConnectionProviderImpl.driverClassName( configurationValues );
+		final Integer isolation = ConnectionProviderInitiator.extractIsolation( configurationValues );
+		dbInfo = new DatabaseConnectionInfoImpl(
+				PooledConnectionProviderImpl.class,
+				creator.getUrl(),
+				driverClassName,
+				SimpleDatabaseVersion.ZERO_VERSION,
+				Boolean.toString( autoCommit ),
+				isolation != null ? toIsolationNiceName( isolation ) : null,
+				minIdle,
+				maxSize
+		);
+
+		bag = new ConnectionBag();
+		housekeeper = new ScheduledThreadPoolExecutor( 1, runnable -> {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Connection Pool Housekeeping Thread" );
+			return thread;
+		} );
+		housekeeper.setRemoveOnCancelPolicy( true );
+		final long period = idleTimeoutNanos > 0
+				? Math.min( HOUSEKEEPING_PERIOD_MILLIS, NANOSECONDS.toMillis( idleTimeoutNanos ) )
+				: HOUSEKEEPING_PERIOD_MILLIS;
+		housekeeper.scheduleWithFixedDelay( this::housekeep, period, period, MILLISECONDS );
+
+		fill();
+	}
+
+	/**
+	 * Open a new connection, if the pool is not already at its maximum size.
+	 *
+	 * @return the new entry, or {@code null} if the pool is full
+	 */
+	private ConnectionBag.Entry createEntry(int state) {
+		int total;
+		do {
+			total = totalConnections.get();
+			if ( total >= maxSize ) {
+				return null;
+			}
+		}
+		while ( !totalConnections.compareAndSet( total, total + 1 ) );
+
+		final Connection connection;
+		try {
+			connection = creator.createConnection();
+		}
+		catch (RuntimeException e) {
+			totalConnections.decrementAndGet();
+			throw e;
+		}
+		final ConnectionBag.Entry entry = new ConnectionBag.Entry( connection, state );
+		entries.put( connection, entry );
+		return entry;
+	}
+
+	/**
+	 * Open connections until there are {@value org.hibernate.cfg.ConnectionPoolSettings#POOL_MIN_IDLE}
+	 * idle connections.
+	 */
+	private void fill() {
+		for ( int idle = bag.getCount( IDLE ); idle < minIdle && !stopped; idle++ ) {
+			final ConnectionBag.Entry entry = createEntry( IDLE );
+			if ( entry == null ) {
+				break;
+			}
+			bag.add( entry );
+		}
+	}
+
+	/**
+	 * Retire idle connections which have expired, or which have been idle
+	 * for too long, and then top up the idle connections.
+	 */
+	private void housekeep() {
+		try {
+			final long now = System.nanoTime();
+			int idle = bag.getCount( IDLE );
+			for ( ConnectionBag.Entry entry : bag.values() ) {
+				if ( entry.getState() == IDLE ) {
+					final boolean idleTooLong = idleTimeoutNanos > 0
+							&& idle > minIdle
+							&& now - entry.lastAccessed > idleTimeoutNanos;
+					if ( ( idleTooLong || isExpired( entry, now ) ) && bag.reserve( entry ) ) {
+						closeEntry( entry );
+						idle--;
+					}
+				}
+			}
+			fill();
+		}
+		catch (RuntimeException e) {
+			ConnectionInfoLogger.INSTANCE.debug( "Connection pool housekeeping failed", e );
+		}
+	}
+
+	// use the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if ( bag == null ) {
+			throw new IllegalStateException( "Cannot get a connection as the pool is not properly initialized" );
+		}
+		if ( stopped ) {
+			throw new IllegalStateException( "Cannot get a connection as the pool has been stopped" );
+		}
+
+		final DiagnosticEvent event = eventMonitor.beginConnectionPoolAcquisitionEvent();
+		boolean success = false;
+		try {
+			final long deadline = System.nanoTime() + acquisitionTimeoutNanos;
+			while ( true ) {
+				final long remaining = deadline - System.nanoTime();
+				final ConnectionBag.Entry entry =
+						remaining > 0 ? bag.borrow( remaining, () -> createEntry( IN_USE ) ) : null;
+				if ( entry == null ) {
+					throw new SQLTransientConnectionException( "Connection is not available, request timed out after "
+							+ NANOSECONDS.toMillis( acquisitionTimeoutNanos ) + "ms" );
+				}
+				else if ( isUsable( entry ) ) {
+					borrowed( entry );
+					success = true;
+					return entry.connection;
+				}
+				else {
+					closeEntry( entry );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException( "Interrupted while waiting for a connection", e );
+		}
+		finally {
+			if ( event != null ) {
+				eventMonitor.completeConnectionPoolAcquisitionEvent( event, success );
+			}
+		}
+	}
+
+	@Override
+	public void closeConnection(Connection connection) throws SQLException {
+		final ConnectionBag.Entry entry = entries.get( connection );
+		if ( entry == null ) {
+			// not one of ours, or already retired
+			connection.close();
+			return;
+		}
+
+		returned( entry );
+		if ( stopped || isExpired( entry, System.nanoTime() ) ) {
+			closeEntry( entry );
+			return;
+		}
+		try {
+			if ( connection.getAutoCommit() != autoCommit ) {
+				connection.setAutoCommit( autoCommit );
+			}
+			connection.clearWarnings();
+		}
+		catch (SQLException e) {
+			ConnectionInfoLogger.INSTANCE.debug( "Connection release failed. Closing pooled connection", e );
+			closeEntry( entry );
+			return;
+		}
+		bag.requite( entry );
+	}
+
+	private boolean isExpired(ConnectionBag.Entry entry, long now) {
+		return maxLifetimeNanos > 0 && now - entry.createdAt > maxLifetimeNanos;
+	}
+
+	private boolean isUsable(ConnectionBag.Entry entry) {
+		final long now = System.nanoTime();
+		if ( isExpired( entry, now ) ) {
+			return false;
+		}
+		else if ( now - entry.lastAccessed < VALIDATION_BYPASS_NANOS ) {
+			return true;
+		}
+		else {
+			try {
+				return entry.connection.isValid( VALIDATION_TIMEOUT_SECONDS );
+			}
+			catch (SQLException e) {
+				ConnectionInfoLogger.INSTANCE.debug( "Connection validation failed. Closing pooled connection", e );
+				return false;
+			}
+		}
+	}
+
+	private void borrowed(ConnectionBag.Entry entry) {
+		entry.borrowedAt = System.nanoTime();
+		if ( leakDetectionThreshold > 0 ) {
+			final Exception acquisition = new Exception( "Connection acquired here" );
+			entry.leakTask = housekeeper.schedule( () -> {
+				final DiagnosticEvent event = eventMonitor.beginConnectionLeakEvent();
+				ConnectionInfoLogger.INSTANCE.connectionLeakDetected( leakDetectionThreshold, acquisition );
+				eventMonitor.completeConnectionLeakEvent( event, heldMillis( entry ) );
+			}, leakDetectionThreshold, MILLISECONDS );
+		}
+	}
+
+	private void returned(ConnectionBag.Entry entry) {
+		final ScheduledFuture<?> leakTask = entry.leakTask;
+		if ( leakTask != null ) {
+			entry.leakTask = null;
+			if ( !leakTask.cancel( false ) ) {
+				ConnectionInfoLogger.INSTANCE.leakedConnectionReturned( heldMillis( entry ) );
+			}
+		}
+	}
+
+	private static long heldMillis(ConnectionBag.Entry entry) {
+		return NANOSECONDS.toMillis( System.nanoTime() - entry.borrowedAt );
+	}
+
+	private void closeEntry(ConnectionBag.Entry entry) {
+		if ( bag.remove( entry ) ) {
+			entries.remove( entry.connection );
+			totalConnections.decrementAndGet();
+			try {
+				entry.connection.close();
+			}
+			catch (SQLException e) {
+				ConnectionInfoLogger.INSTANCE.unableToClosePooledConnection( e );
+			}
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	public DatabaseConnectionInfo getDatabaseConnectionInfo(Dialect dialect) {
+		return new DatabaseConnectionInfoImpl(
+				PooledConnectionProviderImpl.class,
+				dbInfo.getJdbcUrl(),
+				dbInfo.getJdbcDriver(),
+				dialect.getVersion(),
+				dbInfo.getAutoCommitMode(),
+				dbInfo.getIsolationLevel(),
+				dbInfo.getPoolMinSize(),
+				dbInfo.getPoolMaxSize()
+		);
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return ConnectionProvider.class.equals( unwrapType )
+			|| PooledConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( isUnwrappableAs( unwrapType ) ) {
+			return (T) this;
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	/**
+	 * The number of connections currently held outside the pool.
+	 */
+	public int getActiveConnectionCount() {
+		return bag.getCount( IN_USE );
+	}
+
+	/**
+	 * The number of connections currently idle in the pool.
+	 */
+	public int getIdleConnectionCount() {
+		return bag.getCount( IDLE );
+	}
+
+	/**
+	 * The number of threads currently waiting for a connection.
+	 */
+	public int getWaitingThreadCount() {
+		return bag.getWaitingThreadCount();
+	}
+
+	/**
+	 * The JDBC URL of the database to which this pool connects.
+	 */
+	public String getUrl() {
+		return creator.getUrl();
+	}
+
+	// destroy the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void stop() {
+		if ( bag != null && !stopped ) {
+			stopped = true;
+			ConnectionInfoLogger.INSTANCE.cleaningUpConnectionPool( creator.getUrl() );
+			housekeeper.shutdownNow();
+			for ( ConnectionBag.Entry entry : bag.values() ) {
+				if ( bag.reserve( entry ) ) {
+					closeEntry( entry );
+				}
+			}
+			final int allocationCount = bag.getCount( IN_USE );
+			if ( allocationCount != 0 ) {
+				ConnectionInfoLogger.INSTANCE.error( "Connection leak detected: there are " + allocationCount
+						+ " unclosed connections upon shutting down pool " + creator.getUrl() );
+			}
+		}
+	}
+}
@@ -0,0 +1,399 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProviderConfigurationException;
+import org.hibernate.engine.jdbc.connections.spi.DatabaseConnectionInfo;
+import org.hibernate.engine.jdbc.connections.spi.ReplicaSelector;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider;
+import org.hibernate.internal.log.ConnectionInfoLogger;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.service.spi.ServiceRegistryAwareService;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+import static org.hibernate.cfg.ReplicaSettings.REPLICA_SELECTOR;
+import static org.hibernate.cfg.ReplicaSettings.REPLICA_URLS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@link RoutingConnectionProvider} which obtains read-write connections
+ * from the primary database, and read-only connections from one of a list
+ * of {@linkplain org.hibernate.cfg.ReplicaSettings#REPLICA_URLS read replicas},
+ * chosen by a {@link ReplicaSelector}.
+ * <p>
+ * Each database has its own {@link PooledConnectionProviderImpl}, configured
+ * by the same settings. If a connection to the chosen replica cannot be
+ * obtained, a connection to the primary database is used instead, and the
+ * replica is marked down. A replica which is down is not offered to the
+ * selector until it responds to a validation request again. It is checked
+ * after a back-off which doubles with each consecutive failure.
+ * <p>
+ * Each replica which is up is validated periodically, and the round-trip
+ * time is used as its {@linkplain ReplicaSelector.Replica#getLatency() latency}.
+ *
+ * @since 7.0
+ */
+@Incubating
+public class ReplicaRoutingConnectionProviderImpl
+		implements RoutingConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService {
+
+	/**
+	 * The running average latency gives each new measurement this weight.
+	 */
+	private static final int LATENCY_SMOOTHING = 5;
+
+	private static final long PROBE_PERIOD_MILLIS = 1_000;
+	private static final long LATENCY_PROBE_INTERVAL_NANOS = SECONDS.toNanos( 5 );
+	private static final long MIN_BACKOFF_NANOS = SECONDS.toNanos( 1 );
+	private static final long MAX_BACKOFF_NANOS = SECONDS.toNanos( 30 );
+	private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+	private ServiceRegistryImplementor serviceRegistry;
+
+	private PooledConnectionProviderImpl primary;
+	private final List<ReplicaPool> replicas = new ArrayList<>();
+	private ReplicaSelector selector;
+	private ScheduledThreadPoolExecutor prober;
+
+	// the replica from which each read-only connection was obtained
+	private final Map<Connection, ReplicaPool> replicaConnections = new ConcurrentHashMap<>();
+
+	private static final class ReplicaPool implements ReplicaSelector.Replica {
+		private final String url;
+		private final PooledConnectionProviderImpl pool = new PooledConnectionProviderImpl();
+		private final AtomicLong latency = new AtomicLong();
+		private final AtomicInteger consecutiveFailures = new AtomicInteger();
+		private volatile boolean down;
+		// when the replica is next validated
+		private volatile long nextProbe;
+
+		private ReplicaPool(String url) {
+			this.url = url;
+			this.nextProbe = System.nanoTime();
+		}
+
+		@Override
+		public String getUrl() {
+			return url;
+		}
+
+		@Override
+		public long getLatency() {
+			return latency.get();
+		}
+
+		private void recordLatency(long roundTrip) {
+			// at least 1, since 0 means "not measured yet"
+			final long sample = Math.max( roundTrip, 1 );
+			latency.updateAndGet( average -> average == 0
+					? sample
+					: average + ( sample - average ) / LATENCY_SMOOTHING );
+		}
+
+		private void markUp(long now) {
+			consecutiveFailures.set( 0 );
+			nextProbe = now + LATENCY_PROBE_INTERVAL_NANOS;
+			down = false;
+		}
+
+		private void markDown(long now) {
+			final int failures = consecutiveFailures.incrementAndGet();
+			nextProbe = now + Math.min( MIN_BACKOFF_NANOS << Math.min( failures - 1, 5 ), MAX_BACKOFF_NANOS );
+			down = true;
+		}
+
+		@Override
+		public String toString() {
+			return url;
+		}
+	}
+
+	@Override
+	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public void configure(Map<String, Object> configurationValues) {
+		ConnectionInfoLogger.INSTANCE.configureConnectionPool( "Hibernate read replica routing" );
+
+		primary = new PooledConnectionProviderImpl();
+		configurePool( primary, configurationValues );
+
+		final Object urls = configurationValues.get( REPLICA_URLS );
+		if ( urls != null ) {
+			for ( String url : urls.toString().split( "," ) ) {
+				if ( !url.isBlank() ) {
+					final ReplicaPool replica = new ReplicaPool( url.trim() );
+					final Map<String, Object> replicaConfiguration = new HashMap<>( configurationValues );
+					replicaConfiguration.put( AvailableSettings.URL, replica.url );
+					try {
+						configurePool( replica.pool, replicaConfiguration );
+					}
+					catch (RuntimeException e) {
+						// the pool is ready for use, but could not open its minimum idle connections
+						ConnectionInfoLogger.INSTANCE.debugf( e, "Read replica [%s] is not available", replica );
+						replica.markDown( System.nanoTime() );
+					}
+					replicas.add( replica );
+				}
+			}
+		}
+		if ( replicas.isEmpty() ) {
+			throw new ConnectionProviderConfigurationException(
+					"No read replica JDBC URLs specified by property '" + REPLICA_URLS + "'" );
+		}
+
+		selector = resolveSelector( configurationValues.get( REPLICA_SELECTOR ) );
+
+		prober = new ScheduledThreadPoolExecutor( 1, runnable -> {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Read Replica Validation Thread" );
+			return thread;
+		} );
+		prober.scheduleWithFixedDelay( this::probe, 0, PROBE_PERIOD_MILLIS, MILLISECONDS );
+	}
+
+	/**
+	 * Validate each replica which is due, measuring its latency if it is up,
+	 * or checking whether it has recovered if it is down.
+	 */
+	private void probe() {
+		for ( ReplicaPool replica : replicas ) {
+			if ( System.nanoTime() - replica.nextProbe >= 0 ) {
+				probe( replica );
+			}
+		}
+	}
+
+	private void probe(ReplicaPool replica) {
+		try {
+			final Connection connection = replica.pool.getConnection();
+			try {
+				final long start = System.nanoTime();
+				final boolean valid = connection.isValid( VALIDATION_TIMEOUT_SECONDS );
+				final long end = System.nanoTime();
+				if ( valid ) {
+					replica.recordLatency( end - start );
+					replica.markUp( end );
+				}
+				else {
+					replica.markDown( end );
+				}
+			}
+			finally {
+				replica.pool.closeConnection( connection );
+			}
+		}
+		catch (SQLTransientConnectionException e) {
+			// the pool is exhausted, so try again next time
+			ConnectionInfoLogger.INSTANCE.debugf( e, "Timed out waiting to validate read replica [%s]", replica );
+		}
+		catch (SQLException | RuntimeException e) {
+			ConnectionInfoLogger.INSTANCE.debugf( e, "Validation of read replica [%s] failed", replica );
+			replica.markDown( System.nanoTime() );
+		}
+	}
+
+	private void configurePool(PooledConnectionProviderImpl pool, Map<String, Object> configurationValues) {
+		if ( serviceRegistry != null ) {
+			pool.injectServices( serviceRegistry );
+		}
+		pool.configure( configurationValues );
+	}
+
+	private ReplicaSelector resolveSelector(Object setting) {
+		if ( setting == null || RoundRobinReplicaSelector.NAME.equals( setting ) ) {
+			return new RoundRobinReplicaSelector();
+		}
+		else if ( LeastLatencyReplicaSelector.NAME.equals( setting ) ) {
+			return new LeastLatencyReplicaSelector();
+		}
+		else if ( setting instanceof ReplicaSelector replicaSelector ) {
+			return replicaSelector;
+		}
+		else {
+			final Class<?> selectorClass;
+			if ( setting instanceof Class<?> clazz ) {
+				selectorClass = clazz;
+			}
+			else if ( serviceRegistry != null ) {
+				selectorClass = serviceRegistry.requireService( ClassLoaderService.class )
+						.classForName( setting.toString() );
+			}
+			else {
+				try {
+					selectorClass = Class.forName( setting.toString() );
+				}
+				catch (ClassNotFoundException e) {
+					throw new ServiceException( "Specified ReplicaSelector " + setting + " could not be loaded", e );
+				}
+			}
+			try {
+				return (ReplicaSelector) selectorClass.getConstructor().newInstance();
+			}
+			catch (Exception e) {
+				throw new ServiceException( "Specified ReplicaSelector " + setting + " could not be instantiated", e );
+			}
+		}
+	}
+
+	@Override
+	public Connection getConnection(Intent intent) throws SQLException {
+		if ( primary == null ) {
+			throw new IllegalStateException( "Cannot get a connection as the provider is not properly initialized" );
+		}
+		if ( intent == Intent.READ_ONLY ) {
+			final ReplicaPool replica = selectReplica();
+			if ( replica != null ) {
+				try {
+					final Connection connection = replica.pool.getConnection();
+					replicaConnections.put( connection, replica );
+					return connection;
+				}
+				catch (SQLTransientConnectionException e) {
+					// the pool is exhausted, but the replica itself is fine
+					ConnectionInfoLogger.INSTANCE.debugf( e,
+							"Timed out waiting for a connection to read replica [%s], using the primary database", replica );
+				}
+				catch (SQLException | RuntimeException e) {
+					replica.markDown( System.nanoTime() );
+					ConnectionInfoLogger.INSTANCE.debugf( e,
+							"Unable to obtain a connection to read replica [%s], using the primary database", replica );
+				}
+			}
+		}
+		return primary.getConnection();
+	}
+
+	/**
+	 * Choose one of the replicas which are up.
+	 *
+	 * @return the chosen replica, or {@code null} if every replica is down
+	 */
+	private ReplicaPool selectReplica() {
+		int available = 0;
+		for ( ReplicaPool replica : replicas ) {
+			if ( !replica.down ) {
+				available++;
+			}
+		}
+		if ( available == replicas.size() ) {
+			return replicas.get( selector.select( replicas ) );
+		}
+		else if ( available == 0 ) {
+			return null;
+		}
+		else {
+			final List<ReplicaPool> up = new ArrayList<>( available );
+			for ( ReplicaPool replica : replicas ) {
+				if ( !replica.down ) {
+					up.add( replica );
+				}
+			}
+			return up.get( selector.select( up ) );
+		}
+	}
+
+	@Override
+	public void closeConnection(Connection connection) throws SQLException {
+		final ReplicaPool replica = replicaConnections.remove( connection );
+		if ( replica != null ) {
+			replica.pool.closeConnection( connection );
+		}
+		else {
+			primary.closeConnection( connection );
+		}
+	}
+
+	@Override
+	public boolean supportsAggressiveRelease() {
+		return false;
+	}
+
+	@Override
+	public DatabaseConnectionInfo getDatabaseConnectionInfo(Dialect dialect) {
+		return primary.getDatabaseConnectionInfo( dialect );
+	}
+
+	/**
+	 * The read replicas, in the order they were specified.
+	 */
+	public List<? extends ReplicaSelector.Replica> getReplicas() {
+		return replicas;
+	}
+
+	/**
+	 * The pool of connections to the primary database.
+	 */
+	public PooledConnectionProviderImpl getPrimaryPool() {
+		return primary;
+	}
+
+	/**
+	 * The pools of connections to the read replicas, in the order the
+	 * replicas were specified.
+	 */
+	public List<PooledConnectionProviderImpl> getReplicaPools() {
+		final List<PooledConnectionProviderImpl> pools = new ArrayList<>( replicas.size() );
+		for ( ReplicaPool replica : replicas ) {
+			pools.add( replica.pool );
+		}
+		return pools;
+	}
+
+	@Override
+	public boolean isUnwrappableAs(Class<?> unwrapType) {
+		return ConnectionProvider.class.equals( unwrapType )
+			|| RoutingConnectionProvider.class.equals( unwrapType )
+			|| ReplicaRoutingConnectionProviderImpl.class.isAssignableFrom( unwrapType );
+	}
+
+	@Override
+	@SuppressWarnings( {"unchecked"})
+	public <T> T unwrap(Class<T> unwrapType) {
+		if ( isUnwrappableAs( unwrapType ) ) {
+			return (T) this;
+		}
+		else {
+			throw new UnknownUnwrapTypeException( unwrapType );
+		}
+	}
+
+	@Override
+	public void stop() {
+		if ( prober != null ) {
+			prober.shutdownNow();
+		}
+		if ( primary != null ) {
+			primary.stop();
+		}
+		for ( ReplicaPool replica : replicas ) {
+			replica.pool.stop();
+		}
+	}
+}
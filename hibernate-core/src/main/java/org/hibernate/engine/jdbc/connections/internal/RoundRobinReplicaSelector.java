@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.internal;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.jdbc.connections.spi.ReplicaSelector;
+
+/**
+ * A {@link ReplicaSelector} which uses each replica in turn.
+ *
+ * @since 7.0
+ */
+public class RoundRobinReplicaSelector implements ReplicaSelector {
+	public static final String NAME = "round-robin";
+
+	private final AtomicInteger next = new AtomicInteger();
+
+	@Override
+	public int select(List<? extends Replica> replicas) {
+		return Math.floorMod( next.getAndIncrement(), replicas.size() );
+	}
+}
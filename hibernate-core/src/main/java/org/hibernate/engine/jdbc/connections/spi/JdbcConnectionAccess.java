@@ -8,6 +8,8 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import org.hibernate.Incubating;
+
 /**
  * Provides centralized access to JDBC connections.  Centralized to hide the complexity of accounting for contextual
  * (multi-tenant) versus non-contextual access.
@@ -24,6 +26,35 @@ public interface JdbcConnectionAccess extends Serializable {
 	 */
 	Connection obtainConnection() throws SQLException;
 
+	/**
+	 * Obtain a JDBC connection for work which only reads data, which may be a
+	 * connection to a read replica if the underlying provider is a
+	 * {@link RoutingConnectionProvider}.
+	 *
+	 * @return The obtained connection
+	 *
+	 * @throws SQLException Indicates a problem getting the connection
+	 *
+	 * @see #supportsReadOnlyConnections()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Connection obtainReadOnlyConnection() throws SQLException {
+		return obtainConnection();
+	}
+
+	/**
+	 * Might {@link #obtainReadOnlyConnection()} return a connection to a
+	 * different database than {@link #obtainConnection()}?
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean supportsReadOnlyConnections() {
+		return false;
+	}
+
 	/**
 	 * Release a previously obtained connection
 	 *
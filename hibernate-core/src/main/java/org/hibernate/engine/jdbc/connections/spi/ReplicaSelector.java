@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * Chooses the read replica from which a
+ * {@linkplain org.hibernate.engine.jdbc.connections.internal.ReplicaRoutingConnectionProviderImpl
+ * routing connection provider} obtains a read-only connection.
+ * <p>
+ * A {@code ReplicaSelector} may be specified using the configuration property
+ * {@value org.hibernate.cfg.ReplicaSettings#REPLICA_SELECTOR}. The built-in
+ * selectors are {@code round-robin} and {@code least-latency}.
+ * <p>
+ * A replica to which a connection could not be obtained is considered
+ * unavailable, and is not offered to the selector until it responds again.
+ * <p>
+ * Implementations must be thread-safe, and must provide a public default
+ * constructor when specified by name.
+ *
+ * @since 7.0
+ */
+@Incubating
+@FunctionalInterface
+public interface ReplicaSelector {
+
+	/**
+	 * Choose a replica.
+	 *
+	 * @param replicas the replicas which are currently available, never empty
+	 *
+	 * @return the index of the chosen replica in the given list
+	 */
+	int select(List<? extends Replica> replicas);
+
+	/**
+	 * A read replica, along with what is known about its recent performance.
+	 */
+	interface Replica {
+		/**
+		 * The JDBC URL of the replica.
+		 */
+		String getUrl();
+
+		/**
+		 * A moving average of the round-trip time of a validation request
+		 * to the replica, in nanoseconds, or {@code 0} if the replica has
+		 * not been measured yet. The replicas are measured periodically,
+		 * so this does not include the time spent waiting for a pooled
+		 * connection.
+		 */
+		long getLatency();
+	}
+}
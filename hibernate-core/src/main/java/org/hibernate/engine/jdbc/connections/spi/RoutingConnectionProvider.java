@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.connections.spi;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link ConnectionProvider} which distinguishes connections used for work
+ * which only reads from connections used for work which might write, usually
+ * in order to route read-only work to read replicas of a primary database.
+ * <p>
+ * Hibernate asks for a {@linkplain Intent#READ_ONLY read-only} connection when
+ * the first statement it executes on a new connection is a query which reads
+ * data and:
+ * <ul>
+ * <li>the query is {@linkplain org.hibernate.query.SelectionQuery#setReadOnly
+ *     read-only}, or belongs to a session which is
+ *     {@linkplain org.hibernate.Session#setDefaultReadOnly read-only by default},
+ *     or to a {@linkplain org.hibernate.StatelessSession stateless session},
+ * <li>the query obtains no pessimistic lock, and
+ * <li>the session has never flushed or otherwise written to the database, so
+ *     that it always reads its own writes.
+ * </ul>
+ * <p>
+ * If a session holding a read-only connection later needs to write, the
+ * read-only connection is released, and a read-write connection is obtained
+ * using {@link #getConnection()}.
+ * <p>
+ * Every connection, whatever its intent, is released by calling
+ * {@link #closeConnection(Connection)}.
+ *
+ * @see org.hibernate.engine.jdbc.connections.internal.ReplicaRoutingConnectionProviderImpl
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface RoutingConnectionProvider extends ConnectionProvider {
+
+	/**
+	 * The kind of work a connection is needed for.
+	 */
+	enum Intent {
+		/**
+		 * The connection might be used to write, and must be a connection
+		 * to the primary database.
+		 */
+		READ_WRITE,
+		/**
+		 * The connection will only be used to read, and may be a connection
+		 * to a read replica.
+		 */
+		READ_ONLY
+	}
+
+	/**
+	 * Obtain a connection suitable for the given kind of work.
+	 *
+	 * @param intent whether the connection will only be used to read
+	 *
+	 * @return The obtained JDBC connection
+	 *
+	 * @throws SQLException Indicates a problem opening a connection
+	 */
+	Connection getConnection(Intent intent) throws SQLException;
+
+	/**
+	 * Obtain a connection to the primary database, equivalent to
+	 * {@code getConnection(Intent.READ_WRITE)}.
+	 */
+	@Override
+	default Connection getConnection() throws SQLException {
+		return getConnection( Intent.READ_WRITE );
+	}
+}
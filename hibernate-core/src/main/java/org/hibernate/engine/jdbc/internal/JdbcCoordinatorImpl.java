@@ -25,11 +25,15 @@
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -55,6 +59,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient final JdbcServices jdbcServices;
 
+	private transient final PreparedStatementCache statementCache;
+
 	private transient Batch currentBatch;
 
 	private transient long transactionTimeOutInstant = -1;
@@ -78,17 +84,24 @@ public JdbcCoordinatorImpl(
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		final JdbcSessionContext jdbcSessionContext = owner.getJdbcSessionContext();
+		final int statementCacheSize = jdbcSessionContext.getStatementCacheSize();
+		// we don't know the lifecycle of a user supplied connection
+		this.statementCache = statementCacheSize > 0 && !isUserSuppliedConnection
+				? new PreparedStatementCache( statementCacheSize )
+				: null;
 		final ResourceRegistry resourceRegistry =
-				new ResourceRegistryStandardImpl( owner.getJdbcSessionContext().getEventHandler() );
+				new ResourceRegistryStandardImpl( jdbcSessionContext.getEventHandler(), statementCache );
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
 		}
 		else {
 			this.logicalConnection = new LogicalConnectionManagedImpl(
 					owner.getJdbcConnectionAccess(),
-					owner.getJdbcSessionContext(),
+					jdbcSessionContext,
 					owner.getSqlExceptionHelper(),
-					resourceRegistry
+					resourceRegistry,
+					statementCache
 			);
 		}
 		this.owner = owner;
@@ -103,6 +116,7 @@ private JdbcCoordinatorImpl(
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		this.statementCache = null;
 	}
 
 	@Override
@@ -119,10 +133,45 @@ public SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
 
+	/**
+	 * The cache of prepared statements for the current physical connection, if enabled
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+	 */
+	@Nullable PreparedStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	private int flushDepth;
 
+	// once the session has written, or might have written, it reads
+	// through the read-write connection, so that it sees its writes
+	private boolean readYourWrites;
+
+	/**
+	 * The connection to use for a query, which may be a connection to a
+	 * read replica if the query only reads and the session has never written.
+	 * Any other query, for example, one which obtains a pessimistic lock, is
+	 * executed on the primary database, even if a connection to a replica
+	 * is currently held.
+	 */
+	Connection getReadConnection(boolean readOnly) {
+		return readOnly && !readYourWrites
+				? logicalConnection.getReadOnlyPhysicalConnection()
+				: logicalConnection.getReadWritePhysicalConnection();
+	}
+
+	/**
+	 * The connection to use for work which might write.
+	 */
+	Connection getWriteConnection() {
+		readYourWrites = true;
+		return logicalConnection.getReadWritePhysicalConnection();
+	}
+
 	@Override
 	public void flushBeginning() {
+		readYourWrites = true;
 		if ( flushDepth == 0 ) {
 			releasesEnabled = false;
 		}
@@ -302,7 +351,7 @@ private boolean hasRegisteredResources() {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
-		final Connection connection = getLogicalConnection().getPhysicalConnection();
+		final Connection connection = getWriteConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
 			afterStatementExecution();
@@ -129,7 +129,7 @@ private void setStatementTimeout(PreparedStatement preparedStatement) throws SQL
 	}
 
 	protected final Connection connection() {
-		return logicalConnection().getPhysicalConnection();
+		return jdbcCoordinator.getWriteConnection();
 	}
 
 	protected final LogicalConnectionImplementor logicalConnection() {
@@ -17,6 +17,7 @@
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
@@ -51,7 +52,7 @@ protected final JdbcSessionContext settings() {
 	}
 
 	protected final Connection connection() {
-		return logicalConnection().getPhysicalConnection();
+		return jdbcCoordinator.getWriteConnection();
 	}
 
 	protected final LogicalConnectionImplementor logicalConnection() {
@@ -89,13 +90,38 @@ private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(S
 		return new StatementPreparationTemplate( sql ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
-				return isCallable
-						? connection().prepareCall( sql )
-						: connection().prepareStatement( sql );
+				if ( isCallable ) {
+					return connection().prepareCall( sql );
+				}
+				else if ( jdbcCoordinator.getStatementCache() != null ) {
+					return prepareCachedStatement( connection(), sql, ResultSet.TYPE_FORWARD_ONLY );
+				}
+				else {
+					return connection().prepareStatement( sql );
+				}
 			}
 		};
 	}
 
+	/**
+	 * Reuse an idle statement from the {@link PreparedStatementCache}, or prepare
+	 * a new statement which will be returned to the cache when released.
+	 */
+	private PreparedStatement prepareCachedStatement(Connection connection, String sql, int resultSetType)
+			throws SQLException {
+		final PreparedStatementCache statementCache = jdbcCoordinator.getStatementCache();
+		assert statementCache != null;
+		final PreparedStatement cached =
+				statementCache.checkOut( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+		if ( cached != null ) {
+			return cached;
+		}
+		final PreparedStatement statement =
+				connection.prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+		statementCache.track( statement, sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+		return statement;
+	}
+
 	private void checkAutoGeneratedKeysSupportEnabled() {
 		if ( ! settings().isGetGeneratedKeysEnabled() ) {
 			throw new AssertionFailure( "getGeneratedKeys() support is not enabled" );
@@ -131,6 +157,15 @@ public PreparedStatement prepareQueryStatement(
 			String sql,
 			boolean isCallable,
 			@Nullable ScrollMode scrollMode) {
+		return prepareQueryStatement( sql, isCallable, scrollMode, false );
+	}
+
+	@Override
+	public PreparedStatement prepareQueryStatement(
+			String sql,
+			boolean isCallable,
+			@Nullable ScrollMode scrollMode,
+			boolean readOnly) {
 		final int resultSetType;
 		if ( scrollMode != null && !scrollMode.equals( ScrollMode.FORWARD_ONLY ) ) {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
@@ -144,9 +179,17 @@ public PreparedStatement prepareQueryStatement(
 
 		final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
 			public PreparedStatement doPrepare() throws SQLException {
-					return isCallable
-							? connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY )
-							: connection().prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+				if ( isCallable ) {
+					// a stored procedure might write
+					return connection().prepareCall( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+				}
+				final Connection connection = jdbcCoordinator.getReadConnection( readOnly );
+				if ( jdbcCoordinator.getStatementCache() != null ) {
+					return prepareCachedStatement( connection, sql, resultSetType );
+				}
+				else {
+					return connection.prepareStatement( sql, resultSetType, ResultSet.CONCUR_READ_ONLY );
+				}
 			}
 		}.prepareStatement();
 		jdbcCoordinator.registerLastQuery( ps );
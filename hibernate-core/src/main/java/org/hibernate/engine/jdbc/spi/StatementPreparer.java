@@ -7,6 +7,7 @@
 import java.sql.PreparedStatement;
 import java.sql.Statement;
 
+import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -90,4 +91,30 @@ public interface StatementPreparer {
 	 * @return the prepared statement
 	 */
 	PreparedStatement prepareQueryStatement(String sql, boolean isCallable, @Nullable ScrollMode scrollMode);
+
+	/**
+	 * Get a prepared statement for use in loading / querying, indicating whether
+	 * the query only reads data, in which case the statement may be prepared on
+	 * a connection to a read replica.
+	 *
+	 * @param sql The SQL the statement to be prepared
+	 * @param isCallable Whether to prepare as a callable statement.
+	 * @param scrollMode (optional) scroll mode to be applied to the resulting result set; may be null to indicate
+	 * no scrolling should be applied.
+	 * @param readOnly Whether the query only reads data, and obtains no pessimistic lock
+	 *
+	 * @return the prepared statement
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default PreparedStatement prepareQueryStatement(
+			String sql,
+			boolean isCallable,
+			@Nullable ScrollMode scrollMode,
+			boolean readOnly) {
+		return prepareQueryStatement( sql, isCallable, scrollMode );
+	}
 }
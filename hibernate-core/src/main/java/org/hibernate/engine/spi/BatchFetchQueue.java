@@ -8,6 +8,7 @@
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.BiConsumer;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -134,6 +135,18 @@ public void removeSubselect(EntityKey key) {
 		}
 	}
 
+	/**
+	 * Visit each registered subselect fetch descriptor, along with the key
+	 * of the entity it was registered for.
+	 *
+	 * @since 7.0
+	 */
+	public void forEachSubselect(BiConsumer<EntityKey, SubselectFetch> action) {
+		if ( subselectsByEntityKey != null ) {
+			subselectsByEntityKey.forEach( action );
+		}
+	}
+
 	// entity batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -15,6 +15,8 @@
 import org.hibernate.Filter;
 import org.hibernate.Internal;
 import org.hibernate.UnknownProfileException;
+import org.hibernate.engine.internal.LazyLoadDetector;
+import org.hibernate.engine.internal.LazyLoadTracker;
 import org.hibernate.engine.profile.Fetch;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.graph.GraphSemantic;
@@ -61,6 +63,8 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private Boolean readOnly;
 
+	private transient @Nullable LazyLoadTracker lazyLoadTracker;
+
 	public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
 		batchSize = sessionFactory.getSessionFactoryOptions().getDefaultBatchFetchSize();
@@ -73,6 +77,10 @@ public LoadQueryInfluencers(SessionFactoryImplementor sessionFactory, SessionCre
 		batchSize = options.getDefaultBatchFetchSize();
 		subselectFetchEnabled = options.isSubselectFetchEnabled();
 		effectiveEntityGraph = new EffectiveEntityGraph();
+		final LazyLoadDetector lazyLoadDetector = sessionFactory.getFastSessionServices().lazyLoadDetector;
+		if ( lazyLoadDetector != null ) {
+			lazyLoadTracker = new LazyLoadTracker( lazyLoadDetector );
+		}
 		for (FilterDefinition filterDefinition : sessionFactory.getAutoEnabledFilters()) {
 			FilterImpl filter = new FilterImpl( filterDefinition );
 			if ( enabledFilters == null ) {
@@ -319,7 +327,10 @@ public int effectiveBatchSize(CollectionPersister persister) {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		final int effectiveBatchSize = persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return lazyLoadTracker == null
+				? effectiveBatchSize
+				: lazyLoadTracker.getDetector().adaptBatchSize( persister.getRole(), effectiveBatchSize );
 	}
 
 	public boolean effectivelyBatchLoadable(CollectionPersister persister) {
@@ -330,13 +341,44 @@ public int effectiveBatchSize(EntityPersister persister) {
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
-		return persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		final int effectiveBatchSize = persisterBatchSize >= 0 ? persisterBatchSize : batchSize;
+		return lazyLoadTracker == null
+				? effectiveBatchSize
+				: lazyLoadTracker.getDetector().adaptBatchSize( persister.getEntityName(), effectiveBatchSize );
 	}
 
 	public boolean effectivelyBatchLoadable(EntityPersister persister) {
 		return persister.isBatchLoadable() || effectiveBatchSize( persister ) > 1;
 	}
 
+	/**
+	 * Whether {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive
+	 * batch fetching} has raised the batch size of the given collection, so that the
+	 * loader built for the configured batch size should not be used.
+	 */
+	public boolean isBatchSizeAdapted(CollectionPersister persister) {
+		return lazyLoadTracker != null && lazyLoadTracker.getDetector().isBatchSizeAdapted( persister.getRole() );
+	}
+
+	/**
+	 * Whether {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive
+	 * batch fetching} has raised the batch size of the given entity, so that the loader
+	 * built for the configured batch size should not be used.
+	 */
+	public boolean isBatchSizeAdapted(EntityPersister persister) {
+		return lazyLoadTracker != null && lazyLoadTracker.getDetector().isBatchSizeAdapted( persister.getEntityName() );
+	}
+
+	/**
+	 * The tracker counting lazy fetches in this session, or {@code null} if
+	 * {@linkplain org.hibernate.cfg.FetchSettings#LAZY_LOAD_DETECTION_THRESHOLD
+	 * detection of repeated lazy fetching} is disabled.
+	 */
+	@Internal
+	public @Nullable LazyLoadTracker getLazyLoadTracker() {
+		return lazyLoadTracker;
+	}
+
 	public boolean getSubselectFetchEnabled() {
 		return subselectFetchEnabled;
 	}
@@ -11,4 +11,14 @@
  */
 public interface SessionEventListenerManager extends SessionEventListener {
 	void addListener(SessionEventListener... listeners);
+
+	/**
+	 * The first registered listener of the given type, or {@code null}
+	 * if there is no such listener.
+	 *
+	 * @since 7.0
+	 */
+	default <T extends SessionEventListener> T findListener(Class<T> listenerType) {
+		return null;
+	}
 }
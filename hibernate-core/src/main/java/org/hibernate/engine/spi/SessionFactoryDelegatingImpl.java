@@ -35,6 +35,7 @@
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.profile.FetchProfile;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.spi.EventEngine;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.FastSessionServices;
@@ -302,6 +303,11 @@ public FastSessionServices getFastSessionServices() {
 		return delegate.getFastSessionServices();
 	}
 
+	@Override
+	public EventMonitor getEventMonitor() {
+		return delegate.getEventMonitor();
+	}
+
 	@Override
 	public Type getIdentifierType(String className) throws MappingException {
 		return delegate.getIdentifierType( className );
@@ -30,6 +30,7 @@ public class SubselectFetch {
 	private final JdbcParametersList loadingJdbcParameters;
 	private final JdbcParameterBindings loadingJdbcParameterBindings;
 	private final Set<EntityKey> resultingEntityKeys;
+	private final boolean windowed;
 
 	public SubselectFetch(
 			QuerySpec loadingSqlAst,
@@ -37,11 +38,29 @@ public SubselectFetch(
 			JdbcParametersList loadingJdbcParameters,
 			JdbcParameterBindings loadingJdbcParameterBindings,
 			Set<EntityKey> resultingEntityKeys) {
+		this(
+				loadingSqlAst,
+				ownerTableGroup,
+				loadingJdbcParameters,
+				loadingJdbcParameterBindings,
+				resultingEntityKeys,
+				false
+		);
+	}
+
+	public SubselectFetch(
+			QuerySpec loadingSqlAst,
+			TableGroup ownerTableGroup,
+			JdbcParametersList loadingJdbcParameters,
+			JdbcParameterBindings loadingJdbcParameterBindings,
+			Set<EntityKey> resultingEntityKeys,
+			boolean windowed) {
 		this.loadingSqlAst = loadingSqlAst;
 		this.ownerTableGroup = ownerTableGroup;
 		this.loadingJdbcParameters = loadingJdbcParameters;
 		this.loadingJdbcParameterBindings = loadingJdbcParameterBindings;
 		this.resultingEntityKeys = resultingEntityKeys;
+		this.windowed = windowed;
 	}
 
 	public JdbcParametersList getLoadingJdbcParameters() {
@@ -81,6 +100,18 @@ public Set<EntityKey> getResultingEntityKeys() {
 		return resultingEntityKeys;
 	}
 
+	/**
+	 * Whether the owners are just one window of the results of a scrolled query,
+	 * in which case the {@linkplain #getLoadingSqlAst() loading query} must be
+	 * restricted to the {@linkplain #getResultingEntityKeys() owners in the window}
+	 * when it is re-issued.
+	 *
+	 * @since 7.0
+	 */
+	public boolean isWindowed() {
+		return windowed;
+	}
+
 	@Override
 	public String toString() {
 		return "SubselectFetch(" + ownerTableGroup.getNavigablePath() + ")";
@@ -116,6 +147,37 @@ public static RegistrationHandler createRegistrationHandler(
 		return createRegistrationHandler( batchFetchQueue, sqlAst, roots.get( 0 ), jdbcParameters, jdbcParameterBindings );
 	}
 
+	/**
+	 * Create a handler for the results of a scrolled query, which groups the owners into
+	 * {@linkplain #isWindowed() windows} of consecutive rows, so that a subselect fetch
+	 * initializes the collections of the owners in one window, instead of re-issuing the
+	 * whole query.
+	 *
+	 * @param windowSize the maximum number of owners in a window
+	 *
+	 * @since 7.0
+	 */
+	public static RegistrationHandler createWindowedRegistrationHandler(
+			BatchFetchQueue batchFetchQueue,
+			SelectStatement sqlAst,
+			JdbcParametersList jdbcParameters,
+			JdbcParameterBindings jdbcParameterBindings,
+			int windowSize) {
+		final List<TableGroup> roots = sqlAst.getQuerySpec().getFromClause().getRoots();
+		if ( roots.isEmpty() ) {
+			return NO_OP_REG_HANDLER;
+		}
+
+		return new StandardRegistrationHandler(
+				batchFetchQueue,
+				sqlAst,
+				roots.get( 0 ),
+				jdbcParameters,
+				jdbcParameterBindings,
+				windowSize
+		);
+	}
+
 	public interface RegistrationHandler {
 		void addKey(EntityHolder holder);
 	}
@@ -131,7 +193,9 @@ public static class StandardRegistrationHandler implements RegistrationHandler {
 		private final SelectStatement loadingSqlAst;
 		private final JdbcParametersList loadingJdbcParameters;
 		private final JdbcParameterBindings loadingJdbcParameterBindings;
+		private final int windowSize;
 		private final Map<NavigablePath, SubselectFetch> subselectFetches = new HashMap<>();
+		private int windowKeyCount;
 
 		private StandardRegistrationHandler(
 				BatchFetchQueue batchFetchQueue,
@@ -139,16 +203,42 @@ private StandardRegistrationHandler(
 				TableGroup ownerTableGroup,
 				JdbcParametersList loadingJdbcParameters,
 				JdbcParameterBindings loadingJdbcParameterBindings) {
+			this(
+					batchFetchQueue,
+					loadingSqlAst,
+					ownerTableGroup,
+					loadingJdbcParameters,
+					loadingJdbcParameterBindings,
+					-1
+			);
+		}
+
+		private StandardRegistrationHandler(
+				BatchFetchQueue batchFetchQueue,
+				SelectStatement loadingSqlAst,
+				TableGroup ownerTableGroup,
+				JdbcParametersList loadingJdbcParameters,
+				JdbcParameterBindings loadingJdbcParameterBindings,
+				int windowSize) {
 			this.batchFetchQueue = batchFetchQueue;
 			this.loadingSqlAst = loadingSqlAst;
 			this.loadingJdbcParameters = loadingJdbcParameters;
 			this.loadingJdbcParameterBindings = loadingJdbcParameterBindings;
+			this.windowSize = windowSize;
 		}
 
 		@Override
 		public void addKey(EntityHolder holder) {
 			if ( batchFetchQueue.getSession().getLoadQueryInfluencers()
 					.hasSubselectLoadableCollections( holder.getDescriptor() ) ) {
+				if ( windowSize > 0 ) {
+					if ( windowKeyCount == windowSize ) {
+						// the current window is full, so start the next one
+						subselectFetches.clear();
+						windowKeyCount = 0;
+					}
+					windowKeyCount++;
+				}
 				final EntityInitializer<?> entityInitializer = NullnessUtil.castNonNull( holder.getEntityInitializer() );
 				final SubselectFetch subselectFetch = subselectFetches.computeIfAbsent(
 						entityInitializer.getNavigablePath(),
@@ -159,7 +249,8 @@ public void addKey(EntityHolder holder) {
 										.findTableGroup( entityInitializer.getNavigablePath() ),
 								loadingJdbcParameters,
 								loadingJdbcParameterBindings,
-								new HashSet<>()
+								new HashSet<>(),
+								windowSize > 0
 						)
 				);
 				subselectFetch.resultingEntityKeys.add( holder.getEntityKey() );
@@ -6,6 +6,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.LazyLoadTracker;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -59,7 +60,12 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 
 				final StatisticsImplementor statistics = source.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.fetchCollection( loadedPersister );
+				}
+
+				final LazyLoadTracker lazyLoadTracker = source.getLoadQueryInfluencers().getLazyLoadTracker();
+				if ( lazyLoadTracker != null ) {
+					lazyLoadTracker.collectionLoaded( loadedPersister, source );
 				}
 			}
 		}
@@ -13,6 +13,7 @@
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.LazyLoadTracker;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -608,9 +609,16 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 		final LazyInitializer lazyInitializer = extractLazyInitializer( entity );
 		final Object impl = lazyInitializer != null ? lazyInitializer.getImplementation() : entity;
 
-		final StatisticsImplementor statistics = event.getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( event.isAssociationFetch() ) {
+			final StatisticsImplementor statistics = event.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.fetchEntity( persister );
+			}
+
+			final LazyLoadTracker lazyLoadTracker = event.getSession().getLoadQueryInfluencers().getLazyLoadTracker();
+			if ( lazyLoadTracker != null ) {
+				lazyLoadTracker.entityLoaded( persister, event.getSession() );
+			}
 		}
 
 		return impl;
@@ -99,7 +99,7 @@ public DiagnosticEvent beginJdbcBatchExecutionEvent() {
 	}
 
 	@Override
-	public void completeJdbcBatchExecutionEvent(DiagnosticEvent jdbcBatchExecutionEvent, String statementSql) {
+	public void completeJdbcBatchExecutionEvent(DiagnosticEvent jdbcBatchExecutionEvent, String statementSql, int batchSize) {
 
 	}
 
@@ -330,4 +330,74 @@ public DiagnosticEvent beginCollectionRemoveEvent() {
 	public void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public DiagnosticEvent beginRepeatedLazyLoadEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeRepeatedLazyLoadEvent(DiagnosticEvent event, String role, String originatingQuery, int loadCount, SharedSessionContractImplementor session) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginHqlParseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeHqlParseEvent(DiagnosticEvent event, String hql) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginSqmTranslationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(DiagnosticEvent event) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginSqlRenderingEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSqlRenderingEvent(DiagnosticEvent event, String sql) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginResultHydrationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeResultHydrationEvent(DiagnosticEvent event, int rowCount, SharedSessionContractImplementor session) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginConnectionPoolAcquisitionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeConnectionPoolAcquisitionEvent(DiagnosticEvent event, boolean success) {
+
+	}
+
+	@Override
+	public DiagnosticEvent beginConnectionLeakEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeConnectionLeakEvent(DiagnosticEvent event, long heldMillis) {
+
+	}
 }
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.monitor.internal;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.event.monitor.spi.EventMonitor;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.cfg.AvailableSettings.EVENT_MONITOR;
+
+/**
+ * Resolves the {@link EventMonitor} specified by
+ * {@value org.hibernate.cfg.AvailableSettings#EVENT_MONITOR}, or
+ * discovered as a Java service.
+ *
+ * @since 7.0
+ */
+public final class EventMonitors {
+	private static final Logger LOG = Logger.getLogger( EventMonitors.class );
+
+	private EventMonitors() {
+	}
+
+	/**
+	 * Resolve the {@link EventMonitor} for the given settings. Given an
+	 * instance, the setting is returned as is; given a class or class name,
+	 * a new instance is created; when absent, the first implementation
+	 * discovered via {@link java.util.ServiceLoader} is used.
+	 */
+	public static EventMonitor loadEventMonitor(Map<String, Object> settings, ClassLoaderService classLoaderService) {
+		final Object setting = settings.get( EVENT_MONITOR );
+		if ( setting == null ) {
+			final Collection<EventMonitor> eventMonitors = classLoaderService.loadJavaServices( EventMonitor.class );
+			if ( eventMonitors.isEmpty() ) {
+				return new EmptyEventMonitor();
+			}
+			final EventMonitor eventMonitor = eventMonitors.iterator().next();
+			if ( eventMonitors.size() > 1 ) {
+				LOG.warnf( "Multiple EventMonitor implementations were discovered, using [%s]; use '%s' to choose one",
+						eventMonitor.getClass().getName(), EVENT_MONITOR );
+			}
+			return eventMonitor;
+		}
+		else if ( setting instanceof EventMonitor eventMonitor ) {
+			return eventMonitor;
+		}
+		else {
+			final Class<?> eventMonitorClass = setting instanceof Class<?> clazz
+					? clazz
+					: classLoaderService.classForName( setting.toString() );
+			try {
+				return (EventMonitor) eventMonitorClass.getConstructor().newInstance();
+			}
+			catch (Exception e) {
+				throw new HibernateException(
+						"Unable to instantiate specified EventMonitor implementation [" + setting + "]", e );
+			}
+		}
+	}
+}
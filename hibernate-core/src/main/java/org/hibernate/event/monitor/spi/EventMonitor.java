@@ -75,9 +75,13 @@ void completeJdbcPreparedStatementExecutionEvent(
 
 	DiagnosticEvent beginJdbcBatchExecutionEvent();
 
+	/**
+	 * @param batchSize the number of rows in the executed batch
+	 */
 	void completeJdbcBatchExecutionEvent(
 			DiagnosticEvent jdbcBatchExecutionEvent,
-			String statementSql);
+			String statementSql,
+			int batchSize);
 
 	DiagnosticEvent beginCachePutEvent();
 
@@ -201,6 +205,71 @@ void completePrePartialFlush(
 
 	void completeCollectionRemoveEvent(DiagnosticEvent event, Object id, String role, boolean success, SharedSessionContractImplementor session);
 
+	/**
+	 * @see org.hibernate.cfg.FetchSettings#LAZY_LOAD_DETECTION_THRESHOLD
+	 */
+	DiagnosticEvent beginRepeatedLazyLoadEvent();
+
+	void completeRepeatedLazyLoadEvent(
+			DiagnosticEvent event,
+			String role,
+			String originatingQuery,
+			int loadCount,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Parsing of an HQL query string by the {@link org.hibernate.query.hql.HqlTranslator}.
+	 */
+	DiagnosticEvent beginHqlParseEvent();
+
+	void completeHqlParseEvent(DiagnosticEvent event, String hql);
+
+	/**
+	 * Translation of an SQM tree to a SQL AST.
+	 */
+	DiagnosticEvent beginSqmTranslationEvent();
+
+	void completeSqmTranslationEvent(DiagnosticEvent event);
+
+	/**
+	 * Rendering of a SQL AST to SQL by a {@link org.hibernate.sql.ast.SqlAstTranslator}.
+	 */
+	DiagnosticEvent beginSqlRenderingEvent();
+
+	void completeSqlRenderingEvent(DiagnosticEvent event, String sql);
+
+	/**
+	 * Reading of the rows of a JDBC result set into a list of query results,
+	 * including instantiation and initialization of entities.
+	 */
+	DiagnosticEvent beginResultHydrationEvent();
+
+	void completeResultHydrationEvent(
+			DiagnosticEvent event,
+			int rowCount,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * Acquisition of a connection from the built-in
+	 * {@linkplain org.hibernate.engine.jdbc.connections.internal.PooledConnectionProviderImpl
+	 * connection pool}, including any time spent waiting for a connection
+	 * to be returned to the pool. The current state of the pool is available
+	 * from {@link org.hibernate.engine.jdbc.connections.internal.PooledConnectionProviderImpl#getActiveConnectionCount()}
+	 * and friends.
+	 */
+	DiagnosticEvent beginConnectionPoolAcquisitionEvent();
+
+	void completeConnectionPoolAcquisitionEvent(DiagnosticEvent event, boolean success);
+
+	/**
+	 * A connection held outside the built-in connection pool for longer than the
+	 * {@linkplain org.hibernate.cfg.ConnectionPoolSettings#POOL_LEAK_DETECTION_THRESHOLD
+	 * leak detection threshold}.
+	 */
+	DiagnosticEvent beginConnectionLeakEvent();
+
+	void completeConnectionLeakEvent(DiagnosticEvent event, long heldMillis);
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -25,7 +25,10 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * @implNote All known implementors are synchronized. Consider carefully
+	 * @implNote All known implementors are synchronized, using a
+	 *           {@link java.util.concurrent.locks.Lock} rather than the
+	 *           monitor lock, since the callback may perform JDBC work,
+	 *           which would pin a virtual thread. Consider carefully
 	 *           if a new implementation could drop this requirement.
 	 *
 	 * @param callback Callback to access the underlying value source.
@@ -5,12 +5,14 @@
 package org.hibernate.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.LoadContexts;
 import org.hibernate.sql.results.spi.RowReader;
 
 /**
@@ -79,6 +81,33 @@ protected SharedSessionContractImplementor getPersistenceContext() {
 		return persistenceContext;
 	}
 
+	/**
+	 * Read the row at the current position of the underlying results
+	 */
+	protected R readCurrentRow() {
+		final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContext();
+		final LoadContexts loadContexts = persistenceContext.getLoadContexts();
+		loadContexts.register( getJdbcValuesSourceProcessingState() );
+		persistenceContext.beforeLoad();
+		try {
+			final R row;
+			try {
+				row = getRowReader().readRow( getRowProcessingState() );
+
+				getRowProcessingState().finishRowProcessing( true );
+				getJdbcValuesSourceProcessingState().finishUp( true );
+			}
+			finally {
+				persistenceContext.afterLoad();
+			}
+			persistenceContext.initializeNonLazyCollections();
+			return row;
+		}
+		finally {
+			loadContexts.deregister( getJdbcValuesSourceProcessingState() );
+		}
+	}
+
 	protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
 	}
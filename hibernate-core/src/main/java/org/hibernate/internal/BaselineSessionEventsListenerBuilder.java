@@ -10,6 +10,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
+import org.hibernate.engine.internal.ResourceAccountingSessionEventListener;
 import org.hibernate.engine.internal.StatisticalLoggingSessionEventListener;
 
 /**
@@ -20,9 +21,32 @@ public class BaselineSessionEventsListenerBuilder {
 	private static final SessionEventListener[] EMPTY = new SessionEventListener[0];
 
 	private final Class<? extends SessionEventListener> autoListener;
+	private final int maxManagedEntities;
+	private final int maxStatements;
+	private final boolean failOnBudgetExceeded;
 
 	public BaselineSessionEventsListenerBuilder(Class<? extends SessionEventListener> autoListener) {
+		this( autoListener, -1, -1, false );
+	}
+
+	/**
+	 * @param maxManagedEntities the {@linkplain org.hibernate.cfg.SessionEventSettings#MAX_MANAGED_ENTITIES
+	 *                           budget} for managed entities, or a non-positive value if unlimited
+	 * @param maxStatements the {@linkplain org.hibernate.cfg.SessionEventSettings#MAX_STATEMENTS
+	 *                      budget} for JDBC statements, or a non-positive value if unlimited
+	 * @param failOnBudgetExceeded whether exceeding a budget is an error
+	 *
+	 * @since 7.0
+	 */
+	public BaselineSessionEventsListenerBuilder(
+			Class<? extends SessionEventListener> autoListener,
+			int maxManagedEntities,
+			int maxStatements,
+			boolean failOnBudgetExceeded) {
 		this.autoListener = autoListener;
+		this.maxManagedEntities = maxManagedEntities;
+		this.maxStatements = maxStatements;
+		this.failOnBudgetExceeded = failOnBudgetExceeded;
 	}
 
 	@SuppressWarnings("unused")
@@ -39,30 +63,32 @@ public List<SessionEventListener> buildBaselineList() {
 	}
 
 	public SessionEventListener[] buildBaseline() {
-		final SessionEventListener[] arr;
-		if ( autoListener != null ) {
-			if ( StatisticalLoggingSessionEventListener.isLoggingEnabled() ) {
-				arr = new SessionEventListener[2];
-				arr[0] = buildStatsListener();
-				arr[1] = buildAutoListener( autoListener );
-			}
-			else {
-				arr = new SessionEventListener[1];
-				arr[0] = buildAutoListener( autoListener );
-			}
+		final boolean statsEnabled = StatisticalLoggingSessionEventListener.isLoggingEnabled();
+		final boolean accountingEnabled = isResourceAccountingEnabled();
+		final int size = ( statsEnabled ? 1 : 0 )
+				+ ( accountingEnabled ? 1 : 0 )
+				+ ( autoListener != null ? 1 : 0 );
+		if ( size == 0 ) {
+			return EMPTY;
+		}
+		final SessionEventListener[] arr = new SessionEventListener[size];
+		int i = 0;
+		if ( statsEnabled ) {
+			arr[i++] = buildStatsListener();
 		}
-		else {
-			if ( StatisticalLoggingSessionEventListener.isLoggingEnabled() ) {
-				arr = new SessionEventListener[1];
-				arr[0] = buildStatsListener();
-			}
-			else {
-				arr = EMPTY;
-			}
+		if ( accountingEnabled ) {
+			arr[i++] = new ResourceAccountingSessionEventListener( maxManagedEntities, maxStatements, failOnBudgetExceeded );
+		}
+		if ( autoListener != null ) {
+			arr[i] = buildAutoListener( autoListener );
 		}
 		return arr;
 	}
 
+	private boolean isResourceAccountingEnabled() {
+		return maxManagedEntities > 0 || maxStatements > 0;
+	}
+
 	private static SessionEventListener buildAutoListener(final Class<? extends SessionEventListener> autoListener) {
 		try {
 			return autoListener.newInstance();
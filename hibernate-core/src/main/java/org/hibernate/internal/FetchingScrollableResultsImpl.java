@@ -333,7 +333,7 @@ private boolean prepareCurrentRow() {
 				}
 
 			}
-			getJdbcValuesSourceProcessingState().finishUp( false );
+			getJdbcValuesSourceProcessingState().finishUp( true );
 		}
 		finally {
 			persistenceContext.afterLoad();
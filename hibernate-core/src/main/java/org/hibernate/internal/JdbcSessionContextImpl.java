@@ -61,6 +61,11 @@ public Integer getFetchSizeOrNull() {
 		return settings().getJdbcFetchSize();
 	}
 
+	@Override
+	public int getStatementCacheSize() {
+		return settings().getJdbcStatementCacheSize();
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return settings().getJpaCompliance();
@@ -86,6 +91,11 @@ public boolean doesConnectionProviderDisableAutoCommit() {
 		return settings().doesConnectionProviderDisableAutoCommit();
 	}
 
+	@Override
+	public boolean isJdbcTransactionBeginDeferred() {
+		return settings().isJdbcTransactionBeginDeferred();
+	}
+
 	@Override
 	public StatementInspector getStatementInspector() {
 		return statementInspector;
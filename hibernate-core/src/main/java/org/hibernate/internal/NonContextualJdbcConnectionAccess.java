@@ -12,6 +12,7 @@
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
@@ -37,11 +38,27 @@ public NonContextualJdbcConnectionAccess(
 
 	@Override
 	public Connection obtainConnection() throws SQLException {
+		return obtainConnection( false );
+	}
+
+	@Override
+	public Connection obtainReadOnlyConnection() throws SQLException {
+		return obtainConnection( supportsReadOnlyConnections() );
+	}
+
+	@Override
+	public boolean supportsReadOnlyConnections() {
+		return connectionProvider instanceof RoutingConnectionProvider;
+	}
+
+	private Connection obtainConnection(boolean readOnly) throws SQLException {
 		final EventMonitor eventMonitor = session.getEventMonitor();
 		final DiagnosticEvent jdbcConnectionAcquisitionEvent = eventMonitor.beginJdbcConnectionAcquisitionEvent();
 		try {
 			listener.jdbcConnectionAcquisitionStart();
-			return connectionProvider.getConnection();
+			return readOnly
+					? ( (RoutingConnectionProvider) connectionProvider ).getConnection( RoutingConnectionProvider.Intent.READ_ONLY )
+					: connectionProvider.getConnection();
 		}
 		finally {
 			eventMonitor.completeJdbcConnectionAcquisitionEvent(
@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.RowReader;
+
+import static org.hibernate.loader.ast.internal.LoaderHelper.batchInitializeCollections;
+
+/**
+ * A forward-only ScrollableResults implementation which reads a window of rows
+ * ahead of the current row, and then initializes the uninitialized collections
+ * belonging to the entities in those rows, with batch loads for each collection
+ * role, before any of the rows is consumed. Only collections for which batch
+ * fetching is enabled are initialized.
+ * <p>
+ * The entities in the rows of the window are loaded before any of those rows is
+ * consumed, so a {@link org.hibernate.Session#clear()} made while consuming one
+ * row detaches the entities in the rows which follow it in the same window. For
+ * this reason, the look-ahead is only used when the entities are loaded read-only.
+ * <p>
+ * Repositioning is not supported.
+ *
+ * @see org.hibernate.cfg.FetchSettings#SCROLL_PREFETCH_SIZE
+ *
+ * @since 7.0
+ */
+public class PrefetchingScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
+	private final int prefetchSize;
+	private final List<R> buffer;
+
+	private int bufferPosition;
+	private boolean exhausted;
+
+	private R currentRow;
+	private int currentRowNumber = -1;
+
+	public PrefetchingScrollableResultsImpl(
+			JdbcValues jdbcValues,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader,
+			SharedSessionContractImplementor persistenceContext,
+			int prefetchSize) {
+		super(
+				jdbcValues,
+				processingOptions,
+				jdbcValuesSourceProcessingState,
+				rowProcessingState,
+				rowReader,
+				persistenceContext
+		);
+		this.prefetchSize = prefetchSize;
+		this.buffer = new ArrayList<>( prefetchSize );
+	}
+
+	@Override
+	protected R getCurrentRow() {
+		return currentRow;
+	}
+
+	@Override
+	public boolean next() {
+		if ( bufferPosition == buffer.size() ) {
+			fillBuffer();
+		}
+		if ( bufferPosition < buffer.size() ) {
+			currentRow = buffer.get( bufferPosition++ );
+			currentRowNumber++;
+			return true;
+		}
+		else {
+			currentRow = null;
+			currentRowNumber = -1;
+			return false;
+		}
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw new UnsupportedOperationException( "Cannot scroll backwards through forward-only results" );
+		}
+		for ( int i = 0; i < positions; i++ ) {
+			if ( !next() ) {
+				return false;
+			}
+		}
+		return currentRowNumber >= 0;
+	}
+
+	@Override
+	public boolean isFirst() {
+		return currentRowNumber == 0;
+	}
+
+	@Override
+	public boolean isLast() {
+		if ( currentRow == null ) {
+			return false;
+		}
+		if ( bufferPosition == buffer.size() ) {
+			// the current row is held separately, so
+			// it's safe to read the next window here
+			fillBuffer();
+		}
+		return bufferPosition == buffer.size();
+	}
+
+	@Override
+	public int getRowNumber() throws HibernateException {
+		return currentRowNumber;
+	}
+
+	@Override
+	public boolean previous() {
+		throw new UnsupportedOperationException( "Cannot scroll backwards through forward-only results" );
+	}
+
+	@Override
+	public boolean position(int position) {
+		throw new UnsupportedOperationException( "Cannot reposition forward-only results" );
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) throws HibernateException {
+		throw new UnsupportedOperationException( "Cannot reposition forward-only results" );
+	}
+
+	@Override
+	public boolean first() {
+		throw new UnsupportedOperationException( "Cannot reposition forward-only results" );
+	}
+
+	@Override
+	public boolean last() {
+		throw new UnsupportedOperationException( "Cannot reposition forward-only results" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw new UnsupportedOperationException( "Cannot reposition forward-only results" );
+	}
+
+	@Override
+	public void afterLast() {
+		throw new UnsupportedOperationException( "Cannot reposition forward-only results" );
+	}
+
+	private void fillBuffer() {
+		buffer.clear();
+		bufferPosition = 0;
+		while ( !exhausted && buffer.size() < prefetchSize ) {
+			if ( getRowProcessingState().next() ) {
+				buffer.add( readCurrentRow() );
+				afterScrollOperation();
+			}
+			else {
+				exhausted = true;
+			}
+		}
+		if ( !buffer.isEmpty() ) {
+			prefetchCollections();
+		}
+	}
+
+	private void prefetchCollections() {
+		final Map<String, List<PersistentCollection<?>>> collectionsByRole = new LinkedHashMap<>();
+		for ( R row : buffer ) {
+			if ( row instanceof Object[] tuple ) {
+				for ( Object element : tuple ) {
+					collectUninitializedCollections( element, collectionsByRole );
+				}
+			}
+			else {
+				collectUninitializedCollections( row, collectionsByRole );
+			}
+		}
+		if ( !collectionsByRole.isEmpty() ) {
+			collectionsByRole.forEach( (role, collections) ->
+					batchInitializeCollections( role, collections, prefetchSize, getPersistenceContext() ) );
+		}
+	}
+
+	private void collectUninitializedCollections(
+			Object value,
+			Map<String, List<PersistentCollection<?>>> collectionsByRole) {
+		if ( value == null ) {
+			return;
+		}
+		final SharedSessionContractImplementor session = getPersistenceContext();
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( value );
+		if ( entry == null ) {
+			// not an entity, or an uninitialized proxy
+			return;
+		}
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final EntityPersister persister = entry.getPersister();
+		for ( int i = 0; i < persister.getNumberOfAttributeMappings(); i++ ) {
+			final AttributeMapping attributeMapping = persister.getAttributeMapping( i );
+			if ( attributeMapping instanceof PluralAttributeMapping pluralAttributeMapping
+					&& influencers.effectivelyBatchLoadable( pluralAttributeMapping.getCollectionDescriptor() )
+					&& Hibernate.isPropertyInitialized( value, pluralAttributeMapping.getAttributeName() )
+					&& pluralAttributeMapping.getValue( value ) instanceof PersistentCollection<?> collection
+					&& !collection.wasInitialized() ) {
+				collectionsByRole.computeIfAbsent( collection.getRole(), role -> new ArrayList<>() )
+						.add( collection );
+			}
+		}
+	}
+}
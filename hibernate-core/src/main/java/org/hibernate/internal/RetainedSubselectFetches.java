@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.spi.Getter;
+
+/**
+ * Keeps the {@linkplain SubselectFetch subselect fetches} registered by the most recent
+ * query which returned owners of subselect-fetchable collections in a
+ * {@link StatelessSessionImpl}, along with the owning entities, since
+ * the temporary persistence context of a stateless session is cleared as soon as the query
+ * completes. For a scrolled query, only the current window of results is kept.
+ * <p>
+ * When {@link org.hibernate.StatelessSession#fetch} is called for a collection belonging
+ * to one of these owners, the uninitialized collections of the other owners are registered
+ * with the temporary persistence context, so that they're all initialized by one subselect.
+ *
+ * @since 7.0
+ */
+final class RetainedSubselectFetches {
+	private final Map<EntityKey, SubselectFetch> subselectFetches = new HashMap<>();
+	private final Map<EntityKey, Object> owners = new HashMap<>();
+	private final Set<SubselectFetch> retainedFetches = new HashSet<>();
+
+	/**
+	 * Called right before the temporary persistence context is cleared.
+	 */
+	void retain(PersistenceContext persistenceContext) {
+		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		final boolean[] newQuery = new boolean[1];
+		batchFetchQueue.forEachSubselect( (key, subselectFetch) -> {
+			if ( !retainedFetches.contains( subselectFetch ) ) {
+				newQuery[0] = true;
+			}
+		} );
+		if ( newQuery[0] ) {
+			// forget the owners returned by the previous
+			// query or by the previous window of results
+			clear();
+		}
+		batchFetchQueue.forEachSubselect( (key, subselectFetch) -> {
+			final Object owner = persistenceContext.getEntity( key );
+			if ( owner != null ) {
+				subselectFetches.put( key, subselectFetch );
+				owners.put( key, owner );
+				retainedFetches.add( subselectFetch );
+			}
+		} );
+	}
+
+	/**
+	 * Prepare the subselect fetch of the given collection, if its owner was returned
+	 * by the most recent query, by registering the {@link SubselectFetch} and the other
+	 * uninitialized collections of the same role with the temporary persistence context.
+	 */
+	void prepareSubselectFetch(
+			PersistentCollection<?> collection,
+			CollectionPersister collectionDescriptor,
+			SharedSessionContractImplementor session) {
+		final Object owner = collection.getOwner();
+		if ( owner == null
+				|| subselectFetches.isEmpty()
+				|| !session.getLoadQueryInfluencers().effectiveSubselectFetchEnabled( collectionDescriptor ) ) {
+			return;
+		}
+
+		final EntityPersister ownerDescriptor = collectionDescriptor.getOwnerEntityPersister();
+		final EntityKey ownerKey =
+				session.generateEntityKey( ownerDescriptor.getIdentifier( owner, session ), ownerDescriptor );
+		final SubselectFetch subselectFetch = subselectFetches.get( ownerKey );
+		if ( subselectFetch == null ) {
+			return;
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		persistenceContext.getBatchFetchQueue().addSubselect( ownerKey, subselectFetch );
+		final Class<?> ownerClass = ownerDescriptor.getMappedClass();
+		final Getter getter = collectionDescriptor.getAttributeMapping().getPropertyAccess().getGetter();
+		for ( EntityKey key : subselectFetch.getResultingEntityKeys() ) {
+			final Object otherOwner = owners.get( key );
+			if ( otherOwner != null && otherOwner != owner
+					&& subselectFetches.get( key ) == subselectFetch
+					&& ownerClass.isInstance( otherOwner )
+					&& getter.get( otherOwner ) instanceof PersistentCollection<?> otherCollection
+					&& !otherCollection.wasInitialized()
+					&& otherCollection.getKey() != null ) {
+				persistenceContext.addUninitializedCollection( collectionDescriptor, otherCollection, otherCollection.getKey() );
+				otherCollection.setCurrentSession( session );
+			}
+		}
+	}
+
+	void clear() {
+		subselectFetches.clear();
+		owners.clear();
+		retainedFetches.clear();
+	}
+}
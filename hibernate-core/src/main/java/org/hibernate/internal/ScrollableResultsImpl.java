@@ -5,13 +5,11 @@
 package org.hibernate.internal;
 
 import org.hibernate.HibernateException;
-import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
-import org.hibernate.sql.results.spi.LoadContexts;
 import org.hibernate.sql.results.spi.RowReader;
 
 /**
@@ -122,26 +120,7 @@ private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
 			return;
 		}
 
-		final PersistenceContext persistenceContext = getPersistenceContext().getPersistenceContext();
-		final LoadContexts loadContexts = persistenceContext.getLoadContexts();
-		loadContexts.register( getJdbcValuesSourceProcessingState() );
-		persistenceContext.beforeLoad();
-		try {
-			try {
-				currentRow = getRowReader().readRow( getRowProcessingState() );
-
-				getRowProcessingState().finishRowProcessing( true );
-				getJdbcValuesSourceProcessingState().finishUp( false );
-			}
-			finally {
-				persistenceContext.afterLoad();
-			}
-			persistenceContext.initializeNonLazyCollections();
-		}
-		finally {
-			loadContexts.deregister( getJdbcValuesSourceProcessingState() );
-		}
-
+		currentRow = readCurrentRow();
 		afterScrollOperation();
 	}
 
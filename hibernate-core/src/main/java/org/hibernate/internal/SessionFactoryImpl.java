@@ -64,6 +64,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.event.spi.EventEngine;
 import org.hibernate.generator.Generator;
 import org.hibernate.graph.spi.RootGraphImplementor;
@@ -125,6 +126,7 @@
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static org.hibernate.cfg.AvailableSettings.CURRENT_SESSION_CONTEXT_CLASS;
+import static org.hibernate.event.monitor.internal.EventMonitors.loadEventMonitor;
 import static org.hibernate.internal.FetchProfileHelper.getFetchProfiles;
 import static org.hibernate.internal.SessionFactorySettings.deprecationCheck;
 import static org.hibernate.internal.SessionFactorySettings.determineJndiName;
@@ -172,6 +174,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 	private final transient SessionFactoryServiceRegistry serviceRegistry;
 	private final transient EventEngine eventEngine;//Needs to be closed!
 	private final transient JdbcServices jdbcServices;
+	private final transient EventMonitor eventMonitor;
 	private final transient SqlStringGenerationContext sqlStringGenerationContext;
 
 	// todo : org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor too?
@@ -218,6 +221,7 @@ public SessionFactoryImpl(
 		jdbcServices = serviceRegistry.requireService( JdbcServices.class );
 
 		settings = getSettings( options, serviceRegistry );
+		eventMonitor = loadEventMonitor( settings, serviceRegistry.requireService( ClassLoaderService.class ) );
 		maskOutSensitiveInformation( settings );
 		deprecationCheck( settings );
 		LOG.debugf( "Instantiating SessionFactory with settings: %s", settings );
@@ -1561,6 +1565,11 @@ static SessionFactoryImpl deserialize(ObjectInputStream ois) throws IOException
 		return (SessionFactoryImpl) locateSessionFactoryOnDeserialization( uuid, name );
 	}
 
+	@Override
+	public EventMonitor getEventMonitor() {
+		return eventMonitor;
+	}
+
 	/**
 	 * @return the {@link FastSessionServices} for this {@code SessionFactory}.
 	 */
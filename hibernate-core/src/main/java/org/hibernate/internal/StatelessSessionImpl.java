@@ -125,6 +125,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
+	private final RetainedSubselectFetches retainedSubselectFetches = new RetainedSubselectFetches();
 	private final boolean connectionProvided;
 	private final List<Runnable> afterCompletions = new ArrayList<>();
 
@@ -250,7 +251,7 @@ else if ( generator.generatedOnExecution( entity, this ) ) {
 		firePostInsert( entity, id, state, persister );
 		final StatisticsImplementor statistics = getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.insertEntity( persister.getEntityName() );
+			statistics.insertEntity( persister );
 		}
 		return id;
 	}
@@ -271,7 +272,7 @@ private void recreateCollections(Object entity, Object id, EntityPersister persi
 					}
 					final StatisticsImplementor statistics = getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
-						statistics.recreateCollection( descriptor.getRole() );
+						statistics.recreateCollection( descriptor );
 					}
 					firePostRecreate( collection, descriptor );
 				} );
@@ -322,7 +323,7 @@ public void delete(String entityName, Object entity) {
 			firePostDelete( entity, id, persister );
 			final StatisticsImplementor statistics = getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
-				statistics.deleteEntity( persister.getEntityName() );
+				statistics.deleteEntity( persister );
 			}
 		}
 	}
@@ -344,7 +345,7 @@ private void removeCollections(Object entity, Object id, EntityPersister persist
 					firePostRemove( collection, entity, descriptor );
 					final StatisticsImplementor statistics = getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
-						statistics.removeCollection( descriptor.getRole() );
+						statistics.removeCollection( descriptor );
 					}
 				} );
 	}
@@ -405,7 +406,7 @@ public void update(String entityName, Object entity) {
 			firePostUpdate( entity, id, state, persister );
 			final StatisticsImplementor statistics = getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
-				statistics.updateEntity( persister.getEntityName() );
+				statistics.updateEntity( persister );
 			}
 		}
 	}
@@ -429,7 +430,7 @@ private void removeAndRecreateCollections(Object entity, Object id, EntityPersis
 					firePostUpdate( collection, descriptor );
 					final StatisticsImplementor statistics = getFactory().getStatistics();
 					if ( statistics.isStatisticsEnabled() ) {
-						statistics.updateCollection( descriptor.getRole() );
+						statistics.updateCollection( descriptor );
 					}
 				} );
 	}
@@ -476,7 +477,7 @@ public void upsert(String entityName, Object entity) {
 			removeCacheItem( ck, persister );
 			final StatisticsImplementor statistics = getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
-				statistics.upsertEntity( persister.getEntityName() );
+				statistics.upsertEntity( persister );
 			}
 			removeAndRecreateCollections( entity, id, persister );
 			firePostUpsert(entity, id, state, persister);
@@ -856,7 +857,7 @@ public void initializeCollection(PersistentCollection<?> collection, boolean wri
 				LOG.trace( "Collection initialized" );
 				final StatisticsImplementor statistics = getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+					statistics.fetchCollection( loadedPersister );
 				}
 			}
 		}
@@ -1023,13 +1024,16 @@ else if ( association instanceof PersistentCollection<?> collection ) {
 						LOG.trace( "Collection fetched from cache" );
 					}
 					else {
+						// if the owner was returned by the most recent query, initialize
+						// the same collection of the other owners using a subselect fetch
+						retainedSubselectFetches.prepareSubselectFetch( collection, collectionDescriptor, this );
 						collectionDescriptor.initialize( key, this );
 						handlePotentiallyEmptyCollection( collection, getPersistenceContextInternal(), key,
 								collectionDescriptor );
 						LOG.trace( "Collection fetched" );
 						final StatisticsImplementor statistics = getFactory().getStatistics();
 						if ( statistics.isStatisticsEnabled() ) {
-							statistics.fetchCollection( collectionDescriptor.getRole() );
+							statistics.fetchCollection( collectionDescriptor );
 						}
 					}
 				}
@@ -1154,6 +1158,7 @@ public void setDefaultReadOnly(boolean readOnly) {
 
 
 	public void afterOperation(boolean success) {
+		retainedSubselectFetches.retain( temporaryPersistenceContext );
 		temporaryPersistenceContext.clear();
 		if ( !isTransactionInProgress() ) {
 			getJdbcCoordinator().afterTransaction();
@@ -1162,6 +1167,7 @@ public void afterOperation(boolean success) {
 
 	@Override
 	public void afterScrollOperation() {
+		retainedSubselectFetches.retain( temporaryPersistenceContext );
 		temporaryPersistenceContext.clear();
 	}
 
@@ -76,4 +76,12 @@ public interface ConnectionInfoLogger extends BasicLogger {
 	@LogMessage(level = INFO)
 	@Message(value = "Ignoring setting '%s' for connection provider [%s]", id = 10001013)
 	void ignoredSetting(String setting, Class<?> provider);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Connection held for more than %s ms, possible connection leak (stack trace of acquisition follows)", id = 10001014)
+	void connectionLeakDetected(long threshold, @Cause Exception acquisition);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Previously reported leaked connection was returned to the pool after %s ms", id = 10001015)
+	void leakedConnectionReturned(long heldMillis);
 }
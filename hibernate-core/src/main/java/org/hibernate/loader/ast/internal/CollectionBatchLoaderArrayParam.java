@@ -208,6 +208,31 @@ void initializeKeys(Object key, Object[] keysToInitialize, SharedSessionContract
 		);
 	}
 
+	/**
+	 * The values to bind to the {@code ARRAY} parameter for the given keys,
+	 * which, for an embedded key, are the values of its single column.
+	 */
+	Object[] toJdbcKeys(Object[] keys, SharedSessionContractImplementor session) {
+		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
+		if ( keyDescriptor.isEmbedded() ) {
+			assert keyDescriptor.getJdbcTypeCount() == 1;
+			final Object[] jdbcKeys = (Object[]) Array.newInstance(
+					keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(),
+					keys.length
+			);
+			for ( int index = 0; index < keys.length; index++ ) {
+				final int keyIndex = index;
+				keyDescriptor.forEachJdbcValue( keys[index], (i, value, jdbcMapping) -> {
+					jdbcKeys[keyIndex] = value;
+				}, session );
+			}
+			return jdbcKeys;
+		}
+		else {
+			return keys;
+		}
+	}
+
 	@Override
 	void finishInitializingKeys(Object[] keys, SharedSessionContractImplementor session) {
 		for ( Object initializedKey : keys ) {
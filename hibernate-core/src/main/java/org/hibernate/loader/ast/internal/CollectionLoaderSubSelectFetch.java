@@ -4,8 +4,10 @@
  */
 package org.hibernate.loader.ast.internal;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -13,7 +15,6 @@
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionKey;
-import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -22,12 +23,22 @@
 import org.hibernate.internal.util.NullnessUtil;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.SqlTuple;
 import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
@@ -51,11 +62,13 @@ public CollectionLoaderSubSelectFetch(
 			SubselectFetch subselect,
 			SharedSessionContractImplementor session) {
 		this.attributeMapping = attributeMapping;
-		this.subselect = subselect;
+		this.subselect = subselect.isWindowed()
+				? restrictToWindow( attributeMapping, subselect, session )
+				: subselect;
 
 		sqlAst = LoaderSelectBuilder.createSubSelectFetchSelect(
 				attributeMapping,
-				subselect,
+				this.subselect,
 				cachedDomainResult,
 				session.getLoadQueryInfluencers(),
 				LockOptions.NONE,
@@ -92,32 +105,22 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 		attributeMapping.getCollectionDescriptor().getCollectionType().getKeyOfOwner( collection.getOwner(), session );
 
 		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
-		final EntityEntry ownerEntry = persistenceContext.getEntry( collection.getOwner() );
-		List<PersistentCollection<?>> subSelectFetchedCollections = null;
-		if ( ownerEntry != null ) {
-			final EntityKey triggerKeyOwnerKey = ownerEntry.getEntityKey();
-			final SubselectFetch registeredFetch = batchFetchQueue.getSubselect( triggerKeyOwnerKey );
-			if ( registeredFetch != null ) {
-				subSelectFetchedCollections = CollectionHelper.arrayList(
-						registeredFetch.getResultingEntityKeys().size() );
-
-				// there was one, so we want to make sure to prepare the corresponding collection
-				// reference for reading
-				final Iterator<EntityKey> itr = registeredFetch.getResultingEntityKeys().iterator();
-				while ( itr.hasNext() ) {
-					final EntityKey key = itr.next();
-
-					final PersistentCollection<?> containedCollection = persistenceContext.getCollection(
-							new CollectionKey( attributeMapping.getCollectionDescriptor(), key.getIdentifier() )
-					);
-
-					if ( containedCollection != null && containedCollection != collection ) {
-						containedCollection.beginRead();
-						containedCollection.beforeInitialize( getLoadable().getCollectionDescriptor(), -1 );
-
-						subSelectFetchedCollections.add( containedCollection );
-					}
-				}
+		// this loader was created for the SubselectFetch registered for the owner of the
+		// trigger key, so make sure to prepare the collection references of the other
+		// owners for reading (the owner itself may not have an entry in the persistence
+		// context of a stateless session)
+		final List<PersistentCollection<?>> subSelectFetchedCollections =
+				CollectionHelper.arrayList( subselect.getResultingEntityKeys().size() );
+		for ( EntityKey key : subselect.getResultingEntityKeys() ) {
+			final PersistentCollection<?> containedCollection = persistenceContext.getCollection(
+					new CollectionKey( attributeMapping.getCollectionDescriptor(), key.getIdentifier() )
+			);
+
+			if ( containedCollection != null && containedCollection != collection ) {
+				containedCollection.beginRead();
+				containedCollection.beforeInitialize( getLoadable().getCollectionDescriptor(), -1 );
+
+				subSelectFetchedCollections.add( containedCollection );
 			}
 		}
 
@@ -140,7 +143,7 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 				ListResultsConsumer.UniqueSemantic.NONE
 		);
 
-		if ( subSelectFetchedCollections != null && ! subSelectFetchedCollections.isEmpty() ) {
+		if ( !subSelectFetchedCollections.isEmpty() ) {
 			subSelectFetchedCollections.forEach(
 					c -> {
 						if ( c.wasInitialized() ) {
@@ -164,4 +167,98 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 		return collection;
 	}
 
+	/**
+	 * Restrict a {@linkplain SubselectFetch#isWindowed() windowed} subselect to the
+	 * owners in the window whose collections are still uninitialized, by adding a
+	 * restriction on the owner identifier to the loading query.
+	 */
+	private static SubselectFetch restrictToWindow(
+			PluralAttributeMapping attributeMapping,
+			SubselectFetch subselect,
+			SharedSessionContractImplementor session) {
+		final CollectionPersister collectionDescriptor = attributeMapping.getCollectionDescriptor();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Set<EntityKey> ownerKeys = new HashSet<>();
+		for ( EntityKey key : subselect.getResultingEntityKeys() ) {
+			final PersistentCollection<?> collection =
+					persistenceContext.getCollection( new CollectionKey( collectionDescriptor, key.getIdentifier() ) );
+			if ( collection == null || !collection.wasInitialized() ) {
+				ownerKeys.add( key );
+			}
+		}
+
+		final EntityIdentifierMapping identifierMapping =
+				collectionDescriptor.getOwnerEntityPersister().getIdentifierMapping();
+		final TableGroup ownerTableGroup = subselect.getOwnerTableGroup();
+		final int jdbcTypeCount = identifierMapping.getJdbcTypeCount();
+
+		final List<ColumnReference> columnReferences = new ArrayList<>( jdbcTypeCount );
+		identifierMapping.forEachSelectable(
+				(selectionIndex, selectable) -> columnReferences.add(
+						new ColumnReference(
+								ownerTableGroup.resolveTableReference(
+										null,
+										identifierMapping,
+										selectable.getContainingTableExpression()
+								),
+								selectable
+						)
+				)
+		);
+		final InListPredicate restriction = new InListPredicate(
+				jdbcTypeCount == 1
+						? columnReferences.get( 0 )
+						: new SqlTuple( columnReferences, identifierMapping )
+		);
+
+		final JdbcParametersList.Builder jdbcParametersBuilder =
+				JdbcParametersList.newBuilder( ownerKeys.size() * jdbcTypeCount );
+		for ( int i = 0; i < ownerKeys.size(); i++ ) {
+			final List<JdbcParameter> keyParameters = new ArrayList<>( jdbcTypeCount );
+			identifierMapping.forEachSelectable(
+					(selectionIndex, selectable) -> {
+						final JdbcParameter jdbcParameter = new JdbcParameterImpl( selectable.getJdbcMapping() );
+						keyParameters.add( jdbcParameter );
+						jdbcParametersBuilder.add( jdbcParameter );
+					}
+			);
+			restriction.addExpression(
+					jdbcTypeCount == 1
+							? keyParameters.get( 0 )
+							: new SqlTuple( keyParameters, identifierMapping )
+			);
+		}
+		final JdbcParametersList jdbcParameters = jdbcParametersBuilder.build();
+
+		final JdbcParameterBindings loadingJdbcParameterBindings = subselect.getLoadingJdbcParameterBindings();
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
+				loadingJdbcParameterBindings.getBindings().size() + jdbcParameters.size()
+		);
+		loadingJdbcParameterBindings.visitBindings( jdbcParameterBindings::addBinding );
+		int offset = 0;
+		for ( EntityKey ownerKey : ownerKeys ) {
+			jdbcParameterBindings.registerParametersForEachJdbcValue(
+					ownerKey.getIdentifier(),
+					offset,
+					identifierMapping,
+					jdbcParameters,
+					session
+			);
+			offset += jdbcTypeCount;
+		}
+
+		final QuerySpec loadingSqlAst = subselect.getLoadingSqlAst();
+		final QuerySpec restrictedSqlAst = new QuerySpec( false );
+		loadingSqlAst.getFromClause().visitRoots( restrictedSqlAst.getFromClause()::addRoot );
+		restrictedSqlAst.applyPredicate( loadingSqlAst.getWhereClauseRestrictions() );
+		restrictedSqlAst.applyPredicate( restriction );
+
+		return new SubselectFetch(
+				restrictedSqlAst,
+				ownerTableGroup,
+				subselect.getLoadingJdbcParameters(),
+				jdbcParameterBindings,
+				ownerKeys
+		);
+	}
 }
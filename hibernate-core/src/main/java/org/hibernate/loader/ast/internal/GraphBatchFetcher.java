@@ -0,0 +1,275 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockOptions;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.spi.AttributeNodeImplementor;
+import org.hibernate.graph.spi.GraphImplementor;
+import org.hibernate.graph.spi.SubGraphImplementor;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.model.domain.EntityDomainType;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.loader.ast.internal.LoaderHelper.batchInitializeCollections;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Fetches the associations named by an entity graph for a whole collection of root
+ * entities, level by level, issuing one batch load for each entity type and each
+ * collection role found at each level of the graph, instead of discovering the
+ * unfetched associations one instance at a time.
+ * <p>
+ * The batch loaders are the ones the persisters use to batch fetch single instances,
+ * or, for an entity or collection which is not batch loadable, a loader with a batch
+ * size of {@value #DEFAULT_BATCH_SIZE}. The keys found at a level are split into
+ * chunks of the batch size of the loader, and are passed to it directly, so the
+ * {@link org.hibernate.engine.spi.BatchFetchQueue} plays no part in deciding which
+ * instances are fetched.
+ *
+ * @see Hibernate#fetchGraph(org.hibernate.Session, Collection, jakarta.persistence.EntityGraph)
+ *
+ * @since 7.0
+ */
+public class GraphBatchFetcher {
+	/**
+	 * The batch size used for entities and collections which are not batch loadable.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 32;
+
+	private final SharedSessionContractImplementor session;
+
+	public GraphBatchFetcher(SharedSessionContractImplementor session) {
+		this.session = session;
+	}
+
+	/**
+	 * Fetch the given graph for each of the given roots, which may be entity
+	 * instances or uninitialized references to entities.
+	 */
+	public void fetch(Collection<?> roots, GraphImplementor<?> graph) {
+		Map<GraphImplementor<?>, List<Object>> level = new LinkedHashMap<>();
+		level.put( graph, new ArrayList<>( roots ) );
+		while ( !level.isEmpty() ) {
+			level = fetchLevel( level );
+		}
+	}
+
+	/**
+	 * Initialize the references belonging to one level, and the collections they
+	 * own which are named by the graph, and then collect the references belonging
+	 * to the next level, grouped by the subgraph which applies to them. References
+	 * which are only to be initialized, with no subgraph, are grouped under the
+	 * {@code null} key.
+	 */
+	private Map<GraphImplementor<?>, List<Object>> fetchLevel(Map<GraphImplementor<?>, List<Object>> level) {
+		final List<Object> references = new ArrayList<>();
+		for ( List<Object> graphReferences : level.values() ) {
+			references.addAll( graphReferences );
+		}
+		initializeReferences( references );
+
+		final Map<String, List<PersistentCollection<?>>> collectionsByRole = new LinkedHashMap<>();
+		for ( Map.Entry<GraphImplementor<?>, List<Object>> entry : level.entrySet() ) {
+			final GraphImplementor<?> graph = entry.getKey();
+			if ( graph != null ) {
+				for ( Object entity : distinctEntities( entry.getValue(), graph ) ) {
+					for ( AttributeNodeImplementor<?> attributeNode : graph.getAttributeNodeImplementors() ) {
+						if ( readAttribute( entity, attributeNode ) instanceof PersistentCollection<?> collection
+								&& !collection.wasInitialized() ) {
+							collectionsByRole.computeIfAbsent( collection.getRole(), role -> new ArrayList<>() )
+									.add( collection );
+						}
+					}
+				}
+			}
+		}
+		collectionsByRole.forEach( (role, collections) ->
+				batchInitializeCollections( role, collections, DEFAULT_BATCH_SIZE, session ) );
+
+		final Map<GraphImplementor<?>, List<Object>> nextLevel = new LinkedHashMap<>();
+		for ( Map.Entry<GraphImplementor<?>, List<Object>> entry : level.entrySet() ) {
+			final GraphImplementor<?> graph = entry.getKey();
+			if ( graph != null ) {
+				for ( Object entity : distinctEntities( entry.getValue(), graph ) ) {
+					for ( AttributeNodeImplementor<?> attributeNode : graph.getAttributeNodeImplementors() ) {
+						collectNextLevel( readAttribute( entity, attributeNode ), attributeNode, nextLevel );
+					}
+				}
+			}
+		}
+		return nextLevel;
+	}
+
+	private List<Object> distinctEntities(List<Object> references, GraphImplementor<?> graph) {
+		final Class<?> graphedClass = graph.getGraphedType().getJavaType();
+		final Set<Object> seen = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final List<Object> entities = new ArrayList<>( references.size() );
+		for ( Object reference : references ) {
+			final Object entity = Hibernate.unproxy( reference );
+			// a subgraph of a polymorphic association only applies to instances of its subtype
+			if ( entity != null && graphedClass.isInstance( entity ) && seen.add( entity ) ) {
+				entities.add( entity );
+			}
+		}
+		return entities;
+	}
+
+	private Object readAttribute(Object entity, AttributeNodeImplementor<?> attributeNode) {
+		final String attributeName = attributeNode.getAttributeName();
+		if ( !Hibernate.isPropertyInitialized( entity, attributeName ) ) {
+			// for an enhanced entity, reading a collection through the
+			// interceptor just wraps it in an uninitialized collection
+			Hibernate.initializeProperty( entity, attributeName );
+		}
+		return session.getEntityPersister( null, entity ).getPropertyValue( entity, attributeName );
+	}
+
+	private static void collectNextLevel(
+			Object value,
+			AttributeNodeImplementor<?> attributeNode,
+			Map<GraphImplementor<?>, List<Object>> nextLevel) {
+		if ( value == null ) {
+			return;
+		}
+		final Collection<SubGraphImplementor<?>> subGraphs = entitySubGraphs( attributeNode.getSubGraphMap() );
+		if ( value instanceof Map<?, ?> map ) {
+			collectReferences( map.values(), subGraphs, nextLevel );
+			collectReferences( map.keySet(), entitySubGraphs( attributeNode.getKeySubGraphMap() ), nextLevel );
+		}
+		else if ( value instanceof Collection<?> collection ) {
+			collectReferences( collection, subGraphs, nextLevel );
+		}
+		else if ( !Hibernate.isInitialized( value ) || !subGraphs.isEmpty() ) {
+			collectReferences( List.of( value ), subGraphs, nextLevel );
+		}
+	}
+
+	private static void collectReferences(
+			Collection<?> references,
+			Collection<SubGraphImplementor<?>> subGraphs,
+			Map<GraphImplementor<?>, List<Object>> nextLevel) {
+		if ( subGraphs.isEmpty() ) {
+			for ( Object reference : references ) {
+				if ( reference != null && !Hibernate.isInitialized( reference ) ) {
+					nextLevel.computeIfAbsent( null, graph -> new ArrayList<>() ).add( reference );
+				}
+			}
+		}
+		else {
+			for ( SubGraphImplementor<?> subGraph : subGraphs ) {
+				final List<Object> graphReferences = nextLevel.computeIfAbsent( subGraph, graph -> new ArrayList<>() );
+				for ( Object reference : references ) {
+					if ( reference != null ) {
+						graphReferences.add( reference );
+					}
+				}
+			}
+		}
+	}
+
+	private static Collection<SubGraphImplementor<?>> entitySubGraphs(
+			Map<? extends Class<?>, ? extends SubGraphImplementor<?>> subGraphMap) {
+		final List<SubGraphImplementor<?>> subGraphs = new ArrayList<>( subGraphMap.size() );
+		for ( SubGraphImplementor<?> subGraph : subGraphMap.values() ) {
+			// embeddables are fetched along with their owner
+			if ( subGraph.getGraphedType() instanceof EntityDomainType<?> ) {
+				subGraphs.add( subGraph );
+			}
+		}
+		return subGraphs;
+	}
+
+	private void initializeReferences(List<Object> references) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Map<EntityPersister, Set<Object>> idsByPersister = new LinkedHashMap<>();
+		final List<Object> uninitialized = new ArrayList<>();
+		for ( Object reference : references ) {
+			if ( !Hibernate.isInitialized( reference ) ) {
+				uninitialized.add( reference );
+				final EntityKey entityKey = resolveEntityKey( reference );
+				if ( entityKey != null && persistenceContext.getEntity( entityKey ) == null ) {
+					idsByPersister.computeIfAbsent( entityKey.getPersister(), persister -> new LinkedHashSet<>() )
+							.add( entityKey.getIdentifier() );
+				}
+			}
+		}
+		idsByPersister.forEach( this::loadEntities );
+		// the proxies now resolve from the persistence context
+		for ( Object reference : uninitialized ) {
+			Hibernate.initialize( reference );
+		}
+	}
+
+	private EntityKey resolveEntityKey(Object reference) {
+		final LazyInitializer lazyInitializer = extractLazyInitializer( reference );
+		if ( lazyInitializer != null ) {
+			return lazyInitializer.getSession() == session
+					? session.generateEntityKey(
+							lazyInitializer.getInternalIdentifier(),
+							session.getFactory().getMappingMetamodel()
+									.getEntityDescriptor( lazyInitializer.getEntityName() )
+					)
+					: null;
+		}
+		else if ( isPersistentAttributeInterceptable( reference )
+				&& asPersistentAttributeInterceptable( reference ).$$_hibernate_getInterceptor()
+						instanceof EnhancementAsProxyLazinessInterceptor enhancementInterceptor
+				&& enhancementInterceptor.getLinkedSession() == session ) {
+			return enhancementInterceptor.getEntityKey();
+		}
+		else {
+			return null;
+		}
+	}
+
+	private void loadEntities(EntityPersister persister, Set<Object> idSet) {
+		final EntityBatchLoader<?> loader = persister instanceof AbstractEntityPersister entityPersister
+				? entityPersister.resolveBatchLoader( DEFAULT_BATCH_SIZE, session )
+				: null;
+		if ( loader instanceof AbstractEntityBatchLoader<?> batchLoader ) {
+			final Object[] ids = toArray(
+					idSet,
+					persister.getIdentifierMapping().getJavaType().getJavaTypeClass()
+			);
+			final int batchSize = batchLoader.getDomainBatchSize();
+			if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.debugf( "Graph fetching %s instances of `%s` in batches of %s",
+						ids.length, persister.getEntityName(), batchSize );
+			}
+			for ( int start = 0; start < ids.length; start += batchSize ) {
+				final Object[] batch = Arrays.copyOfRange( ids, start, Math.min( start + batchSize, ids.length ) );
+				batchLoader.initializeEntities( batch, batch[0], null, LockOptions.NONE, null, session );
+			}
+		}
+		// otherwise, the references are initialized one at a time
+	}
+
+	private static Object[] toArray(Set<Object> values, Class<?> type) {
+		return values.toArray( (Object[]) Array.newInstance( type, values.size() ) );
+	}
+}
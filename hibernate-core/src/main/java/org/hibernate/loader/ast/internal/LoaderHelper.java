@@ -5,7 +5,10 @@
 package org.hibernate.loader.ast.internal;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.Hibernate;
 import org.hibernate.LockMode;
@@ -13,6 +16,8 @@
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.collection.spi.AbstractPersistentCollection;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -22,9 +27,12 @@
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.monitor.spi.DiagnosticEvent;
 import org.hibernate.loader.LoaderLogging;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
@@ -38,6 +46,8 @@
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
 /**
  * @author Steve Ebersole
  */
@@ -236,10 +246,48 @@ public static <R,K> List<R> loadByArrayParameter(
 				new JdbcParameterBindingImpl( arrayJdbcMapping, idsToInitialize )
 		);
 
+		return loadByArrayParameters(
+				idsToInitialize.length,
+				sqlAst,
+				jdbcOperation,
+				JdbcParametersList.singleton( jdbcParameter ),
+				jdbcParameterBindings,
+				entityId,
+				entityInstance,
+				rootEntityDescriptor,
+				lockOptions,
+				readOnly,
+				session
+		);
+	}
+
+	/**
+	 * Load one or more instances of a model part (an entity or collection)
+	 * based on SQL ARRAY parameters, already bound, to specify the keys.
+	 * There may be one array for each column of the key.
+	 *
+	 * @param <R> The type of the model part to load
+	 *
+	 * @since 7.0
+	 */
+	public static <R> List<R> loadByArrayParameters(
+			int numberOfKeys,
+			SelectStatement sqlAst,
+			JdbcOperationQuerySelect jdbcOperation,
+			JdbcParametersList jdbcParameters,
+			JdbcParameterBindings jdbcParameterBindings,
+			Object entityId,
+			Object entityInstance,
+			EntityMappingType rootEntityDescriptor,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		assert jdbcOperation != null;
+
 		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
 				session.getPersistenceContext().getBatchFetchQueue(),
 				sqlAst,
-				JdbcParametersList.singleton( jdbcParameter ),
+				jdbcParameters,
 				jdbcParameterBindings
 		);
 
@@ -258,7 +306,66 @@ public static <R,K> List<R> loadByArrayParameter(
 				RowTransformerStandardImpl.instance(),
 				null,
 				ListResultsConsumer.UniqueSemantic.FILTER,
-				idsToInitialize.length
+				numberOfKeys
 		);
 	}
+
+	/**
+	 * Initialize the given collections, which all belong to the given role, with
+	 * batch loads of their distinct keys, using the batch loader of the collection
+	 * persister, or a batch loader of the given size if the collection is not batch
+	 * loadable. Any collection which is not initialized by the batch loads is
+	 * initialized on its own.
+	 *
+	 * @since 7.0
+	 */
+	public static void batchInitializeCollections(
+			String role,
+			List<PersistentCollection<?>> collections,
+			int defaultBatchSize,
+			SharedSessionContractImplementor session) {
+		final CollectionPersister persister =
+				session.getFactory().getMappingMetamodel().getCollectionDescriptor( role );
+		final Set<Object> keySet = new LinkedHashSet<>();
+		for ( PersistentCollection<?> collection : collections ) {
+			if ( collection instanceof AbstractPersistentCollection<?> persistentCollection
+					&& persistentCollection.getSession() == session
+					&& collection.getKey() != null ) {
+				keySet.add( collection.getKey() );
+			}
+		}
+
+		if ( !keySet.isEmpty() ) {
+			final CollectionBatchLoader loader = persister instanceof AbstractCollectionPersister collectionPersister
+					? collectionPersister.resolveBatchLoader( defaultBatchSize, session )
+					: null;
+			if ( loader instanceof AbstractCollectionBatchLoader batchLoader ) {
+				final Object[] keys = keySet.toArray( createTypedArray(
+						batchLoader.getKeyType( persister.getAttributeMapping().getKeyDescriptor().getKeyPart() ),
+						keySet.size()
+				) );
+				final int batchSize = batchLoader.getDomainBatchSize();
+				if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+					MULTI_KEY_LOAD_LOGGER.debugf( "Batch initializing %s instances of collection `%s` in batches of %s",
+							keys.length, role, batchSize );
+				}
+				for ( int start = 0; start < keys.length; start += batchSize ) {
+					final Object[] batch = Arrays.copyOfRange( keys, start, Math.min( start + batchSize, keys.length ) );
+					// the ARRAY parameter of an embedded key is bound to its JDBC values
+					final Object[] keysToInitialize = batchLoader instanceof CollectionBatchLoaderArrayParam arrayParamLoader
+							? arrayParamLoader.toJdbcKeys( batch, session )
+							: batch;
+					batchLoader.initializeKeys( batch[0], keysToInitialize, session );
+					batchLoader.finishInitializingKeys( batch, session );
+				}
+			}
+		}
+
+		// anything not initialized by the batch loads is initialized on its own
+		for ( PersistentCollection<?> collection : collections ) {
+			if ( !collection.wasInitialized() ) {
+				collection.forceInitialization();
+			}
+		}
+	}
 }
@@ -35,7 +35,6 @@
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.metamodel.mapping.Restrictable;
-import org.hibernate.metamodel.mapping.SelectableMapping;
 import org.hibernate.metamodel.mapping.ValuedModelPart;
 import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.SimpleForeignKeyDescriptor;
@@ -145,6 +144,31 @@ public static SelectStatement createSelectBySingleArrayParameter(
 			LockOptions lockOptions,
 			JdbcParameter jdbcArrayParameter,
 			SessionFactoryImplementor sessionFactory) {
+		return createSelectByArrayParameters(
+				loadable,
+				restrictedPart,
+				influencers,
+				lockOptions,
+				singletonList( jdbcArrayParameter ),
+				sessionFactory
+		);
+	}
+
+	/**
+	 * Create a select-statement (SQL AST) for loading by multiple keys using one SQL ARRAY
+	 * parameter for each column of the restricted part, which may map multiple columns
+	 *
+	 * @see org.hibernate.dialect.Dialect#useArraysForMultiValuedTupleParameters()
+	 *
+	 * @since 7.0
+	 */
+	public static SelectStatement createSelectByArrayParameters(
+			Loadable loadable,
+			ValuedModelPart restrictedPart,
+			LoadQueryInfluencers influencers,
+			LockOptions lockOptions,
+			List<JdbcParameter> jdbcArrayParameters,
+			SessionFactoryImplementor sessionFactory) {
 		final LoaderSelectBuilder builder = new LoaderSelectBuilder(
 				sessionFactory,
 				loadable,
@@ -179,7 +203,7 @@ public static SelectStatement createSelectBySingleArrayParameter(
 				rootNavigablePath,
 				rootTableGroup,
 				restrictedPart,
-				jdbcArrayParameter,
+				jdbcArrayParameters,
 				sqlAstCreationState
 		);
 
@@ -201,19 +225,29 @@ private static void applyArrayParamRestriction(
 			NavigablePath rootNavigablePath,
 			TableGroup rootTableGroup,
 			ValuedModelPart restrictedPart,
-			JdbcParameter jdbcArrayParameter,
+			List<JdbcParameter> jdbcArrayParameters,
 			LoaderSqlAstCreationState sqlAstCreationState) {
-		assert restrictedPart.getJdbcTypeCount() == 1;
+		assert restrictedPart.getJdbcTypeCount() == jdbcArrayParameters.size();
 		final SqlExpressionResolver sqlExpressionResolver = sqlAstCreationState.getSqlExpressionResolver();
-		final SelectableMapping restrictedPartMapping = restrictedPart.getSelectable( 0 );
 		final NavigablePath restrictionPath = rootNavigablePath.append( restrictedPart.getNavigableRole().getNavigableName() );
-		final TableReference tableReference = rootTableGroup.resolveTableReference( restrictionPath, restrictedPartMapping.getContainingTableExpression() );
-		final ColumnReference columnRef = (ColumnReference) sqlExpressionResolver.resolveSqlExpression(
-				tableReference,
-				restrictedPartMapping
-		);
+		final List<ColumnReference> columnRefs = new ArrayList<>( jdbcArrayParameters.size() );
+		restrictedPart.forEachSelectable( (index, restrictedPartMapping) -> {
+			final TableReference tableReference = rootTableGroup.resolveTableReference( restrictionPath, restrictedPartMapping.getContainingTableExpression() );
+			columnRefs.add( (ColumnReference) sqlExpressionResolver.resolveSqlExpression(
+					tableReference,
+					restrictedPartMapping
+			) );
+		} );
 
-		rootQuerySpec.applyPredicate( new InArrayPredicate( columnRef, jdbcArrayParameter ) );
+		if ( jdbcArrayParameters.size() == 1 ) {
+			rootQuerySpec.applyPredicate( new InArrayPredicate( columnRefs.get( 0 ), jdbcArrayParameters.get( 0 ) ) );
+		}
+		else {
+			// match the tuple of columns against parallel arrays
+			rootQuerySpec.applyPredicate(
+					new InArrayPredicate( new SqlTuple( columnRefs, restrictedPart ), jdbcArrayParameters )
+			);
+		}
 	}
 
 	/**
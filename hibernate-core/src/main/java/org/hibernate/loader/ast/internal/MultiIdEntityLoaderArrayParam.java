@@ -4,6 +4,8 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.LockOptions;
@@ -11,10 +13,12 @@
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.SqlArrayMultiKeyLoader;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
@@ -29,39 +33,75 @@
 import org.hibernate.sql.exec.spi.JdbcParametersList;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.spi.ManagedResultConsumer;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
 
 import static java.lang.Boolean.TRUE;
 import static org.hibernate.engine.internal.BatchFetchQueueHelper.removeBatchLoadableEntityKey;
 import static org.hibernate.engine.spi.SubselectFetch.createRegistrationHandler;
-import static org.hibernate.loader.ast.internal.LoaderHelper.loadByArrayParameter;
-import static org.hibernate.loader.ast.internal.LoaderSelectBuilder.createSelectBySingleArrayParameter;
+import static org.hibernate.loader.ast.internal.LoaderHelper.loadByArrayParameters;
+import static org.hibernate.loader.ast.internal.LoaderSelectBuilder.createSelectByArrayParameters;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.resolveArrayJdbcMapping;
 import static org.hibernate.sql.exec.spi.JdbcParameterBindings.NO_BINDINGS;
 
 /**
+ * {@link SqlArrayMultiKeyLoader} which passes the ids as SQL ARRAY parameters.
+ * A basic id is passed as a single array. A composite id is passed as one array
+ * for each id column, if the
+ * {@linkplain org.hibernate.dialect.Dialect#useArraysForMultiValuedTupleParameters()
+ * dialect allows}. The arrays are parallel, that is, the n-th id is formed from
+ * the n-th element of each array, so the SQL is the same no matter how many ids
+ * are loaded.
+ *
  * @author Steve Ebersole
  */
 public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoader<E> implements SqlArrayMultiKeyLoader {
-	private final JdbcMapping arrayJdbcMapping;
-	private final JdbcParameter jdbcParameter;
+	private final List<JdbcMapping> arrayJdbcMappings;
+	// the element type of the array for each column of a composite
+	// id, or null if the id is basic, and so bound as an array of ids
+	private final List<Class<?>> elementClasses;
+	private final List<JdbcParameter> jdbcParameters;
 
 	public MultiIdEntityLoaderArrayParam(
 			EntityMappingType entityDescriptor,
 			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
-		final Class<?> idArrayClass = idArray.getClass();
-		arrayJdbcMapping = resolveArrayJdbcMapping(
-				getSessionFactory().getTypeConfiguration().getBasicTypeRegistry().getRegisteredType( idArrayClass ),
-				getIdentifierMapping().getJdbcMapping(),
-				idArrayClass,
-				getSessionFactory()
-		);
-		jdbcParameter = new JdbcParameterImpl( arrayJdbcMapping );
-	}
-
-	@Override
-	public BasicEntityIdentifierMapping getIdentifierMapping() {
-		return (BasicEntityIdentifierMapping) super.getIdentifierMapping();
+		final EntityIdentifierMapping identifierMapping = getIdentifierMapping();
+		final BasicTypeRegistry basicTypeRegistry = sessionFactory.getTypeConfiguration().getBasicTypeRegistry();
+		if ( identifierMapping instanceof BasicEntityIdentifierMapping basicIdentifierMapping ) {
+			final Class<?> idArrayClass = idArray.getClass();
+			arrayJdbcMappings = List.of( resolveArrayJdbcMapping(
+					basicTypeRegistry.getRegisteredType( idArrayClass ),
+					basicIdentifierMapping.getJdbcMapping(),
+					idArrayClass,
+					sessionFactory
+			) );
+			elementClasses = null;
+		}
+		else {
+			final int columnCount = identifierMapping.getJdbcTypeCount();
+			arrayJdbcMappings = new ArrayList<>( columnCount );
+			elementClasses = new ArrayList<>( columnCount );
+			identifierMapping.forEachJdbcType( (index, jdbcMapping) -> {
+				// the arrays hold JDBC values, that is, values which
+				// have already been passed through any converter
+				final BasicType<?> elementType =
+						basicTypeRegistry.resolve( jdbcMapping.getJdbcJavaType(), jdbcMapping.getJdbcType() );
+				final Class<?> elementClass = elementType.getJavaTypeDescriptor().getJavaTypeClass();
+				final Class<?> arrayClass = Array.newInstance( elementClass, 0 ).getClass();
+				elementClasses.add( elementClass );
+				arrayJdbcMappings.add( resolveArrayJdbcMapping(
+						basicTypeRegistry.getRegisteredType( arrayClass ),
+						elementType,
+						arrayClass,
+						sessionFactory
+				) );
+			} );
+		}
+		jdbcParameters = new ArrayList<>( arrayJdbcMappings.size() );
+		for ( JdbcMapping arrayJdbcMapping : arrayJdbcMappings ) {
+			jdbcParameters.add( new JdbcParameterImpl( arrayJdbcMapping ) );
+		}
 	}
 
 	@Override
@@ -107,18 +147,16 @@ protected void loadEntitiesById(
 			LockOptions lockOptions,
 			MultiIdLoadOptions loadOptions,
 			EventSource session) {
-		final SelectStatement sqlAst = createSelectBySingleArrayParameter(
+		final SelectStatement sqlAst = createSelectByArrayParameters(
 				getLoadable(),
 				getIdentifierMapping(),
 				session.getLoadQueryInfluencers(),
 				lockOptions,
-				jdbcParameter,
+				jdbcParameters,
 				getSessionFactory()
 		);
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(1);
-		jdbcParameterBindings.addBinding( jdbcParameter,
-				new JdbcParameterBindingImpl( arrayJdbcMapping, idsInBatch.toArray( idArray ) ) );
+		final JdbcParameterBindings jdbcParameterBindings = bindIds( idsInBatch.toArray( idArray ), session );
 
 		getJdbcSelectExecutor().executeQuery(
 				getSqlAstTranslatorFactory().buildSelectTranslator( getSessionFactory(), sqlAst )
@@ -134,7 +172,7 @@ public LockOptions getLockOptions() {
 						createRegistrationHandler(
 								session.getPersistenceContext().getBatchFetchQueue(),
 								sqlAst,
-								JdbcParametersList.singleton( jdbcParameter ),
+								JdbcParametersList.fromList( jdbcParameters ),
 								jdbcParameterBindings
 						),
 						TRUE.equals( loadOptions.getReadOnly( session ) ) ),
@@ -152,12 +190,12 @@ protected void loadEntitiesWithUnresolvedIds(
 			EventSource session,
 			Object[] unresolvableIds,
 			List<E> result) {
-		final SelectStatement sqlAst = createSelectBySingleArrayParameter(
+		final SelectStatement sqlAst = createSelectByArrayParameters(
 				getLoadable(),
 				getIdentifierMapping(),
 				session.getLoadQueryInfluencers(),
 				lockOptions,
-				jdbcParameter,
+				jdbcParameters,
 				getSessionFactory()
 		);
 
@@ -165,12 +203,12 @@ protected void loadEntitiesWithUnresolvedIds(
 				getSqlAstTranslatorFactory().buildSelectTranslator( getSessionFactory(), sqlAst )
 						.translate( NO_BINDINGS, QueryOptions.NONE );
 
-		final List<E> databaseResults = loadByArrayParameter(
-				unresolvableIds,
+		final List<E> databaseResults = loadByArrayParameters(
+				unresolvableIds.length,
 				sqlAst,
 				jdbcSelectOperation,
-				jdbcParameter,
-				arrayJdbcMapping,
+				JdbcParametersList.fromList( jdbcParameters ),
+				bindIds( unresolvableIds, session ),
 				null,
 				null,
 				null,
@@ -190,4 +228,42 @@ protected void loadEntitiesWithUnresolvedIds(
 		}
 	}
 
+	/**
+	 * Bind the ids to the array parameters. A composite id is broken down
+	 * into its JDBC values, and the values of each column bound as one array.
+	 */
+	private JdbcParameterBindings bindIds(Object[] ids, SharedSessionContractImplementor session) {
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		if ( elementClasses == null ) {
+			jdbcParameterBindings.addBinding(
+					jdbcParameters.get( 0 ),
+					new JdbcParameterBindingImpl( arrayJdbcMappings.get( 0 ), ids )
+			);
+		}
+		else {
+			final int columnCount = jdbcParameters.size();
+			final Object[][] columns = new Object[columnCount][];
+			for ( int i = 0; i < columnCount; i++ ) {
+				columns[i] = (Object[]) Array.newInstance( elementClasses.get( i ), ids.length );
+			}
+			for ( int row = 0; row < ids.length; row++ ) {
+				if ( ids[row] != null ) {
+					getIdentifierMapping().forEachJdbcValue(
+							ids[row],
+							columns,
+							row,
+							(valueIndex, values, position, jdbcValue, jdbcMapping) -> values[valueIndex][position] = jdbcValue,
+							session
+					);
+				}
+			}
+			for ( int i = 0; i < columnCount; i++ ) {
+				jdbcParameterBindings.addBinding(
+						jdbcParameters.get( i ),
+						new JdbcParameterBindingImpl( arrayJdbcMappings.get( i ), columns[i] )
+				);
+			}
+		}
+		return jdbcParameterBindings;
+	}
 }
@@ -7,6 +7,7 @@
 import java.util.List;
 
 import org.hibernate.LockOptions;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
@@ -56,8 +57,26 @@ private boolean isInClauseParameterPaddingEnabled() {
 		return getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled();
 	}
 
+	private Dialect getDialect() {
+		return getJdbcServices().getJdbcEnvironment().getDialect();
+	}
+
 	private MultiKeyLoadSizingStrategy getBatchLoadSizingStrategy() {
-		return getJdbcServices().getJdbcEnvironment().getDialect().getBatchLoadSizingStrategy();
+		return getDialect().getBatchLoadSizingStrategy();
+	}
+
+	/**
+	 * Whether a restriction to the given number of ids is rendered as a
+	 * {@code VALUES} table instead of an in-list.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_VALUES_THRESHOLD
+	 */
+	private boolean isRenderedAsValuesTable(int idCount) {
+		final int threshold = getSessionFactory().getSessionFactoryOptions().getInClauseValuesThreshold();
+		return threshold > 0
+			&& idCount > threshold
+			&& idJdbcTypeCount == 1
+			&& getDialect().supportsValuesList();
 	}
 
 	@Override
@@ -90,11 +109,20 @@ protected void handleResults(
 	@Override
 	protected int maxBatchSize(Object[] ids, MultiIdLoadOptions loadOptions) {
 		final Integer explicitBatchSize = loadOptions.getBatchSize();
-		return explicitBatchSize != null && explicitBatchSize > 0
-				? explicitBatchSize
-				: getBatchLoadSizingStrategy()
-						.determineOptimalBatchLoadSize( idJdbcTypeCount, ids.length,
-								isInClauseParameterPaddingEnabled() );
+		if ( explicitBatchSize != null && explicitBatchSize > 0 ) {
+			return explicitBatchSize;
+		}
+		else if ( isRenderedAsValuesTable( ids.length ) ) {
+			// a VALUES table is not subject to the in-list element limit,
+			// so load everything at once, as far as the parameter limit allows
+			final int parameterCountLimit = getDialect().getParameterCountLimit();
+			return parameterCountLimit > 0 ? Math.min( ids.length, parameterCountLimit ) : ids.length;
+		}
+		else {
+			return getBatchLoadSizingStrategy()
+					.determineOptimalBatchLoadSize( idJdbcTypeCount, ids.length,
+							isInClauseParameterPaddingEnabled() );
+		}
 	}
 
 	@Override
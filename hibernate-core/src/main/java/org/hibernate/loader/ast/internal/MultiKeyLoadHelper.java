@@ -26,6 +26,16 @@ public static boolean supportsSqlArrayType(Dialect dialect) {
 		return dialect.useArrayForMultiValuedParameters();
 	}
 
+	/**
+	 * Whether keys mapping multiple columns may be passed as
+	 * one SQL ARRAY parameter for each column
+	 *
+	 * @since 7.0
+	 */
+	public static boolean supportsSqlArrayTypeForTuples(Dialect dialect) {
+		return dialect.useArraysForMultiValuedTupleParameters();
+	}
+
 	public static JdbcMapping resolveArrayJdbcMapping(
 			BasicType<?> arrayBasicType,
 			JdbcMapping keyMapping,
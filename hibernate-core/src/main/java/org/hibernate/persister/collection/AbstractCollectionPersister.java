@@ -40,6 +40,7 @@
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.internal.FilterHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.ast.internal.CollectionElementLoaderByIndex;
 import org.hibernate.loader.ast.internal.CollectionLoaderNamedQuery;
@@ -47,6 +48,7 @@
 import org.hibernate.loader.ast.internal.CollectionLoaderSubSelectFetch;
 import org.hibernate.loader.ast.internal.LoaderSqlAstCreationState;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.loader.ast.spi.CollectionLoader;
 import org.hibernate.mapping.Any;
 import org.hibernate.mapping.Array;
@@ -120,6 +122,7 @@
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.stat.CollectionStatistics;
 import org.hibernate.type.AnyType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
@@ -141,11 +144,13 @@
 import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
+import static org.hibernate.engine.internal.LazyLoadDetector.MAX_ADAPTED_BATCH_LOADERS;
 import static org.hibernate.internal.util.StringHelper.getNonEmptyOrConjunctionIfBothNonEmpty;
 import static org.hibernate.internal.util.StringHelper.isEmpty;
 import static org.hibernate.internal.util.StringHelper.isNotEmpty;
 import static org.hibernate.internal.util.StringHelper.replace;
 import static org.hibernate.internal.util.StringHelper.unqualify;
+import static org.hibernate.internal.util.collections.BoundedConcurrentHashMap.Eviction.LRU;
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.jdbc.Expectations.createExpectation;
 import static org.hibernate.metamodel.mapping.internal.MappingModelCreationHelper.getTableIdentifierExpression;
@@ -168,6 +173,7 @@
 	private final CollectionSemantics<?,?> collectionSemantics;
 	private final EntityPersister ownerPersister;
 	private final SessionFactoryImplementor factory;
+	private @Nullable CollectionStatistics collectionStatistics;
 
 	protected final String qualifiedTableName;
 	private final CollectionTableMapping tableMapping;
@@ -247,6 +253,7 @@
 	private final Comparator<?> comparator;
 
 	private CollectionLoader collectionLoader;
+	private volatile @Nullable Map<Integer, CollectionBatchLoader> adaptedBatchLoaders;
 	private CollectionElementLoaderByIndex collectionElementLoaderByIndex;
 
 	private PluralAttributeMapping attributeMapping;
@@ -794,9 +801,67 @@ protected CollectionLoader determineLoaderToUse(Object key, SharedSessionContrac
 					return subSelectLoader;
 				}
 			}
-			return attributeMapping.isAffectedByInfluencers( influencers, true )
-					? createCollectionLoader( influencers )
-					: getCollectionLoader();
+			if ( attributeMapping.isAffectedByInfluencers( influencers, true ) ) {
+				return createCollectionLoader( influencers );
+			}
+			else if ( influencers.isBatchSizeAdapted( this ) ) {
+				return resolveAdaptedBatchLoader( influencers.effectiveBatchSize( this ) );
+			}
+			else {
+				return getCollectionLoader();
+			}
+		}
+	}
+
+	/**
+	 * The loader to use for a batch size other than the configured batch size of this
+	 * collection, for example, once {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} has raised it. The loaders for the
+	 * {@value org.hibernate.engine.internal.LazyLoadDetector#MAX_ADAPTED_BATCH_LOADERS} most recently used batch sizes
+	 * are kept, so that sessions using different batch sizes share them.
+	 */
+	private CollectionBatchLoader resolveAdaptedBatchLoader(int batchSize) {
+		Map<Integer, CollectionBatchLoader> loaders = adaptedBatchLoaders;
+		if ( loaders == null ) {
+			loaders = new BoundedConcurrentHashMap<>( MAX_ADAPTED_BATCH_LOADERS, 1, LRU );
+			adaptedBatchLoaders = loaders;
+		}
+		return loaders.computeIfAbsent( batchSize,
+				size -> factory.getServiceRegistry()
+						.requireService( BatchLoaderFactory.class )
+						.createCollectionBatchLoader( size, new LoadQueryInfluencers( factory ), attributeMapping, factory ) );
+	}
+
+	/**
+	 * The loader to use to load many instances of this collection at once in the
+	 * given session: the batch loader used to load single instances, when this
+	 * collection is batch loadable, or otherwise a loader with the given batch size.
+	 *
+	 * @return the batch loader, or {@code null} if this collection has a user-specified loader
+	 *
+	 * @since 7.0
+	 */
+	public @Nullable CollectionBatchLoader resolveBatchLoader(int defaultBatchSize, SharedSessionContractImplementor session) {
+		if ( hasNamedQueryLoader() ) {
+			return null;
+		}
+		else {
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			final int batchSize = influencers.effectivelyBatchLoadable( this )
+					? influencers.effectiveBatchSize( this )
+					: defaultBatchSize;
+			if ( attributeMapping.isAffectedByInfluencers( influencers, true ) ) {
+				return factory.getServiceRegistry()
+						.requireService( BatchLoaderFactory.class )
+						.createCollectionBatchLoader( batchSize, influencers, attributeMapping, factory );
+			}
+			else if ( collectionLoader instanceof CollectionBatchLoader batchLoader
+					&& batchLoader.getDomainBatchSize() == batchSize ) {
+				return batchLoader;
+			}
+			else {
+				return resolveAdaptedBatchLoader( batchSize );
+			}
 		}
 	}
 
@@ -809,9 +874,13 @@ private CollectionLoader resolveSubSelectLoader(Object key, SharedSessionContrac
 			return null;
 		}
 		else {
-			// Remove keys of any entities that have been evicted
-			subselect.getResultingEntityKeys()
-					.removeIf( entityKey -> !persistenceContext.containsEntity( entityKey ) );
+			if ( !session.isStatelessSession() ) {
+				// Remove keys of any entities that have been evicted
+				// (a stateless session does not keep the owners in
+				// its temporary persistence context)
+				subselect.getResultingEntityKeys()
+						.removeIf( entityKey -> !persistenceContext.containsEntity( entityKey ) );
+			}
 			// Run a subquery loader
 			return createSubSelectLoader( subselect, session );
 		}
@@ -1346,6 +1415,17 @@ public SessionFactoryImplementor getFactory() {
 		return factory;
 	}
 
+	@Override
+	public CollectionStatistics getCollectionStatistics() {
+		// the statistics survive Statistics.clear(), so it's safe to hold on to them
+		CollectionStatistics statistics = collectionStatistics;
+		if ( statistics == null ) {
+			statistics = factory.getStatistics().getCollectionStatistics( getRole() );
+			collectionStatistics = statistics;
+		}
+		return statistics;
+	}
+
 	@Override
 	public String toString() {
 		return unqualify( getClass().getName() ) + '(' + navigableRole.getFullPath() + ')';
@@ -32,6 +32,7 @@
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.stat.CollectionStatistics;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.Type;
 
@@ -280,6 +281,19 @@ default BeforeExecutionGenerator getGenerator() {
 
 	SessionFactoryImplementor getFactory();
 
+	/**
+	 * The {@linkplain org.hibernate.stat.Statistics#getCollectionStatistics(String)
+	 * statistics} for this collection role. A persister may resolve them once,
+	 * and hold on to them, so that the {@link org.hibernate.stat.spi.StatisticsImplementor}
+	 * does not need to look them up by role for every event.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default CollectionStatistics getCollectionStatistics() {
+		return getFactory().getStatistics().getCollectionStatistics( getRole() );
+	}
+
 	boolean isAffectedByEnabledFilters(SharedSessionContractImplementor session);
 
 	default boolean isAffectedByEnabledFilters(LoadQueryInfluencers influencers) {
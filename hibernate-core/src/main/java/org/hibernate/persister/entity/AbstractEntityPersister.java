@@ -91,6 +91,7 @@
 import org.hibernate.internal.util.MarkerObject;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.LockModeEnumMap;
 import org.hibernate.jdbc.Expectation;
 import org.hibernate.loader.ast.internal.EntityConcreteTypeLoader;
@@ -103,6 +104,7 @@
 import org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl;
 import org.hibernate.loader.ast.internal.SingleUniqueKeyEntityLoaderStandard;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoader;
@@ -241,6 +243,7 @@
 import org.hibernate.sql.results.graph.entity.internal.EntityResultImpl;
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
 import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.stat.EntityStatistics;
 import org.hibernate.tuple.NonIdentifierAttribute;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.AnyType;
@@ -284,6 +287,7 @@
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hibernate.engine.internal.LazyLoadDetector.MAX_ADAPTED_BATCH_LOADERS;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfManagedEntity;
@@ -301,11 +305,13 @@
 import static org.hibernate.internal.util.collections.ArrayHelper.toObjectArray;
 import static org.hibernate.internal.util.collections.ArrayHelper.toStringArray;
 import static org.hibernate.internal.util.collections.ArrayHelper.toTypeArray;
+import static org.hibernate.internal.util.collections.BoundedConcurrentHashMap.Eviction.LRU;
 import static org.hibernate.internal.util.collections.CollectionHelper.combine;
 import static org.hibernate.internal.util.collections.CollectionHelper.isNotEmpty;
 import static org.hibernate.internal.util.collections.CollectionHelper.setOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.toSmallList;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayTypeForTuples;
 import static org.hibernate.metamodel.RepresentationMode.POJO;
 import static org.hibernate.persister.entity.DiscriminatorHelper.NOT_NULL_DISCRIMINATOR;
 import static org.hibernate.persister.entity.DiscriminatorHelper.NULL_DISCRIMINATOR;
@@ -330,12 +336,14 @@
 
 	private final NavigableRole navigableRole;
 	private final SessionFactoryImplementor factory;
+	private @Nullable EntityStatistics entityStatistics;
 	private final EntityEntryFactory entityEntryFactory;
 
 	private final String sqlAliasStem;
 	private final String jpaEntityName;
 
 	private SingleIdEntityLoader<?> singleIdLoader;
+	private volatile @Nullable Map<Integer, EntityBatchLoader<?>> adaptedBatchLoaders;
 	private MultiIdEntityLoader<?> multiIdLoader;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
@@ -858,7 +866,10 @@ public static Map<String, String> getEntityNameByTableNameMap(
 
 	protected MultiIdEntityLoader<Object> buildMultiIdLoader() {
 		final Dialect dialect = factory.getJdbcServices().getDialect();
-		return getIdentifierType() instanceof BasicType && supportsSqlArrayType( dialect )
+		final boolean useArrays = getIdentifierType() instanceof BasicType
+				? supportsSqlArrayType( dialect )
+				: supportsSqlArrayTypeForTuples( dialect );
+		return useArrays
 				? new MultiIdEntityLoaderArrayParam<>( this, factory )
 				: new MultiIdEntityLoaderStandard<>( this, identifierColumnSpan, factory );
 	}
@@ -3532,9 +3543,67 @@ protected SingleIdEntityLoader<?> determineLoaderToUse(SharedSessionContractImpl
 		else {
 			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
 			// no subselect fetching for entities for now
-			return isAffectedByInfluencers( influencers, true )
-					? buildSingleIdEntityLoader( influencers )
-					: getSingleIdLoader();
+			if ( isAffectedByInfluencers( influencers, true ) ) {
+				return buildSingleIdEntityLoader( influencers );
+			}
+			else if ( influencers.isBatchSizeAdapted( this ) ) {
+				return resolveAdaptedBatchLoader( influencers.effectiveBatchSize( this ) );
+			}
+			else {
+				return getSingleIdLoader();
+			}
+		}
+	}
+
+	/**
+	 * The loader to use for a batch size other than the configured batch size of this
+	 * entity, for example, once {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+	 * adaptive batch fetching} has raised it. The loaders for the
+	 * {@value org.hibernate.engine.internal.LazyLoadDetector#MAX_ADAPTED_BATCH_LOADERS} most recently used batch sizes
+	 * are kept, so that sessions using different batch sizes share them.
+	 */
+	private EntityBatchLoader<?> resolveAdaptedBatchLoader(int batchSize) {
+		Map<Integer, EntityBatchLoader<?>> loaders = adaptedBatchLoaders;
+		if ( loaders == null ) {
+			loaders = new BoundedConcurrentHashMap<>( MAX_ADAPTED_BATCH_LOADERS, 1, LRU );
+			adaptedBatchLoaders = loaders;
+		}
+		return loaders.computeIfAbsent( batchSize,
+				size -> factory.getServiceRegistry()
+						.requireService( BatchLoaderFactory.class )
+						.createEntityBatchLoader( size, this, new LoadQueryInfluencers( factory ) ) );
+	}
+
+	/**
+	 * The loader to use to load many instances of this entity at once in the given
+	 * session: the batch loader used to load single instances, when this entity is
+	 * batch loadable, or otherwise a loader with the given batch size.
+	 *
+	 * @return the batch loader, or {@code null} if this entity has a user-specified loader
+	 *
+	 * @since 7.0
+	 */
+	public @Nullable EntityBatchLoader<?> resolveBatchLoader(int defaultBatchSize, SharedSessionContractImplementor session) {
+		if ( hasNamedQueryLoader() ) {
+			return null;
+		}
+		else {
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			final int batchSize = influencers.effectivelyBatchLoadable( this )
+					? influencers.effectiveBatchSize( this )
+					: defaultBatchSize;
+			if ( isAffectedByInfluencers( influencers, true ) ) {
+				return factory.getServiceRegistry()
+						.requireService( BatchLoaderFactory.class )
+						.createEntityBatchLoader( batchSize, this, influencers );
+			}
+			else if ( singleIdLoader instanceof EntityBatchLoader<?> batchLoader
+					&& batchLoader.getDomainBatchSize() == batchSize ) {
+				return batchLoader;
+			}
+			else {
+				return resolveAdaptedBatchLoader( batchSize );
+			}
 		}
 	}
 
@@ -3725,6 +3794,17 @@ public SessionFactoryImplementor getFactory() {
 		return factory;
 	}
 
+	@Override
+	public EntityStatistics getEntityStatistics() {
+		// the statistics survive Statistics.clear(), so it's safe to hold on to them
+		EntityStatistics statistics = entityStatistics;
+		if ( statistics == null ) {
+			statistics = factory.getStatistics().getEntityStatistics( getEntityName() );
+			entityStatistics = statistics;
+		}
+		return statistics;
+	}
+
 	@Override
 	public EntityMetamodel getEntityMetamodel() {
 		return entityMetamodel;
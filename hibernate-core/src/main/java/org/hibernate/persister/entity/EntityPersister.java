@@ -62,6 +62,7 @@
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.stat.EntityStatistics;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
@@ -151,6 +152,19 @@ default void prepareLoaders() {
 	 */
 	SessionFactoryImplementor getFactory();
 
+	/**
+	 * The {@linkplain org.hibernate.stat.Statistics#getEntityStatistics(String)
+	 * statistics} for this entity. A persister may resolve them once, and hold
+	 * on to them, so that the {@link org.hibernate.stat.spi.StatisticsImplementor}
+	 * does not need to look them up by entity name for every event.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default EntityStatistics getEntityStatistics() {
+		return getFactory().getStatistics().getEntityStatistics( getEntityName() );
+	}
+
 	@Override
 	default String getSqlAliasStem() {
 		return SqlAliasStemHelper.INSTANCE.generateStemFromEntityName( getEntityName() );
@@ -17,6 +17,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.hibernate.HibernateException;
@@ -41,6 +42,7 @@
 import org.hibernate.procedure.spi.ProcedureCallImplementor;
 import org.hibernate.procedure.spi.ProcedureParameterImplementor;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.ColumnChunk;
 import org.hibernate.query.KeyedPage;
 import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.Order;
@@ -981,6 +983,11 @@ public long getResultCount() {
 		throw new UnsupportedOperationException( "getResultCount() not implemented for ProcedureCall/StoredProcedureQuery" );
 	}
 
+	@Override
+	public long exportColumns(int chunkSize, Consumer<ColumnChunk> consumer) {
+		throw new UnsupportedOperationException( "exportColumns() not implemented for ProcedureCall/StoredProcedureQuery" );
+	}
+
 	@Override
 	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
 		throw new UnsupportedOperationException("getKeyedResultList() not implemented for ProcedureCall/StoredProcedureQuery");
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query;
+
+import org.hibernate.Incubating;
+
+/**
+ * A chunk of the rows of a query result, laid out column by column, as passed
+ * to the consumer given to {@link SelectionQuery#exportColumns}.
+ * <p>
+ * There is one column for each distinct value in the SQL select list of the
+ * query, in order. The values are the JDBC values read from the
+ * {@link java.sql.ResultSet}, before any {@link jakarta.persistence.AttributeConverter}
+ * is applied. Integral values are presented in a {@code long[]}, floating point
+ * values in a {@code double[]}, and all other values in an {@code Object[]}.
+ * <p>
+ * The arrays are reused for every chunk of a result, and so they are only valid
+ * for the duration of the call to the consumer. Only the first {@link #getRowCount()}
+ * elements of each array are meaningful.
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface ColumnChunk {
+
+	/**
+	 * The kind of array holding the values of a column
+	 */
+	enum ColumnKind {
+		/**
+		 * Values of type {@code long}, {@code int}, {@code short}, or {@code byte},
+		 * held in a {@code long[]}
+		 */
+		LONG,
+		/**
+		 * Values of type {@code double} or {@code float}, held in a {@code double[]}
+		 */
+		DOUBLE,
+		/**
+		 * Any other values, held in an {@code Object[]}
+		 */
+		OBJECT
+	}
+
+	/**
+	 * The number of rows in this chunk.
+	 */
+	int getRowCount();
+
+	/**
+	 * The number of columns in this chunk.
+	 */
+	int getColumnCount();
+
+	/**
+	 * The kind of array holding the values of the given column.
+	 */
+	ColumnKind getColumnKind(int column);
+
+	/**
+	 * The Java type of the JDBC values of the given column.
+	 */
+	Class<?> getColumnJavaType(int column);
+
+	/**
+	 * The values of a {@link ColumnKind#LONG} column, with {@code 0} for null values.
+	 *
+	 * @throws IllegalArgumentException if the column is of a different kind
+	 */
+	long[] getLongColumn(int column);
+
+	/**
+	 * The values of a {@link ColumnKind#DOUBLE} column, with {@code 0} for null values.
+	 *
+	 * @throws IllegalArgumentException if the column is of a different kind
+	 */
+	double[] getDoubleColumn(int column);
+
+	/**
+	 * The values of an {@link ColumnKind#OBJECT} column.
+	 *
+	 * @throws IllegalArgumentException if the column is of a different kind
+	 */
+	Object[] getObjectColumn(int column);
+
+	/**
+	 * Whether the value of the given column is null in the given row.
+	 */
+	boolean isNull(int column, int row);
+}
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -281,6 +282,26 @@ default Stream<R> stream() {
 	@Incubating
 	KeyedResultList<R> getKeyedResultList(KeyedPage<R> page);
 
+	/**
+	 * Execute the query and pass the JDBC values of its results, in
+	 * chunks of the given number of rows laid out column by column, to
+	 * the given consumer, without instantiating entities or any other
+	 * result objects. This is useful for exporting large results to a
+	 * columnar format.
+	 *
+	 * @param chunkSize the maximum number of rows in each chunk
+	 * @param consumer the consumer of the chunks, which must not keep
+	 *        a reference to a chunk or its arrays once it returns
+	 *
+	 * @return the total number of rows
+	 *
+	 * @since 7.0
+	 *
+	 * @see ColumnChunk
+	 */
+	@Incubating
+	long exportColumns(int chunkSize, Consumer<ColumnChunk> consumer);
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	/**
@@ -8,6 +8,8 @@
 import org.antlr.v4.runtime.InputMismatchException;
 import org.antlr.v4.runtime.NoViableAltException;
 import org.hibernate.QueryException;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.grammars.hql.HqlLexer;
 import org.hibernate.grammars.hql.HqlParser;
 import org.hibernate.query.sqm.EntityTypeException;
@@ -57,7 +59,15 @@ public StandardHqlTranslator(
 	public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType) {
 		HqlLogging.QUERY_LOGGER.debugf( "HQL : %s", query );
 
-		final HqlParser.StatementContext hqlParseTree = parseHql( query );
+		final EventMonitor eventMonitor = sqmCreationContext.getEventMonitor();
+		final DiagnosticEvent hqlParseEvent = eventMonitor.beginHqlParseEvent();
+		final HqlParser.StatementContext hqlParseTree;
+		try {
+			hqlParseTree = parseHql( query );
+		}
+		finally {
+			eventMonitor.completeHqlParseEvent( hqlParseEvent, query );
+		}
 
 		// then we perform semantic analysis and build the semantic representation...
 		try {
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+/**
+ * Produces a canonical form of an HQL query string for use as a key in the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache},
+ * so that queries which differ only in insignificant whitespace or comments share
+ * a single cached interpretation.
+ * <p>
+ * The normalization mirrors the rules of the HQL lexer:
+ * <ul>
+ *     <li>runs of whitespace outside of literals and quoted identifiers are collapsed
+ *     to a single space,</li>
+ *     <li>comments are removed,</li>
+ *     <li>whitespace adjacent to {@code (}, {@code )} and {@code ,} is removed, and</li>
+ *     <li>leading and trailing whitespace is trimmed.</li>
+ * </ul>
+ * Text inside string literals and quoted identifiers is never touched. When the query
+ * string contains escape sequences or unterminated quotes, the original string is
+ * returned unchanged, since we cannot be sure to track literal boundaries the same way
+ * the lexer does.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_NORMALIZE_HQL
+ *
+ * @since 7.0
+ */
+public final class HqlQueryStringNormalizer {
+
+	private HqlQueryStringNormalizer() {
+	}
+
+	public static String normalize(String queryString) {
+		if ( queryString.indexOf( '\\' ) >= 0 ) {
+			// escape sequences in Java-style literals and quoted identifiers,
+			// don't try to be clever
+			return queryString;
+		}
+
+		final int length = queryString.length();
+		final StringBuilder normalized = new StringBuilder( length );
+		// whether we skipped whitespace (or a comment) which still needs to be rendered
+		boolean pendingSpace = false;
+		int i = 0;
+		while ( i < length ) {
+			final char c = queryString.charAt( i );
+			if ( isWhitespace( c ) ) {
+				pendingSpace = true;
+				i++;
+			}
+			else if ( c == '/' && i + 1 < length && queryString.charAt( i + 1 ) == '*' ) {
+				final int end = queryString.indexOf( "*/", i + 2 );
+				if ( end < 0 ) {
+					return queryString;
+				}
+				pendingSpace = true;
+				i = end + 2;
+			}
+			else {
+				if ( pendingSpace && !normalized.isEmpty()
+						&& !isSeparator( c ) && !isSeparator( normalized.charAt( normalized.length() - 1 ) ) ) {
+					normalized.append( ' ' );
+				}
+				pendingSpace = false;
+				if ( c == '\'' || c == '"' || c == '`' ) {
+					final int end = endOfQuoted( queryString, i, c );
+					if ( end < 0 ) {
+						return queryString;
+					}
+					normalized.append( queryString, i, end );
+					i = end;
+				}
+				else {
+					normalized.append( c );
+					i++;
+				}
+			}
+		}
+		return queryString.contentEquals( normalized ) ? queryString : normalized.toString();
+	}
+
+	/**
+	 * @return the index just past the closing quote, or {@code -1} if the quote is unterminated
+	 */
+	private static int endOfQuoted(String queryString, int start, char quote) {
+		final int length = queryString.length();
+		int i = start + 1;
+		while ( i < length ) {
+			if ( queryString.charAt( i ) == quote ) {
+				if ( quote == '\'' && i + 1 < length && queryString.charAt( i + 1 ) == '\'' ) {
+					// doubled single quote is an escaped quote
+					i += 2;
+				}
+				else {
+					return i + 1;
+				}
+			}
+			else {
+				i++;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+	}
+
+	private static boolean isSeparator(char c) {
+		return c == '(' || c == ')' || c == ',';
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.hibernate.query.spi.QueryInterpretationCacheEvictionPolicy;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The default {@link QueryInterpretationCacheEvictionPolicy}, which evicts
+ * the least recently used entry first, regardless of its weight.
+ *
+ * @since 7.0
+ */
+public class LruQueryInterpretationCacheEvictionPolicy implements QueryInterpretationCacheEvictionPolicy {
+	// access-ordered, so that iteration starts with the least recently used entry
+	private final LinkedHashMap<Entry, Boolean> entries = new LinkedHashMap<>( 16, 0.75f, true );
+
+	@Override
+	public void onInsert(Entry entry) {
+		entries.put( entry, Boolean.TRUE );
+	}
+
+	@Override
+	public void onAccess(Entry entry) {
+		entries.get( entry );
+	}
+
+	@Override
+	public void onRemove(Entry entry) {
+		entries.remove( entry );
+	}
+
+	@Override
+	public @Nullable Entry nextVictim() {
+		final Iterator<Entry> iterator = entries.keySet().iterator();
+		return iterator.hasNext() ? iterator.next() : null;
+	}
+}
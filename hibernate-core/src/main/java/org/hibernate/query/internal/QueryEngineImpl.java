@@ -7,6 +7,7 @@
 import org.hibernate.boot.model.FunctionContributions;
 import org.hibernate.boot.model.FunctionContributor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
@@ -22,6 +23,7 @@
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryInterpretationCacheEvictionPolicy;
 import org.hibernate.query.sqm.NodeBuilder;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 import org.hibernate.query.sqm.internal.SqmCreationOptionsStandard;
@@ -198,11 +200,32 @@ private static QueryInterpretationCache buildInterpretationCache(
 		);
 
 		if ( explicitUseCache || explicitMaxPlanSize != null && explicitMaxPlanSize > 0 ) {
+			final boolean normalizeHql = ConfigurationHelper.getBoolean(
+					AvailableSettings.QUERY_PLAN_CACHE_NORMALIZE_HQL,
+					properties,
+					false
+			);
+
+			final long maxWeight = ConfigurationHelper.getLong(
+					AvailableSettings.QUERY_PLAN_CACHE_MAX_WEIGHT,
+					properties,
+					0
+			);
+			if ( maxWeight > 0 ) {
+				final QueryInterpretationCacheEvictionPolicy evictionPolicy =
+						serviceRegistry.requireService( StrategySelector.class ).resolveDefaultableStrategy(
+								QueryInterpretationCacheEvictionPolicy.class,
+								properties.get( AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY ),
+								LruQueryInterpretationCacheEvictionPolicy::new
+						);
+				return new QueryInterpretationCacheStandardImpl( maxWeight, evictionPolicy, normalizeHql, serviceRegistry );
+			}
+
 			final int size = explicitMaxPlanSize != null
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			return new QueryInterpretationCacheStandardImpl( size, normalizeHql, serviceRegistry );
 		}
 		else {
 			// disabled
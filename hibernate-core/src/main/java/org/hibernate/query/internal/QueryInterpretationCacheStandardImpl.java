@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -15,6 +16,7 @@
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
 import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryInterpretationCacheEvictionPolicy;
 import org.hibernate.query.spi.QueryPlan;
 import org.hibernate.query.spi.SelectQueryPlan;
 import org.hibernate.query.spi.SimpleHqlInterpretationImpl;
@@ -34,26 +36,94 @@
 public class QueryInterpretationCacheStandardImpl implements QueryInterpretationCache {
 	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
 
+	// Used when the cache is bounded by weight. The weight of an entry is a heuristic
+	// based only on the length of its query string: the SQM tree, and the SQL AST and
+	// JDBC operation of a plan, tend to grow with it. It does not measure the plan.
+	private static final long ENTRY_OVERHEAD = 256;
+	private static final long HQL_INTERPRETATION_BYTES_PER_CHAR = 96;
+	private static final long QUERY_PLAN_BYTES_PER_CHAR = 160;
+	private static final long NATIVE_PARAMETERS_BYTES_PER_CHAR = 8;
+	// criteria plans are not keyed by a query string
+	private static final long UNKNOWN_QUERY_PLAN_WEIGHT = 16 * 1024;
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final ConcurrentMap<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final ConcurrentMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
+
+	/**
+	 * Whether HQL strings are {@linkplain HqlQueryStringNormalizer normalized}
+	 * before being used as keys of the {@link #hqlInterpretationCache}
+	 */
+	private final boolean normalizeHql;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, false, serviceRegistry );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			boolean normalizeHql,
+			ServiceRegistry serviceRegistry) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
+		this.normalizeHql = normalizeHql;
+
 		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.serviceRegistry = serviceRegistry;
 	}
 
+	/**
+	 * Create a cache bounded by the total weight of the cached plans and
+	 * interpretations, rather than by their number. The weight of an entry
+	 * is estimated from the length of its query string.
+	 *
+	 * @param maxWeight the maximum total weight of the cached entries
+	 * @param evictionPolicy decides which entries to evict when the maximum is exceeded
+	 */
+	public QueryInterpretationCacheStandardImpl(
+			long maxWeight,
+			QueryInterpretationCacheEvictionPolicy evictionPolicy,
+			boolean normalizeHql,
+			ServiceRegistry serviceRegistry) {
+		log.debugf( "Starting QueryInterpretationCache(maxWeight=%s, evictionPolicy=%s)", maxWeight, evictionPolicy );
+
+		this.normalizeHql = normalizeHql;
+
+		final WeightBoundedInterpretationStore store = new WeightBoundedInterpretationStore( maxWeight, evictionPolicy );
+		this.queryPlanCache = store.createRegion( QueryInterpretationCacheStandardImpl::weighQueryPlan );
+		this.hqlInterpretationCache = store.createRegion( QueryInterpretationCacheStandardImpl::weighHqlInterpretation );
+		this.nativeQueryParamCache =
+				store.createRegion( (queryString, interpretation) -> weighNativeQueryParameters( queryString ) );
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	private static long weighQueryPlan(Key key, QueryPlan plan) {
+		final String queryString = key.getQueryString();
+		return queryString == null
+				? UNKNOWN_QUERY_PLAN_WEIGHT
+				: ENTRY_OVERHEAD + QUERY_PLAN_BYTES_PER_CHAR * queryString.length();
+	}
+
+	private static long weighHqlInterpretation(Object key, HqlInterpretation<?> interpretation) {
+		final String queryString = key instanceof HqlInterpretationCacheKey cacheKey
+				? cacheKey.queryString
+				: (String) key;
+		return ENTRY_OVERHEAD + HQL_INTERPRETATION_BYTES_PER_CHAR * queryString.length();
+	}
+
+	private static long weighNativeQueryParameters(String queryString) {
+		return ENTRY_OVERHEAD + NATIVE_PARAMETERS_BYTES_PER_CHAR * queryString.length();
+	}
+
 	@Override
 	public int getNumberOfCachedHqlInterpretations() {
 		return hqlInterpretationCache.size();
@@ -115,9 +185,10 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 		log.tracef( "QueryPlan#resolveHqlInterpretation( `%s` )", queryString );
 		final StatisticsImplementor statistics = getStatistics();
 
+		final String keyString = normalizeHql ? HqlQueryStringNormalizer.normalize( queryString ) : queryString;
 		final Object cacheKey = expectedResultType != null
-				? new HqlInterpretationCacheKey( queryString, expectedResultType )
-				: queryString;
+				? new HqlInterpretationCacheKey( keyString, expectedResultType )
+				: keyString;
 
 		final HqlInterpretation<?> existing = hqlInterpretationCache.get( cacheKey );
 		if ( existing != null ) {
@@ -127,7 +198,7 @@ public <R> HqlInterpretation<R> resolveHqlInterpretation(
 			return (HqlInterpretation<R>) existing;
 		}
 		else if ( expectedResultType != null ) {
-			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( queryString );
+			final HqlInterpretation<?> existingQueryOnly = hqlInterpretationCache.get( keyString );
 			if ( existingQueryOnly != null ) {
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.queryPlanCacheHit( queryString );
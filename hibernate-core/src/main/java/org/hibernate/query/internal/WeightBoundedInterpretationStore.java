@@ -0,0 +1,349 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+import org.hibernate.query.spi.QueryInterpretationCacheEvictionPolicy;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+
+/**
+ * Storage for the {@link QueryInterpretationCacheStandardImpl} which bounds
+ * the total {@linkplain QueryInterpretationCacheEvictionPolicy.Entry#getWeight
+ * weight} of the cached entries instead of their number.
+ * <p>
+ * The store is divided into {@linkplain #createRegion regions}, one for each
+ * kind of cached interpretation, all sharing the same weight budget and the
+ * same {@link QueryInterpretationCacheEvictionPolicy}. Writes and evictions
+ * are serialized by a single lock, since compiling a query plan is far more
+ * expensive than caching it. Reads do not take the lock: as in
+ * {@link org.hibernate.internal.util.collections.BoundedConcurrentHashMap},
+ * each read is appended to one of several striped access buffers, and the
+ * buffered reads are passed on to the eviction policy in batches by whichever
+ * thread next holds the lock. A reader only waits for the lock when its buffer
+ * is full, so no access is ever lost.
+ * <p>
+ * The weight of an entry is computed by the weigher of its region, which is
+ * a heuristic, not a measurement of the memory retained by the entry.
+ *
+ * @since 7.0
+ */
+class WeightBoundedInterpretationStore {
+	// the number of reads buffered by a stripe after which a reader tries
+	// to record them, and after which it waits for the lock to record them
+	private static final int ACCESS_BATCH_SIZE = 32;
+	private static final int MAX_BUFFERED_ACCESSES = 64;
+
+	private final long maxWeight;
+	private final QueryInterpretationCacheEvictionPolicy evictionPolicy;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final AccessBuffer[] accessBuffers;
+
+	// guarded by lock
+	private long totalWeight;
+
+	WeightBoundedInterpretationStore(long maxWeight, QueryInterpretationCacheEvictionPolicy evictionPolicy) {
+		this.maxWeight = maxWeight;
+		this.evictionPolicy = evictionPolicy;
+		this.accessBuffers = new AccessBuffer[ceilingPowerOfTwo( Runtime.getRuntime().availableProcessors() )];
+		for ( int i = 0; i < accessBuffers.length; i++ ) {
+			accessBuffers[i] = new AccessBuffer();
+		}
+	}
+
+	<K, V> ConcurrentMap<K, V> createRegion(ToLongBiFunction<K, V> weigher) {
+		return new Region<>( weigher );
+	}
+
+	private void recordAccess(Node<?, ?> node) {
+		final AccessBuffer buffer =
+				accessBuffers[spread( Thread.currentThread().hashCode() ) & ( accessBuffers.length - 1 )];
+		buffer.accesses.add( node );
+		final int buffered = buffer.size.incrementAndGet();
+		if ( buffered >= ACCESS_BATCH_SIZE ) {
+			final boolean locked = lock.tryLock();
+			if ( locked || buffered >= MAX_BUFFERED_ACCESSES ) {
+				if ( !locked ) {
+					lock.lock();
+				}
+				try {
+					drainAccessBuffers();
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+
+	private static int spread(int hash) {
+		return hash ^ ( hash >>> 16 );
+	}
+
+	// must be called while holding the lock
+	private void drainAccessBuffers() {
+		for ( AccessBuffer buffer : accessBuffers ) {
+			int drained = 0;
+			try {
+				Node<?, ?> node;
+				while ( ( node = buffer.accesses.poll() ) != null ) {
+					drained++;
+					if ( !node.removed ) {
+						evictionPolicy.onAccess( node );
+					}
+				}
+			}
+			finally {
+				buffer.size.addAndGet( -drained );
+			}
+		}
+	}
+
+	// must be called while holding the lock
+	private void evictIfNecessary() {
+		while ( totalWeight > maxWeight ) {
+			final QueryInterpretationCacheEvictionPolicy.Entry victim = evictionPolicy.nextVictim();
+			if ( victim == null ) {
+				break;
+			}
+			( (Node<?, ?>) victim ).evict();
+		}
+	}
+
+	private static final class AccessBuffer {
+		private final ConcurrentLinkedQueue<Node<?, ?>> accesses = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+	}
+
+	private static final class Node<K, V> implements QueryInterpretationCacheEvictionPolicy.Entry {
+		private final Region<K, V> region;
+		private final K key;
+		private final V value;
+		private final long weight;
+		// guarded by lock, so that buffered accesses to removed entries are ignored
+		private boolean removed;
+
+		private Node(Region<K, V> region, K key, V value, long weight) {
+			this.region = region;
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+
+		@Override
+		public Object getKey() {
+			return key;
+		}
+
+		@Override
+		public long getWeight() {
+			return weight;
+		}
+
+		private void evict() {
+			if ( !region.nodes.remove( key, this ) ) {
+				// the policy handed us an entry which is not in the cache any longer
+				removed = true;
+				region.store().evictionPolicy.onRemove( this );
+			}
+			else {
+				region.removed( this );
+			}
+		}
+	}
+
+	private final class Region<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+		private final ConcurrentHashMap<K, Node<K, V>> nodes = new ConcurrentHashMap<>();
+		private final ToLongBiFunction<K, V> weigher;
+
+		private Region(ToLongBiFunction<K, V> weigher) {
+			this.weigher = weigher;
+		}
+
+		private WeightBoundedInterpretationStore store() {
+			return WeightBoundedInterpretationStore.this;
+		}
+
+		// must be called while holding the lock
+		private void removed(Node<K, V> node) {
+			node.removed = true;
+			evictionPolicy.onRemove( node );
+			totalWeight -= node.weight;
+		}
+
+		// must be called while holding the lock
+		private V insert(K key, V value) {
+			final Node<K, V> node = new Node<>( this, key, value, weigher.applyAsLong( key, value ) );
+			final Node<K, V> previous = nodes.put( key, node );
+			if ( previous != null ) {
+				removed( previous );
+			}
+			evictionPolicy.onInsert( node );
+			totalWeight += node.weight;
+			// let the policy see the recent reads before it picks a victim
+			drainAccessBuffers();
+			evictIfNecessary();
+			return previous == null ? null : previous.value;
+		}
+
+		@Override
+		public V get(Object key) {
+			final Node<K, V> node = nodes.get( key );
+			if ( node == null ) {
+				return null;
+			}
+			recordAccess( node );
+			return node.value;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return nodes.containsKey( key );
+		}
+
+		@Override
+		public V put(K key, V value) {
+			lock.lock();
+			try {
+				return insert( key, value );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public V putIfAbsent(K key, V value) {
+			lock.lock();
+			try {
+				final Node<K, V> existing = nodes.get( key );
+				if ( existing != null ) {
+					return existing.value;
+				}
+				insert( key, value );
+				return null;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+			final V existing = get( key );
+			if ( existing != null ) {
+				return existing;
+			}
+			// compute outside the lock, and let the first writer win
+			final V value = mappingFunction.apply( key );
+			if ( value == null ) {
+				return null;
+			}
+			final V raced = putIfAbsent( key, value );
+			return raced == null ? value : raced;
+		}
+
+		@Override
+		public V remove(Object key) {
+			lock.lock();
+			try {
+				final Node<K, V> node = nodes.remove( key );
+				if ( node == null ) {
+					return null;
+				}
+				removed( node );
+				return node.value;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public boolean remove(Object key, Object value) {
+			lock.lock();
+			try {
+				final Node<K, V> node = nodes.get( key );
+				if ( node == null || !node.value.equals( value ) ) {
+					return false;
+				}
+				nodes.remove( key );
+				removed( node );
+				return true;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public boolean replace(K key, V oldValue, V newValue) {
+			lock.lock();
+			try {
+				final Node<K, V> node = nodes.get( key );
+				if ( node == null || !node.value.equals( oldValue ) ) {
+					return false;
+				}
+				insert( key, newValue );
+				return true;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public V replace(K key, V value) {
+			lock.lock();
+			try {
+				return nodes.containsKey( key ) ? insert( key, value ) : null;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public int size() {
+			return nodes.size();
+		}
+
+		@Override
+		public void clear() {
+			lock.lock();
+			try {
+				for ( Node<K, V> node : nodes.values() ) {
+					removed( node );
+				}
+				nodes.clear();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		@Override
+		public Set<Map.Entry<K, V>> entrySet() {
+			// a snapshot, only meant for diagnostics
+			final Set<Map.Entry<K, V>> entries = new HashSet<>();
+			for ( Node<K, V> node : nodes.values() ) {
+				entries.add( new SimpleImmutableEntry<>( node.key, node.value ) );
+			}
+			return unmodifiableSet( entries );
+		}
+	}
+}
@@ -13,6 +13,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -33,6 +34,7 @@
 import org.hibernate.jpa.internal.util.FlushModeTypeHelper;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.ColumnChunk;
 import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.SelectionQuery;
@@ -40,6 +42,8 @@
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.spi.ColumnarResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -246,6 +250,38 @@ public ScrollableResultsImplementor<R> scroll(ScrollMode scrollMode) {
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
 
+	@Override
+	public long exportColumns(int chunkSize, Consumer<ColumnChunk> consumer) {
+		final ColumnarResultsConsumer<R> resultsConsumer = new ColumnarResultsConsumer<>( chunkSize, consumer );
+		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
+		boolean success = false;
+		try {
+			final long rowCount = doExecuteQuery( resultsConsumer );
+			success = true;
+			return rowCount;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
+		}
+		finally {
+			afterQueryHandlingFetchProfiles( success, fetchProfiles );
+		}
+	}
+
+	/**
+	 * Execute the query, passing its JDBC values to the given {@link ResultsConsumer}.
+	 * A query which cannot be executed this way rejects {@link #exportColumns}
+	 * itself, and never reaches this method.
+	 *
+	 * @since 7.0
+	 */
+	protected <T> T doExecuteQuery(ResultsConsumer<T, R> resultsConsumer) {
+		throw new UnsupportedOperationException( "Query does not support execution with a ResultsConsumer" );
+	}
+
 	@Override
 	public Stream<R> getResultStream() {
 		return stream();
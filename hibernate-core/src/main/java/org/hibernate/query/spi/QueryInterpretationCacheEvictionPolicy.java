@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.spi;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Decides which entries to evict from a {@link QueryInterpretationCache}
+ * bounded by {@linkplain org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_MAX_WEIGHT
+ * weight}, that is, by an estimate of the memory retained by the cached
+ * query plans and interpretations, based on the length of their query
+ * strings.
+ * <p>
+ * The cache notifies the policy of every insertion, access and removal,
+ * and asks it for a {@linkplain #nextVictim victim} for as long as the
+ * total weight of the cached entries exceeds the configured maximum.
+ * All callbacks happen while the cache holds an exclusive lock, so an
+ * implementation does not need to be thread-safe, but it should be fast.
+ * Reads are buffered, and so an access may be notified some time after
+ * the read, together with other accesses, but before the next victim is
+ * chosen.
+ * <p>
+ * Implementations may be stateful, and so an instance should never be
+ * shared between caches.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_EVICTION_POLICY
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface QueryInterpretationCacheEvictionPolicy {
+	/**
+	 * An entry of the cache, as seen by the eviction policy.
+	 * Entries have identity semantics.
+	 */
+	interface Entry {
+		/**
+		 * The cache key of the entry.
+		 */
+		Object getKey();
+
+		/**
+		 * The weight of the entry, a heuristic estimate of the memory retained
+		 * by the cached value, based on the length of its query string.
+		 */
+		long getWeight();
+	}
+
+	/**
+	 * An entry was added to the cache.
+	 */
+	void onInsert(Entry entry);
+
+	/**
+	 * An entry was read from the cache.
+	 */
+	void onAccess(Entry entry);
+
+	/**
+	 * An entry was removed from the cache, either because it was
+	 * replaced, or because it was evicted.
+	 */
+	void onRemove(Entry entry);
+
+	/**
+	 * The entry which should be evicted next, or {@code null} if
+	 * the policy does not know any entry.
+	 */
+	@Nullable Entry nextVictim();
+}
@@ -99,6 +99,7 @@
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
 import org.hibernate.sql.results.graph.Fetchable;
+import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.SingleResultConsumer;
 import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.BasicType;
@@ -957,6 +958,11 @@ protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected <T> T doExecuteQuery(ResultsConsumer<T, R> resultsConsumer) {
+		return resolveSelectQueryPlan().executeQuery( this, resultsConsumer );
+	}
+
 	protected int doExecuteUpdate() {
 		return resolveNonSelectQueryPlan().executeUpdate( this );
 	}
@@ -7,6 +7,7 @@
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.query.IllegalQueryOperationException;
 import org.hibernate.query.IllegalSelectQueryException;
 import org.hibernate.query.KeyedPage;
 import org.hibernate.query.KeyedResultList;
@@ -47,6 +48,7 @@
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.cfg.QuerySettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.query.KeyedPage.KeyInterpretation.KEY_OF_FIRST_ON_NEXT_PAGE;
+import static org.hibernate.query.sqm.internal.AppliedGraphs.containsCollectionFetches;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectKeys;
 import static org.hibernate.query.sqm.internal.KeyedResult.collectResults;
 import static org.hibernate.query.sqm.internal.SqmUtil.isHqlTuple;
@@ -93,6 +95,18 @@ protected static boolean hasAppliedGraph(MutableQueryOptions queryOptions) {
 		return appliedGraph != null && appliedGraph.getSemantic() != null;
 	}
 
+	/**
+	 * Results passed to a {@link org.hibernate.sql.results.spi.ResultsConsumer}
+	 * are never deduplicated or paginated in memory, as they are for a query with
+	 * collection fetches, and so such a query may not be executed this way.
+	 */
+	protected void verifyNoCollectionFetches(SqmSelectStatement<?> statement) {
+		if ( statement.containsCollectionFetches() || containsCollectionFetches( getQueryOptions() ) ) {
+			throw new IllegalQueryOperationException(
+					"Query with collection fetches may not be executed with a ResultsConsumer" );
+		}
+	}
+
 	protected void errorOrLogForPaginationWithCollectionFetch() {
 		if ( getSessionFactory().getSessionFactoryOptions().isFailOnPaginationOverCollectionFetchEnabled() ) {
 			throw new HibernateException(
@@ -252,7 +266,8 @@ protected <T> ConcreteSqmSelectQueryPlan<T> buildConcreteQueryPlan(
 				getDomainParameterXref(),
 				expectedResultType,
 				tupleMetadata,
-				queryOptions
+				queryOptions,
+				getSessionFactory()
 		);
 	}
 
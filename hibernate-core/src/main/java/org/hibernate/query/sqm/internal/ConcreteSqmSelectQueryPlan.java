@@ -8,6 +8,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.persistence.Tuple;
 
@@ -58,6 +59,7 @@
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.util.ReflectHelper.isClass;
 import static org.hibernate.internal.util.collections.ArrayHelper.toStringArray;
@@ -72,7 +74,15 @@
  * @author Steve Ebersole
  */
 public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
+	/**
+	 * The number of owners in a window of a scrolled query, when no fetch size is specified
+	 *
+	 * @see SubselectFetch#isWindowed()
+	 */
+	private static final int DEFAULT_SUBSELECT_FETCH_WINDOW_SIZE = 100;
+
 	private final SqmSelectStatement<?> sqm;
+	private final String hql;
 	private final DomainParameterXref domainParameterXref;
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
@@ -87,11 +97,13 @@ public ConcreteSqmSelectQueryPlan(
 			DomainParameterXref domainParameterXref,
 			Class<R> resultType,
 			TupleMetadata tupleMetadata,
-			QueryOptions queryOptions) {
+			QueryOptions queryOptions,
+			SessionFactoryImplementor sessionFactory) {
 		this.sqm = sqm;
+		this.hql = hql;
 		this.domainParameterXref = domainParameterXref;
 
-		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions );
+		this.rowTransformer = determineRowTransformer( sqm, resultType, tupleMetadata, queryOptions, sessionFactory );
 
 		final ListResultsConsumer.UniqueSemantic uniqueSemantic;
 		if ( sqm.producesUniqueResults() && !AppliedGraphs.containsCollectionFetches( queryOptions ) ) {
@@ -166,12 +178,16 @@ public ConcreteSqmSelectQueryPlan(
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
 			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
+				// the subselect fetch re-issues the query restricted to the owners in one
+				// window of the results, instead of the whole query, which may be huge
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler =
+						SubselectFetch.createWindowedRegistrationHandler(
+								session.getPersistenceContext().getBatchFetchQueue(),
+								sqmInterpretation.selectStatement,
+								JdbcParametersList.empty(),
+								jdbcParameterBindings,
+								subselectFetchWindowSize( executionContext, session )
+						);
 
 				final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
 						.getJdbcServices()
@@ -186,7 +202,7 @@ public ConcreteSqmSelectQueryPlan(
 						jdbcSelect,
 						scrollMode,
 						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+						new ScrollSqmJdbcExecutionContextAdapter( executionContext, jdbcSelect, subSelectFetchKeyHandler ),
 						rowTransformer,
 						resultCountEstimate
 				);
@@ -216,6 +232,15 @@ protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
 		return new MySqmJdbcExecutionContextAdapter( executionContext, jdbcSelect, subSelectFetchKeyHandler, hql );
 	}
 
+	private static int subselectFetchWindowSize(
+			DomainQueryExecutionContext executionContext,
+			SharedSessionContractImplementor session) {
+		final Integer fetchSize = executionContext.getQueryOptions().getFetchSize();
+		final int windowSize = fetchSize == null || fetchSize <= 0 ? DEFAULT_SUBSELECT_FETCH_WINDOW_SIZE : fetchSize;
+		final int inExpressionCountLimit = session.getJdbcServices().getDialect().getInExpressionCountLimit();
+		return inExpressionCountLimit > 0 ? Math.min( windowSize, inExpressionCountLimit ) : windowSize;
+	}
+
 	protected static int interpretIntExpression(Expression expression, JdbcParameterBindings jdbcParameterBindings) {
 		if ( expression instanceof Literal ) {
 			return ( (Number) ( (Literal) expression ).getLiteralValue() ).intValue();
@@ -251,7 +276,8 @@ protected static <T> RowTransformer<T> determineRowTransformer(
 			SqmSelectStatement<?> sqm,
 			Class<T> resultClass,
 			TupleMetadata tupleMetadata,
-			QueryOptions queryOptions) {
+			QueryOptions queryOptions,
+			SessionFactoryImplementor sessionFactory) {
 		if ( queryOptions.getTupleTransformer() != null ) {
 			return makeRowTransformerTupleTransformerAdapter( sqm, queryOptions );
 		}
@@ -290,7 +316,8 @@ else if ( isClass( resultType ) ) {
 							return new RowTransformerConstructorImpl<>(
 									resultType,
 									tupleMetadata,
-									sqm.nodeBuilder().getTypeConfiguration()
+									sqm.nodeBuilder().getTypeConfiguration(),
+									sessionFactory.getServiceRegistry()
 							);
 						}
 						catch (InstantiationException ie) {
@@ -317,7 +344,8 @@ else if ( isClass( resultType ) ) {
 						return new RowTransformerConstructorImpl<>(
 								resultType,
 								tupleMetadata,
-								sqm.nodeBuilder().getTypeConfiguration()
+								sqm.nodeBuilder().getTypeConfiguration(),
+								sessionFactory.getServiceRegistry()
 						);
 					}
 					else {
@@ -393,6 +421,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
+							hql,
 							domainParameterXref,
 							executionContext
 					);
@@ -411,6 +440,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 					if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 						localCopy = buildCacheableSqmInterpretation(
 								sqm,
+								hql,
 								domainParameterXref,
 								executionContext
 						);
@@ -432,6 +462,7 @@ private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext exec
 			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
+						hql,
 						domainParameterXref,
 						executionContext
 				);
@@ -466,10 +497,14 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 
 	private static CacheableSqmInterpretation buildCacheableSqmInterpretation(
 			SqmSelectStatement<?> sqm,
+			String hql,
 			DomainParameterXref domainParameterXref,
 			DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		final boolean stats = statistics.isStatisticsEnabled();
+		final long startTime = stats ? System.nanoTime() : 0L;
 
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
@@ -506,9 +541,21 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				session
 		);
 
+		final JdbcOperationQuerySelect jdbcSelect =
+				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+
+		if ( stats ) {
+			final long endTime = System.nanoTime();
+			final long microseconds = TimeUnit.MICROSECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			statistics.queryTranslated(
+					CRITERIA_HQL_STRING.equals( hql ) ? "[CRITERIA] " + jdbcSelect.getSqlString() : hql,
+					microseconds
+			);
+		}
+
 		return new CacheableSqmInterpretation(
 				sqmInterpretation.getSqlAst(),
-				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
+				jdbcSelect,
 				tableGroupAccess,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
@@ -604,4 +651,21 @@ public String getQueryIdentifier(String sql) {
 		}
 
 	}
+
+	private static class ScrollSqmJdbcExecutionContextAdapter extends SqmJdbcExecutionContextAdapter {
+		private final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
+
+		public ScrollSqmJdbcExecutionContextAdapter(
+				DomainQueryExecutionContext executionContext,
+				JdbcOperationQuerySelect jdbcSelect,
+				SubselectFetch.RegistrationHandler subSelectFetchKeyHandler) {
+			super( executionContext, jdbcSelect );
+			this.subSelectFetchKeyHandler = subSelectFetchKeyHandler;
+		}
+
+		@Override
+		public void registerLoadingEntityHolder(EntityHolder holder) {
+			subSelectFetchKeyHandler.addKey( holder );
+		}
+	}
 }
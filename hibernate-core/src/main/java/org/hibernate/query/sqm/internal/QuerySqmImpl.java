@@ -84,6 +84,8 @@
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -108,6 +110,7 @@
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptionsWithUniqueSemanticFilter;
 import static org.hibernate.query.sqm.internal.AppliedGraphs.containsCollectionFetches;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createInterpretationsKey;
+import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.determineUncacheableReason;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.generateNonSelectKey;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelect;
 import static org.hibernate.query.sqm.internal.SqmUtil.verifyIsNonSelectStatement;
@@ -444,6 +447,13 @@ protected ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode) {
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	protected <T> T doExecuteQuery(ResultsConsumer<T, R> resultsConsumer) {
+		verifySelect();
+		verifyNoCollectionFetches( (SqmSelectStatement<?>) getSqmStatement() );
+		return resolveSelectQueryPlan().executeQuery( this, resultsConsumer );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
@@ -458,9 +468,17 @@ public boolean isQueryPlanCacheable() {
 
 	private SelectQueryPlan<R> resolveSelectQueryPlan() {
 		final QueryInterpretationCache.Key cacheKey = createInterpretationsKey( this );
-		return cacheKey != null
-				? interpretationCache().resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan )
-				: buildSelectQueryPlan();
+		if ( cacheKey != null ) {
+			return interpretationCache().resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
+		}
+		else {
+			final StatisticsImplementor statistics = getSessionFactory().getStatistics();
+			// criteria queries are only identified by their SQL once translated
+			if ( statistics.isStatisticsEnabled() && !CRITERIA_HQL_STRING.equals( getQueryString() ) ) {
+				statistics.queryPlanUncacheable( getQueryString(), determineUncacheableReason( this ) );
+			}
+			return buildSelectQueryPlan();
+		}
 	}
 
 	private QueryInterpretationCache interpretationCache() {
@@ -17,6 +17,9 @@
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.QueryPlanUncacheableReason;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static java.lang.Boolean.TRUE;
 import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
@@ -78,23 +81,43 @@ private static Collection<String> memoryEfficientDefensiveSetCopy(final Set<Stri
 	}
 
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
+		return determineUncacheableReason( keySource ) == null;
+	}
+
+	/**
+	 * Determine why the plan of the given query cannot be cached.
+	 *
+	 * @return the reason, or {@code null} if the plan is cacheable
+	 */
+	public static @Nullable QueryPlanUncacheableReason determineUncacheableReason(CacheabilityInfluencers keySource) {
 		assert keySource.getQueryOptions().getAppliedGraph() != null;
 
 		// for now at least, skip caching Criteria-based plans
 		// - especially wrt parameters atm; this works with HQL because the
 		// parameters are part of the query string; with Criteria, they're not.
-		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+		if ( !keySource.isQueryPlanCacheable() ) {
+			return QueryPlanUncacheableReason.DISABLED;
+		}
+		// At the moment we cannot cache query plan if there is filter enabled.
+		else if ( keySource.getLoadQueryInfluencers().hasEnabledFilters() ) {
+			return QueryPlanUncacheableReason.ENABLED_FILTERS;
+		}
+		// At the moment we cannot cache query plan if it has an entity graph
+		else if ( keySource.getQueryOptions().getAppliedGraph().getSemantic() != null ) {
+			return QueryPlanUncacheableReason.ENTITY_GRAPH;
+		}
+		// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
+		// - the expansion is done per-execution based on the "static" SQM
+		// - Note from Christian: The call to domainParameterXref.clearExpansions()
+		//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
+		// - This could be solved by using a method-local clone of domainParameterXref
+		//   when multi-valued params exist
+		else if ( keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE ) {
+			return QueryPlanUncacheableReason.MULTI_VALUED_PARAMETER;
+		}
+		else {
+			return null;
+		}
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
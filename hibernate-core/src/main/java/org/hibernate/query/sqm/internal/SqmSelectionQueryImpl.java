@@ -63,6 +63,7 @@
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.SingleResultConsumer;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.descriptor.java.JavaType;
 
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
@@ -79,6 +80,7 @@
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptions;
 import static org.hibernate.query.sqm.internal.KeyBasedPagination.paginate;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createInterpretationsKey;
+import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.determineUncacheableReason;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToResultType;
 import static org.hibernate.query.sqm.tree.SqmCopyContext.noParamCopyContext;
 
@@ -446,6 +448,12 @@ public <T> T executeQuery(ResultsConsumer<T, R> resultsConsumer) {
 		return resolveQueryPlan().executeQuery( this, resultsConsumer );
 	}
 
+	@Override
+	protected <T> T doExecuteQuery(ResultsConsumer<T, R> resultsConsumer) {
+		verifyNoCollectionFetches( getSqmStatement() );
+		return executeQuery( resultsConsumer );
+	}
+
 	@Override
 	public Class<R> getExpectedResultType() {
 		return expectedResultType;
@@ -461,6 +469,11 @@ private SelectQueryPlan<R> resolveQueryPlan() {
 					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan );
 		}
 		else {
+			final StatisticsImplementor statistics = getSessionFactory().getStatistics();
+			// criteria queries are only identified by their SQL once translated
+			if ( statistics.isStatisticsEnabled() && !CRITERIA_HQL_STRING.equals( getQueryString() ) ) {
+				statistics.queryPlanUncacheable( getQueryString(), determineUncacheableReason( this ) );
+			}
 			return buildSelectQueryPlan();
 		}
 	}
@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -22,6 +23,7 @@
 import org.hibernate.ScrollableResults;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.ColumnChunk;
 import org.hibernate.query.KeyedPage;
 import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.Order;
@@ -111,6 +113,11 @@ public long getResultCount() {
 		return getDelegate().getResultCount();
 	}
 
+	@Override
+	public long exportColumns(int chunkSize, Consumer<ColumnChunk> consumer) {
+		return getDelegate().exportColumns( chunkSize, consumer );
+	}
+
 	@Override
 	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
 		return getDelegate().getKeyedResultList( page );
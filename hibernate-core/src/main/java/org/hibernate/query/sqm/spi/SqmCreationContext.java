@@ -5,6 +5,8 @@
 package org.hibernate.query.sqm.spi;
 
 import org.hibernate.Incubating;
+import org.hibernate.event.monitor.internal.EmptyEventMonitor;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.query.BindingContext;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.sqm.NodeBuilder;
@@ -28,4 +30,17 @@ default NodeBuilder getNodeBuilder() {
 	 *          in Hibernate Processor at compilation time.
 	 */
 	Class<?> classForName(String className);
+
+	/**
+	 * The {@link EventMonitor} to which events occurring during query
+	 * interpretation are reported. This is the single source of the monitor
+	 * for parsing, translation, and rendering, all of which happen without
+	 * a session. A {@code SessionFactory} returns its own monitor; by default,
+	 * for example, in the query validator, nothing is reported.
+	 *
+	 * @since 7.0
+	 */
+	default EventMonitor getEventMonitor() {
+		return new EmptyEventMonitor();
+	}
 }
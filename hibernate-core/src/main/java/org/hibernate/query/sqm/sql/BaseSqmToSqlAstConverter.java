@@ -39,6 +39,8 @@
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.generator.Generator;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -804,9 +806,17 @@ public Stack<SqmQueryPart> getSqmQueryPartStack() {
 	@Override
 	public SqmTranslation<T> translate() {
 		final SqmStatement<?> sqmStatement = getStatement();
-		//noinspection unchecked
-		final T statement = (T) sqmStatement.accept( this );
-		pruneTableGroupJoins();
+		final EventMonitor eventMonitor = creationContext.getSessionFactory().getEventMonitor();
+		final DiagnosticEvent sqmTranslationEvent = eventMonitor.beginSqmTranslationEvent();
+		final T statement;
+		try {
+			//noinspection unchecked
+			statement = (T) sqmStatement.accept( this );
+			pruneTableGroupJoins();
+		}
+		finally {
+			eventMonitor.completeSqmTranslationEvent( sqmTranslationEvent );
+		}
 		return new StandardSqmTranslation<>(
 				statement,
 				getJdbcParamsBySqmParam(),
@@ -67,13 +67,26 @@ public void afterTransaction() {
 
 	@Override
 	public void begin() {
+		beginJdbcTransaction();
+		status = TransactionStatus.ACTIVE;
+	}
+
+	/**
+	 * Mark the transaction active without touching the JDBC connection. The
+	 * subclass must call {@link #beginJdbcTransaction()} once it has obtained
+	 * a connection.
+	 */
+	protected void deferredBegin() {
+		status = TransactionStatus.ACTIVE;
+	}
+
+	protected void beginJdbcTransaction() {
 		try {
 			if ( !doConnectionsFromProviderHaveAutoCommitDisabled() ) {
 				log.trace( "Preparing to begin transaction via JDBC Connection.setAutoCommit(false)" );
 				getConnectionForTransactionManagement().setAutoCommit( false );
 				log.trace( "Transaction begun via JDBC Connection.setAutoCommit(false)" );
 			}
-			status = TransactionStatus.ACTIVE;
 		}
 		catch( SQLException e ) {
 			throw new TransactionException( "JDBC begin transaction failed: ", e );
@@ -10,6 +10,7 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ResourceClosedException;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -19,6 +20,7 @@
 import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.resource.transaction.spi.TransactionStatus;
 
 import org.jboss.logging.Logger;
 
@@ -44,20 +46,40 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private final transient SqlExceptionHelper sqlExceptionHelper;
 
 	private final transient PhysicalConnectionHandlingMode connectionHandlingMode;
+	private final transient PreparedStatementCache statementCache;
 
 	private transient Connection physicalConnection;
+	// was the physical connection obtained for work which only reads data?
+	private transient boolean physicalConnectionReadOnly;
 	private boolean closed;
 
 	private final boolean providerDisablesAutoCommit;
+	private final boolean jdbcTransactionBeginDeferred;
+	private boolean jdbcTransactionBeginPending;
 
 	public LogicalConnectionManagedImpl(
 			JdbcConnectionAccess jdbcConnectionAccess,
 			JdbcSessionContext jdbcSessionContext,
 			SqlExceptionHelper sqlExceptionHelper,
 			ResourceRegistry resourceRegistry) {
+		this( jdbcConnectionAccess, jdbcSessionContext, sqlExceptionHelper, resourceRegistry, null );
+	}
+
+	/**
+	 * @param statementCache the cache of prepared statements used by the given
+	 *                       {@link ResourceRegistry}, which is cleared whenever
+	 *                       the physical connection is released
+	 */
+	public LogicalConnectionManagedImpl(
+			JdbcConnectionAccess jdbcConnectionAccess,
+			JdbcSessionContext jdbcSessionContext,
+			SqlExceptionHelper sqlExceptionHelper,
+			ResourceRegistry resourceRegistry,
+			PreparedStatementCache statementCache) {
 		this.jdbcConnectionAccess = jdbcConnectionAccess;
 		this.jdbcEventHandler = jdbcSessionContext.getEventHandler();
 		this.resourceRegistry = resourceRegistry;
+		this.statementCache = statementCache;
 
 		this.connectionHandlingMode = determineConnectionHandlingMode(
 				jdbcSessionContext.getPhysicalConnectionHandlingMode(),
@@ -71,6 +93,7 @@ public LogicalConnectionManagedImpl(
 		}
 
 		this.providerDisablesAutoCommit = jdbcSessionContext.doesConnectionProviderDisableAutoCommit();
+		this.jdbcTransactionBeginDeferred = jdbcSessionContext.isJdbcTransactionBeginDeferred();
 		if ( providerDisablesAutoCommit ) {
 			log.debug(
 					"`hibernate.connection.provider_disables_autocommit` was enabled.  This setting should only be " +
@@ -120,10 +143,20 @@ private LogicalConnectionManagedImpl(
 	}
 
 	private Connection acquireConnectionIfNeeded() {
+		return acquireConnectionIfNeeded( false );
+	}
+
+	private Connection acquireConnectionIfNeeded(boolean readOnly) {
 		if ( physicalConnection == null ) {
 			jdbcEventHandler.jdbcConnectionAcquisitionStart();
 			try {
-				physicalConnection = jdbcConnectionAccess.obtainConnection();
+				if ( readOnly && jdbcConnectionAccess.supportsReadOnlyConnections() ) {
+					physicalConnection = jdbcConnectionAccess.obtainReadOnlyConnection();
+					physicalConnectionReadOnly = true;
+				}
+				else {
+					physicalConnection = jdbcConnectionAccess.obtainConnection();
+				}
 			}
 			catch ( SQLException e ) {
 				throw sqlExceptionHelper.convert( e, "Unable to acquire JDBC Connection" );
@@ -131,6 +164,13 @@ private Connection acquireConnectionIfNeeded() {
 			finally {
 				jdbcEventHandler.jdbcConnectionAcquisitionEnd( physicalConnection );
 			}
+			if ( jdbcTransactionBeginPending ) {
+				jdbcTransactionBeginPending = false;
+				log.trace( "Beginning deferred JDBC transaction" );
+				initiallyAutoCommit = !providerDisablesAutoCommit
+						&& determineInitialAutoCommitMode( physicalConnection );
+				beginJdbcTransaction();
+			}
 		}
 		return physicalConnection;
 	}
@@ -156,6 +196,48 @@ public Connection getPhysicalConnection() {
 		return acquireConnectionIfNeeded();
 	}
 
+	@Override
+	public Connection getReadOnlyPhysicalConnection() {
+		errorIfClosed();
+		return acquireConnectionIfNeeded( true );
+	}
+
+	@Override
+	public Connection getReadWritePhysicalConnection() {
+		errorIfClosed();
+		if ( physicalConnectionReadOnly ) {
+			switchToReadWriteConnection();
+		}
+		return acquireConnectionIfNeeded();
+	}
+
+	/**
+	 * Release a connection obtained for work which only reads, so that the
+	 * next connection is obtained from the primary database. A transaction
+	 * begun on the read-only connection has read nothing worth keeping, so
+	 * it is rolled back, and begun again on the new connection.
+	 */
+	private void switchToReadWriteConnection() {
+		if ( getResourceRegistry().hasRegisteredResources() ) {
+			throw new HibernateException(
+					"Unable to obtain a read-write JDBC Connection while JDBC resources obtained from a read-only connection are still open" );
+		}
+		log.debug( "Releasing read-only JDBC Connection before write" );
+		if ( getStatus() == TransactionStatus.ACTIVE ) {
+			try {
+				physicalConnection.rollback();
+				if ( initiallyAutoCommit ) {
+					physicalConnection.setAutoCommit( true );
+				}
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert( e, "Unable to end transaction on read-only JDBC Connection" );
+			}
+			jdbcTransactionBeginPending = true;
+		}
+		releaseConnection();
+	}
+
 	@Override
 	public void afterStatement() {
 		super.afterStatement();
@@ -226,9 +308,14 @@ private void releaseConnection() {
 		// which will trigger "logicalConnection.afterStatement()",
 		// which in some configurations will release the connection.
 		this.physicalConnection = null;
+		this.physicalConnectionReadOnly = false;
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				if ( statementCache != null ) {
+					// cached statements belong to the physical connection
+					statementCache.clear();
+				}
 				if ( !localVariableConnection.isClosed() ) {
 					sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 				}
@@ -291,13 +378,23 @@ protected Connection getConnectionForTransactionManagement() {
 
 	@Override
 	public void begin() {
-		initiallyAutoCommit = !doConnectionsFromProviderHaveAutoCommitDisabled()
-				&& determineInitialAutoCommitMode( getConnectionForTransactionManagement() );
-		super.begin();
+		if ( jdbcTransactionBeginDeferred && !isPhysicallyConnected() ) {
+			// the JDBC transaction is begun when a connection is first acquired,
+			// so a transaction which never executes SQL never takes a connection
+			log.trace( "Deferring JDBC transaction begin until a connection is acquired" );
+			jdbcTransactionBeginPending = true;
+			deferredBegin();
+		}
+		else {
+			initiallyAutoCommit = !doConnectionsFromProviderHaveAutoCommitDisabled()
+					&& determineInitialAutoCommitMode( getConnectionForTransactionManagement() );
+			super.begin();
+		}
 	}
 
 	@Override
 	protected void afterCompletion() {
+		jdbcTransactionBeginPending = false;
 		resetConnection( initiallyAutoCommit );
 		initiallyAutoCommit = false;
 
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A least-recently-used cache of idle {@link PreparedStatement}s belonging to a
+ * single physical JDBC connection, keyed by SQL and result set options.
+ * <p>
+ * A statement prepared through the cache is {@linkplain #track tracked} until it
+ * is {@linkplain #checkIn checked in} again by the {@link ResourceRegistryStandardImpl},
+ * at which point its parameters, fetch size, max rows, query timeout and warnings
+ * are reset, and it becomes available to the next {@linkplain #checkOut check out}
+ * of the same SQL. The cache must be {@linkplain #clear cleared} before the physical
+ * connection is released, since its statements are bound to that connection.
+ * <p>
+ * Like the rest of the logical connection, this class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#STATEMENT_CACHE_SIZE
+ *
+ * @since 7.0
+ */
+public final class PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCache.class );
+
+	private record Key(String sql, int resultSetType, int resultSetConcurrency) {
+	}
+
+	private record Tracked(Key key, int initialFetchSize) {
+	}
+
+	private record IdleStatement(PreparedStatement statement, int initialFetchSize) {
+	}
+
+	private final int maxSize;
+	private final LinkedHashMap<Key, IdleStatement> idleStatements;
+	private final IdentityHashMap<Statement, Tracked> checkedOutStatements = new IdentityHashMap<>();
+
+	public PreparedStatementCache(int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "Statement cache size must be positive" );
+		}
+		this.maxSize = maxSize;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * Obtain an idle statement previously prepared for the given SQL and result
+	 * set options, removing it from the cache until it is checked in again.
+	 *
+	 * @return the cached statement, or {@code null} if there is none
+	 */
+	public @Nullable PreparedStatement checkOut(String sql, int resultSetType, int resultSetConcurrency) {
+		final Key key = new Key( sql, resultSetType, resultSetConcurrency );
+		final IdleStatement idle = idleStatements.remove( key );
+		if ( idle == null ) {
+			return null;
+		}
+		final PreparedStatement statement = idle.statement();
+		try {
+			if ( statement.isClosed() ) {
+				return null;
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reuse cached JDBC statement [%s]", e.getMessage() );
+			close( statement );
+			return null;
+		}
+		log.tracef( "Reusing cached prepared statement [%s]", statement );
+		checkedOutStatements.put( statement, new Tracked( key, idle.initialFetchSize() ) );
+		return statement;
+	}
+
+	/**
+	 * Start tracking a statement which was just prepared for the given SQL and
+	 * result set options, so that it is cached rather than closed when released.
+	 */
+	public void track(PreparedStatement statement, String sql, int resultSetType, int resultSetConcurrency)
+			throws SQLException {
+		final Key key = new Key( sql, resultSetType, resultSetConcurrency );
+		checkedOutStatements.put( statement, new Tracked( key, statement.getFetchSize() ) );
+	}
+
+	/**
+	 * Return a released statement to the cache, after resetting its state.
+	 *
+	 * @return {@code false} if the statement is not cacheable, or could not be
+	 *         reset, in which case the caller is responsible for closing it
+	 */
+	public boolean checkIn(Statement statement) {
+		final Tracked tracked = checkedOutStatements.remove( statement );
+		if ( tracked == null ) {
+			return false;
+		}
+		final PreparedStatement preparedStatement = (PreparedStatement) statement;
+		try {
+			if ( preparedStatement.isClosed() ) {
+				return false;
+			}
+			preparedStatement.clearParameters();
+			preparedStatement.clearBatch();
+			if ( preparedStatement.getMaxRows() != 0 ) {
+				preparedStatement.setMaxRows( 0 );
+			}
+			if ( preparedStatement.getQueryTimeout() != 0 ) {
+				preparedStatement.setQueryTimeout( 0 );
+			}
+			if ( preparedStatement.getFetchSize() != tracked.initialFetchSize() ) {
+				preparedStatement.setFetchSize( tracked.initialFetchSize() );
+			}
+			preparedStatement.clearWarnings();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		log.tracef( "Caching prepared statement [%s]", statement );
+		final IdleStatement previous =
+				idleStatements.put( tracked.key(), new IdleStatement( preparedStatement, tracked.initialFetchSize() ) );
+		if ( previous != null ) {
+			// the same SQL was executed concurrently, keep only one of the statements
+			close( previous.statement() );
+		}
+		else if ( idleStatements.size() > maxSize ) {
+			final Iterator<IdleStatement> eldest = idleStatements.values().iterator();
+			close( eldest.next().statement() );
+			eldest.remove();
+		}
+		return true;
+	}
+
+	/**
+	 * Close all idle statements, and forget any checked out statements, which
+	 * will then be closed normally when released.
+	 */
+	public void clear() {
+		if ( !idleStatements.isEmpty() ) {
+			log.tracef( "Closing %s cached prepared statements", idleStatements.size() );
+			for ( Map.Entry<Key, IdleStatement> entry : idleStatements.entrySet() ) {
+				close( entry.getValue().statement() );
+			}
+			idleStatements.clear();
+		}
+		checkedOutStatements.clear();
+	}
+
+	public int getIdleStatementCount() {
+		return idleStatements.size();
+	}
+
+	private static void close(PreparedStatement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to release cached JDBC statement [%s]", e.getMessage() );
+		}
+		catch (Exception e) {
+			// try to handle general errors more elegantly
+			log.debugf( "Unable to release cached JDBC statement [%s]", e.getMessage() );
+		}
+	}
+}
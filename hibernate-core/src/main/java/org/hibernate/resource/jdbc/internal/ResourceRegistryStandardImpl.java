@@ -48,6 +48,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcEventHandler jdbcEventHandler;
+	private final PreparedStatementCache statementCache;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -63,7 +64,16 @@ public ResourceRegistryStandardImpl() {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler) {
+		this( jdbcEventHandler, null );
+	}
+
+	/**
+	 * @param statementCache if not {@code null}, released statements are returned
+	 *                       to this cache rather than closed, when possible
+	 */
+	public ResourceRegistryStandardImpl(JdbcEventHandler jdbcEventHandler, PreparedStatementCache statementCache) {
 		this.jdbcEventHandler = jdbcEventHandler;
+		this.statementCache = statementCache;
 	}
 
 	@Override
@@ -103,7 +113,7 @@ public void release(Statement statement) {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		closeOrCache( statement );
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -158,9 +168,15 @@ private static void closeAll(final HashMap<ResultSet,Object> resultSets) {
 		resultSets.clear();
 	}
 
-	private static void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
+	private void releaseXref(final Statement s, final HashMap<ResultSet, Object> r) {
 		closeAll( r );
-		close( s );
+		closeOrCache( s );
+	}
+
+	private void closeOrCache(Statement statement) {
+		if ( statementCache == null || !statementCache.checkIn( statement ) ) {
+			close( statement );
+		}
 	}
 
 	private static void close(final ResultSet resultSet) {
@@ -329,7 +345,7 @@ public void releaseResources() {
 			jdbcEventHandler.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		xref.forEach( this::releaseXref );
 		xref.clear();
 
 		closeAll( unassociatedResultSets );
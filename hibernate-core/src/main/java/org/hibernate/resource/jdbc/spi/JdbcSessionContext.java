@@ -30,11 +30,29 @@ public interface JdbcSessionContext {
 	 */
 	Integer getFetchSizeOrNull();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT
 	 */
 	boolean doesConnectionProviderDisableAutoCommit();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#DEFER_JDBC_TRANSACTION_BEGIN
+	 *
+	 * @since 7.0
+	 */
+	default boolean isJdbcTransactionBeginDeferred() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#PREFER_USER_TRANSACTION
 	 */
@@ -8,6 +8,7 @@
 import java.io.ObjectOutputStream;
 import java.sql.Connection;
 
+import org.hibernate.Incubating;
 import org.hibernate.resource.jdbc.LogicalConnection;
 
 /**
@@ -25,6 +26,37 @@ public interface LogicalConnectionImplementor extends LogicalConnection {
 	 */
 	Connection getPhysicalConnection();
 
+	/**
+	 * Exposes access to a "real" {@link Connection} for work which only reads
+	 * data. If there is no current connection, the connection obtained may be
+	 * a connection to a read replica.
+	 *
+	 * @return The connection
+	 *
+	 * @see org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess#obtainReadOnlyConnection()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Connection getReadOnlyPhysicalConnection() {
+		return getPhysicalConnection();
+	}
+
+	/**
+	 * Exposes access to a "real" {@link Connection} for work which might write.
+	 * If the current connection was obtained for work which only reads data,
+	 * it is first released, and a connection to the primary database obtained
+	 * in its place.
+	 *
+	 * @return The connection
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Connection getReadWritePhysicalConnection() {
+		return getPhysicalConnection();
+	}
+
 	PhysicalConnectionHandlingMode getConnectionHandlingMode();
 
 	/**
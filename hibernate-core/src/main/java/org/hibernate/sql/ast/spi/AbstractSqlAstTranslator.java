@@ -33,6 +33,8 @@
 import org.hibernate.engine.jdbc.Size;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.internal.FilterJdbcParameter;
 import org.hibernate.internal.util.MathHelper;
 import org.hibernate.internal.util.QuotingHelper;
@@ -754,13 +756,18 @@ private static CteContainer matchCteContainerByStatement(final Statement stmt, f
 
 	@Override
 	public T translate(JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+		final EventMonitor eventMonitor = sessionFactory.getEventMonitor();
+		final DiagnosticEvent sqlRenderingEvent = eventMonitor.beginSqlRenderingEvent();
+		String sql = null;
 		try {
 			this.jdbcParameterBindings = jdbcParameterBindings;
 
 			final Statement statement = statementStack.pop();
 
 			if ( statement instanceof TableMutation ) {
-				return translateTableMutation( (TableMutation<?>) statement );
+				final T jdbcMutation = translateTableMutation( (TableMutation<?>) statement );
+				sql = jdbcMutation.getSqlString();
+				return jdbcMutation;
 			}
 
 			this.lockOptions = queryOptions.getLockOptions().makeCopy();
@@ -782,10 +789,12 @@ else if ( statement instanceof SelectStatement ) {
 				throw new IllegalArgumentException( "Unexpected statement - " + statement );
 			}
 
+			sql = jdbcOperation.getSqlString();
 			//noinspection unchecked
 			return (T) jdbcOperation;
 		}
 		finally {
+			eventMonitor.completeSqlRenderingEvent( sqlRenderingEvent, sql );
 			cleanup();
 		}
 	}
@@ -7739,6 +7748,10 @@ public void visitInListPredicate(InListPredicate inListPredicate) {
 			appendSql( "1=" + ( inListPredicate.isNegated() ? "1" : "0" ) );
 			return;
 		}
+		if ( isRenderedAsValuesTable( inListPredicate ) ) {
+			renderInListAsValuesTable( inListPredicate );
+			return;
+		}
 		Function<Expression, Expression> itemAccessor = Function.identity();
 		final SqlTuple lhsTuple;
 		if ( ( lhsTuple = SqlTupleContainer.getSqlTuple( inListPredicate.getTestExpression() ) ) != null ) {
@@ -7843,6 +7856,102 @@ else if ( !supportsRowValueConstructorSyntaxInInList() ) {
 		}
 	}
 
+	/**
+	 * Whether the given {@code IN} predicate has enough elements to be rendered
+	 * as a subquery over a {@code VALUES} derived table.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_VALUES_THRESHOLD
+	 */
+	protected boolean isRenderedAsValuesTable(InListPredicate inListPredicate) {
+		final int threshold = getSessionFactory().getSessionFactoryOptions().getInClauseValuesThreshold();
+		final List<Expression> listExpressions = inListPredicate.getListExpressions();
+		if ( threshold <= 0 || listExpressions.size() <= threshold || !dialect.supportsValuesList() ) {
+			return false;
+		}
+		final SqlTuple lhsTuple = SqlTupleContainer.getSqlTuple( inListPredicate.getTestExpression() );
+		if ( lhsTuple != null && lhsTuple.getExpressions().size() > 1
+				&& !supportsRowValueConstructorSyntaxInInSubQuery() ) {
+			return false;
+		}
+		for ( Expression listExpression : listExpressions ) {
+			for ( Expression element : valuesRow( listExpression ) ) {
+				if ( !( element instanceof JdbcParameter
+						|| element instanceof SqmParameterInterpretation
+						|| element instanceof Literal ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Render an {@code IN} predicate as a subquery over a {@code VALUES} derived table,
+	 * which is not subject to the {@linkplain Dialect#getInExpressionCountLimit limit}
+	 * on the number of elements of an {@code IN} list.
+	 */
+	protected void renderInListAsValuesTable(InListPredicate inListPredicate) {
+		final List<Expression> listExpressions = inListPredicate.getListExpressions();
+		final SqlTuple lhsTuple = SqlTupleContainer.getSqlTuple( inListPredicate.getTestExpression() );
+		final int arity = lhsTuple == null ? 1 : lhsTuple.getExpressions().size();
+
+		int rowCount = listExpressions.size();
+		if ( getSessionFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() ) {
+			final int paddedRowCount = MathHelper.ceilingPowerOfTwo( rowCount );
+			final int parameterCountLimit = dialect.getParameterCountLimit();
+			if ( parameterCountLimit <= 0 || paddedRowCount * arity <= parameterCountLimit ) {
+				rowCount = paddedRowCount;
+			}
+		}
+
+		if ( lhsTuple != null && arity == 1 ) {
+			lhsTuple.getExpressions().get( 0 ).accept( this );
+		}
+		else {
+			inListPredicate.getTestExpression().accept( this );
+		}
+		if ( inListPredicate.isNegated() ) {
+			appendSql( " not" );
+		}
+		appendSql( " in (select * from (values " );
+		for ( int i = 0; i < rowCount; i++ ) {
+			if ( i != 0 ) {
+				appendSql( COMMA_SEPARATOR_CHAR );
+			}
+			// padding reuses the last row
+			final List<? extends Expression> row =
+					valuesRow( listExpressions.get( Math.min( i, listExpressions.size() - 1 ) ) );
+			appendSql( OPEN_PARENTHESIS );
+			for ( int j = 0; j < row.size(); j++ ) {
+				if ( j != 0 ) {
+					appendSql( COMMA_SEPARATOR_CHAR );
+				}
+				if ( i == 0 ) {
+					// the column types of the derived table are inferred from the first row
+					render( row.get( j ), SqlAstNodeRenderingMode.NO_PLAIN_PARAMETER );
+				}
+				else {
+					row.get( j ).accept( this );
+				}
+			}
+			appendSql( CLOSE_PARENTHESIS );
+		}
+		appendSql( ") v_(" );
+		for ( int j = 0; j < arity; j++ ) {
+			if ( j != 0 ) {
+				appendSql( COMMA_SEPARATOR_CHAR );
+			}
+			appendSql( 'c' );
+			appendSql( j );
+		}
+		appendSql( "))" );
+	}
+
+	private static List<? extends Expression> valuesRow(Expression listExpression) {
+		final SqlTuple tuple = SqlTupleContainer.getSqlTuple( listExpression );
+		return tuple == null ? List.of( listExpression ) : tuple.getExpressions();
+	}
+
 	private void appendInClauseSeparator(InListPredicate inListPredicate) {
 		appendSql( CLOSE_PARENTHESIS );
 		appendSql( inListPredicate.isNegated() ? " and " : " or " );
@@ -7867,6 +7976,10 @@ private static int addPadding(int bindValueCount, int inExprLimit) {
 
 	@Override
 	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		if ( inArrayPredicate.isTupleComparison() ) {
+			renderTupleInArrayPredicate( inArrayPredicate );
+			return;
+		}
 		sqlBuffer.append( "array_contains(" );
 		inArrayPredicate.getArrayParameter().accept( this );
 		sqlBuffer.append( "," );
@@ -7874,6 +7987,20 @@ public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
 		sqlBuffer.append( ')' );
 	}
 
+	/**
+	 * Render an {@link InArrayPredicate} with a tuple as its test expression,
+	 * by unnesting the parallel array parameters.
+	 *
+	 * @see org.hibernate.dialect.Dialect#useArraysForMultiValuedTupleParameters()
+	 */
+	protected void renderTupleInArrayPredicate(InArrayPredicate inArrayPredicate) {
+		// (c1,c2) in (select * from unnest(?,?) t)
+		inArrayPredicate.getTestExpression().accept( this );
+		appendSql( " in (select * from unnest(" );
+		renderCommaSeparated( inArrayPredicate.getArrayParameters() );
+		appendSql( ") t)" );
+	}
+
 	@Override
 	public void visitInSubQueryPredicate(InSubQueryPredicate inSubQueryPredicate) {
 		final SqlTuple lhsTuple;
@@ -391,7 +391,9 @@ public void visitInListPredicate(InListPredicate inListPredicate) {
 	@Override
 	public void visitInArrayPredicate(InArrayPredicate predicate) {
 		predicate.getTestExpression().accept( this );
-		predicate.getArrayParameter().accept( this );
+		for ( JdbcParameter arrayParameter : predicate.getArrayParameters() ) {
+			arrayParameter.accept( this );
+		}
 	}
 
 	@Override
@@ -346,7 +346,12 @@ public void visitInListPredicate(InListPredicate inListPredicate) {
 	@Override
 	public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
 		final Expression replacedTestExpression = replaceExpression( inArrayPredicate.getTestExpression() );
-		returnedNode = new InArrayPredicate( replacedTestExpression, inArrayPredicate.getArrayParameter() );
+		if ( inArrayPredicate.isTupleComparison() && replacedTestExpression instanceof SqlTuple tuple ) {
+			returnedNode = new InArrayPredicate( tuple, inArrayPredicate.getArrayParameters() );
+		}
+		else {
+			returnedNode = new InArrayPredicate( replacedTestExpression, inArrayPredicate.getArrayParameter() );
+		}
 	}
 
 	@Override
@@ -4,34 +4,73 @@
  */
 package org.hibernate.sql.ast.tree.predicate;
 
+import java.util.List;
+
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.sql.ast.SqlAstWalker;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.SqlTuple;
 
 /**
+ * Tests whether a value is contained in an array bound to a single parameter.
+ * <p>
+ * The test expression may also be a {@linkplain SqlTuple tuple}, in which case
+ * there is one array parameter for each element of the tuple, and the arrays
+ * are "parallel", that is, the tuple values are formed by zipping the arrays.
+ *
+ * @see org.hibernate.dialect.Dialect#useArraysForMultiValuedTupleParameters()
+ *
  * @author Steve Ebersole
  */
 public class InArrayPredicate extends AbstractPredicate {
 	private final Expression testExpression;
-	private final JdbcParameter arrayParameter;
+	private final List<JdbcParameter> arrayParameters;
 
 	public InArrayPredicate(Expression testExpression, JdbcParameter arrayParameter, JdbcMappingContainer expressionType) {
 		super( expressionType );
 		this.testExpression = testExpression;
-		this.arrayParameter = arrayParameter;
+		this.arrayParameters = List.of( arrayParameter );
 	}
 
 	public InArrayPredicate(Expression testExpression, JdbcParameter arrayParameter) {
 		this( testExpression, arrayParameter, null );
 	}
 
+	/**
+	 * @since 7.0
+	 */
+	public InArrayPredicate(SqlTuple testExpression, List<JdbcParameter> arrayParameters) {
+		super( null );
+		assert testExpression.getExpressions().size() == arrayParameters.size();
+		this.testExpression = testExpression;
+		this.arrayParameters = List.copyOf( arrayParameters );
+	}
+
 	public Expression getTestExpression() {
 		return testExpression;
 	}
 
 	public JdbcParameter getArrayParameter() {
-		return arrayParameter;
+		return arrayParameters.get( 0 );
+	}
+
+	/**
+	 * The array parameters, one for each element of the test expression
+	 *
+	 * @since 7.0
+	 */
+	public List<JdbcParameter> getArrayParameters() {
+		return arrayParameters;
+	}
+
+	/**
+	 * Whether the test expression is a tuple, matched against parallel arrays
+	 *
+	 * @since 7.0
+	 */
+	public boolean isTupleComparison() {
+		return arrayParameters.size() > 1;
 	}
 
 	@Override
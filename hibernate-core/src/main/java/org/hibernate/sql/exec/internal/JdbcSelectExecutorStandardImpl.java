@@ -11,6 +11,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.internal.LazyLoadTracker;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -26,6 +27,7 @@
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
+import org.hibernate.sql.results.jdbc.internal.AdaptiveFetchSize;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
@@ -136,6 +138,7 @@ private <T, R> T doExecuteQuery(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
+				resultsConsumer.readsUnboxedValues(),
 				executionContext,
 				deferredResultSetAccess
 		);
@@ -161,6 +164,14 @@ private <T, R> T doExecuteQuery(
 
 		final SharedSessionContractImplementor session = executionContext.getSession();
 
+		if ( executionContext.hasQueryExecutionToBeAddedToStatistics() ) {
+			// remember the query, in case the results it returns go on to be lazily fetched one by one
+			final LazyLoadTracker lazyLoadTracker = session.getLoadQueryInfluencers().getLazyLoadTracker();
+			if ( lazyLoadTracker != null ) {
+				lazyLoadTracker.queryExecuted( executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ) );
+			}
+		}
+
 		final boolean stats;
 		long startTime = 0;
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
@@ -252,6 +263,7 @@ private JdbcValues resolveJdbcValuesSource(
 			String queryIdentifier,
 			JdbcOperationQuerySelect jdbcSelect,
 			boolean canBeCached,
+			boolean unboxedValues,
 			ExecutionContext executionContext,
 			DeferredResultSetAccess resultSetAccess) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
@@ -345,6 +357,8 @@ private JdbcValues resolveJdbcValuesSource(
 				metadataForCache = capturingMetadata.resolveMetadataForCache();
 			}
 
+			applyAdaptiveFetchSize( jdbcSelect, jdbcValuesMapping, executionContext, resultSetAccess );
+
 			return new JdbcValuesResultSetImpl(
 					resultSetAccess,
 					queryResultsCacheKey,
@@ -353,7 +367,8 @@ private JdbcValues resolveJdbcValuesSource(
 					resultSetAccess.usesFollowOnLocking(),
 					jdbcValuesMapping,
 					metadataForCache,
-					executionContext
+					executionContext,
+					unboxedValues
 			);
 		}
 		else {
@@ -368,6 +383,30 @@ private JdbcValues resolveJdbcValuesSource(
 		}
 	}
 
+	private static void applyAdaptiveFetchSize(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcValuesMapping jdbcValuesMapping,
+			ExecutionContext executionContext,
+			DeferredResultSetAccess resultSetAccess) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final long memoryBudget = factory.getSessionFactoryOptions().getJdbcFetchSizeMemoryBudget();
+		if ( memoryBudget > 0 && executionContext.hasQueryExecutionToBeAddedToStatistics() ) {
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				// the same identifier under which the execution is reported by doExecuteQuery()
+				final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
+				final int fetchSize = AdaptiveFetchSize.determineFetchSize(
+						statistics.getQueryStatistics( queryIdentifier ),
+						jdbcValuesMapping,
+						memoryBudget
+				);
+				if ( fetchSize > 0 ) {
+					resultSetAccess.applyFetchSizeHint( fetchSize );
+				}
+			}
+		}
+	}
+
 	static class CapturingJdbcValuesMetadata implements JdbcValuesMetadata {
 		private final ResultSetAccess resultSetAccess;
 		private String[] columnNames;
@@ -7,7 +7,10 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
+import org.hibernate.LockMode;
 import org.hibernate.ScrollMode;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 
@@ -41,9 +44,19 @@ private StandardStatementCreator(@Nullable ScrollMode scrollMode) {
 
 	@Override
 	public PreparedStatement createStatement(ExecutionContext executionContext, String sql) throws SQLException {
-		return executionContext.getSession()
-				.getJdbcCoordinator()
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return session.getJdbcCoordinator()
 				.getStatementPreparer()
-				.prepareQueryStatement( sql, false, scrollMode );
+				.prepareQueryStatement( sql, false, scrollMode, isReadOnly( executionContext, session ) );
+	}
+
+	/**
+	 * Does the query only read, so that it could be executed on a read replica?
+	 */
+	private static boolean isReadOnly(ExecutionContext executionContext, SharedSessionContractImplementor session) {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final Boolean readOnly = queryOptions.isReadOnly();
+		return ( readOnly == null ? session.isDefaultReadOnly() || session.isStatelessSession() : readOnly )
+			&& !queryOptions.getLockOptions().getLockMode().greaterThan( LockMode.READ );
 	}
 }
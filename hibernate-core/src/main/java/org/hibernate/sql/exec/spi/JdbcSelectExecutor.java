@@ -173,7 +173,7 @@ default <R> ScrollableResultsImplementor<R> scroll(
 				null,
 				resultCountEstimate,
 				StandardStatementCreator.getStatementCreator( scrollMode ),
-				ScrollableResultsConsumer.instance()
+				ScrollableResultsConsumer.instance( scrollMode, executionContext )
 		);
 	}
 
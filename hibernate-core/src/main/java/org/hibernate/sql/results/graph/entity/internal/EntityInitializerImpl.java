@@ -1400,7 +1400,7 @@ protected void initializeEntityInstance(EntityInitializerData data) {
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
 			if ( !rowProcessingState.isQueryCacheHit() ) {
-				statistics.loadEntity( data.concreteDescriptor.getEntityName() );
+				statistics.loadEntity( data.concreteDescriptor );
 			}
 		}
 		updateCaches(
@@ -9,17 +9,21 @@
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import org.hibernate.bytecode.spi.ConstructorInvoker;
 import org.hibernate.query.sqm.sql.internal.InstantiationException;
 import org.hibernate.sql.results.graph.DomainResultAssembler;
 import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
 	private final Constructor<R> targetConstructor;
+	private final @Nullable ConstructorInvoker constructorInvoker;
 	private final JavaType<R> resultType;
 	private final List<ArgumentReader<?>> argumentReaders;
 
@@ -27,7 +31,20 @@ public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
 			JavaType<R> resultType,
 			List<ArgumentReader<?>> argumentReaders) {
+		this( targetConstructor, null, resultType, argumentReaders );
+	}
+
+	/**
+	 * @param constructorInvoker a generated invoker for the target constructor, used instead
+	 *                           of reflection when available
+	 */
+	public DynamicInstantiationAssemblerConstructorImpl(
+			Constructor<R> targetConstructor,
+			@Nullable ConstructorInvoker constructorInvoker,
+			JavaType<R> resultType,
+			List<ArgumentReader<?>> argumentReaders) {
 		this.targetConstructor = targetConstructor;
+		this.constructorInvoker = constructorInvoker;
 		this.resultType = resultType;
 		this.argumentReaders = argumentReaders;
 	}
@@ -45,19 +62,35 @@ public R assemble(RowProcessingState rowProcessingState) {
 			args[i] = argumentReaders.get( i ).assemble( rowProcessingState );
 		}
 
-		try {
-			return targetConstructor.newInstance( args );
-		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e.getCause() );
+		if ( constructorInvoker != null ) {
+			try {
+				//noinspection unchecked
+				return (R) constructorInvoker.newInstance( args );
+			}
+			catch (RuntimeException | Error e) {
+				// the generated invoker calls the constructor directly, so what the
+				// constructor throws is not wrapped in an InvocationTargetException
+				throw instantiationException( e );
+			}
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e );
+		else {
+			try {
+				return targetConstructor.newInstance( args );
+			}
+			catch (InvocationTargetException e) {
+				throw instantiationException( e.getCause() );
+			}
+			catch (Exception e) {
+				throw instantiationException( e );
+			}
 		}
 	}
 
+	private InstantiationException instantiationException(Throwable cause) {
+		return new InstantiationException( "Error instantiating class '"
+				+ targetConstructor.getDeclaringClass().getName() + "'", cause );
+	}
+
 	@Override
 	public void resolveState(RowProcessingState rowProcessingState) {
 		for ( ArgumentReader<?> argumentReader : argumentReaders ) {
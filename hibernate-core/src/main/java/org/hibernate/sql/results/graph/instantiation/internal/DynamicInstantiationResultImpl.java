@@ -25,6 +25,7 @@
 
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.findMatchingConstructor;
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.resolveConstructorInvoker;
 
 /**
  * @author Steve Ebersole
@@ -171,7 +172,15 @@ private DomainResultAssembler<R> assembler(
 		);
 		if ( constructor != null ) {
 			constructor.setAccessible( true );
-			return new DynamicInstantiationAssemblerConstructorImpl<>( constructor, javaType, argumentReaders );
+			return new DynamicInstantiationAssemblerConstructorImpl<>(
+					constructor,
+					resolveConstructorInvoker(
+							constructor,
+							creationState.getSqlAstCreationContext().getSessionFactory().getServiceRegistry()
+					),
+					javaType,
+					argumentReaders
+			);
 		}
 
 		if ( log.isDebugEnabled() ) {
@@ -4,8 +4,12 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ConstructorInvoker;
 import org.hibernate.internal.util.beans.BeanInfoHelper;
+import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.spi.TypeConfiguration;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 import java.beans.BeanInfo;
@@ -54,6 +58,17 @@ private static boolean checkArgument(Class<?> targetJavaType, BeanInfo beanInfo,
 		return findField( targetJavaType, alias, argType ) != null;
 	}
 
+	/**
+	 * Obtain a generated {@link ConstructorInvoker} for the given constructor,
+	 * if the {@link BytecodeProvider} is able to generate one.
+	 */
+	public static @Nullable ConstructorInvoker resolveConstructorInvoker(
+			Constructor<?> constructor,
+			ServiceRegistry serviceRegistry) {
+		final BytecodeProvider bytecodeProvider = serviceRegistry.getService( BytecodeProvider.class );
+		return bytecodeProvider == null ? null : bytecodeProvider.getConstructorInvoker( constructor );
+	}
+
 	public static boolean isConstructorCompatible(Class<?> javaClass, List<Class<?>> argTypes, TypeConfiguration typeConfiguration) {
 		return findMatchingConstructor( javaClass, argTypes, typeConfiguration ) != null;
 	}
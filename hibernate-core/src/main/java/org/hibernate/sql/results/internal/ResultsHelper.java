@@ -117,7 +117,7 @@ public static void finalizeCollectionLoading(
 
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
-			statistics.loadCollection( collectionDescriptor.getRole() );
+			statistics.loadCollection( collectionDescriptor );
 		}
 
 		// todo (6.0) : there is other logic still needing to be implemented here.  caching, etc
@@ -6,17 +6,23 @@
 
 import jakarta.persistence.TupleElement;
 import org.hibernate.InstantiationException;
+import org.hibernate.bytecode.spi.ConstructorInvoker;
 import org.hibernate.sql.results.spi.RowTransformer;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.tree.SqmExpressibleAccessor;
+import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.spi.TypeConfiguration;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import static java.util.stream.Collectors.toList;
 import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.findMatchingConstructor;
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.resolveConstructorInvoker;
 
 /**
  * {@link RowTransformer} instantiating an arbitrary class
@@ -26,11 +32,13 @@
 public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	private final Class<T> type;
 	private final Constructor<T> constructor;
+	private final @Nullable ConstructorInvoker constructorInvoker;
 
 	public RowTransformerConstructorImpl(
 			Class<T> type,
 			TupleMetadata tupleMetadata,
-			TypeConfiguration typeConfiguration) {
+			TypeConfiguration typeConfiguration,
+			ServiceRegistry serviceRegistry) {
 		this.type = type;
 		final List<TupleElement<?>> elements = tupleMetadata.getList();
 		final List<Class<?>> argumentTypes = elements.stream()
@@ -46,6 +54,7 @@ public RowTransformerConstructorImpl(
 			throw new InstantiationException( "Cannot instantiate query result type, found no matching constructor", type );
 		}
 		constructor.setAccessible( true );
+		constructorInvoker = resolveConstructorInvoker( constructor, serviceRegistry );
 	}
 
 	private static Class<?> resolveElementJavaType(TupleElement<?> element) {
@@ -61,11 +70,27 @@ private static Class<?> resolveElementJavaType(TupleElement<?> element) {
 
 	@Override
 	public T transformRow(Object[] row) {
-		try {
-			return constructor.newInstance( row );
+		if ( constructorInvoker != null ) {
+			try {
+				//noinspection unchecked
+				return (T) constructorInvoker.newInstance( row );
+			}
+			catch (RuntimeException | Error e) {
+				// the generated invoker calls the constructor directly, so what the
+				// constructor throws is not wrapped in an InvocationTargetException
+				throw new InstantiationException( "Cannot instantiate query result type", type, e );
+			}
 		}
-		catch (Exception e) {
-			throw new InstantiationException( "Cannot instantiate query result type", type, e );
+		else {
+			try {
+				return constructor.newInstance( row );
+			}
+			catch (InvocationTargetException e) {
+				throw new InstantiationException( "Cannot instantiate query result type", type, e.getCause() );
+			}
+			catch (Exception e) {
+				throw new InstantiationException( "Cannot instantiate query result type", type, e );
+			}
 		}
 	}
 
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.List;
+
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.stat.QueryStatistics;
+
+import static org.hibernate.type.SqlTypes.BLOB;
+import static org.hibernate.type.SqlTypes.CLOB;
+import static org.hibernate.type.SqlTypes.NCLOB;
+import static org.hibernate.type.SqlTypes.isBinaryType;
+import static org.hibernate.type.SqlTypes.isCharacterType;
+import static org.hibernate.type.SqlTypes.isFloatOrRealOrDouble;
+import static org.hibernate.type.SqlTypes.isIntegral;
+import static org.hibernate.type.SqlTypes.isTemporalType;
+
+/**
+ * Determines a JDBC fetch size for a query from the number of rows its previous
+ * executions returned, according to its {@link QueryStatistics}, and from an
+ * estimate of the width of its rows, so that fetching a typical result takes a
+ * single round trip without buffering more than a given number of bytes.
+ *
+ * @see org.hibernate.cfg.JdbcSettings#FETCH_SIZE_MEMORY_BUDGET
+ *
+ * @since 7.0
+ */
+public final class AdaptiveFetchSize {
+	// rough per-value sizes, including driver overhead
+	private static final int SMALL_VALUE_WIDTH = 16;
+	private static final int DEFAULT_VALUE_WIDTH = 32;
+	private static final int CHARACTER_VALUE_WIDTH = 64;
+	private static final int LOB_VALUE_WIDTH = 4096;
+
+	private AdaptiveFetchSize() {
+	}
+
+	/**
+	 * @param statistics the statistics of the query being executed
+	 * @param valuesMapping the resolved mapping of the result set columns
+	 * @param memoryBudget the maximum number of bytes to buffer per round trip
+	 *
+	 * @return the fetch size to use, or {@code 0} if the query has never been executed
+	 */
+	public static int determineFetchSize(
+			QueryStatistics statistics,
+			JdbcValuesMapping valuesMapping,
+			long memoryBudget) {
+		final long executionCount = statistics.getExecutionCount();
+		if ( executionCount <= 0 ) {
+			return 0;
+		}
+		// one more than the average, to avoid a second round trip
+		// just to learn that there are no more rows
+		final long typicalRowCount = statistics.getExecutionRowCount() / executionCount + 1;
+		final long rowsWithinBudget = Math.max( 1, memoryBudget / estimateRowWidth( valuesMapping ) );
+		return (int) Math.min( Integer.MAX_VALUE, Math.min( typicalRowCount, rowsWithinBudget ) );
+	}
+
+	static int estimateRowWidth(JdbcValuesMapping valuesMapping) {
+		final List<SqlSelection> sqlSelections = valuesMapping.getSqlSelections();
+		int width = 0;
+		for ( int i = 0; i < sqlSelections.size(); i++ ) {
+			width += estimateValueWidth( sqlSelections.get( i ).getExpressionType() );
+		}
+		return Math.max( width, SMALL_VALUE_WIDTH );
+	}
+
+	private static int estimateValueWidth(JdbcMappingContainer expressionType) {
+		if ( expressionType == null || expressionType.getJdbcTypeCount() != 1 ) {
+			return DEFAULT_VALUE_WIDTH;
+		}
+		final int typeCode = expressionType.getSingleJdbcMapping().getJdbcType().getDefaultSqlTypeCode();
+		if ( typeCode == BLOB || typeCode == CLOB || typeCode == NCLOB ) {
+			return LOB_VALUE_WIDTH;
+		}
+		else if ( isIntegral( typeCode ) || isFloatOrRealOrDouble( typeCode ) || isTemporalType( typeCode ) ) {
+			return SMALL_VALUE_WIDTH;
+		}
+		else if ( isCharacterType( typeCode ) || isBinaryType( typeCode ) ) {
+			return CHARACTER_VALUE_WIDTH;
+		}
+		else {
+			return DEFAULT_VALUE_WIDTH;
+		}
+	}
+}
@@ -7,7 +7,9 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -26,12 +28,17 @@
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * @author Steve Ebersole
@@ -52,9 +59,14 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private final boolean usesFollowOnLocking;
 	private final int resultCountEstimate;
 
+	private int fetchSizeHint;
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
 
+	private boolean limitParametersBound;
+	private long slowQueryExecutionTime = -1;
+	private int rowCount = -1;
+
 	public DeferredResultSetAccess(
 			JdbcOperationQuerySelect jdbcSelect,
 			JdbcParameterBindings jdbcParameterBindings,
@@ -183,6 +195,36 @@ public boolean usesFollowOnLocking() {
 		return usesFollowOnLocking;
 	}
 
+	/**
+	 * Suggest a fetch size for the query, which is only applied if no fetch size was
+	 * specified for the query, and if it is larger than the current fetch size. If the
+	 * query was already executed, the fetch size of the {@link ResultSet} is adjusted.
+	 *
+	 * @see AdaptiveFetchSize
+	 */
+	public void applyFetchSizeHint(int fetchSize) {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		if ( queryOptions != null && queryOptions.getFetchSize() != null ) {
+			return;
+		}
+		if ( resultSet == null ) {
+			fetchSizeHint = fetchSize;
+		}
+		else {
+			try {
+				if ( fetchSize > resultSet.getFetchSize() ) {
+					resultSet.setFetchSize( fetchSize );
+				}
+			}
+			catch (SQLException e) {
+				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"Unable to set fetch size on ResultSet"
+				);
+			}
+		}
+	}
+
 	protected void bindParameters(PreparedStatement preparedStatement) throws SQLException {
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
 
@@ -191,6 +233,9 @@ protected void bindParameters(PreparedStatement preparedStatement) throws SQLExc
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else if ( fetchSizeHint > preparedStatement.getFetchSize() ) {
+				preparedStatement.setFetchSize( fetchSizeHint );
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
@@ -199,7 +244,9 @@ protected void bindParameters(PreparedStatement preparedStatement) throws SQLExc
 		// bind parameters
 		// 		todo : validate that all query parameters were bound?
 		int paramBindingPosition = 1;
-		paramBindingPosition += limitHandler.bindLimitParametersAtStartOfQuery( limit, preparedStatement, paramBindingPosition );
+		final int limitParametersAtStart =
+				limitHandler.bindLimitParametersAtStartOfQuery( limit, preparedStatement, paramBindingPosition );
+		paramBindingPosition += limitParametersAtStart;
 		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
 			parameterBinder.bindParameterValue(
 					preparedStatement,
@@ -209,7 +256,10 @@ protected void bindParameters(PreparedStatement preparedStatement) throws SQLExc
 			);
 		}
 
-		paramBindingPosition += limitHandler.bindLimitParametersAtEndOfQuery( limit, preparedStatement, paramBindingPosition );
+		final int limitParametersAtEnd =
+				limitHandler.bindLimitParametersAtEndOfQuery( limit, preparedStatement, paramBindingPosition );
+		paramBindingPosition += limitParametersAtEnd;
+		limitParametersBound = limitParametersAtStart + limitParametersAtEnd > 0;
 
 		if ( !jdbcSelect.usesLimitParameters() && limit != null && limit.getMaxRows() != null ) {
 			limitHandler.setMaxRows( limit, preparedStatement );
@@ -251,6 +301,9 @@ private void executeQuery() {
 				eventListenerManager.jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( finalSql, executeStartNanos, context() );
 			}
+			if ( executeStartNanos > 0 ) {
+				slowQueryExecutionTime = slowQueryExecutionTime( executeStartNanos );
+			}
 
 			skipRows( resultSet );
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
@@ -269,6 +322,41 @@ private void executeQuery() {
 		}
 	}
 
+	/**
+	 * The execution time in milliseconds, if the query was slow, and its details
+	 * should be {@linkplain StatisticsImplementor#isSlowQueryCaptureEnabled captured}
+	 * when the result set is released, or {@code -1} otherwise.
+	 */
+	private long slowQueryExecutionTime(long executeStartNanos) {
+		final long executionTime = NANOSECONDS.toMillis( System.nanoTime() - executeStartNanos );
+		return executionTime > sqlStatementLogger.getLogSlowQuery()
+					&& executionContext.getSession().getFactory().getStatistics().isSlowQueryCaptureEnabled()
+				? executionTime
+				: -1;
+	}
+
+	private void captureSlowQuery() {
+		final List<JdbcParameterBinder> parameterBinders = jdbcSelect.getParameterBinders();
+		final List<JdbcParameterBinding> parameterBindings = new ArrayList<>( parameterBinders.size() );
+		boolean explainable = !limitParametersBound;
+		for ( JdbcParameterBinder parameterBinder : parameterBinders ) {
+			final JdbcParameterBinding binding = parameterBinder instanceof JdbcParameter jdbcParameter
+					? jdbcParameterBindings.getBinding( jdbcParameter )
+					: null;
+			if ( binding == null ) {
+				explainable = false;
+			}
+			else {
+				parameterBindings.add( binding );
+				if ( binding.getBindType() == null ) {
+					explainable = false;
+				}
+			}
+		}
+		executionContext.getSession().getFactory().getStatistics()
+				.slowQuery( finalSql, slowQueryExecutionTime, rowCount, parameterBindings, explainable );
+	}
+
 	private JdbcSessionContext context() {
 		return executionContext.getSession().getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext();
 	}
@@ -319,8 +407,22 @@ protected LockMode determineFollowOnLockMode(LockOptions lockOptions) {
 		return lockModeToUse;
 	}
 
+	@Override
+	public void setRowCount(int rowCount) {
+		this.rowCount = rowCount;
+	}
+
 	@Override
 	public void release() {
+		if ( slowQueryExecutionTime >= 0 ) {
+			try {
+				captureSlowQuery();
+			}
+			finally {
+				slowQueryExecutionTime = -1;
+			}
+		}
+
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator()
 				.getLogicalConnection();
 		if ( resultSet != null ) {
@@ -26,6 +26,7 @@
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.JdbcExtractingLogging;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -45,12 +46,19 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final SqlSelection[] sqlSelections;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
+	// The typed part of the row buffer, only allocated if the consumer
+	// reads values unboxed, and some values can be read without boxing them
+	private final PrimitiveValueSlot[] primitiveSlots;
+	private final long[] currentRowPrimitiveValues;
+	private final BitSet nullIndexes;
+	private final BitSet boxedIndexes;
 	private final int[] valueIndexesToCacheIndexes;
 	// Is only meaningful if valueIndexesToCacheIndexes is not null
 	// Contains the size of the row to cache, or if the value is negative,
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 	private int resultCount;
+	private int rowCount;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -61,6 +69,34 @@ public JdbcValuesResultSetImpl(
 			JdbcValuesMapping valuesMapping,
 			CachedJdbcValuesMetadata metadataForCache,
 			ExecutionContext executionContext) {
+		this(
+				resultSetAccess,
+				queryCacheKey,
+				queryIdentifier,
+				queryOptions,
+				usesFollowOnLocking,
+				valuesMapping,
+				metadataForCache,
+				executionContext,
+				false
+		);
+	}
+
+	/**
+	 * @param unboxedValues whether numeric values should be kept unboxed, for a
+	 * consumer which {@linkplain org.hibernate.sql.results.spi.ResultsConsumer#readsUnboxedValues
+	 * reads them through the typed accessors}
+	 */
+	public JdbcValuesResultSetImpl(
+			ResultSetAccess resultSetAccess,
+			QueryKey queryCacheKey,
+			String queryIdentifier,
+			QueryOptions queryOptions,
+			boolean usesFollowOnLocking,
+			JdbcValuesMapping valuesMapping,
+			CachedJdbcValuesMetadata metadataForCache,
+			ExecutionContext executionContext,
+			boolean unboxedValues) {
 		this.queryCachePutManager = resolveQueryCachePutManager(
 				executionContext,
 				queryOptions,
@@ -102,6 +138,41 @@ public JdbcValuesResultSetImpl(
 			}
 			this.rowToCacheSize = cacheIndex;
 		}
+
+		// values put in the query cache are boxed anyway, and the
+		// extractors are responsible for logging extracted values
+		this.primitiveSlots = unboxedValues
+				&& queryCachePutManager == null
+				&& !JdbcExtractingLogging.LOGGER.isTraceEnabled()
+				? determinePrimitiveSlots( sqlSelections )
+				: null;
+		if ( primitiveSlots == null ) {
+			this.currentRowPrimitiveValues = null;
+			this.nullIndexes = null;
+			this.boxedIndexes = null;
+		}
+		else {
+			this.currentRowPrimitiveValues = new long[rowSize];
+			this.nullIndexes = new BitSet( rowSize );
+			this.boxedIndexes = new BitSet( rowSize );
+		}
+	}
+
+	private static PrimitiveValueSlot[] determinePrimitiveSlots(SqlSelection[] sqlSelections) {
+		PrimitiveValueSlot[] primitiveSlots = null;
+		for ( int i = 0; i < sqlSelections.length; i++ ) {
+			final SqlSelection sqlSelection = sqlSelections[i];
+			if ( sqlSelection != null ) {
+				final PrimitiveValueSlot slot = PrimitiveValueSlot.determineSlot( sqlSelection );
+				if ( slot != null ) {
+					if ( primitiveSlots == null ) {
+						primitiveSlots = new PrimitiveValueSlot[sqlSelections.length];
+					}
+					primitiveSlots[i] = slot;
+				}
+			}
+		}
+		return primitiveSlots;
 	}
 
 	private int determineResultCountEstimate(
@@ -145,7 +216,11 @@ private static QueryCachePutManager resolveQueryCachePutManager(
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance( advanceNext() );
+		final boolean hasResult = advanceNext();
+		if ( hasResult ) {
+			rowCount++;
+		}
+		return advance( hasResult );
 	}
 
 	@Override
@@ -205,7 +280,7 @@ public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
 	public void beforeFirst(RowProcessingState rowProcessingState) {
 		try {
 			resultSet.beforeFirst();
-			Arrays.fill( currentRowJdbcValues, null );
+			clearCurrentRow();
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#beforeFirst()", e );
@@ -241,7 +316,7 @@ public boolean isAfterLast(RowProcessingState rowProcessingState) {
 	public void afterLast(RowProcessingState rowProcessingState) {
 		try {
 			resultSet.afterLast();
-			Arrays.fill( currentRowJdbcValues, null );
+			clearCurrentRow();
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error calling ResultSet#afterLast()", e );
@@ -325,6 +400,23 @@ private ExecutionException makeExecutionException(String message, SQLException c
 
 	public void readCurrentRowValues() {
 		initializedIndexes.clear();
+		if ( boxedIndexes != null ) {
+			boxedIndexes.clear();
+		}
+	}
+
+	private void clearCurrentRow() {
+		Arrays.fill( currentRowJdbcValues, null );
+		if ( primitiveSlots != null ) {
+			Arrays.fill( currentRowPrimitiveValues, 0L );
+			for ( int i = 0; i < primitiveSlots.length; i++ ) {
+				if ( primitiveSlots[i] != null ) {
+					initializedIndexes.set( i );
+				}
+			}
+			nullIndexes.set( 0, primitiveSlots.length );
+			boxedIndexes.set( 0, primitiveSlots.length );
+		}
 	}
 
 	@Override
@@ -332,6 +424,7 @@ public final void finishUp(SharedSessionContractImplementor session) {
 		if ( queryCachePutManager != null ) {
 			queryCachePutManager.finishUp( resultCount, session );
 		}
+		resultSetAccess.setRowCount( rowCount );
 		resultSetAccess.release();
 	}
 
@@ -378,7 +471,10 @@ else if ( rowToCacheSize < 1 ) {
 
 	@Override
 	public Object getCurrentRowValue(int valueIndex) {
-		if ( !initializedIndexes.get( valueIndex ) ) {
+		if ( primitiveSlots != null && primitiveSlots[valueIndex] != null ) {
+			return getBoxedPrimitiveValue( valueIndex, primitiveSlots[valueIndex] );
+		}
+		else if ( !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
 			final SqlSelection sqlSelection = sqlSelections[valueIndex];
 			try {
@@ -389,16 +485,78 @@ public Object getCurrentRowValue(int valueIndex) {
 				);
 			}
 			catch ( SQLException e ) {
-				// do not want to wrap in ExecutionException here
-				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
-						e,
-						"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
-				);
+				throw convertExtractionException( e, sqlSelection );
 			}
 		}
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	private Object getBoxedPrimitiveValue(int valueIndex, PrimitiveValueSlot slot) {
+		if ( !boxedIndexes.get( valueIndex ) ) {
+			boxedIndexes.set( valueIndex );
+			readPrimitiveValue( valueIndex, slot );
+			currentRowJdbcValues[valueIndex] = nullIndexes.get( valueIndex )
+					? null
+					: slot.box( currentRowPrimitiveValues[valueIndex] );
+		}
+		return currentRowJdbcValues[valueIndex];
+	}
+
+	@Override
+	public long getCurrentRowLongValue(int valueIndex) {
+		final PrimitiveValueSlot slot = primitiveSlots == null ? null : primitiveSlots[valueIndex];
+		if ( slot == null ) {
+			final Object value = getCurrentRowValue( valueIndex );
+			return value == null ? 0L : ( (Number) value ).longValue();
+		}
+		readPrimitiveValue( valueIndex, slot );
+		return slot.toLong( currentRowPrimitiveValues[valueIndex] );
+	}
+
+	@Override
+	public double getCurrentRowDoubleValue(int valueIndex) {
+		final PrimitiveValueSlot slot = primitiveSlots == null ? null : primitiveSlots[valueIndex];
+		if ( slot == null ) {
+			final Object value = getCurrentRowValue( valueIndex );
+			return value == null ? 0d : ( (Number) value ).doubleValue();
+		}
+		readPrimitiveValue( valueIndex, slot );
+		return slot.toDouble( currentRowPrimitiveValues[valueIndex] );
+	}
+
+	@Override
+	public boolean isCurrentRowValueNull(int valueIndex) {
+		final PrimitiveValueSlot slot = primitiveSlots == null ? null : primitiveSlots[valueIndex];
+		if ( slot == null ) {
+			return getCurrentRowValue( valueIndex ) == null;
+		}
+		readPrimitiveValue( valueIndex, slot );
+		return nullIndexes.get( valueIndex );
+	}
+
+	private void readPrimitiveValue(int valueIndex, PrimitiveValueSlot slot) {
+		if ( !initializedIndexes.get( valueIndex ) ) {
+			initializedIndexes.set( valueIndex );
+			final SqlSelection sqlSelection = sqlSelections[valueIndex];
+			final int position = sqlSelection.getJdbcResultSetIndex();
+			try {
+				currentRowPrimitiveValues[valueIndex] = slot.read( resultSet, position );
+				nullIndexes.set( valueIndex, resultSet.wasNull() );
+			}
+			catch ( SQLException e ) {
+				throw convertExtractionException( e, sqlSelection );
+			}
+		}
+	}
+
+	private JDBCException convertExtractionException(SQLException e, SqlSelection sqlSelection) {
+		// do not want to wrap in ExecutionException here
+		return executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
+				e,
+				"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
+		);
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		try {
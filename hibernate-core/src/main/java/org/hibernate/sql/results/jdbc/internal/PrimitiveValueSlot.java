@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.DoubleJdbcType;
+import org.hibernate.type.descriptor.jdbc.FloatJdbcType;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.RealJdbcType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.TinyIntJdbcType;
+
+/**
+ * Describes how {@link JdbcValuesResultSetImpl} reads a column whose extractor would
+ * just {@linkplain JavaType#wrap wrap} a primitive read from the {@link ResultSet},
+ * so that the value can be kept in a {@code long} slot of the row buffer, and only
+ * boxed if something asks for it as an {@code Object}. A floating point value is
+ * kept as the {@linkplain Double#doubleToRawLongBits bits} of a {@code double}.
+ * <p>
+ * Only the standard {@link JdbcType}s combined with the standard {@link JavaType} of
+ * the matching wrapper class qualify, since for those, boxing the primitive produces
+ * exactly the value the {@link ValueExtractor} would have produced.
+ *
+ * @since 7.0
+ */
+enum PrimitiveValueSlot {
+	LONG( false ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getLong( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return value;
+		}
+	},
+	INTEGER( false ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getInt( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return (int) value;
+		}
+	},
+	SHORT( false ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getShort( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return (short) value;
+		}
+	},
+	BYTE( false ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return resultSet.getByte( position );
+		}
+
+		@Override
+		Object box(long value) {
+			return (byte) value;
+		}
+	},
+	DOUBLE( true ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return Double.doubleToRawLongBits( resultSet.getDouble( position ) );
+		}
+
+		@Override
+		Object box(long value) {
+			return Double.longBitsToDouble( value );
+		}
+	},
+	FLOAT( true ) {
+		@Override
+		long read(ResultSet resultSet, int position) throws SQLException {
+			return Double.doubleToRawLongBits( resultSet.getFloat( position ) );
+		}
+
+		@Override
+		Object box(long value) {
+			return (float) Double.longBitsToDouble( value );
+		}
+	};
+
+	/**
+	 * Whether the slot holds the bits of a {@code double}, rather than an integer
+	 */
+	private final boolean floatingPoint;
+
+	PrimitiveValueSlot(boolean floatingPoint) {
+		this.floatingPoint = floatingPoint;
+	}
+
+	/**
+	 * Read the value at the given position, as the content of a slot
+	 */
+	abstract long read(ResultSet resultSet, int position) throws SQLException;
+
+	/**
+	 * Box the content of a slot as an instance of the wrapper class
+	 */
+	abstract Object box(long value);
+
+	/**
+	 * The content of a slot as a {@code long}
+	 */
+	long toLong(long value) {
+		return floatingPoint ? (long) Double.longBitsToDouble( value ) : value;
+	}
+
+	/**
+	 * The content of a slot as a {@code double}
+	 */
+	double toDouble(long value) {
+		return floatingPoint ? Double.longBitsToDouble( value ) : value;
+	}
+
+	/**
+	 * @return the slot to use for the given selection, or {@code null} if its
+	 *         value has to be read through its {@link ValueExtractor}
+	 */
+	static @Nullable PrimitiveValueSlot determineSlot(SqlSelection sqlSelection) {
+		final ValueExtractor<?> extractor = sqlSelection.getJdbcValueExtractor();
+		if ( !( extractor instanceof BasicExtractor<?> basicExtractor ) ) {
+			return null;
+		}
+		final Class<?> jdbcTypeClass = basicExtractor.getJdbcType().getClass();
+		final Class<?> javaTypeClass = basicExtractor.getJavaType().getClass();
+		if ( jdbcTypeClass == BigIntJdbcType.class ) {
+			return javaTypeClass == LongJavaType.class ? LONG : null;
+		}
+		else if ( jdbcTypeClass == IntegerJdbcType.class ) {
+			return javaTypeClass == IntegerJavaType.class ? INTEGER : null;
+		}
+		else if ( jdbcTypeClass == SmallIntJdbcType.class ) {
+			return javaTypeClass == ShortJavaType.class ? SHORT : null;
+		}
+		else if ( jdbcTypeClass == TinyIntJdbcType.class ) {
+			return javaTypeClass == ByteJavaType.class ? BYTE : null;
+		}
+		else if ( jdbcTypeClass == DoubleJdbcType.class ) {
+			return javaTypeClass == DoubleJavaType.class ? DOUBLE : null;
+		}
+		else if ( jdbcTypeClass == FloatJdbcType.class || jdbcTypeClass == RealJdbcType.class ) {
+			return javaTypeClass == FloatJavaType.class ? FLOAT : null;
+		}
+		else {
+			return null;
+		}
+	}
+}
@@ -29,6 +29,16 @@ public interface ResultSetAccess extends JdbcValuesMetadata {
 	ResultSet getResultSet();
 	SessionFactoryImplementor getFactory();
 	void release();
+
+	/**
+	 * Called just before {@link #release()} with the number of rows which
+	 * were read by advancing through the result set.
+	 *
+	 * @since 7.0
+	 */
+	default void setRowCount(int rowCount) {
+	}
+
 	/**
 	 * The estimate for the amount of results that can be expected for pre-sizing collections.
 	 * May return zero or negative values if the count can not be reasonably estimated.
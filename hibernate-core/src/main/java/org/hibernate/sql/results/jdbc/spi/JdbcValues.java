@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -74,6 +75,47 @@ public interface JdbcValues {
 	 */
 	Object getCurrentRowValue(int valueIndex);
 
+	/**
+	 * Get the numeric JDBC value at the given index for the row currently positioned
+	 * at within this source as a {@code long}, without boxing it, if possible.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getCurrentRowLongValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Get the numeric JDBC value at the given index for the row currently positioned
+	 * at within this source as a {@code double}, without boxing it, if possible.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isCurrentRowValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default double getCurrentRowDoubleValue(int valueIndex) {
+		final Object value = getCurrentRowValue( valueIndex );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Whether the JDBC value at the given index for the row currently positioned
+	 * at within this source is null.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isCurrentRowValueNull(int valueIndex) {
+		return getCurrentRowValue( valueIndex ) == null;
+	}
+
 	void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded);
 
 	/**
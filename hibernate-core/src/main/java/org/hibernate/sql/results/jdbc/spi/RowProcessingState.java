@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -56,6 +57,49 @@ default Object getJdbcValue(SqlSelection sqlSelection) {
 	 */
 	Object getJdbcValue(int position);
 
+	/**
+	 * Retrieve the numeric value corresponding to the given index as part
+	 * of the "current JDBC row" as a {@code long}, without boxing it, if
+	 * the underlying {@link JdbcValues} support that.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isJdbcValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getJdbcLongValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0L : ( (Number) value ).longValue();
+	}
+
+	/**
+	 * Retrieve the numeric value corresponding to the given index as part
+	 * of the "current JDBC row" as a {@code double}, without boxing it, if
+	 * the underlying {@link JdbcValues} support that.
+	 *
+	 * @return The value, or {@code 0} if the value is null
+	 *
+	 * @see #isJdbcValueNull(int)
+	 * @since 7.0
+	 */
+	@Incubating
+	default double getJdbcDoubleValue(int position) {
+		final Object value = getJdbcValue( position );
+		return value == null ? 0d : ( (Number) value ).doubleValue();
+	}
+
+	/**
+	 * Whether the value corresponding to the given index as part of
+	 * the "current JDBC row" is null.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isJdbcValueNull(int position) {
+		return getJdbcValue( position ) == null;
+	}
+
 	void registerNonExists(EntityFetch fetch);
 
 	boolean isQueryCacheHit();
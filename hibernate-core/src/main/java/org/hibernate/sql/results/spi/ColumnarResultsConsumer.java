@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.query.ColumnChunk;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * Used beneath {@link SelectionQuery#exportColumns}. Reads the JDBC values described
+ * by the {@link JdbcValuesMapping} into column-oriented arrays, which are passed to a
+ * consumer once they hold the given number of rows, and then reused for the next rows.
+ * Numeric values are read through {@link RowProcessingState#getJdbcLongValue} and
+ * {@link RowProcessingState#getJdbcDoubleValue}, and are never boxed if the
+ * {@link JdbcValues} support that.
+ * <p>
+ * The {@link RowReader} is ignored, and so no entities are ever instantiated. The
+ * result of {@link #consume} is the total number of rows.
+ *
+ * @since 7.0
+ */
+@Incubating
+public class ColumnarResultsConsumer<R> implements ResultsConsumer<Long, R> {
+	private final int chunkSize;
+	private final Consumer<ColumnChunk> chunkConsumer;
+
+	public ColumnarResultsConsumer(int chunkSize, Consumer<ColumnChunk> chunkConsumer) {
+		if ( chunkSize <= 0 ) {
+			throw new IllegalArgumentException( "Chunk size must be positive" );
+		}
+		this.chunkSize = chunkSize;
+		this.chunkConsumer = chunkConsumer;
+	}
+
+	@Override
+	public Long consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		RuntimeException ex = null;
+		try {
+			final Chunk chunk = new Chunk( jdbcValues.getValuesMapping(), chunkSize );
+			long rowCount = 0;
+			while ( rowProcessingState.next() ) {
+				chunk.readRow( rowProcessingState );
+				rowProcessingState.finishRowProcessing( true );
+				rowCount++;
+				if ( chunk.getRowCount() == chunkSize ) {
+					chunkConsumer.accept( chunk );
+					chunk.clear();
+				}
+			}
+			if ( chunk.getRowCount() > 0 ) {
+				chunkConsumer.accept( chunk );
+			}
+			return rowCount;
+		}
+		catch (RuntimeException e) {
+			ex = e;
+		}
+		finally {
+			try {
+				jdbcValues.finishUp( session );
+			}
+			catch (RuntimeException e) {
+				if ( ex != null ) {
+					ex.addSuppressed( e );
+				}
+				else {
+					ex = e;
+				}
+			}
+			finally {
+				if ( ex != null ) {
+					throw ex;
+				}
+			}
+		}
+		throw new IllegalStateException( "Should not reach this" );
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+
+	@Override
+	public boolean readsUnboxedValues() {
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnarResultsConsumer(" + chunkSize + ")";
+	}
+
+	private static class Chunk implements ColumnChunk {
+		private final int[] valuesArrayPositions;
+		private final ColumnKind[] columnKinds;
+		private final Class<?>[] columnJavaTypes;
+		private final Object[] columns;
+		private final BitSet[] nulls;
+		private int rowCount;
+
+		private Chunk(JdbcValuesMapping valuesMapping, int chunkSize) {
+			// order the columns by their position in the row
+			final SqlSelection[] sqlSelections = new SqlSelection[valuesMapping.getRowSize()];
+			int columnCount = 0;
+			final List<SqlSelection> selections = valuesMapping.getSqlSelections();
+			for ( int i = 0; i < selections.size(); i++ ) {
+				final SqlSelection selection = selections.get( i );
+				if ( sqlSelections[selection.getValuesArrayPosition()] == null ) {
+					sqlSelections[selection.getValuesArrayPosition()] = selection;
+					columnCount++;
+				}
+			}
+			valuesArrayPositions = new int[columnCount];
+			columnKinds = new ColumnKind[columnCount];
+			columnJavaTypes = new Class<?>[columnCount];
+			columns = new Object[columnCount];
+			nulls = new BitSet[columnCount];
+			int column = 0;
+			for ( SqlSelection sqlSelection : sqlSelections ) {
+				if ( sqlSelection != null ) {
+					final Class<?> javaType = determineJavaType( sqlSelection );
+					final ColumnKind kind = determineKind( javaType );
+					valuesArrayPositions[column] = sqlSelection.getValuesArrayPosition();
+					columnKinds[column] = kind;
+					columnJavaTypes[column] = javaType;
+					columns[column] = switch ( kind ) {
+						case LONG -> new long[chunkSize];
+						case DOUBLE -> new double[chunkSize];
+						case OBJECT -> new Object[chunkSize];
+					};
+					nulls[column] = new BitSet( chunkSize );
+					column++;
+				}
+			}
+		}
+
+		private static Class<?> determineJavaType(SqlSelection sqlSelection) {
+			final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+			return expressionType == null || expressionType.getJdbcTypeCount() != 1
+					? Object.class
+					: expressionType.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass();
+		}
+
+		private static ColumnKind determineKind(Class<?> javaType) {
+			if ( javaType == Long.class || javaType == Integer.class
+					|| javaType == Short.class || javaType == Byte.class ) {
+				return ColumnKind.LONG;
+			}
+			else if ( javaType == Double.class || javaType == Float.class ) {
+				return ColumnKind.DOUBLE;
+			}
+			else {
+				return ColumnKind.OBJECT;
+			}
+		}
+
+		private void readRow(RowProcessingState rowProcessingState) {
+			final int row = rowCount++;
+			for ( int column = 0; column < columns.length; column++ ) {
+				final int position = valuesArrayPositions[column];
+				switch ( columnKinds[column] ) {
+					case LONG:
+						( (long[]) columns[column] )[row] = rowProcessingState.getJdbcLongValue( position );
+						nulls[column].set( row, rowProcessingState.isJdbcValueNull( position ) );
+						break;
+					case DOUBLE:
+						( (double[]) columns[column] )[row] = rowProcessingState.getJdbcDoubleValue( position );
+						nulls[column].set( row, rowProcessingState.isJdbcValueNull( position ) );
+						break;
+					default:
+						final Object value = rowProcessingState.getJdbcValue( position );
+						( (Object[]) columns[column] )[row] = value;
+						nulls[column].set( row, value == null );
+				}
+			}
+		}
+
+		private void clear() {
+			rowCount = 0;
+		}
+
+		@Override
+		public int getRowCount() {
+			return rowCount;
+		}
+
+		@Override
+		public int getColumnCount() {
+			return columns.length;
+		}
+
+		@Override
+		public ColumnKind getColumnKind(int column) {
+			return columnKinds[column];
+		}
+
+		@Override
+		public Class<?> getColumnJavaType(int column) {
+			return columnJavaTypes[column];
+		}
+
+		@Override
+		public long[] getLongColumn(int column) {
+			checkKind( column, ColumnKind.LONG );
+			return (long[]) columns[column];
+		}
+
+		@Override
+		public double[] getDoubleColumn(int column) {
+			checkKind( column, ColumnKind.DOUBLE );
+			return (double[]) columns[column];
+		}
+
+		@Override
+		public Object[] getObjectColumn(int column) {
+			checkKind( column, ColumnKind.OBJECT );
+			return (Object[]) columns[column];
+		}
+
+		@Override
+		public boolean isNull(int column, int row) {
+			return nulls[column].get( row );
+		}
+
+		private void checkKind(int column, ColumnKind kind) {
+			if ( columnKinds[column] != kind ) {
+				throw new IllegalArgumentException(
+						"Column " + column + " is of kind " + columnKinds[column] + ", not " + kind
+				);
+			}
+		}
+	}
+}
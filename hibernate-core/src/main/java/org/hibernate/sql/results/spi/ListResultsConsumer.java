@@ -12,6 +12,8 @@
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -105,6 +107,7 @@ public ListResultsConsumer(UniqueSemantic uniqueSemantic) {
 	private static class Results<R> {
 		private final ArrayList<R> results;
 		private final JavaType<R> resultJavaType;
+		private int readRows;
 
 		public Results(JavaType<R> resultJavaType, int initialSize) {
 			this.resultJavaType = resultJavaType;
@@ -128,6 +131,14 @@ public void add(R result) {
 		public List<R> getResults() {
 			return results;
 		}
+
+		public void rowRead() {
+			readRows++;
+		}
+
+		public int getReadRows() {
+			return readRows;
+		}
 	}
 
 	private static class EntityResult<R> extends Results<R> {
@@ -163,9 +174,12 @@ public List<R> consume(
 
 		rowReader.startLoading( rowProcessingState );
 
+		final EventMonitor eventMonitor = session.getEventMonitor();
+		final DiagnosticEvent resultHydrationEvent = eventMonitor.beginResultHydrationEvent();
 		RuntimeException ex = null;
 		persistenceContext.beforeLoad();
 		persistenceContext.getLoadContexts().register( jdbcValuesSourceProcessingState );
+		Results<R> results = null;
 		try {
 			final JavaType<R> domainResultJavaType = resolveDomainResultJavaType(
 					rowReader.getDomainResultResultJavaType(),
@@ -176,7 +190,6 @@ public List<R> consume(
 			final boolean isEntityResultType = domainResultJavaType instanceof EntityJavaType;
 			final int initialCollectionSize = Math.min( jdbcValues.getResultCountEstimate(), INITIAL_COLLECTION_SIZE_LIMIT );
 
-			final Results<R> results;
 			if ( isEntityResultType
 					&& ( uniqueSemantic == UniqueSemantic.ALLOW
 						|| uniqueSemantic == UniqueSemantic.FILTER ) ) {
@@ -186,21 +199,22 @@ public List<R> consume(
 				results = new Results<>( domainResultJavaType, initialCollectionSize );
 			}
 
-			final int readRows;
 			if ( uniqueSemantic == UniqueSemantic.FILTER
 					|| uniqueSemantic == UniqueSemantic.ASSERT && rowReader.hasCollectionInitializers()
 					|| uniqueSemantic == UniqueSemantic.ALLOW && isEntityResultType ) {
-				readRows = readUnique( rowProcessingState, rowReader, results );
+				readUnique( rowProcessingState, rowReader, results );
 			}
 			else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
-				readRows = readUniqueAssert( rowProcessingState, rowReader, results );
+				readUniqueAssert( rowProcessingState, rowReader, results );
 			}
 			else {
-				readRows = read( rowProcessingState, rowReader, results );
+				read( rowProcessingState, rowReader, results );
 			}
 
+			final int readRows = results.getReadRows();
 			rowReader.finishUp( rowProcessingState );
 			jdbcValuesSourceProcessingState.finishUp( readRows > 1 );
+			session.getEventListenerManager().jdbcRowsRead( readRows );
 
 			//noinspection unchecked
 			final ResultListTransformer<R> resultListTransformer =
@@ -216,6 +230,12 @@ else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 		}
 		finally {
 			try {
+				// report the rows read so far, even if reading failed
+				eventMonitor.completeResultHydrationEvent(
+						resultHydrationEvent,
+						results == null ? 0 : results.getReadRows(),
+						session
+				);
 				jdbcValues.finishUp( session );
 				persistenceContext.afterLoad();
 				persistenceContext.getLoadContexts().deregister( jdbcValuesSourceProcessingState );
@@ -238,24 +258,21 @@ else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 		throw new IllegalStateException( "Should not reach this" );
 	}
 
-	private static <R> int read(
+	private static <R> void read(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
 			Results<R> results) {
-		int readRows = 0;
 		while ( rowProcessingState.next() ) {
 			results.add( rowReader.readRow( rowProcessingState ) );
 			rowProcessingState.finishRowProcessing( true );
-			readRows++;
+			results.rowRead();
 		}
-		return readRows;
 	}
 
-	private static <R> int readUniqueAssert(
+	private static <R> void readUniqueAssert(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
 			Results<R> results) {
-		int readRows = 0;
 		while ( rowProcessingState.next() ) {
 			if ( !results.addUnique( rowReader.readRow( rowProcessingState ) ) ) {
 				throw new HibernateException(
@@ -267,22 +284,19 @@ private static <R> int readUniqueAssert(
 				);
 			}
 			rowProcessingState.finishRowProcessing( true );
-			readRows++;
+			results.rowRead();
 		}
-		return readRows;
 	}
 
-	private static <R> int readUnique(
+	private static <R> void readUnique(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
 			Results<R> results) {
-		int readRows = 0;
 		while ( rowProcessingState.next() ) {
 			final boolean added = results.addUnique( rowReader.readRow( rowProcessingState ) );
 			rowProcessingState.finishRowProcessing( added );
-			readRows++;
+			results.rowRead();
 		}
-		return readRows;
 	}
 
 	private JavaType<R> resolveDomainResultJavaType(
@@ -4,6 +4,7 @@
  */
 package org.hibernate.sql.results.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
@@ -26,4 +27,17 @@ T consume(
 			RowReader<R> rowReader);
 
 	boolean canResultsBeCached();
+
+	/**
+	 * Whether this consumer reads numeric values through the typed accessors
+	 * {@link org.hibernate.sql.results.jdbc.spi.RowProcessingState#getJdbcLongValue}
+	 * and {@link org.hibernate.sql.results.jdbc.spi.RowProcessingState#getJdbcDoubleValue},
+	 * so that the {@link JdbcValues} should keep such values unboxed.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean readsUnboxedValues() {
+		return false;
+	}
 }
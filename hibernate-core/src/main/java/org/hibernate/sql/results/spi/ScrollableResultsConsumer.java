@@ -6,9 +6,12 @@
 
 import java.util.List;
 
+import org.hibernate.ScrollMode;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.FetchingScrollableResultsImpl;
+import org.hibernate.internal.PrefetchingScrollableResultsImpl;
 import org.hibernate.internal.ScrollableResultsImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.entity.EntityResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
@@ -36,6 +39,41 @@ public static <R> ScrollableResultsConsumer<R> instance() {
 		return INSTANCE;
 	}
 
+	/**
+	 * A consumer which reads ahead of the current row, if the
+	 * {@linkplain org.hibernate.cfg.FetchSettings#SCROLL_PREFETCH_SIZE look-ahead}
+	 * is enabled and applies to the given scroll mode and execution. The look-ahead
+	 * only applies to entities loaded read-only, since the rows read ahead would be
+	 * detached by a call to {@link org.hibernate.Session#clear()} made while consuming
+	 * the preceding rows, and any changes made to them afterward would be lost.
+	 *
+	 * @since 7.0
+	 */
+	public static <R> ScrollableResultsConsumer<R> instance(
+			ScrollMode scrollMode,
+			ExecutionContext executionContext) {
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		if ( scrollMode == ScrollMode.FORWARD_ONLY
+				&& !session.isStatelessSession()
+				&& isReadOnly( executionContext ) ) {
+			final int prefetchSize = session.getFactory().getSessionFactoryOptions().getScrollPrefetchSize();
+			if ( prefetchSize > 1 ) {
+				return new ScrollableResultsConsumer<>( prefetchSize );
+			}
+		}
+		return instance();
+	}
+
+	private final int prefetchSize;
+
+	public ScrollableResultsConsumer() {
+		this( 0 );
+	}
+
+	private ScrollableResultsConsumer(int prefetchSize) {
+		this.prefetchSize = prefetchSize;
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> consume(
 			JdbcValues jdbcValues,
@@ -55,6 +93,17 @@ public ScrollableResultsImplementor<R> consume(
 					session
 			);
 		}
+		else if ( prefetchSize > 1 ) {
+			return new PrefetchingScrollableResultsImpl<>(
+					jdbcValues,
+					processingOptions,
+					jdbcValuesSourceProcessingState,
+					rowProcessingState,
+					rowReader,
+					session,
+					prefetchSize
+			);
+		}
 		else {
 			return new ScrollableResultsImpl<>(
 					jdbcValues,
@@ -67,6 +116,13 @@ public ScrollableResultsImplementor<R> consume(
 		}
 	}
 
+	private static boolean isReadOnly(ExecutionContext executionContext) {
+		final Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
+		return readOnly == null
+				? executionContext.getSession().getPersistenceContextInternal().isDefaultReadOnly()
+				: readOnly;
+	}
+
 	@Override
 	public boolean canResultsBeCached() {
 		return false;
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of a series of non-negative values, for example,
+ * of the execution times of a query. Values are counted in buckets
+ * whose width grows with the magnitude of the value, so that any
+ * {@linkplain #getValueAtPercentile percentile} is reported with a
+ * relative error of at most 25%, no matter how large the values are.
+ * <p>
+ * The minimum, maximum, and total of the values are exact.
+ *
+ * @see QueryStatistics#getExecutionTimeHistogram()
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface Histogram extends Serializable {
+	/**
+	 * The number of values recorded.
+	 */
+	long getCount();
+
+	/**
+	 * The sum of all values recorded.
+	 */
+	long getTotal();
+
+	/**
+	 * The smallest value recorded, or zero if no value has been
+	 * recorded.
+	 */
+	long getMin();
+
+	/**
+	 * The largest value recorded, or zero if no value has been
+	 * recorded.
+	 */
+	long getMax();
+
+	/**
+	 * The mean of all values recorded, or zero if no value has
+	 * been recorded.
+	 */
+	double getMean();
+
+	/**
+	 * An upper bound on the given percentile of the values recorded,
+	 * that is, a value greater than or equal to the given percentage
+	 * of the values recorded.
+	 *
+	 * @param percentile a percentage between 0 and 100, for example,
+	 *                   {@code 99.0} for the 99th percentile
+	 *
+	 * @return the value at the percentile, or zero if no value has
+	 *         been recorded
+	 */
+	long getValueAtPercentile(double percentile);
+}
@@ -6,6 +6,10 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Statistics pertaining to the execution of queries which resolve a natural
  * id lookup against the database.
@@ -48,4 +52,17 @@ public interface NaturalIdStatistics extends CacheableDataStatistics, Serializab
 	 * the execution of this "natural id resolution" query
 	 */
 	long getExecutionMinTime();
+
+	/**
+	 * The distribution of the times taken (since last Statistics clearing)
+	 * by executions of this "natural id resolution" query, or {@code null}
+	 * if not tracked.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable Histogram getExecutionTimeHistogram() {
+		//For backward compatibility
+		return null;
+	}
 }
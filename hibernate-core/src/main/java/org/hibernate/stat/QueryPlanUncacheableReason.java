@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * The reason why the plan of a query could not be stored in, or
+ * retrieved from, the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+ * query plan cache}.
+ *
+ * @see QueryStatistics#getPlanUncacheableReason()
+ *
+ * @since 7.0
+ */
+@Incubating
+public enum QueryPlanUncacheableReason {
+	/**
+	 * Plan caching was disabled for the query, either explicitly via
+	 * {@link org.hibernate.jpa.HibernateHints#HINT_QUERY_PLAN_CACHEABLE},
+	 * or because it is a criteria query, whose plans are not cached
+	 * by default.
+	 */
+	DISABLED,
+	/**
+	 * The session had {@linkplain org.hibernate.Filter filters} enabled.
+	 */
+	ENABLED_FILTERS,
+	/**
+	 * An {@linkplain jakarta.persistence.EntityGraph entity graph} was
+	 * applied to the query.
+	 */
+	ENTITY_GRAPH,
+	/**
+	 * A multivalued argument was bound to a parameter of the query.
+	 */
+	MULTI_VALUED_PARAMETER
+}
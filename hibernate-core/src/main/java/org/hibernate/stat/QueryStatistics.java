@@ -6,6 +6,10 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Statistics relating to a particular query written in HQL or SQL.
  * <p>
@@ -51,6 +55,31 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * The distribution of the times taken, in milliseconds, by the
+	 * executions of this query, or {@code null} if not tracked.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable Histogram getExecutionTimeHistogram() {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The distribution of the number of {@link java.sql.ResultSet}
+	 * rows processed by each execution of this query, or {@code null}
+	 * if not tracked.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable Histogram getExecutionRowCountHistogram() {
+		//For backward compatibility
+		return null;
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
@@ -103,4 +132,54 @@ default long getPlanCompilationTotalMicroseconds() {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The distribution of the times taken, in microseconds, to
+	 * compile the plan for this particular query, or {@code null}
+	 * if not tracked.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default @Nullable Histogram getPlanCompilationTimeHistogram() {
+		//For backward compatibility
+		return null;
+	}
+
+	/**
+	 * The overall time spent translating the SQM tree of this
+	 * particular query to SQL, that is, building the SQL AST and
+	 * rendering it.
+	 *
+	 * @since 7.0
+	 */
+	default long getPlanTranslationTotalMicroseconds() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of times the plan of this query could not be
+	 * cached at all, and had to be built for the execution.
+	 *
+	 * @see #getPlanUncacheableReason()
+	 *
+	 * @since 7.0
+	 */
+	default long getPlanUncacheableCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The reason why the plan of this query could not be cached
+	 * the last time it was executed, or {@code null} if the plan
+	 * was always cacheable.
+	 *
+	 * @since 7.0
+	 */
+	default @Nullable QueryPlanUncacheableReason getPlanUncacheableReason() {
+		//For backward compatibility
+		return null;
+	}
 }
@@ -6,6 +6,8 @@
 
 import java.util.Set;
 
+import org.hibernate.Incubating;
+
 /**
  * Information about the first-level (session) cache for a particular
  * instance of {@link org.hibernate.Session}.
@@ -33,4 +35,53 @@ public interface SessionStatistics {
 	 */
 	Set<?> getCollectionKeys();
 
+	/**
+	 * The number of JDBC statements and batches executed by the session,
+	 * or {@code -1} if resource accounting is not enabled.
+	 *
+	 * @see org.hibernate.cfg.SessionEventSettings#MAX_STATEMENTS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getStatementCount() {
+		return -1;
+	}
+
+	/**
+	 * The number of rows read into query result lists by the session,
+	 * or {@code -1} if resource accounting is not enabled.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getRowCount() {
+		return -1;
+	}
+
+	/**
+	 * The largest number of entity instances which were associated with
+	 * the session at any one time, or {@code -1} if resource accounting
+	 * is not enabled.
+	 *
+	 * @see org.hibernate.cfg.SessionEventSettings#MAX_MANAGED_ENTITIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getPeakEntityCount() {
+		return -1;
+	}
+
+	/**
+	 * The total time spent flushing the session, in milliseconds, or
+	 * {@code -1} if resource accounting is not enabled.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getFlushTime() {
+		return -1;
+	}
+
 }
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A captured execution of a slow SQL query.
+ * <p>
+ * Bind parameter values are never retained. Instead, each parameter
+ * is described by the name of its JDBC type, or by {@code null} if
+ * the value bound was null.
+ *
+ * @see Statistics#getSlowestQueries()
+ * @see org.hibernate.cfg.StatisticsSettings#SLOW_QUERY_CAPTURE_SIZE
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface SlowQuery {
+	/**
+	 * The SQL query.
+	 */
+	String getSql();
+
+	/**
+	 * The time taken to execute the query, in milliseconds.
+	 */
+	long getExecutionTime();
+
+	/**
+	 * When the query was executed.
+	 */
+	Instant getTimestamp();
+
+	/**
+	 * The bind parameters of the query, masked by their JDBC types.
+	 */
+	List<@Nullable String> getParameters();
+
+	/**
+	 * The number of rows read from the result set, or {@code -1}
+	 * if unknown.
+	 */
+	int getRowCount();
+
+	/**
+	 * The stack frame of the application code which executed the
+	 * query, if it could be determined.
+	 */
+	@Nullable StackTraceElement getCallSite();
+
+	/**
+	 * The execution plan reported by the database, if
+	 * {@linkplain org.hibernate.cfg.StatisticsSettings#SLOW_QUERY_EXPLAIN
+	 * enabled}. Since the plan is obtained in the background, it might
+	 * not be available immediately.
+	 */
+	@Nullable String getExecutionPlan();
+}
@@ -5,6 +5,7 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -354,6 +355,60 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.AvailableSettings#SLOW_QUERY_CAPTURE_SIZE}
+	 * and {@value org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY} are set,
+	 * the slowest captured executions of SQL queries, ordered from slowest to
+	 * fastest.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_CAPTURE_SIZE
+	 */
+	List<SlowQuery> getSlowestQueries();
+
+	/**
+	 * The query strings which spent the most time being compiled
+	 * and translated to SQL instead of being served from the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query plan cache}, ordered from the most to the least expensive.
+	 * <p>
+	 * These are the queries to look at when the query plan cache hit
+	 * ratio is low.
+	 *
+	 * @param maxResults the maximum number of query strings to return
+	 *
+	 * @see QueryStatistics#getPlanCompilationTotalMicroseconds()
+	 * @see QueryStatistics#getPlanTranslationTotalMicroseconds()
+	 * @see QueryStatistics#getPlanUncacheableReason()
+	 *
+	 * @since 7.0
+	 */
+	String[] getMostExpensiveUncachedQueries(int maxResults);
+
+	/**
+	 * If {@value org.hibernate.cfg.AvailableSettings#LAZY_LOAD_DETECTION_THRESHOLD}
+	 * is set, a map from the collection role or entity name which some session
+	 * fetched lazily more often than the threshold allows, to the query which the
+	 * session most recently executed before that happened, or to the empty string
+	 * if it had not executed any query.
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LAZY_LOAD_DETECTION_THRESHOLD
+	 */
+	Map<String,String> getRepeatedLazyLoads();
+
+	/**
+	 * The number of times a session was found to lazily fetch the same collection
+	 * role or entity type more often than
+	 * {@value org.hibernate.cfg.AvailableSettings#LAZY_LOAD_DETECTION_THRESHOLD}
+	 * allows.
+	 *
+	 * @since 7.0
+	 */
+	long getRepeatedLazyLoadCount();
+
 	/**
 	 * The names of all entities.
 	 */
@@ -91,6 +91,18 @@ public void incrementCachePutCount() {
 		NullnessUtil.castNonNull( cachePutCount ).increment();
 	}
 
+	protected void resetCacheStats() {
+		if ( cacheHitCount != null ) {
+			cacheHitCount.reset();
+		}
+		if ( cacheMissCount != null ) {
+			cacheMissCount.reset();
+		}
+		if ( cachePutCount != null ) {
+			cachePutCount.reset();
+		}
+	}
+
 	protected void appendCacheStats(StringBuilder buf) {
 		buf.append( ",cacheRegion=" ).append( cacheRegionName );
 
@@ -74,6 +74,15 @@ void incrementRemoveCount() {
 		removeCount.increment();
 	}
 
+	void reset() {
+		loadCount.reset();
+		fetchCount.reset();
+		updateCount.reset();
+		removeCount.reset();
+		recreateCount.reset();
+		resetCacheStats();
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
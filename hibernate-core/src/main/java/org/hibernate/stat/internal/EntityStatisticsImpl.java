@@ -91,6 +91,17 @@ void incrementOptimisticFailureCount() {
 		optimisticFailureCount.increment();
 	}
 
+	void reset() {
+		loadCount.reset();
+		updateCount.reset();
+		upsertCount.reset();
+		insertCount.reset();
+		deleteCount.reset();
+		fetchCount.reset();
+		optimisticFailureCount.reset();
+		resetCacheStats();
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.Histogram;
+
+/**
+ * A lock-free {@link Histogram} with logarithmic buckets. Each power of
+ * two is divided into four equal sub-buckets, so that a bucket is never
+ * wider than a quarter of its lower bound. Values beyond 2<sup>40</sup>
+ * are all counted in the last bucket.
+ * <p>
+ * Recording a value never blocks, and concurrent reads see a consistent
+ * enough snapshot for monitoring purposes, though not necessarily one
+ * in which the count and the total reflect exactly the same values.
+ *
+ * @since 7.0
+ */
+public class HistogramImpl implements Histogram {
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + ( MAX_EXPONENT - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong min = new AtomicLong( Long.MAX_VALUE );
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record the given value. Negative values are counted as zero
+	 * in the distribution, but are included in the total as given.
+	 */
+	public void record(long value) {
+		buckets.incrementAndGet( bucketIndex( value ) );
+		count.increment();
+		total.add( value );
+		min.accumulateAndGet( value, Math::min );
+		max.accumulateAndGet( value, Math::max );
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotal() {
+		return total.sum();
+	}
+
+	@Override
+	public long getMin() {
+		final long min = this.min.get();
+		return min == Long.MAX_VALUE ? 0 : min;
+	}
+
+	@Override
+	public long getMax() {
+		return max.get();
+	}
+
+	@Override
+	public double getMean() {
+		final long count = getCount();
+		return count == 0 ? 0 : getTotal() / (double) count;
+	}
+
+	@Override
+	public long getValueAtPercentile(double percentile) {
+		if ( percentile < 0 || percentile > 100 ) {
+			throw new IllegalArgumentException( "Percentile must be between 0 and 100: " + percentile );
+		}
+		final long[] counts = new long[BUCKET_COUNT];
+		long recorded = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = buckets.get( i );
+			recorded += counts[i];
+		}
+		if ( recorded == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( percentile / 100 * recorded ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulative += counts[i];
+			if ( cumulative >= rank ) {
+				// the bucket bound may overshoot the largest value actually recorded
+				return Math.min( bucketUpperBound( i ), getMax() );
+			}
+		}
+		return getMax();
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) Math.max( value, 0 );
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros( value );
+		if ( exponent >= MAX_EXPONENT ) {
+			return BUCKET_COUNT - 1;
+		}
+		final int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+		return SUB_BUCKET_COUNT + ( exponent - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		else if ( index == BUCKET_COUNT - 1 ) {
+			return Long.MAX_VALUE;
+		}
+		else {
+			final int shift = ( index - SUB_BUCKET_COUNT ) / SUB_BUCKET_COUNT;
+			final int subBucket = ( index - SUB_BUCKET_COUNT ) % SUB_BUCKET_COUNT;
+			final long lowerBound = (long) ( SUB_BUCKET_COUNT + subBucket ) << shift;
+			return lowerBound + ( 1L << shift ) - 1;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Histogram"
+				+ "[count=" + getCount()
+				+ ",min=" + getMin()
+				+ ",max=" + getMax()
+				+ ",p50=" + getValueAtPercentile( 50 )
+				+ ",p99=" + getValueAtPercentile( 99 )
+				+ ']';
+	}
+}
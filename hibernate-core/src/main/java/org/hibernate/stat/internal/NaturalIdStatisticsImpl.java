@@ -5,12 +5,9 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Histogram;
 import org.hibernate.stat.NaturalIdStatistics;
 
 /**
@@ -21,13 +18,7 @@
 public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics implements NaturalIdStatistics, Serializable {
 
 	private final String rootEntityName;
-	private final AtomicLong executionCount = new AtomicLong();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong( Long.MAX_VALUE );
-	private final AtomicLong totalExecutionTime = new AtomicLong();
-
-	private final Lock readLock;
-	private final Lock writeLock;
+	private final HistogramImpl executionTime = new HistogramImpl();
 
 	NaturalIdStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -36,9 +27,6 @@ public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics imp
 						: null
 		);
 		this.rootEntityName = rootEntityDescriptor.getRootEntityName();
-		final ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
 	}
 
 	/**
@@ -46,7 +34,7 @@ public class NaturalIdStatisticsImpl extends AbstractCacheableDataStatistics imp
 	 */
 	@Override
 	public long getExecutionCount() {
-		return this.executionCount.get();
+		return this.executionTime.getCount();
 	}
 
 	/**
@@ -54,20 +42,7 @@ public long getExecutionCount() {
 	 */
 	@Override
 	public long getExecutionAvgTime() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		this.writeLock.lock();
-		try {
-			long avgExecutionTime = 0;
-			if ( this.executionCount.get() > 0 ) {
-				avgExecutionTime = this.totalExecutionTime.get() / this.executionCount.get();
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			this.writeLock.unlock();
-		}
+		return (long) this.executionTime.getMean();
 	}
 
 	/**
@@ -75,7 +50,7 @@ public long getExecutionAvgTime() {
 	 */
 	@Override
 	public long getExecutionMaxTime() {
-		return this.executionMaxTime.get();
+		return this.executionTime.getMax();
 	}
 
 	/**
@@ -83,27 +58,20 @@ public long getExecutionMaxTime() {
 	 */
 	@Override
 	public long getExecutionMinTime() {
-		return this.executionMinTime.get();
+		// for backward compatibility
+		return this.executionTime.getCount() == 0 ? Long.MAX_VALUE : this.executionTime.getMin();
+	}
+
+	/**
+	 * distribution of the time in ms taken by the executions of this query onto the DB
+	 */
+	@Override
+	public Histogram getExecutionTimeHistogram() {
+		return this.executionTime;
 	}
 
 	void queryExecuted(long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		this.readLock.lock();
-		try {
-			// Less chances for a context switch
-			//noinspection StatementWithEmptyBody
-			for ( long old = this.executionMinTime.get(); time < old && !this.executionMinTime.compareAndSet( old, time ); old = this.executionMinTime.get() ) {
-			}
-			//noinspection StatementWithEmptyBody
-			for ( long old = this.executionMaxTime.get(); time > old && !this.executionMaxTime.compareAndSet( old, time ); old = this.executionMaxTime.get() ) {
-			}
-			this.executionCount.getAndIncrement();
-			this.totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			this.readLock.unlock();
-		}
+		this.executionTime.record( time );
 	}
 
 	@Override
@@ -111,10 +79,10 @@ public String toString() {
 		final StringBuilder buf = new StringBuilder()
 				.append( "NaturalIdCacheStatistics" )
 				.append( "[rootEntityName=" ).append( rootEntityName )
-				.append( ",executionCount=" ).append( this.executionCount )
+				.append( ",executionCount=" ).append( this.getExecutionCount() )
 				.append( ",executionAvgTime=" ).append( this.getExecutionAvgTime() )
-				.append( ",executionMinTime=" ).append( this.executionMinTime )
-				.append( ",executionMaxTime=" ).append( this.executionMaxTime );
+				.append( ",executionMinTime=" ).append( this.getExecutionMinTime() )
+				.append( ",executionMaxTime=" ).append( this.getExecutionMaxTime() );
 		appendCacheStats( buf );
 		return buf.append( ']' ).toString();
 	}
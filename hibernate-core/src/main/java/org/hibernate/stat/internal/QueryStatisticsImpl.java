@@ -6,13 +6,14 @@
 
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.Histogram;
+import org.hibernate.stat.QueryPlanUncacheableReason;
 import org.hibernate.stat.QueryStatistics;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Query statistics (HQL and SQL)
  * <p>
@@ -26,32 +27,29 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder cacheHitCount = new LongAdder();
 	private final LongAdder cacheMissCount = new LongAdder();
 	private final LongAdder cachePutCount = new LongAdder();
-	private final LongAdder executionCount = new LongAdder();
-	private final LongAdder executionRowCount = new LongAdder();
-	private final AtomicLong executionMaxTime = new AtomicLong();
-	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
-	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final HistogramImpl executionTime = new HistogramImpl();
+	private final HistogramImpl executionRows = new HistogramImpl();
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
-	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
-
-
-	private final Lock readLock;
-	private final Lock writeLock;
+	private final HistogramImpl planCompilationTime = new HistogramImpl();
+	private final AtomicLong planTranslationTotalMicroseconds = new AtomicLong();
+	private final LongAdder planUncacheableCount = new LongAdder();
+	private volatile @Nullable QueryPlanUncacheableReason planUncacheableReason;
 
 	public QueryStatisticsImpl(String query) {
 		this.query = query;
-		ReadWriteLock lock = new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
+	}
+
+	String getQuery() {
+		return query;
 	}
 
 	/**
 	 * queries executed to the DB
 	 */
 	public long getExecutionCount() {
-		return executionCount.sum();
+		return executionTime.getCount();
 	}
 
 	/**
@@ -79,7 +77,7 @@ public long getCacheMissCount() {
 	 *         is not known at execution time.
 	 */
 	public long getExecutionRowCount() {
-		return executionRowCount.sum();
+		return executionRows.getTotal();
 	}
 
 	/**
@@ -93,42 +91,43 @@ public long getExecutionAvgTime() {
 	 * average time in ms as double taken by the execution of this query onto the DB
 	 */
 	public double getExecutionAvgTimeAsDouble() {
-		// We write lock here to be sure that we always calculate the average time
-		// with all updates from the executed applied: executionCount and totalExecutionTime
-		// both used in the calculation
-		writeLock.lock();
-		try {
-			double avgExecutionTime = 0;
-			final long ec = executionCount.sum();
-			if ( ec > 0 ) {
-				avgExecutionTime = totalExecutionTime.get() / (double) ec;
-			}
-			return avgExecutionTime;
-		}
-		finally {
-			writeLock.unlock();
-		}
+		return executionTime.getMean();
 	}
 
 	/**
 	 * max time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionMaxTime() {
-		return executionMaxTime.get();
+		return executionTime.getMax();
 	}
 
 	/**
 	 * min time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionMinTime() {
-		return executionMinTime.get();
+		// for backward compatibility
+		return executionTime.getCount() == 0 ? Long.MAX_VALUE : executionTime.getMin();
 	}
 
 	/**
 	 * total time in ms taken by the execution of this query onto the DB
 	 */
 	public long getExecutionTotalTime() {
-		return totalExecutionTime.get();
+		return executionTime.getTotal();
+	}
+
+	/**
+	 * distribution of the time in ms taken by the executions of this query onto the DB
+	 */
+	public Histogram getExecutionTimeHistogram() {
+		return executionTime;
+	}
+
+	/**
+	 * distribution of the number of rows returned by the executions of this query
+	 */
+	public Histogram getExecutionRowCountHistogram() {
+		return executionRows;
 	}
 
 	/**
@@ -149,7 +148,43 @@ public long getPlanCacheMissCount() {
 	 * Query plan overall compiled total
 	 */
 	public long getPlanCompilationTotalMicroseconds() {
-		return planCompilationTotalMicroseconds.get();
+		return planCompilationTime.getTotal();
+	}
+
+	/**
+	 * distribution of the time in microseconds taken to compile the plan
+	 */
+	public Histogram getPlanCompilationTimeHistogram() {
+		return planCompilationTime;
+	}
+
+	/**
+	 * Query plan overall SQL translation total
+	 */
+	public long getPlanTranslationTotalMicroseconds() {
+		return planTranslationTotalMicroseconds.get();
+	}
+
+	/**
+	 * Query plan not cacheable
+	 */
+	public long getPlanUncacheableCount() {
+		return planUncacheableCount.sum();
+	}
+
+	/**
+	 * Why the query plan was not cacheable the last time
+	 */
+	public @Nullable QueryPlanUncacheableReason getPlanUncacheableReason() {
+		return planUncacheableReason;
+	}
+
+	/**
+	 * Overall time spent building plans for this query, instead
+	 * of getting them from the cache
+	 */
+	long getPlanPreparationTotalMicroseconds() {
+		return planCompilationTime.getTotal() + planTranslationTotalMicroseconds.get();
 	}
 
 	/**
@@ -159,20 +194,8 @@ public long getPlanCompilationTotalMicroseconds() {
 	 * @param time time taken
 	 */
 	public void executed(long rows, long time) {
-		// read lock is enough, concurrent updates are supported by the underlying type AtomicLong
-		// this only guards executed(long, long) to be called, when another thread is executing getExecutionAvgTime()
-		readLock.lock();
-		try {
-			// Less chances for a context switch
-			for ( long old = executionMinTime.get(); (time < old) && !executionMinTime.compareAndSet(old, time); old = executionMinTime.get() ) {}
-			for ( long old = executionMaxTime.get(); (time > old) && !executionMaxTime.compareAndSet(old, time); old = executionMaxTime.get() ) {}
-			executionCount.increment();
-			executionRowCount.add( rows );
-			totalExecutionTime.addAndGet( time );
-		}
-		finally {
-			readLock.unlock();
-		}
+		executionTime.record( time );
+		executionRows.record( rows );
 	}
 
 	/**
@@ -182,7 +205,21 @@ public void executed(long rows, long time) {
 	 */
 	void compiled(long microseconds) {
 		planCacheMissCount.increment();
-		planCompilationTotalMicroseconds.addAndGet( microseconds );
+		planCompilationTime.record( microseconds );
+	}
+
+	/**
+	 * add SQL translation statistics report of a DB query
+	 *
+	 * @param microseconds time taken
+	 */
+	void translated(long microseconds) {
+		planTranslationTotalMicroseconds.addAndGet( microseconds );
+	}
+
+	void uncacheable(QueryPlanUncacheableReason reason) {
+		planUncacheableCount.increment();
+		planUncacheableReason = reason;
 	}
 
 	void incrementCacheHitCount() {
@@ -213,11 +250,13 @@ public String toString() {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
-				+ ",executionCount=" + this.executionCount
-				+ ",executionRowCount=" + this.executionRowCount
+				+ ",planUncacheableCount=" + this.planUncacheableCount
+				+ ",executionCount=" + this.getExecutionCount()
+				+ ",executionRowCount=" + this.getExecutionRowCount()
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
-				+ ",executionMaxTime=" + this.executionMaxTime
-				+ ",executionMinTime=" + this.executionMinTime
+				+ ",executionMaxTime=" + this.getExecutionMaxTime()
+				+ ",executionMinTime=" + this.getExecutionMinTime()
+				+ ",executionTimeP99=" + this.executionTime.getValueAtPercentile( 99 )
 				+ ']';
 	}
 }
@@ -6,7 +6,9 @@
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.engine.internal.ResourceAccountingSessionEventListener;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.stat.SessionStatistics;
 
@@ -37,6 +39,34 @@ public Set<?> getCollectionKeys() {
 		return Collections.unmodifiableSet( session.getPersistenceContextInternal().getCollectionsByKey().keySet() );
 	}
 
+	@Override
+	public long getStatementCount() {
+		final ResourceAccountingSessionEventListener accounting = getResourceAccounting();
+		return accounting == null ? -1 : accounting.getStatementCount();
+	}
+
+	@Override
+	public long getRowCount() {
+		final ResourceAccountingSessionEventListener accounting = getResourceAccounting();
+		return accounting == null ? -1 : accounting.getRowCount();
+	}
+
+	@Override
+	public int getPeakEntityCount() {
+		final ResourceAccountingSessionEventListener accounting = getResourceAccounting();
+		return accounting == null ? -1 : accounting.getPeakManagedEntityCount();
+	}
+
+	@Override
+	public long getFlushTime() {
+		final ResourceAccountingSessionEventListener accounting = getResourceAccounting();
+		return accounting == null ? -1 : TimeUnit.NANOSECONDS.toMillis( accounting.getFlushTime() );
+	}
+
+	private ResourceAccountingSessionEventListener getResourceAccounting() {
+		return session.getEventListenerManager().findListener( ResourceAccountingSessionEventListener.class );
+	}
+
 	public String toString() {
 		return "SessionStatistics[" +
 				"entity count=" + getEntityCount() +
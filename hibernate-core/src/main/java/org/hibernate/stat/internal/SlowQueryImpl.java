@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.stat.SlowQuery;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * @since 7.0
+ */
+class SlowQueryImpl implements SlowQuery {
+	private final String sql;
+	private final long executionTime;
+	private final Instant timestamp;
+	private final List<@Nullable String> parameters;
+	private final int rowCount;
+	private final @Nullable StackTraceElement callSite;
+	private volatile @Nullable String executionPlan;
+
+	SlowQueryImpl(
+			String sql,
+			long executionTime,
+			List<@Nullable String> parameters,
+			int rowCount,
+			@Nullable StackTraceElement callSite) {
+		this.sql = sql;
+		this.executionTime = executionTime;
+		this.timestamp = Instant.now();
+		// parameters may be null, so List.copyOf() is not an option
+		this.parameters = unmodifiableList( new ArrayList<>( parameters ) );
+		this.rowCount = rowCount;
+		this.callSite = callSite;
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	@Override
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	@Override
+	public List<@Nullable String> getParameters() {
+		return parameters;
+	}
+
+	@Override
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public @Nullable StackTraceElement getCallSite() {
+		return callSite;
+	}
+
+	@Override
+	public @Nullable String getExecutionPlan() {
+		return executionPlan;
+	}
+
+	void setExecutionPlan(@Nullable String executionPlan) {
+		this.executionPlan = executionPlan;
+	}
+
+	@Override
+	public String toString() {
+		return "SlowQuery[sql=" + sql
+				+ ",executionTime=" + executionTime
+				+ ",parameters=" + parameters
+				+ ",rowCount=" + rowCount
+				+ ",callSite=" + callSite
+				+ ']';
+	}
+}
@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.security.CodeSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.stat.SlowQuery;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.lang.StackWalker.Option.RETAIN_CLASS_REFERENCE;
+import static org.hibernate.internal.CoreLogging.messageLogger;
+
+/**
+ * Retains the slowest {@link SlowQuery} executions, up to a fixed number,
+ * and, if enabled, obtains their execution plans in the background.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#SLOW_QUERY_CAPTURE_SIZE
+ *
+ * @since 7.0
+ */
+class SlowQueryLog {
+	private static final CoreMessageLogger log = messageLogger( SlowQueryLog.class );
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance( RETAIN_CLASS_REFERENCE );
+	private static final CodeSource HIBERNATE_CODE_SOURCE = Session.class.getProtectionDomain().getCodeSource();
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final int capacity;
+	private final boolean explainEnabled;
+
+	// ordered fastest first, so that the head is the one to evict
+	private final PriorityQueue<SlowQueryImpl> slowestQueries =
+			new PriorityQueue<>( Comparator.comparingLong( SlowQueryImpl::getExecutionTime ) );
+
+	private @Nullable ThreadPoolExecutor explainExecutor;
+
+	SlowQueryLog(SessionFactoryImplementor sessionFactory, int capacity, boolean explainEnabled) {
+		this.sessionFactory = sessionFactory;
+		this.capacity = capacity;
+		this.explainEnabled = explainEnabled;
+	}
+
+	void record(
+			String sql,
+			long executionTime,
+			int rowCount,
+			List<JdbcParameterBinding> parameterBindings,
+			boolean explainable) {
+		final List<@Nullable String> parameters = new ArrayList<>( parameterBindings.size() );
+		for ( JdbcParameterBinding binding : parameterBindings ) {
+			parameters.add( mask( binding ) );
+		}
+		final SlowQueryImpl slowQuery =
+				new SlowQueryImpl( sql, executionTime, parameters, rowCount, callSite() );
+		final boolean retained;
+		synchronized ( slowestQueries ) {
+			if ( slowestQueries.size() < capacity ) {
+				retained = slowestQueries.add( slowQuery );
+			}
+			else if ( slowestQueries.peek().getExecutionTime() < executionTime ) {
+				slowestQueries.poll();
+				retained = slowestQueries.add( slowQuery );
+			}
+			else {
+				retained = false;
+			}
+		}
+		if ( retained && explainEnabled && explainable ) {
+			explain( slowQuery, parameterBindings );
+		}
+	}
+
+	List<SlowQuery> getSlowestQueries() {
+		final List<SlowQuery> result;
+		synchronized ( slowestQueries ) {
+			result = new ArrayList<>( slowestQueries );
+		}
+		result.sort( Comparator.comparingLong( SlowQuery::getExecutionTime ).reversed() );
+		return result;
+	}
+
+	void clear() {
+		synchronized ( slowestQueries ) {
+			slowestQueries.clear();
+		}
+	}
+
+	private static @Nullable String mask(JdbcParameterBinding binding) {
+		if ( binding.getBindValue() == null ) {
+			return null;
+		}
+		else {
+			final JdbcMapping bindType = binding.getBindType();
+			return bindType == null ? "?" : bindType.getJdbcType().getFriendlyName();
+		}
+	}
+
+	/**
+	 * The first stack frame which does not belong to Hibernate or the JDK.
+	 */
+	private static @Nullable StackTraceElement callSite() {
+		return STACK_WALKER.walk( frames -> frames
+				.filter( frame -> !isFrameworkClass( frame.getDeclaringClass() ) )
+				.findFirst()
+				.map( StackWalker.StackFrame::toStackTraceElement )
+				.orElse( null ) );
+	}
+
+	private static boolean isFrameworkClass(Class<?> declaringClass) {
+		final String className = declaringClass.getName();
+		if ( className.startsWith( "java." )
+				|| className.startsWith( "jdk." )
+				|| className.startsWith( "sun." )
+				|| className.startsWith( "jakarta.persistence." ) ) {
+			return true;
+		}
+		else if ( HIBERNATE_CODE_SOURCE == null ) {
+			return className.startsWith( "org.hibernate." );
+		}
+		else {
+			return HIBERNATE_CODE_SOURCE.equals( declaringClass.getProtectionDomain().getCodeSource() );
+		}
+	}
+
+	private void explain(SlowQueryImpl slowQuery, List<JdbcParameterBinding> parameterBindings) {
+		final String explainSql =
+				sessionFactory.getJdbcServices().getDialect().getExplainStatement( slowQuery.getSql() );
+		if ( explainSql != null ) {
+			try {
+				explainExecutor().execute( () -> slowQuery.setExecutionPlan( explain( explainSql, parameterBindings ) ) );
+			}
+			catch (RuntimeException e) {
+				// the queue is full, give up on this one
+				log.debugf( "Could not obtain execution plan of slow query: %s", e.getMessage() );
+			}
+		}
+	}
+
+	private synchronized ThreadPoolExecutor explainExecutor() {
+		if ( explainExecutor == null ) {
+			// at most one thread, which dies when idle, so there's nothing to shut down
+			explainExecutor = new ThreadPoolExecutor(
+					1, 1,
+					30, TimeUnit.SECONDS,
+					new ArrayBlockingQueue<>( capacity ),
+					runnable -> {
+						final Thread thread = new Thread( runnable, "hibernate-slow-query-explain" );
+						thread.setDaemon( true );
+						return thread;
+					}
+			);
+			explainExecutor.allowCoreThreadTimeOut( true );
+		}
+		return explainExecutor;
+	}
+
+	private @Nullable String explain(String explainSql, List<JdbcParameterBinding> parameterBindings) {
+		final JdbcConnectionAccess connectionAccess =
+				sessionFactory.getJdbcServices().getBootstrapJdbcConnectionAccess();
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try ( PreparedStatement statement = connection.prepareStatement( explainSql ) ) {
+				int position = 1;
+				for ( JdbcParameterBinding binding : parameterBindings ) {
+					//noinspection unchecked
+					binding.getBindType().getJdbcValueBinder()
+							.bind( statement, binding.getBindValue(), position++, sessionFactory.getWrapperOptions() );
+				}
+				try ( ResultSet resultSet = statement.executeQuery() ) {
+					final int columnCount = resultSet.getMetaData().getColumnCount();
+					final StringBuilder plan = new StringBuilder();
+					while ( resultSet.next() ) {
+						if ( !plan.isEmpty() ) {
+							plan.append( '\n' );
+						}
+						for ( int i = 1; i <= columnCount; i++ ) {
+							if ( i > 1 ) {
+								plan.append( ' ' );
+							}
+							plan.append( resultSet.getString( i ) );
+						}
+					}
+					return plan.toString();
+				}
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			log.debugf( "Could not obtain execution plan of slow query: %s", e.getMessage() );
+			return null;
+		}
+	}
+}
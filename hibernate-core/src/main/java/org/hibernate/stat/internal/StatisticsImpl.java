@@ -24,14 +24,20 @@
 import org.hibernate.internal.util.NullnessUtil;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.stat.QueryPlanUncacheableReason;
+import org.hibernate.stat.SlowQuery;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.checkerframework.checker.initialization.qual.UnknownInitialization;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparingLong;
 import static org.hibernate.internal.CoreLogging.messageLogger;
 
 /**
@@ -126,6 +132,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	private final @Nullable SlowQueryLog slowQueryLog;
+
+	/**
+	 * Keyed by collection role or entity name
+	 */
+	private final Map<String, String> repeatedLazyLoads = new ConcurrentHashMap<>();
+	private final LongAdder repeatedLazyLoadCount = new LongAdder();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -138,6 +152,10 @@ public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		final int slowQueryCaptureSize = sessionFactoryOptions.getSlowQueryCaptureSize();
+		slowQueryLog = slowQueryCaptureSize > 0
+				? new SlowQueryLog( sessionFactory, slowQueryCaptureSize, sessionFactoryOptions.isSlowQueryExplainEnabled() )
+				: null;
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -201,8 +219,10 @@ public void clear() {
 
 		optimisticFailureCount.reset();
 
-		entityStatsMap.clear();
-		collectionStatsMap.clear();
+		// reset the entity and collection statistics in place, since
+		// the persisters hold on to them (see getEntityStatistics())
+		entityStatsMap.forEachValue( EntityStatisticsImpl::reset );
+		collectionStatsMap.forEachValue( CollectionStatisticsImpl::reset );
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
@@ -210,6 +230,13 @@ public void clear() {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		repeatedLazyLoads.clear();
+		repeatedLazyLoadCount.reset();
+
+		if ( slowQueryLog != null ) {
+			slowQueryLog.clear();
+		}
+
 		resetStart();
 	}
 
@@ -328,6 +355,49 @@ public void deleteEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementDeleteCount();
 	}
 
+	@Override
+	public void loadEntity(EntityPersister persister) {
+		entityLoadCount.increment();
+		entityStatistics( persister ).incrementLoadCount();
+	}
+
+	@Override
+	public void fetchEntity(EntityPersister persister) {
+		entityFetchCount.increment();
+		entityStatistics( persister ).incrementFetchCount();
+	}
+
+	@Override
+	public void updateEntity(EntityPersister persister) {
+		entityUpdateCount.increment();
+		entityStatistics( persister ).incrementUpdateCount();
+	}
+
+	@Override
+	public void upsertEntity(EntityPersister persister) {
+		entityUpsertCount.increment();
+		entityStatistics( persister ).incrementUpsertCount();
+	}
+
+	@Override
+	public void insertEntity(EntityPersister persister) {
+		entityInsertCount.increment();
+		entityStatistics( persister ).incrementInsertCount();
+	}
+
+	@Override
+	public void deleteEntity(EntityPersister persister) {
+		entityDeleteCount.increment();
+		entityStatistics( persister ).incrementDeleteCount();
+	}
+
+	private EntityStatisticsImpl entityStatistics(EntityPersister persister) {
+		// use the handle cached by the persister, if it's one of ours
+		return persister.getEntityStatistics() instanceof EntityStatisticsImpl entityStatistics
+				? entityStatistics
+				: getEntityStatistics( persister.getEntityName() );
+	}
+
 	@Override
 	public void optimisticFailure(String entityName) {
 		optimisticFailureCount.increment();
@@ -429,6 +499,43 @@ public void removeCollection(String role) {
 		getCollectionStatistics( role ).incrementRemoveCount();
 	}
 
+	@Override
+	public void loadCollection(CollectionPersister persister) {
+		collectionLoadCount.increment();
+		collectionStatistics( persister ).incrementLoadCount();
+	}
+
+	@Override
+	public void fetchCollection(CollectionPersister persister) {
+		collectionFetchCount.increment();
+		collectionStatistics( persister ).incrementFetchCount();
+	}
+
+	@Override
+	public void updateCollection(CollectionPersister persister) {
+		collectionUpdateCount.increment();
+		collectionStatistics( persister ).incrementUpdateCount();
+	}
+
+	@Override
+	public void recreateCollection(CollectionPersister persister) {
+		collectionRecreateCount.increment();
+		collectionStatistics( persister ).incrementRecreateCount();
+	}
+
+	@Override
+	public void removeCollection(CollectionPersister persister) {
+		collectionRemoveCount.increment();
+		collectionStatistics( persister ).incrementRemoveCount();
+	}
+
+	private CollectionStatisticsImpl collectionStatistics(CollectionPersister persister) {
+		// use the handle cached by the persister, if it's one of ours
+		return persister.getCollectionStatistics() instanceof CollectionStatisticsImpl collectionStatistics
+				? collectionStatistics
+				: getCollectionStatistics( persister.getRole() );
+	}
+
 	@Override
 	public void collectionCachePut(NavigableRole collectionRole, String regionName) {
 		secondLevelCachePutCount.increment();
@@ -805,6 +912,39 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void queryTranslated(String hql, long microseconds) {
+		if ( hql != null ) {
+			getQueryStatistics( hql ).translated( microseconds );
+		}
+	}
+
+	@Override
+	public void queryPlanUncacheable(String hql, QueryPlanUncacheableReason reason) {
+		if ( hql != null ) {
+			getQueryStatistics( hql ).uncacheable( reason );
+		}
+	}
+
+	@Override
+	public String[] getMostExpensiveUncachedQueries(int maxResults) {
+		// inherently racy, but only meant to give a recent snapshot
+		final List<QueryStatisticsImpl> candidates = new ArrayList<>();
+		for ( String query : queryStatsMap.keysAsArray() ) {
+			final QueryStatisticsImpl queryStatistics = queryStatsMap.get( query );
+			if ( queryStatistics != null && queryStatistics.getPlanPreparationTotalMicroseconds() > 0 ) {
+				candidates.add( queryStatistics );
+			}
+		}
+		candidates.sort( comparingLong( QueryStatisticsImpl::getPlanPreparationTotalMicroseconds ).reversed() );
+		final int size = Math.min( maxResults, candidates.size() );
+		final String[] queries = new String[size];
+		for ( int i = 0; i < size; i++ ) {
+			queries[i] = candidates.get( i ).getQuery();
+		}
+		return queries;
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -1047,4 +1187,42 @@ public Map<String, Long> getSlowQueries() {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public boolean isSlowQueryCaptureEnabled() {
+		return slowQueryLog != null && isStatisticsEnabled();
+	}
+
+	@Override
+	public void slowQuery(
+			String sql,
+			long executionTime,
+			int rowCount,
+			List<JdbcParameterBinding> parameterBindings,
+			boolean explainable) {
+		if ( slowQueryLog != null ) {
+			slowQueryLog.record( sql, executionTime, rowCount, parameterBindings, explainable );
+		}
+	}
+
+	@Override
+	public List<SlowQuery> getSlowestQueries() {
+		return slowQueryLog == null ? emptyList() : slowQueryLog.getSlowestQueries();
+	}
+
+	@Override
+	public Map<String, String> getRepeatedLazyLoads() {
+		return repeatedLazyLoads;
+	}
+
+	@Override
+	public long getRepeatedLazyLoadCount() {
+		return repeatedLazyLoadCount.sum();
+	}
+
+	@Override
+	public void repeatedLazyLoad(String role, @Nullable String originatingQuery) {
+		repeatedLazyLoadCount.increment();
+		repeatedLazyLoads.put( role, originatingQuery == null ? "" : originatingQuery );
+	}
 }
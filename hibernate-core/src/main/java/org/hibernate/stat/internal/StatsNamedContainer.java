@@ -6,6 +6,7 @@
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
@@ -47,6 +48,19 @@ public void clear() {
 		map.clear();
 	}
 
+	/**
+	 * Apply the given action to every value currently held, skipping
+	 * keys which were computed to {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEachValue(Consumer<V> action) {
+		for ( Object value : map.values() ) {
+			if ( value != NULL_TOKEN ) {
+				action.accept( (V) value );
+			}
+		}
+	}
+
 	/**
 	 * This method is inherently racy and expensive. Only use on non-hot paths, and
 	 * only to get a recent snapshot.
@@ -4,12 +4,22 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
+import org.hibernate.stat.QueryPlanUncacheableReason;
+import org.hibernate.stat.SlowQuery;
 import org.hibernate.stat.Statistics;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
 /**
@@ -145,6 +155,133 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void removeCollection(String role);
 
+	/**
+	 * Callback about an entity being loaded, using the statistics
+	 * {@linkplain EntityPersister#getEntityStatistics() cached} by
+	 * the persister instead of looking them up by entity name.
+	 *
+	 * @see #loadEntity(String)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void loadEntity(EntityPersister persister) {
+		loadEntity( persister.getEntityName() );
+	}
+
+	/**
+	 * @see #fetchEntity(String)
+	 * @see #loadEntity(EntityPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void fetchEntity(EntityPersister persister) {
+		fetchEntity( persister.getEntityName() );
+	}
+
+	/**
+	 * @see #updateEntity(String)
+	 * @see #loadEntity(EntityPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void updateEntity(EntityPersister persister) {
+		updateEntity( persister.getEntityName() );
+	}
+
+	/**
+	 * @see #upsertEntity(String)
+	 * @see #loadEntity(EntityPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void upsertEntity(EntityPersister persister) {
+		upsertEntity( persister.getEntityName() );
+	}
+
+	/**
+	 * @see #insertEntity(String)
+	 * @see #loadEntity(EntityPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void insertEntity(EntityPersister persister) {
+		insertEntity( persister.getEntityName() );
+	}
+
+	/**
+	 * @see #deleteEntity(String)
+	 * @see #loadEntity(EntityPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void deleteEntity(EntityPersister persister) {
+		deleteEntity( persister.getEntityName() );
+	}
+
+	/**
+	 * Callback about a collection loading, using the statistics
+	 * {@linkplain CollectionPersister#getCollectionStatistics() cached}
+	 * by the persister instead of looking them up by role.
+	 *
+	 * @see #loadCollection(String)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void loadCollection(CollectionPersister persister) {
+		loadCollection( persister.getRole() );
+	}
+
+	/**
+	 * @see #fetchCollection(String)
+	 * @see #loadCollection(CollectionPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void fetchCollection(CollectionPersister persister) {
+		fetchCollection( persister.getRole() );
+	}
+
+	/**
+	 * @see #updateCollection(String)
+	 * @see #loadCollection(CollectionPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void updateCollection(CollectionPersister persister) {
+		updateCollection( persister.getRole() );
+	}
+
+	/**
+	 * @see #recreateCollection(String)
+	 * @see #loadCollection(CollectionPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void recreateCollection(CollectionPersister persister) {
+		recreateCollection( persister.getRole() );
+	}
+
+	/**
+	 * @see #removeCollection(String)
+	 * @see #loadCollection(CollectionPersister)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void removeCollection(CollectionPersister persister) {
+		removeCollection( persister.getRole() );
+	}
+
 	/**
 	 * Callback indicating a put into second level cache.
 	 *
@@ -286,6 +423,26 @@ default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating translation of the SQM tree of a query to SQL
+	 *
+	 * @param hql The query
+	 * @param microseconds translation time
+	 */
+	default void queryTranslated(String hql, long microseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the plan of a query could not be cached
+	 *
+	 * @param hql The query
+	 * @param reason why the plan was not cacheable
+	 */
+	default void queryPlanUncacheable(String hql, QueryPlanUncacheableReason reason) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Register the execution of a slow SQL query.
 	 */
@@ -298,4 +455,72 @@ default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Should the details of slow SQL queries be
+	 * {@linkplain #slowQuery(String, long, int, List, boolean) captured}?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#SLOW_QUERY_CAPTURE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	default boolean isSlowQueryCaptureEnabled() {
+		return false;
+	}
+
+	/**
+	 * Capture the details of the execution of a slow SQL query.
+	 *
+	 * @param sql The SQL query
+	 * @param executionTime The execution time in milliseconds
+	 * @param rowCount The number of rows read, or {@code -1} if unknown
+	 * @param parameterBindings The bind parameters, in order of their positions
+	 * @param explainable Whether the query may be explained by binding just
+	 *                    the given parameters
+	 *
+	 * @since 7.0
+	 */
+	default void slowQuery(
+			String sql,
+			long executionTime,
+			int rowCount,
+			List<JdbcParameterBinding> parameterBindings,
+			boolean explainable) {
+		//For backward compatibility
+	}
+
+	@Override
+	default List<SlowQuery> getSlowestQueries() {
+		//For backward compatibility
+		return emptyList();
+	}
+
+	@Override
+	default String[] getMostExpensiveUncachedQueries(int maxResults) {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * Register the detection of repeated lazy fetching of a collection role or entity
+	 * type within one session.
+	 *
+	 * @param role The collection role or entity name
+	 * @param originatingQuery The query most recently executed by the session, if any
+	 */
+	default void repeatedLazyLoad(String role, @Nullable String originatingQuery) {
+		//For backward compatibility
+	}
+
+	@Override
+	default Map<String, String> getRepeatedLazyLoads() {
+		//For backward compatibility
+		return emptyMap();
+	}
+
+	@Override
+	default long getRepeatedLazyLoadCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.Table;
+
+import static jakarta.persistence.FetchType.LAZY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Hibernate#fetchGraph}
+ */
+@DomainModel(
+		annotatedClasses = {
+				FetchGraphTest.Order.class,
+				FetchGraphTest.OrderLine.class,
+				FetchGraphTest.Product.class,
+				FetchGraphTest.Supplier.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class FetchGraphTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Product> products = new ArrayList<>();
+			for ( int i = 0; i < 4; i++ ) {
+				final Supplier supplier = new Supplier( i, "supplier " + i );
+				session.persist( supplier );
+				final Product product = new Product( i, "product " + i, supplier );
+				session.persist( product );
+				products.add( product );
+			}
+			int lineId = 0;
+			for ( int i = 0; i < 10; i++ ) {
+				final Order order = new Order( i );
+				session.persist( order );
+				for ( int j = 0; j < 3; j++ ) {
+					session.persist( new OrderLine( lineId++, order, products.get( ( i + j ) % products.size() ) ) );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOneQueryPerLevel(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Order> orders = session.createSelectionQuery( "from PurchaseOrder", Order.class ).getResultList();
+			assertThat( orders ).hasSize( 10 );
+
+			final EntityGraph<Order> graph = session.createEntityGraph( Order.class );
+			final Subgraph<OrderLine> lines = graph.addSubgraph( "lines" );
+			lines.addSubgraph( "product" ).addAttributeNodes( "supplier" );
+
+			statementInspector.clear();
+			Hibernate.fetchGraph( session, orders, graph );
+			// one for the lines, one for the products, one for the suppliers
+			statementInspector.assertExecutedCount( 3 );
+
+			for ( Order order : orders ) {
+				assertThat( Hibernate.isInitialized( order.lines ) ).isTrue();
+				assertThat( order.lines ).hasSize( 3 );
+				for ( OrderLine line : order.lines ) {
+					assertThat( Hibernate.isInitialized( line.product ) ).isTrue();
+					final Product product = Hibernate.unproxy( line.product, Product.class );
+					assertThat( Hibernate.isInitialized( product.supplier ) ).isTrue();
+					assertThat( Hibernate.unproxy( product.supplier, Supplier.class ).name ).startsWith( "supplier" );
+				}
+			}
+			statementInspector.assertExecutedCount( 3 );
+		} );
+	}
+
+	@Test
+	public void testBatchesOfBatchSize(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.setFetchBatchSize( 4 );
+			final List<Order> orders = session.createSelectionQuery( "from PurchaseOrder", Order.class ).getResultList();
+
+			final EntityGraph<Order> graph = session.createEntityGraph( Order.class );
+			graph.addSubgraph( "lines" ).addAttributeNodes( "product" );
+
+			statementInspector.clear();
+			Hibernate.fetchGraph( session, orders, graph );
+			// three for the lines of 10 orders, one for the 4 products
+			statementInspector.assertExecutedCount( 4 );
+
+			for ( Order order : orders ) {
+				assertThat( Hibernate.isInitialized( order.lines ) ).isTrue();
+				assertThat( order.lines ).hasSize( 3 );
+			}
+		} );
+	}
+
+	@Test
+	public void testPartiallyInitializedGraph(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Order> orders = session.createSelectionQuery( "from PurchaseOrder", Order.class ).getResultList();
+			// already initialized collections are not fetched again
+			Hibernate.initialize( orders.get( 0 ).lines );
+
+			final EntityGraph<Order> graph = session.createEntityGraph( Order.class );
+			graph.addSubgraph( "lines" ).addAttributeNodes( "product" );
+
+			statementInspector.clear();
+			Hibernate.fetchGraph( session, orders, graph );
+			// one for the remaining lines, one for the products
+			statementInspector.assertExecutedCount( 2 );
+
+			for ( Order order : orders ) {
+				for ( OrderLine line : order.lines ) {
+					assertThat( Hibernate.isInitialized( line.product ) ).isTrue();
+					final Product product = Hibernate.unproxy( line.product, Product.class );
+					assertThat( Hibernate.isInitialized( product.supplier ) ).isFalse();
+				}
+			}
+		} );
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "orders")
+	public static class Order {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "order")
+		List<OrderLine> lines = new ArrayList<>();
+
+		public Order() {
+		}
+
+		public Order(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	@Table(name = "order_lines")
+	public static class OrderLine {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = LAZY)
+		Order order;
+
+		@ManyToOne(fetch = LAZY)
+		Product product;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Integer id, Order order, Product product) {
+			this.id = id;
+			this.order = order;
+			this.product = product;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "products")
+	public static class Product {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ManyToOne(fetch = LAZY)
+		Supplier supplier;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Supplier supplier) {
+			this.id = id;
+			this.name = name;
+			this.supplier = supplier;
+		}
+	}
+
+	@Entity(name = "Supplier")
+	@Table(name = "suppliers")
+	public static class Supplier {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Supplier() {
+		}
+
+		public Supplier(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+
+import static jakarta.persistence.FetchType.LAZY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#LAZY_LOAD_DETECTION_THRESHOLD} and
+ * {@link AvailableSettings#ADAPTIVE_BATCH_FETCH}
+ */
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.LAZY_LOAD_DETECTION_THRESHOLD, value = "3"),
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		}
+)
+@DomainModel(
+		annotatedClasses = {
+				RepeatedLazyLoadDetectionTest.Author.class,
+				RepeatedLazyLoadDetectionTest.Book.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+public class RepeatedLazyLoadDetectionTest {
+	private static final String BOOKS_ROLE = Author.class.getName() + ".books";
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			int bookId = 0;
+			for ( int i = 0; i < 10; i++ ) {
+				final Author author = new Author( i );
+				session.persist( author );
+				for ( int j = 0; j < 2; j++ ) {
+					session.persist( new Book( bookId++, author ) );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testDetectionAndAdaptation(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).getResultList();
+			statementInspector.clear();
+			for ( Author author : authors ) {
+				assertThat( author.books ).hasSize( 2 );
+			}
+			// no batch size is mapped, so one query per collection
+			statementInspector.assertExecutedCount( 10 );
+		} );
+
+		assertThat( statistics.getRepeatedLazyLoadCount() ).isEqualTo( 1 );
+		final Map<String, String> repeatedLazyLoads = statistics.getRepeatedLazyLoads();
+		assertThat( repeatedLazyLoads ).containsOnlyKeys( BOOKS_ROLE );
+		assertThat( repeatedLazyLoads.get( BOOKS_ROLE ) ).isEqualTo( "from Author order by id" );
+
+		scope.inTransaction( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).getResultList();
+			statementInspector.clear();
+			for ( Author author : authors ) {
+				assertThat( author.books ).hasSize( 2 );
+			}
+			// the learned batch size is used by later sessions
+			assertThat( statementInspector.getSqlQueries().size() ).isLessThan( 10 );
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "authors")
+	public static class Author {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "author")
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "books")
+	public static class Book {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = LAZY)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
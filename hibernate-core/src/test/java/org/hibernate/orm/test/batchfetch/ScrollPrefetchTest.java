@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.FetchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.hibernate.Hibernate.isInitialized;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchSettings#SCROLL_PREFETCH_SIZE}
+ */
+@DomainModel(annotatedClasses = ScrollPrefetchTest.Customer.class)
+@ServiceRegistry(settings = @Setting(name = FetchSettings.SCROLL_PREFETCH_SIZE, value = "5"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class ScrollPrefetchTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				final Customer customer = new Customer( i );
+				customer.tags.add( "tag " + i );
+				customer.phones.add( "phone " + i );
+				session.persist( customer );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testScrollPrefetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			int count = 0;
+			try ( ScrollableResults<Customer> results = session
+					.createSelectionQuery( "from Customer order by id", Customer.class )
+					.setReadOnly( true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					final Customer customer = results.get();
+					assertThat( results.getRowNumber() ).isEqualTo( count );
+					// the batch fetchable collection is initialized before it is touched
+					assertThat( isInitialized( customer.tags ) ).isTrue();
+					// the other collection is left alone
+					assertThat( isInitialized( customer.phones ) ).isFalse();
+					assertThat( customer.tags ).containsExactly( "tag " + customer.id );
+					count++;
+				}
+			}
+			assertThat( count ).isEqualTo( 12 );
+			// the query, and one batch for each of the three windows
+			statementInspector.assertExecutedCount( 4 );
+		} );
+	}
+
+	@Test
+	public void testStreamPrefetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.setDefaultReadOnly( true );
+			statementInspector.clear();
+			try ( Stream<Customer> customers = session
+					.createSelectionQuery( "from Customer order by id", Customer.class )
+					.stream() ) {
+				assertThat( customers.mapToInt( customer -> customer.tags.size() ).sum() ).isEqualTo( 12 );
+			}
+			statementInspector.assertExecutedCount( 4 );
+		} );
+	}
+
+	@Test
+	public void testNotReadOnlyNotPrefetched(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Customer> results = session
+					.createSelectionQuery( "from Customer order by id", Customer.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( results.next() ).isTrue();
+				assertThat( isInitialized( results.get().tags ) ).isFalse();
+			}
+		} );
+	}
+
+	@Test
+	public void testScrollInsensitiveNotPrefetched(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Customer> results = session
+					.createSelectionQuery( "from Customer order by id", Customer.class )
+					.setReadOnly( true )
+					.scroll( ScrollMode.SCROLL_INSENSITIVE ) ) {
+				assertThat( results.next() ).isTrue();
+				assertThat( isInitialized( results.get().tags ) ).isFalse();
+			}
+		} );
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "customers")
+	public static class Customer {
+		@Id
+		Integer id;
+
+		@ElementCollection
+		@BatchSize(size = 5)
+		Set<String> tags = new HashSet<>();
+
+		@ElementCollection
+		Set<String> phones = new HashSet<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id) {
+			this.id = id;
+		}
+	}
+}
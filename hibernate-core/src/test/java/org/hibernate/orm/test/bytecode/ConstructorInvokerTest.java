@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bytecode;
+
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.ConstructorInvoker;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
+
+/**
+ * Tests for {@link BytecodeProvider#getConstructorInvoker}
+ */
+public class ConstructorInvokerTest {
+
+	private static BytecodeProvider provider;
+
+	@BeforeAll
+	public static void initBytecodeProvider() {
+		provider = buildDefaultBytecodeProvider();
+	}
+
+	@AfterAll
+	public static void clearBytecodeProvider() {
+		if ( provider != null ) {
+			provider.resetCaches();
+			provider = null;
+		}
+	}
+
+	@Test
+	public void testRecordConstructor() throws Exception {
+		final ConstructorInvoker invoker = provider.getConstructorInvoker(
+				Summary.class.getDeclaredConstructor( String.class, long.class, double.class )
+		);
+		assertThat( invoker ).isNotNull();
+		assertThat( invoker.newInstance( new Object[] { "a", 3L, 1.5 } ) )
+				.isEqualTo( new Summary( "a", 3L, 1.5 ) );
+		// boxed arguments are widened like Constructor.newInstance() does
+		assertThat( invoker.newInstance( new Object[] { "b", 4, 2.5f } ) )
+				.isEqualTo( new Summary( "b", 4L, 2.5 ) );
+	}
+
+	@Test
+	public void testNoNarrowing() throws Exception {
+		final ConstructorInvoker invoker = provider.getConstructorInvoker(
+				Summary.class.getDeclaredConstructor( String.class, long.class, double.class )
+		);
+		assertThat( invoker ).isNotNull();
+		// a Double is never truncated to a long, and a Long never to an int
+		assertThatThrownBy( () -> invoker.newInstance( new Object[] { "a", 3.7, 1.5 } ) )
+				.isInstanceOf( ClassCastException.class );
+		final ConstructorInvoker intInvoker = provider.getConstructorInvoker(
+				Counter.class.getDeclaredConstructor( int.class )
+		);
+		assertThat( intInvoker ).isNotNull();
+		assertThat( intInvoker.newInstance( new Object[] { (short) 5 } ) ).isEqualTo( new Counter( 5 ) );
+		assertThatThrownBy( () -> intInvoker.newInstance( new Object[] { 5L } ) )
+				.isInstanceOf( ClassCastException.class );
+	}
+
+	@Test
+	public void testInvokerIsCached() throws Exception {
+		final ConstructorInvoker first = provider.getConstructorInvoker(
+				Summary.class.getDeclaredConstructor( String.class, long.class, double.class )
+		);
+		final ConstructorInvoker second = provider.getConstructorInvoker(
+				Summary.class.getDeclaredConstructor( String.class, long.class, double.class )
+		);
+		assertThat( first ).isNotNull();
+		assertThat( second ).isNotNull();
+		assertThat( second.getClass() ).isSameAs( first.getClass() );
+	}
+
+	@Test
+	public void testPrivateConstructor() throws Exception {
+		assertThat( provider.getConstructorInvoker( Hidden.class.getDeclaredConstructor( String.class ) ) ).isNull();
+	}
+
+	public record Summary(String name, long count, double total) {
+	}
+
+	public record Counter(int count) {
+	}
+
+	public static class Hidden {
+		private final String name;
+
+		private Hidden(String name) {
+			this.name = name;
+		}
+	}
+}
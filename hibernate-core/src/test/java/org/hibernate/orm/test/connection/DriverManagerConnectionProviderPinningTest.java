@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.util.VirtualThreadPinningDetector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the built-in pool does not pin virtual threads to their
+ * carrier while it opens new connections
+ */
+public class DriverManagerConnectionProviderPinningTest {
+
+	private static final int POOL_SIZE = 5;
+
+	@Test
+	public void testNoPinningWhileGrowingPool() throws Exception {
+		assumeTrue( VirtualThreadPinningDetector.isVirtualThreadSupported() );
+
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pinning" );
+		properties.put( AvailableSettings.DRIVER, SlowDriver.class.getName() );
+		properties.put( AvailableSettings.POOL_SIZE, Integer.toString( POOL_SIZE ) );
+		properties.put( DriverManagerConnectionProviderImpl.INITIAL_SIZE, "0" );
+
+		final DriverManagerConnectionProviderImpl connectionProvider = new DriverManagerConnectionProviderImpl();
+		connectionProvider.configure( PropertiesHelper.map( properties ) );
+		try ( VirtualThreadPinningDetector detector = VirtualThreadPinningDetector.start() ) {
+			VirtualThreadPinningDetector.runInVirtualThreads( POOL_SIZE, () -> {
+				for ( int i = 0; i < 3; i++ ) {
+					final Connection connection = connectionProvider.getConnection();
+					connectionProvider.closeConnection( connection );
+				}
+			} );
+			assertThat( detector.getPinnedStackTraces() ).isEmpty();
+		}
+		finally {
+			connectionProvider.stop();
+		}
+	}
+
+	/**
+	 * Delegates to the H2 driver, but takes its time to connect, like a
+	 * driver making a network round trip.
+	 */
+	public static class SlowDriver implements Driver {
+		private final Driver delegate;
+
+		public SlowDriver() throws Exception {
+			Class.forName( ConnectionProviderBuilder.DRIVER );
+			delegate = DriverManager.getDriver( ConnectionProviderBuilder.URL );
+		}
+
+		@Override
+		public Connection connect(String url, Properties info) throws SQLException {
+			try {
+				// longer than the threshold of the jdk.VirtualThreadPinned event
+				Thread.sleep( 50 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return delegate.connect( url, info );
+		}
+
+		@Override
+		public boolean acceptsURL(String url) throws SQLException {
+			return delegate.acceptsURL( url );
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) throws SQLException {
+			return delegate.getPropertyInfo( url, info );
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return delegate.getMajorVersion();
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return delegate.getMinorVersion();
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return delegate.jdbcCompliant();
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			return delegate.getParentLogger();
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.ConnectionPoolSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.PooledConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.internal.log.ConnectionInfoLogger;
+import org.hibernate.internal.util.PropertiesHelper;
+import org.hibernate.service.ServiceRegistry;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.orm.junit.Logger;
+import org.hibernate.testing.orm.junit.MessageKeyInspection;
+import org.hibernate.testing.orm.junit.MessageKeyWatcher;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the built-in {@link PooledConnectionProviderImpl}
+ */
+@RequiresDialect(H2Dialect.class)
+@MessageKeyInspection(messageKey = "HHH10001014", logger = @Logger(loggerName = ConnectionInfoLogger.LOGGER_NAME))
+public class PooledConnectionProviderTest {
+
+	@Test
+	public void testReuseReturnedConnection() throws Exception {
+		final PooledConnectionProviderImpl provider = buildProvider( new Properties() );
+		try {
+			final Connection connection = provider.getConnection();
+			assertThat( provider.getActiveConnectionCount() ).isEqualTo( 1 );
+			provider.closeConnection( connection );
+			assertThat( provider.getActiveConnectionCount() ).isZero();
+			assertThat( provider.getIdleConnectionCount() ).isEqualTo( 1 );
+			// the same thread gets the same connection back
+			final Connection again = provider.getConnection();
+			assertThat( again ).isSameAs( connection );
+			provider.closeConnection( again );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testMinIdle() {
+		final Properties properties = new Properties();
+		properties.put( ConnectionPoolSettings.POOL_MIN_IDLE, "3" );
+		final PooledConnectionProviderImpl provider = buildProvider( properties );
+		try {
+			assertThat( provider.getIdleConnectionCount() ).isEqualTo( 3 );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testAcquisitionTimeout() throws Exception {
+		final Properties properties = new Properties();
+		properties.put( AvailableSettings.POOL_SIZE, "1" );
+		properties.put( ConnectionPoolSettings.POOL_ACQUISITION_TIMEOUT, "100" );
+		final PooledConnectionProviderImpl provider = buildProvider( properties );
+		try {
+			final Connection connection = provider.getConnection();
+			assertThatThrownBy( provider::getConnection )
+					.isInstanceOf( SQLTransientConnectionException.class );
+			provider.closeConnection( connection );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testDefaultPoolSize() throws Exception {
+		final Properties properties = new Properties();
+		properties.put( ConnectionPoolSettings.POOL_ACQUISITION_TIMEOUT, "100" );
+		final PooledConnectionProviderImpl provider = buildProvider( properties );
+		final List<Connection> connections = new ArrayList<>();
+		try {
+			// the same default as DriverManagerConnectionProviderImpl
+			for ( int i = 0; i < 20; i++ ) {
+				connections.add( provider.getConnection() );
+			}
+			assertThatThrownBy( provider::getConnection )
+					.isInstanceOf( SQLTransientConnectionException.class );
+			for ( Connection connection : connections ) {
+				provider.closeConnection( connection );
+			}
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testHandoffToWaitingThread() throws Exception {
+		final Properties properties = new Properties();
+		properties.put( AvailableSettings.POOL_SIZE, "1" );
+		final PooledConnectionProviderImpl provider = buildProvider( properties );
+		try {
+			final Connection connection = provider.getConnection();
+			final CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync( () -> {
+				try {
+					return provider.getConnection();
+				}
+				catch (Exception e) {
+					throw new RuntimeException( e );
+				}
+			} );
+			Thread.sleep( 100 );
+			assertThat( waiter ).isNotDone();
+			provider.closeConnection( connection );
+			final Connection handedOff = waiter.get( 5, TimeUnit.SECONDS );
+			assertThat( handedOff ).isSameAs( connection );
+			provider.closeConnection( handedOff );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testMaxLifetime() throws Exception {
+		final Properties properties = new Properties();
+		properties.put( ConnectionPoolSettings.POOL_MAX_LIFETIME, "50" );
+		final PooledConnectionProviderImpl provider = buildProvider( properties );
+		try {
+			final Connection connection = provider.getConnection();
+			Thread.sleep( 100 );
+			provider.closeConnection( connection );
+			// retired rather than returned to the pool
+			assertThat( connection.isClosed() ).isTrue();
+			assertThat( provider.getIdleConnectionCount() ).isZero();
+			final Connection replacement = provider.getConnection();
+			assertThat( replacement ).isNotSameAs( connection );
+			provider.closeConnection( replacement );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testIdleTimeout() throws Exception {
+		final Properties properties = new Properties();
+		properties.put( ConnectionPoolSettings.POOL_MIN_IDLE, "1" );
+		properties.put( ConnectionPoolSettings.POOL_IDLE_TIMEOUT, "100" );
+		final PooledConnectionProviderImpl provider = buildProvider( properties );
+		try {
+			final Connection first = provider.getConnection();
+			final Connection second = provider.getConnection();
+			provider.closeConnection( first );
+			provider.closeConnection( second );
+			assertThat( provider.getIdleConnectionCount() ).isEqualTo( 2 );
+			// housekeeping evicts connections idle for too long, down to the minimum
+			awaitCondition( () -> provider.getIdleConnectionCount() == 1 );
+			assertThat( first.isClosed() || second.isClosed() ).isTrue();
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testLeakDetection(MessageKeyWatcher watcher) throws Exception {
+		final Properties properties = new Properties();
+		properties.put( ConnectionPoolSettings.POOL_LEAK_DETECTION_THRESHOLD, "100" );
+		final PooledConnectionProviderImpl provider = buildProvider( properties );
+		try {
+			watcher.reset();
+			// returned within the threshold
+			provider.closeConnection( provider.getConnection() );
+			Thread.sleep( 200 );
+			assertThat( watcher.wasTriggered() ).isFalse();
+
+			final Connection leaked = provider.getConnection();
+			awaitCondition( watcher::wasTriggered );
+			provider.closeConnection( leaked );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testStopClosesIdleConnections() throws Exception {
+		final PooledConnectionProviderImpl provider = buildProvider( new Properties() );
+		final Connection connection = provider.getConnection();
+		provider.closeConnection( connection );
+		provider.stop();
+		assertThat( connection.isClosed() ).isTrue();
+	}
+
+	@Test
+	public void testSelectedByStrategyName() {
+		try ( ServiceRegistry serviceRegistry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.CONNECTION_PROVIDER, "pooled" )
+				.applySetting( ConnectionPoolSettings.POOL_MIN_IDLE, "1" )
+				.build() ) {
+			final ConnectionProvider provider = serviceRegistry.requireService( ConnectionProvider.class );
+			assertThat( provider.isUnwrappableAs( PooledConnectionProviderImpl.class ) ).isTrue();
+		}
+	}
+
+	private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+		while ( !condition.getAsBoolean() ) {
+			assertThat( System.nanoTime() ).isLessThan( deadline );
+			Thread.sleep( 20 );
+		}
+	}
+
+	private static PooledConnectionProviderImpl buildProvider(Properties settings) {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "pooled" );
+		properties.putAll( settings );
+		final PooledConnectionProviderImpl provider = new PooledConnectionProviderImpl();
+		provider.configure( PropertiesHelper.map( properties ) );
+		return provider;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.ReplicaRoutingConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.RoutingConnectionProvider.Intent;
+import org.hibernate.internal.util.PropertiesHelper;
+
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the {@link ReplicaRoutingConnectionProviderImpl} stops using a
+ * read replica which cannot be reached, and falls back to the primary database
+ * when no replica can be reached.
+ */
+@RequiresDialect(H2Dialect.class)
+public class ReplicaFallbackTest {
+	// nothing listens on this port
+	private static final String UNREACHABLE = "jdbc:h2:tcp://localhost:1/mem:unreachable";
+	private static final String REACHABLE = "jdbc:h2:mem:reachable;DB_CLOSE_DELAY=-1";
+
+	@Test
+	public void testFallbackToPrimary() throws SQLException {
+		final ReplicaRoutingConnectionProviderImpl provider = buildProvider( UNREACHABLE );
+		try {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( url( provider ) ).startsWith( "jdbc:h2:mem:primary" );
+			}
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testUnreachableReplicaIsSkipped() throws SQLException {
+		final ReplicaRoutingConnectionProviderImpl provider = buildProvider( UNREACHABLE + "," + REACHABLE );
+		try {
+			// the first read goes to the unreachable replica, and falls back to the primary
+			// database, unless the replica has already been found unreachable by validation
+			assertThat( url( provider ) ).matches( "jdbc:h2:mem:(primary|reachable).*" );
+			for ( int i = 0; i < 4; i++ ) {
+				assertThat( url( provider ) ).startsWith( "jdbc:h2:mem:reachable" );
+			}
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	private static String url(ReplicaRoutingConnectionProviderImpl provider) throws SQLException {
+		final Connection connection = provider.getConnection( Intent.READ_ONLY );
+		try {
+			return connection.getMetaData().getURL();
+		}
+		finally {
+			provider.closeConnection( connection );
+		}
+	}
+
+	private static ReplicaRoutingConnectionProviderImpl buildProvider(String replicaUrls) {
+		final Properties properties = ConnectionProviderBuilder.getConnectionProviderProperties( "primary" );
+		properties.put( AvailableSettings.REPLICA_URLS, replicaUrls );
+		final ReplicaRoutingConnectionProviderImpl provider = new ReplicaRoutingConnectionProviderImpl();
+		provider.configure( PropertiesHelper.map( properties ) );
+		return provider;
+	}
+}
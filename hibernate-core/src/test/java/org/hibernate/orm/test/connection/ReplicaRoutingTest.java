@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.ReplicaRoutingConnectionProviderImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.LockModeType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link ReplicaRoutingConnectionProviderImpl}, using separate
+ * in-memory H2 databases as the read replicas. Each database holds a book with
+ * a different title, so that a query reveals which database answered it.
+ */
+@RequiresDialect(H2Dialect.class)
+@DomainModel(annotatedClasses = ReplicaRoutingTest.Book.class)
+@SessionFactory
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.engine.jdbc.connections.internal.ReplicaRoutingConnectionProviderImpl"),
+		@Setting(name = AvailableSettings.REPLICA_URLS,
+				value = ReplicaRoutingTest.REPLICA_1 + "," + ReplicaRoutingTest.REPLICA_2),
+		@Setting(name = AvailableSettings.DEFER_JDBC_TRANSACTION_BEGIN, value = "true")
+})
+public class ReplicaRoutingTest {
+	static final String REPLICA_1 = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+	static final String REPLICA_2 = "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1";
+
+	private static final String PRIMARY = "Primary";
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) throws SQLException {
+		scope.inTransaction( session -> session.persist( new Book( 1, PRIMARY ) ) );
+		createReplica( REPLICA_1, "Replica 1" );
+		createReplica( REPLICA_2, "Replica 2" );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) throws SQLException {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		for ( String url : new String[] { REPLICA_1, REPLICA_2 } ) {
+			try ( Connection connection = DriverManager.getConnection( url, "sa", "" );
+					Statement statement = connection.createStatement() ) {
+				statement.execute( "drop table if exists Book" );
+			}
+		}
+	}
+
+	private static void createReplica(String url, String title) throws SQLException {
+		try ( Connection connection = DriverManager.getConnection( url, "sa", "" );
+				Statement statement = connection.createStatement() ) {
+			statement.execute( "create table if not exists Book (id integer primary key, title varchar(255))" );
+			statement.execute( "delete from Book" );
+			statement.execute( "insert into Book (id, title) values (1, '" + title + "')" );
+			if ( !connection.getAutoCommit() ) {
+				connection.commit();
+			}
+		}
+	}
+
+	private static String title(Session session) {
+		return session.createSelectionQuery( "select title from Book where id = 1", String.class )
+				.getSingleResult();
+	}
+
+	@Test
+	public void testReadOnlySessionReadsFromReplicas(SessionFactoryScope scope) {
+		final Set<String> titles = new HashSet<>();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				session.setDefaultReadOnly( true );
+				titles.add( title( session ) );
+			} );
+		}
+		// round-robin
+		assertThat( titles ).containsExactlyInAnyOrder( "Replica 1", "Replica 2" );
+	}
+
+	@Test
+	public void testReadWriteSessionReadsFromPrimary(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat( title( session ) ).isEqualTo( PRIMARY ) );
+	}
+
+	@Test
+	public void testReadOnlyQueryReadsFromReplica(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String title = session.createSelectionQuery( "select title from Book where id = 1", String.class )
+					.setReadOnly( true )
+					.getSingleResult();
+			assertThat( title ).startsWith( "Replica" );
+		} );
+	}
+
+	@Test
+	public void testStatelessSessionReadsFromReplica(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			final String title = session.createSelectionQuery( "select title from Book where id = 1", String.class )
+					.getSingleResult();
+			assertThat( title ).startsWith( "Replica" );
+		} );
+	}
+
+	@Test
+	public void testReadYourWritesAfterFlush(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				assertThat( title( session ) ).startsWith( "Replica" );
+				// the write switches the session to the primary database
+				session.persist( new Book( 2, "Written" ) );
+				session.flush();
+				assertThat( title( session ) ).isEqualTo( PRIMARY );
+				assertThat( session.createSelectionQuery( "select title from Book where id = 2", String.class )
+						.getSingleResult() ).isEqualTo( "Written" );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 2 ) ).isNull() );
+	}
+
+	@Test
+	public void testLockingQueryReadsFromPrimary(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.setDefaultReadOnly( true );
+			session.getTransaction().begin();
+			try {
+				assertThat( title( session ) ).startsWith( "Replica" );
+				// the lock must be obtained on the primary database
+				final Book book = session.createSelectionQuery( "from Book where id = 1", Book.class )
+						.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+						.getSingleResult();
+				assertThat( book.title ).isEqualTo( PRIMARY );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
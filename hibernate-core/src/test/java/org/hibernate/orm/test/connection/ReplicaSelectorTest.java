@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.connections.internal.LeastLatencyReplicaSelector;
+import org.hibernate.engine.jdbc.connections.internal.RoundRobinReplicaSelector;
+import org.hibernate.engine.jdbc.connections.spi.ReplicaSelector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the built-in {@link ReplicaSelector}s
+ */
+public class ReplicaSelectorTest {
+
+	private record TestReplica(String url, long latency) implements ReplicaSelector.Replica {
+		@Override
+		public String getUrl() {
+			return url;
+		}
+
+		@Override
+		public long getLatency() {
+			return latency;
+		}
+	}
+
+	private static List<Integer> select(ReplicaSelector selector, List<TestReplica> replicas, int times) {
+		final List<Integer> selected = new ArrayList<>();
+		for ( int i = 0; i < times; i++ ) {
+			selected.add( selector.select( replicas ) );
+		}
+		return selected;
+	}
+
+	@Test
+	public void testRoundRobin() {
+		final List<TestReplica> replicas = List.of(
+				new TestReplica( "replica1", 0 ),
+				new TestReplica( "replica2", 0 ),
+				new TestReplica( "replica3", 0 )
+		);
+		assertThat( select( new RoundRobinReplicaSelector(), replicas, 6 ) )
+				.containsExactly( 0, 1, 2, 0, 1, 2 );
+	}
+
+	@Test
+	public void testLeastLatency() {
+		final List<TestReplica> replicas = List.of(
+				new TestReplica( "replica1", 3_000 ),
+				new TestReplica( "replica2", 1_000 ),
+				new TestReplica( "replica3", 2_000 )
+		);
+		final List<Integer> selected = select( new LeastLatencyReplicaSelector(), replicas, 32 );
+		// every sixteenth selection is made in turn
+		assertThat( selected.get( 0 ) ).isEqualTo( 0 );
+		assertThat( selected.get( 16 ) ).isEqualTo( 1 );
+		assertThat( selected.subList( 1, 16 ) ).containsOnly( 1 );
+		assertThat( selected.subList( 17, 32 ) ).containsOnly( 1 );
+	}
+
+	@Test
+	public void testLeastLatencyPrefersUnmeasured() {
+		final List<TestReplica> replicas = List.of(
+				new TestReplica( "replica1", 1_000 ),
+				new TestReplica( "replica2", 0 )
+		);
+		assertThat( select( new LeastLatencyReplicaSelector(), replicas, 16 ).subList( 1, 16 ) )
+				.containsOnly( 1 );
+	}
+}
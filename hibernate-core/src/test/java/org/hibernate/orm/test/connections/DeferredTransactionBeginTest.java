@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.connections;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#DEFER_JDBC_TRANSACTION_BEGIN}
+ */
+@DomainModel(annotatedClasses = DeferredTransactionBeginTest.Book.class)
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.DEFER_JDBC_TRANSACTION_BEGIN, value = "true"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+})
+public class DeferredTransactionBeginTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNoConnectionWithoutSql(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			// served from the second-level cache
+			assertThat( session.find( Book.class, 1 ) ).isNotNull();
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getConnectCount() ).isZero();
+		assertThat( statistics.getTransactionCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testTransactionBegunOnFirstStatement(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			session.persist( new Book( 2, "Java Persistence with Hibernate" ) );
+			session.flush();
+			assertThat( statistics.getConnectCount() ).isEqualTo( 1 );
+			// the insert must not have been auto-committed
+			session.getTransaction().rollback();
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 2 ) ).isNull() );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
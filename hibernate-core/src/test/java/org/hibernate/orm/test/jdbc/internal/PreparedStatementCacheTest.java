@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#STATEMENT_CACHE_SIZE}
+ */
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Person.class)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "16"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsJdbcDriverProxying.class)
+public class PreparedStatementCacheTest {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		connectionProvider = (PreparedStatementSpyConnectionProvider) scope.getSessionFactory()
+				.getProperties()
+				.get( AvailableSettings.CONNECTION_PROVIDER );
+		scope.inTransaction( session -> {
+			session.persist( new Person( 1, "John" ) );
+			session.persist( new Person( 2, "Jane" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clear() {
+		connectionProvider.clear();
+	}
+
+	@Test
+	public void testStatementReusedWithinTransaction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.find( Person.class, 1 ).name ).isEqualTo( "John" );
+			session.clear();
+			assertThat( session.find( Person.class, 2 ).name ).isEqualTo( "Jane" );
+			session.clear();
+			assertThat( session.find( Person.class, 1 ).name ).isEqualTo( "John" );
+
+			final List<PreparedStatement> preparedStatements = connectionProvider.getPreparedStatements();
+			assertThat( preparedStatements ).hasSize( 1 );
+		} );
+	}
+
+	@Test
+	public void testParametersResetBetweenQueries(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final String hql = "select p.name from Person p where p.id = :id";
+			assertThat( session.createSelectionQuery( hql, String.class )
+					.setParameter( "id", 1 )
+					.getSingleResult() ).isEqualTo( "John" );
+			assertThat( session.createSelectionQuery( "select p.name from Person p order by p.id", String.class )
+					.getResultList() ).containsExactly( "John", "Jane" );
+			assertThat( session.createSelectionQuery( hql, String.class )
+					.setParameter( "id", 2 )
+					.getSingleResult() ).isEqualTo( "Jane" );
+
+			assertThat( connectionProvider.getPreparedStatements() ).hasSize( 2 );
+		} );
+	}
+
+	@Test
+	public void testStatementsClosedWhenConnectionReleased(SessionFactoryScope scope) throws Exception {
+		scope.inTransaction( session -> session.find( Person.class, 1 ) );
+		final List<PreparedStatement> preparedStatements = connectionProvider.getPreparedStatements();
+		assertThat( preparedStatements ).hasSize( 1 );
+		assertThat( preparedStatements.get( 0 ).isClosed() ).isTrue();
+
+		// a new physical connection means a new statement
+		scope.inTransaction( session -> session.find( Person.class, 1 ) );
+		assertThat( connectionProvider.getPreparedStatements() ).hasSize( 2 );
+	}
+
+	@Entity(name = "Person")
+	@Table(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
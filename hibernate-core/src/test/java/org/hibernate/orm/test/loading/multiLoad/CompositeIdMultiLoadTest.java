@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.dialect.Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for multi-loading entities with a composite id, which, if the
+ * {@linkplain Dialect#useArraysForMultiValuedTupleParameters() dialect allows},
+ * passes the ids as one array parameter for each id column.
+ */
+@DomainModel(annotatedClasses = {
+		CompositeIdMultiLoadTest.Shipment.class,
+		CompositeIdMultiLoadTest.Parcel.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class CompositeIdMultiLoadTest {
+
+	private static final int COUNT = 2000;
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new Shipment( new ShipmentId( i % 10, "code " + i ), "shipment " + i ) );
+				session.persist( new Parcel( i % 10, "code " + i, "parcel " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFindMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Object> ids = new ArrayList<>();
+		for ( int i = COUNT - 1; i >= 0; i-- ) {
+			ids.add( new ShipmentId( i % 10, "code " + i ) );
+		}
+		// a key which does not exist
+		ids.add( new ShipmentId( 1, "code 0" ) );
+
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Shipment> shipments = session.findMultiple( Shipment.class, ids );
+			assertThat( shipments ).hasSize( COUNT + 1 );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( shipments.get( i ).id ).isEqualTo( ids.get( i ) );
+				assertThat( shipments.get( i ).description ).isEqualTo( "shipment " + ( COUNT - 1 - i ) );
+			}
+			assertThat( shipments.get( COUNT ) ).isNull();
+			if ( useArrays( scope ) ) {
+				statementInspector.assertExecutedCount( 1 );
+				assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "unnest" );
+			}
+		} );
+	}
+
+	@Test
+	public void testUnorderedMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			// one of the entities is already in the session
+			final Shipment managed = session.find( Shipment.class, new ShipmentId( 3, "code 3" ) );
+
+			statementInspector.clear();
+			final List<Shipment> shipments = session.byMultipleIds( Shipment.class )
+					.enableOrderedReturn( false )
+					.multiLoad( new ShipmentId( 3, "code 3" ), new ShipmentId( 5, "code 5" ), new ShipmentId( 7, "code 17" ) );
+			assertThat( shipments ).hasSize( 3 );
+			assertThat( shipments ).contains( managed );
+			assertThat( shipments ).extracting( shipment -> shipment.description )
+					.containsExactlyInAnyOrder( "shipment 3", "shipment 5", "shipment 17" );
+			if ( useArrays( scope ) ) {
+				statementInspector.assertExecutedCount( 1 );
+			}
+		} );
+	}
+
+	@Test
+	public void testFindMultipleWithIdClass(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Object> ids = new ArrayList<>();
+		for ( int i = COUNT - 1; i >= 0; i-- ) {
+			ids.add( new ParcelId( i % 10, "code " + i ) );
+		}
+		// a key which does not exist
+		ids.add( new ParcelId( 1, "code 0" ) );
+
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Parcel> parcels = session.findMultiple( Parcel.class, ids );
+			assertThat( parcels ).hasSize( COUNT + 1 );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final ParcelId id = (ParcelId) ids.get( i );
+				assertThat( parcels.get( i ).region ).isEqualTo( id.region );
+				assertThat( parcels.get( i ).code ).isEqualTo( id.code );
+				assertThat( parcels.get( i ).description ).isEqualTo( "parcel " + ( COUNT - 1 - i ) );
+			}
+			assertThat( parcels.get( COUNT ) ).isNull();
+			if ( useArrays( scope ) ) {
+				statementInspector.assertExecutedCount( 1 );
+				assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "unnest" );
+			}
+		} );
+	}
+
+	private static boolean useArrays(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getJdbcServices().getDialect().useArraysForMultiValuedTupleParameters();
+	}
+
+	@Embeddable
+	public static class ShipmentId {
+		Integer region;
+		String code;
+
+		public ShipmentId() {
+		}
+
+		public ShipmentId(Integer region, String code) {
+			this.region = region;
+			this.code = code;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ShipmentId that
+					&& Objects.equals( region, that.region )
+					&& Objects.equals( code, that.code );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( region, code );
+		}
+	}
+
+	@Entity(name = "Shipment")
+	@Table(name = "shipments")
+	public static class Shipment {
+		@EmbeddedId
+		ShipmentId id;
+
+		String description;
+
+		public Shipment() {
+		}
+
+		public Shipment(ShipmentId id, String description) {
+			this.id = id;
+			this.description = description;
+		}
+	}
+
+	public static class ParcelId {
+		Integer region;
+		String code;
+
+		public ParcelId() {
+		}
+
+		public ParcelId(Integer region, String code) {
+			this.region = region;
+			this.code = code;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ParcelId that
+					&& Objects.equals( region, that.region )
+					&& Objects.equals( code, that.code );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( region, code );
+		}
+	}
+
+	@Entity(name = "Parcel")
+	@Table(name = "parcels")
+	@IdClass(ParcelId.class)
+	public static class Parcel {
+		@Id
+		Integer region;
+		@Id
+		String code;
+
+		String description;
+
+		public Parcel() {
+		}
+
+		public Parcel(Integer region, String code, String description) {
+			this.region = region;
+			this.code = code;
+			this.description = description;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.hibernate.loader.ast.spi.MultiKeyLoadSizingStrategy;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@code findMultiple()} loads in batches limited only by the
+ * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit parameter limit}
+ * when the ids are rendered as a {@code VALUES} table, instead of in batches
+ * sized for an in-list.
+ */
+@DomainModel(annotatedClasses = MultiLoadValuesThresholdTest.Item.class)
+@ServiceRegistry(
+		settings = @Setting(name = QuerySettings.IN_CLAUSE_VALUES_THRESHOLD, value = "5"),
+		settingProviders = @SettingProvider(
+				provider = MultiLoadValuesThresholdTest.TestSettingProvider.class,
+				settingName = AvailableSettings.DIALECT
+		)
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class MultiLoadValuesThresholdTest {
+
+	public static class TestSettingProvider implements SettingProvider.Provider<String> {
+
+		@Override
+		public String getSetting() {
+			return TestDialect.class.getName();
+		}
+	}
+
+	public static class TestDialect extends H2Dialect {
+
+		public TestDialect(DialectResolutionInfo info) {
+			super( info );
+		}
+
+		public TestDialect() {
+		}
+
+		public TestDialect(DatabaseVersion version) {
+			super( version );
+		}
+
+		@Override
+		public MultiKeyLoadSizingStrategy getBatchLoadSizingStrategy() {
+			// in-lists of at most 4 elements
+			return (numberOfColumns, numberOfKeys, padToPowerOfTwo) -> Math.min( numberOfKeys, 4 );
+		}
+
+		@Override
+		public int getParameterCountLimit() {
+			return 20;
+		}
+	}
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 50; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testValuesTableBatches(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Object> ids = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			ids.add( i );
+		}
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Item> items = session.findMultiple( Item.class, ids );
+			assertThat( items ).hasSize( 50 ).doesNotContainNull();
+			// 20 + 20 + 10 ids, rather than 13 in-lists of 4
+			statementInspector.assertExecutedCount( 3 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "values" );
+		} );
+	}
+
+	@Test
+	public void testInListBatchesBelowThreshold(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Item> items = session.findMultiple( Item.class, List.<Object>of( 0, 1, 2, 3, 4 ) );
+			assertThat( items ).hasSize( 5 ).doesNotContainNull();
+			statementInspector.assertExecutedCount( 2 );
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "multi_load_items")
+	public static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#FETCH_SIZE_MEMORY_BUDGET}
+ */
+@DomainModel(annotatedClasses = AdaptiveFetchSizeTest.MyEntity.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.FETCH_SIZE_MEMORY_BUDGET, value = "1000000"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+		},
+		settingProviders = {
+				@SettingProvider(
+						settingName = AvailableSettings.CONNECTION_PROVIDER,
+						provider = PreparedStatementSpyConnectionProviderSettingProvider.class)
+		}
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class AdaptiveFetchSizeTest {
+	// more than the default fetch size of H2
+	private static final int ROW_COUNT = 150;
+
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) {
+		final Map<String, Object> props = scope.getSessionFactory().getProperties();
+		connectionProvider = (PreparedStatementSpyConnectionProvider) props.get( AvailableSettings.CONNECTION_PROVIDER );
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				session.persist( new MyEntity( i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@BeforeEach
+	public void clear(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().clear();
+		connectionProvider.clear();
+	}
+
+	@Test
+	public void testFetchSizeLearnedFromStatistics(SessionFactoryScope scope) throws Exception {
+		final String hql = "select e from MyEntity e";
+
+		// nothing known about the query yet
+		scope.inTransaction( session -> session.createSelectionQuery( hql, MyEntity.class ).getResultList() );
+		assertEquals( 0, setFetchSizeCalls().size() );
+
+		connectionProvider.clear();
+		scope.inTransaction( session -> {
+			final List<MyEntity> results = session.createSelectionQuery( hql, MyEntity.class ).getResultList();
+			assertEquals( ROW_COUNT, results.size() );
+		} );
+		final List<Object[]> calls = setFetchSizeCalls();
+		assertEquals( 1, calls.size() );
+		assertEquals( ROW_COUNT + 1, calls.get( 0 )[0] );
+	}
+
+	@Test
+	public void testExplicitFetchSizeWins(SessionFactoryScope scope) throws Exception {
+		final String hql = "select e from MyEntity e order by e.id";
+		scope.inTransaction( session -> session.createSelectionQuery( hql, MyEntity.class ).getResultList() );
+
+		connectionProvider.clear();
+		scope.inTransaction( session -> session.createSelectionQuery( hql, MyEntity.class )
+				.setFetchSize( 7 )
+				.getResultList() );
+		final List<Object[]> calls = setFetchSizeCalls();
+		assertEquals( 1, calls.size() );
+		assertEquals( 7, calls.get( 0 )[0] );
+	}
+
+	private List<Object[]> setFetchSizeCalls() throws NoSuchMethodException {
+		return connectionProvider.spyContext.getCalls(
+				Statement.class.getMethod( "setFetchSize", int.class ),
+				connectionProvider.getPreparedStatements().get( 0 )
+		);
+	}
+
+	@Entity(name = "MyEntity")
+	@Table(name = "MyEntity")
+	public static class MyEntity {
+		@Id
+		Integer id;
+
+		public MyEntity() {
+		}
+
+		public MyEntity(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.query.ColumnChunk;
+import org.hibernate.query.ColumnChunk.ColumnKind;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.query.SelectionQuery#exportColumns}
+ */
+@DomainModel(annotatedClasses = ColumnarExportTest.Sale.class)
+@SessionFactory
+public class ColumnarExportTest {
+	private static final int ROW_COUNT = 10;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ROW_COUNT; i++ ) {
+				session.persist( new Sale( (long) i, i * 2, i * 0.5, i % 3 == 0 ? null : "sale " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testExportInChunks(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Integer> chunkSizes = new ArrayList<>();
+			final List<Long> ids = new ArrayList<>();
+			final List<Double> prices = new ArrayList<>();
+			final List<Object> labels = new ArrayList<>();
+			final long rowCount = session.createSelectionQuery(
+					"select s.id, s.quantity, s.price, s.label from Sale s order by s.id",
+					Object[].class
+			).exportColumns( 4, chunk -> {
+				assertThat( chunk.getColumnCount() ).isEqualTo( 4 );
+				assertThat( chunk.getColumnKind( 0 ) ).isEqualTo( ColumnKind.LONG );
+				assertThat( chunk.getColumnKind( 1 ) ).isEqualTo( ColumnKind.LONG );
+				assertThat( chunk.getColumnKind( 2 ) ).isEqualTo( ColumnKind.DOUBLE );
+				assertThat( chunk.getColumnKind( 3 ) ).isEqualTo( ColumnKind.OBJECT );
+				assertThat( chunk.getColumnJavaType( 1 ) ).isEqualTo( Integer.class );
+				chunkSizes.add( chunk.getRowCount() );
+				for ( int row = 0; row < chunk.getRowCount(); row++ ) {
+					ids.add( chunk.getLongColumn( 0 )[row] );
+					assertThat( chunk.getLongColumn( 1 )[row] ).isEqualTo( 2 * chunk.getLongColumn( 0 )[row] );
+					prices.add( chunk.getDoubleColumn( 2 )[row] );
+					labels.add( chunk.getObjectColumn( 3 )[row] );
+					assertThat( chunk.isNull( 3, row ) ).isEqualTo( chunk.getLongColumn( 0 )[row] % 3 == 0 );
+				}
+				assertThatThrownBy( () -> chunk.getDoubleColumn( 0 ) ).isInstanceOf( IllegalArgumentException.class );
+			} );
+			assertThat( rowCount ).isEqualTo( ROW_COUNT );
+			assertThat( chunkSizes ).containsExactly( 4, 4, 2 );
+			assertThat( ids ).containsExactly( 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L );
+			assertThat( prices.get( 9 ) ).isEqualTo( 5.0 );
+			assertThat( labels.get( 0 ) ).isEqualTo( "sale 1" );
+			assertThat( labels.get( 2 ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testExportNativeQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final long[] total = new long[1];
+			final long rowCount = session.createNativeQuery( "select quantity from Sale", Integer.class )
+					.exportColumns( 3, chunk -> {
+						final ColumnChunk.ColumnKind kind = chunk.getColumnKind( 0 );
+						for ( int row = 0; row < chunk.getRowCount(); row++ ) {
+							total[0] += kind == ColumnKind.LONG
+									? chunk.getLongColumn( 0 )[row]
+									: ( (Number) chunk.getObjectColumn( 0 )[row] ).longValue();
+						}
+					} );
+			assertThat( rowCount ).isEqualTo( ROW_COUNT );
+			assertThat( total[0] ).isEqualTo( ROW_COUNT * ( ROW_COUNT + 1 ) );
+		} );
+	}
+
+	@Test
+	public void testExportEmptyResult(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<ColumnChunk> chunks = new ArrayList<>();
+			final long rowCount = session.createSelectionQuery( "select s.id from Sale s where s.id < 0", Long.class )
+					.exportColumns( 10, chunks::add );
+			assertThat( rowCount ).isZero();
+			assertThat( chunks ).isEmpty();
+		} );
+	}
+
+	@Test
+	public void testExportPage(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Long> ids = new ArrayList<>();
+			final long rowCount = session.createSelectionQuery( "select s.id from Sale s order by s.id", Long.class )
+					.setFirstResult( 2 )
+					.setMaxResults( 3 )
+					.exportColumns( 10, chunk -> {
+						for ( int row = 0; row < chunk.getRowCount(); row++ ) {
+							ids.add( chunk.getLongColumn( 0 )[row] );
+						}
+					} );
+			assertThat( rowCount ).isEqualTo( 3 );
+			assertThat( ids ).containsExactly( 3L, 4L, 5L );
+		} );
+	}
+
+	@Test
+	public void testExportRejectsCollectionFetch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// the rows would have to be deduplicated and paginated in memory
+			assertThatThrownBy( () -> session.createSelectionQuery( "from Sale s join fetch s.tags", Sale.class )
+					.exportColumns( 10, chunk -> {} ) )
+					.isInstanceOf( IllegalStateException.class );
+			assertThatThrownBy( () -> session.createQuery( "from Sale s join fetch s.tags", Sale.class )
+					.setMaxResults( 5 )
+					.exportColumns( 10, chunk -> {} ) )
+					.isInstanceOf( IllegalStateException.class );
+		} );
+	}
+
+	@Entity(name = "Sale")
+	@Table(name = "Sale")
+	public static class Sale {
+		@Id
+		Long id;
+		int quantity;
+		double price;
+		String label;
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		public Sale() {
+		}
+
+		public Sale(Long id, int quantity, double price, String label) {
+			this.id = id;
+			this.quantity = quantity;
+			this.price = price;
+			this.label = label;
+		}
+	}
+}
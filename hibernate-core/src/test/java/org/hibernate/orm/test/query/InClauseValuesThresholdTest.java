@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#IN_CLAUSE_VALUES_THRESHOLD}
+ */
+@DomainModel(annotatedClasses = InClauseValuesThresholdTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = QuerySettings.IN_CLAUSE_VALUES_THRESHOLD, value = "5"),
+		@Setting(name = QuerySettings.IN_CLAUSE_PARAMETER_PADDING, value = "true")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseValuesThresholdTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 30; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLongInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			ids.add( i * 2 );
+		}
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Item> items = session.createSelectionQuery( "from Item where id in :ids order by id", Item.class )
+					.setParameter( "ids", ids )
+					.getResultList();
+			assertThat( items ).extracting( item -> item.id ).containsExactly( 0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28 );
+			assertValuesTable( scope, statementInspector );
+
+			final List<Item> others = session.createSelectionQuery( "from Item where id not in :ids", Item.class )
+					.setParameter( "ids", ids )
+					.getResultList();
+			assertThat( others ).hasSize( 15 ).allMatch( item -> item.id % 2 == 1 );
+		} );
+	}
+
+	@Test
+	public void testShortInList(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Item> items = session.createSelectionQuery( "from Item where id in :ids", Item.class )
+					.setParameter( "ids", List.of( 1, 2, 3 ) )
+					.getResultList();
+			assertThat( items ).hasSize( 3 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).doesNotContainIgnoringCase( "values" );
+		} );
+	}
+
+	@Test
+	public void testFindMultiple(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Object> ids = new ArrayList<>();
+		for ( int i = 29; i >= 0; i-- ) {
+			ids.add( i );
+		}
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Item> items = session.findMultiple( Item.class, ids );
+			assertThat( items ).hasSize( 30 );
+			for ( int i = 0; i < 30; i++ ) {
+				assertThat( items.get( i ).name ).isEqualTo( "item " + ( 29 - i ) );
+			}
+		} );
+	}
+
+	private static void assertValuesTable(SessionFactoryScope scope, SQLStatementInspector statementInspector) {
+		statementInspector.assertExecutedCount( 1 );
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().supportsValuesList() ) {
+			assertThat( statementInspector.getSqlQueries().get( 0 ) ).containsIgnoringCase( "values" );
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "items")
+	public static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.ColumnChunk;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that numeric values read into the primitive slots of the row buffer,
+ * which is only used by {@link org.hibernate.query.SelectionQuery#exportColumns},
+ * are the values the extractors would have produced for ordinary queries.
+ */
+@DomainModel(annotatedClasses = PrimitiveRowValuesTest.Measurement.class)
+@SessionFactory
+public class PrimitiveRowValuesTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Measurement first = new Measurement();
+			first.id = 1L;
+			first.hits = 42;
+			first.total = 123_456_789_012L;
+			first.small = (short) 7;
+			first.tiny = (byte) -3;
+			first.average = 2.5;
+			first.ratio = 0.25f;
+			first.optionalCount = 5;
+			session.persist( first );
+			final Measurement second = new Measurement();
+			second.id = 2L;
+			session.persist( second );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSelectPrimitives(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select m.id, m.hits, m.total, m.small, m.tiny, m.average, m.ratio, m.optionalCount"
+							+ " from Measurement m order by m.id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( 2 );
+			assertThat( rows.get( 0 ) )
+					.containsExactly( 1L, 42, 123_456_789_012L, (short) 7, (byte) -3, 2.5, 0.25f, 5 );
+			assertThat( rows.get( 1 ) )
+					.containsExactly( 2L, 0, 0L, (short) 0, (byte) 0, 0.0, 0.0f, null );
+		} );
+	}
+
+	@Test
+	public void testExportPrimitives(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<ColumnChunk> chunks = new ArrayList<>();
+			session.createSelectionQuery(
+					"select m.id, m.hits, m.total, m.small, m.tiny, m.average, m.ratio, m.optionalCount"
+							+ " from Measurement m order by m.id",
+					Object[].class
+			).exportColumns( 10, chunks::add );
+			assertThat( chunks ).hasSize( 1 );
+			final ColumnChunk chunk = chunks.get( 0 );
+			assertThat( chunk.getRowCount() ).isEqualTo( 2 );
+			assertThat( chunk.getLongColumn( 0 ) ).containsExactly( 1L, 2L );
+			assertThat( chunk.getLongColumn( 1 ) ).containsExactly( 42L, 0L );
+			assertThat( chunk.getLongColumn( 2 ) ).containsExactly( 123_456_789_012L, 0L );
+			assertThat( chunk.getLongColumn( 3 ) ).containsExactly( 7L, 0L );
+			assertThat( chunk.getLongColumn( 4 ) ).containsExactly( -3L, 0L );
+			assertThat( chunk.getDoubleColumn( 5 ) ).containsExactly( 2.5, 0.0 );
+			assertThat( chunk.getDoubleColumn( 6 ) ).containsExactly( 0.25, 0.0 );
+			assertThat( chunk.getLongColumn( 7 )[0] ).isEqualTo( 5L );
+			assertThat( chunk.isNull( 7, 0 ) ).isFalse();
+			assertThat( chunk.isNull( 7, 1 ) ).isTrue();
+			assertThat( chunk.isNull( 1, 1 ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testHydratePrimitives(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Measurement measurement = session.find( Measurement.class, 1L );
+			assertThat( measurement.hits ).isEqualTo( 42 );
+			assertThat( measurement.total ).isEqualTo( 123_456_789_012L );
+			assertThat( measurement.average ).isEqualTo( 2.5 );
+			assertThat( measurement.ratio ).isEqualTo( 0.25f );
+			assertThat( session.find( Measurement.class, 2L ).optionalCount ).isNull();
+		} );
+	}
+
+	@Test
+	public void testScrollBackwards(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Integer> results = session.createSelectionQuery(
+					"select m.optionalCount from Measurement m order by m.id",
+					Integer.class
+			).scroll( ScrollMode.SCROLL_INSENSITIVE ) ) {
+				assertThat( results.last() ).isTrue();
+				assertThat( results.get() ).isNull();
+				assertThat( results.previous() ).isTrue();
+				assertThat( results.get() ).isEqualTo( 5 );
+			}
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	@Table(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Long id;
+		int hits;
+		long total;
+		short small;
+		byte tiny;
+		double average;
+		float ratio;
+		Integer optionalCount;
+	}
+}
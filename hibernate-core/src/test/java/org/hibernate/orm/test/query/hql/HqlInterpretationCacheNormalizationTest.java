@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(standardModels = StandardDomainModel.CONTACTS)
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_PLAN_CACHE_NORMALIZE_HQL, value = "true"))
+@SessionFactory
+public class HqlInterpretationCacheNormalizationTest {
+	@Test
+	public void testWhitespaceVariantsShareInterpretation(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		cache.close();
+
+		scope.inSession( session -> {
+			session.createQuery( "select c from Contact c where c.id = :id", Object.class );
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+
+			session.createQuery( "select c\n  from Contact c\n where c.id = :id", Object.class );
+			session.createQuery( " select c from Contact c /* by id */ where c.id = :id ", Object.class );
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+
+			session.createQuery( "select c from Contact c where c.id <> :id", Object.class );
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+		} );
+	}
+}
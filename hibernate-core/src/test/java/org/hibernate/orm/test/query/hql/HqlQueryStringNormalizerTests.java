@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import org.hibernate.query.internal.HqlQueryStringNormalizer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HqlQueryStringNormalizerTests {
+	@Test
+	public void testWhitespace() {
+		assertThat( HqlQueryStringNormalizer.normalize( "select e from Employee e" ) )
+				.isEqualTo( "select e from Employee e" );
+		assertThat( HqlQueryStringNormalizer.normalize( "  select e\n\tfrom   Employee e\r\n" ) )
+				.isEqualTo( "select e from Employee e" );
+		assertThat( HqlQueryStringNormalizer.normalize( "select count( e ) , max(e.id)\nfrom Employee e" ) )
+				.isEqualTo( "select count(e),max(e.id) from Employee e" );
+		assertThat( HqlQueryStringNormalizer.normalize( "select e from Employee e where e.id in ( :ids )" ) )
+				.isEqualTo( "select e from Employee e where e.id in(:ids)" );
+	}
+
+	@Test
+	public void testComments() {
+		assertThat( HqlQueryStringNormalizer.normalize( "select e /* the root */from Employee e" ) )
+				.isEqualTo( "select e from Employee e" );
+		assertThat( HqlQueryStringNormalizer.normalize( "select e from Employee e /* unterminated" ) )
+				.isEqualTo( "select e from Employee e /* unterminated" );
+	}
+
+	@Test
+	public void testLiteralsUntouched() {
+		assertThat( HqlQueryStringNormalizer.normalize( "select e from  Employee e where e.name = 'a  b'" ) )
+				.isEqualTo( "select e from Employee e where e.name = 'a  b'" );
+		assertThat( HqlQueryStringNormalizer.normalize( "select e from  Employee e where e.name = 'it''s  /* x */'" ) )
+				.isEqualTo( "select e from Employee e where e.name = 'it''s  /* x */'" );
+		assertThat( HqlQueryStringNormalizer.normalize( "select e.`my  name` from  Employee e where e.name = \"a  b\"" ) )
+				.isEqualTo( "select e.`my  name` from Employee e where e.name = \"a  b\"" );
+	}
+
+	@Test
+	public void testUnsafeInputsReturnedAsIs() {
+		final String escaped = "select e from  Employee e where e.name = j'it\\'s  here'";
+		assertThat( HqlQueryStringNormalizer.normalize( escaped ) ).isSameAs( escaped );
+		final String unterminated = "select e from  Employee e where e.name = 'abc";
+		assertThat( HqlQueryStringNormalizer.normalize( unterminated ) ).isSameAs( unterminated );
+	}
+}
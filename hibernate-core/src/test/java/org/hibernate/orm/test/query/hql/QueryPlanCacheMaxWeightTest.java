@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.query.internal.LruQueryInterpretationCacheEvictionPolicy;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.query.spi.QueryInterpretationCacheEvictionPolicy;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.domain.StandardDomainModel;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(standardModels = StandardDomainModel.CONTACTS)
+@ServiceRegistry(settings = {
+		// room for a handful of short queries only
+		@Setting(name = QuerySettings.QUERY_PLAN_CACHE_MAX_WEIGHT, value = "20000"),
+		@Setting(name = QuerySettings.QUERY_PLAN_CACHE_EVICTION_POLICY,
+				value = "org.hibernate.query.internal.LruQueryInterpretationCacheEvictionPolicy")
+})
+@SessionFactory(generateStatistics = true)
+public class QueryPlanCacheMaxWeightTest {
+	@Test
+	public void testCacheBoundedByWeight(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		cache.close();
+
+		scope.inSession( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.createQuery( "select c from Contact c where c.id = " + i, Object.class );
+			}
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isBetween( 1, 5 );
+
+			// a single query larger than the whole budget is never retained
+			final StringBuilder large = new StringBuilder( "select c from Contact c where c.id = 0" );
+			for ( int i = 1; i < 200; i++ ) {
+				large.append( " or c.id = " ).append( i );
+			}
+			session.createQuery( large.toString(), Object.class );
+			assertThat( cache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testReadInterpretationIsKept(SessionFactoryScope scope) {
+		final QueryInterpretationCache cache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		cache.close();
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hot = "select c from Contact c where c.id = -1";
+
+		scope.inSession( session -> {
+			session.createQuery( hot, Object.class );
+			statistics.clear();
+			for ( int i = 0; i < 20; i++ ) {
+				// every read reaches the eviction policy, so the query read
+				// between insertions is never the least recently used
+				session.createQuery( hot, Object.class );
+				session.createQuery( "select c from Contact c where c.id = " + i, Object.class );
+			}
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 20 );
+		} );
+	}
+
+	@Test
+	public void testLruEviction() {
+		final LruQueryInterpretationCacheEvictionPolicy policy = new LruQueryInterpretationCacheEvictionPolicy();
+		final TestEntry first = new TestEntry( "first" );
+		final TestEntry second = new TestEntry( "second" );
+		policy.onInsert( first );
+		policy.onInsert( second );
+		assertThat( policy.nextVictim() ).isSameAs( first );
+
+		policy.onAccess( first );
+		assertThat( policy.nextVictim() ).isSameAs( second );
+
+		policy.onRemove( second );
+		policy.onRemove( first );
+		assertThat( policy.nextVictim() ).isNull();
+	}
+
+	private record TestEntry(Object key) implements QueryInterpretationCacheEvictionPolicy.Entry {
+		@Override
+		public Object getKey() {
+			return key;
+		}
+
+		@Override
+		public long getWeight() {
+			return 1;
+		}
+	}
+}
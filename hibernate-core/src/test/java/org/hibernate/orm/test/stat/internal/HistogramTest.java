@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.internal.HistogramImpl;
+import org.hibernate.stat.internal.QueryStatisticsImpl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * Tests for {@link HistogramImpl}
+ */
+public class HistogramTest {
+
+	@Test
+	public void testEmpty() {
+		final HistogramImpl histogram = new HistogramImpl();
+		assertThat( histogram.getCount() ).isZero();
+		assertThat( histogram.getMin() ).isZero();
+		assertThat( histogram.getMax() ).isZero();
+		assertThat( histogram.getMean() ).isZero();
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isZero();
+	}
+
+	@Test
+	public void testPercentiles() {
+		final HistogramImpl histogram = new HistogramImpl();
+		for ( int i = 1; i <= 1000; i++ ) {
+			histogram.record( i );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getTotal() ).isEqualTo( 500_500 );
+		assertThat( histogram.getMin() ).isEqualTo( 1 );
+		assertThat( histogram.getMax() ).isEqualTo( 1000 );
+		assertThat( histogram.getMean() ).isEqualTo( 500.5, offset( 0.001 ) );
+		// an upper bound, with a relative error of at most 25%
+		assertThat( histogram.getValueAtPercentile( 50 ) ).isBetween( 500L, 625L );
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isBetween( 990L, 1000L );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 1000 );
+		assertThat( histogram.getValueAtPercentile( 0 ) ).isEqualTo( 1 );
+		assertThatThrownBy( () -> histogram.getValueAtPercentile( 101 ) )
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
+	@Test
+	public void testOutlier() {
+		final HistogramImpl histogram = new HistogramImpl();
+		for ( int i = 0; i < 99; i++ ) {
+			histogram.record( 3 );
+		}
+		histogram.record( 1L << 50 );
+		assertThat( histogram.getValueAtPercentile( 99 ) ).isEqualTo( 3 );
+		assertThat( histogram.getValueAtPercentile( 100 ) ).isEqualTo( 1L << 50 );
+	}
+
+	@Test
+	public void testConcurrentRecording() throws InterruptedException {
+		final QueryStatisticsImpl stats = new QueryStatisticsImpl( "test" );
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		for ( int thread = 0; thread < 4; thread++ ) {
+			executor.execute( () -> {
+				for ( int i = 1; i <= 10_000; i++ ) {
+					stats.executed( 2, i % 100 );
+				}
+			} );
+		}
+		executor.shutdown();
+		assertThat( executor.awaitTermination( 30, TimeUnit.SECONDS ) ).isTrue();
+
+		assertThat( stats.getExecutionCount() ).isEqualTo( 40_000 );
+		assertThat( stats.getExecutionRowCount() ).isEqualTo( 80_000 );
+		assertThat( stats.getExecutionMinTime() ).isEqualTo( 0 );
+		assertThat( stats.getExecutionMaxTime() ).isEqualTo( 99 );
+		assertThat( stats.getExecutionTimeHistogram().getCount() ).isEqualTo( 40_000 );
+		assertThat( stats.getExecutionTimeHistogram().getValueAtPercentile( 50 ) ).isBetween( 49L, 63L );
+		assertThat( stats.getExecutionRowCountHistogram().getValueAtPercentile( 99 ) ).isEqualTo( 2 );
+	}
+}
@@ -22,6 +22,7 @@
 import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.hibernate.query.criteria.JpaCriteriaQuery;
 import org.hibernate.query.spi.QueryImplementor;
+import org.hibernate.stat.QueryPlanUncacheableReason;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.Statistics;
 
@@ -37,6 +38,7 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -472,6 +474,35 @@ public void testDisableQueryPlanCache(SessionFactoryScope scope) {
 		} );
 	}
 
+	@Test
+	public void testUncacheablePlanStatistics(SessionFactoryScope scope) {
+		final String CACHED_QUERY = "select e from Employee e";
+		final String UNCACHED_QUERY = "select e from Employee e where e.name is not null";
+
+		scope.inTransaction( entityManager -> {
+			for ( int i = 0; i < 3; i++ ) {
+				entityManager.createQuery( CACHED_QUERY, Employee.class ).getResultList();
+				entityManager.createQuery( UNCACHED_QUERY, Employee.class )
+						.setHint( AvailableHints.HINT_QUERY_PLAN_CACHEABLE, false )
+						.getResultList();
+			}
+		} );
+
+		final QueryStatistics cached = statistics.getQueryStatistics( CACHED_QUERY );
+		assertEquals( 0, cached.getPlanUncacheableCount() );
+		assertNull( cached.getPlanUncacheableReason() );
+		assertTrue( cached.getPlanTranslationTotalMicroseconds() > 0 );
+
+		final QueryStatistics uncached = statistics.getQueryStatistics( UNCACHED_QUERY );
+		assertEquals( 3, uncached.getPlanUncacheableCount() );
+		assertEquals( QueryPlanUncacheableReason.DISABLED, uncached.getPlanUncacheableReason() );
+		assertTrue( uncached.getPlanTranslationTotalMicroseconds() > 0 );
+
+		final String[] mostExpensive = statistics.getMostExpensiveUncachedQueries( 5 );
+		assertEquals( 2, mostExpensive.length );
+		assertEquals( 1, statistics.getMostExpensiveUncachedQueries( 1 ).length );
+	}
+
 	private void assertQueryStatistics(String hql, int hitCount) {
 		QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
 
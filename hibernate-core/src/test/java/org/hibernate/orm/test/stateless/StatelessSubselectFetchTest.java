@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.hibernate.Hibernate.isInitialized;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for subselect fetching by {@link org.hibernate.StatelessSession#fetch}
+ * and by scrolled queries
+ */
+@DomainModel(annotatedClasses = StatelessSubselectFetchTest.Container.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class StatelessSubselectFetchTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Container container = new Container( i );
+				container.labels.add( "label " + i );
+				container.labels.add( "other label " + i );
+				session.persist( container );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testStatelessFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			final List<Container> containers =
+					session.createSelectionQuery( "from Container order by id", Container.class ).getResultList();
+			assertThat( containers ).hasSize( 10 );
+
+			statementInspector.clear();
+			session.fetch( containers.get( 0 ).labels );
+			statementInspector.assertExecutedCount( 1 );
+
+			for ( Container container : containers ) {
+				assertThat( isInitialized( container.labels ) ).isTrue();
+				assertThat( container.labels ).containsExactlyInAnyOrder(
+						"label " + container.id,
+						"other label " + container.id
+				);
+			}
+			statementInspector.assertExecutedCount( 1 );
+		} );
+	}
+
+	@Test
+	public void testStatelessScrollWindows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inStatelessTransaction( session -> {
+			try ( ScrollableResults<Container> results = session
+					.createSelectionQuery( "from Container order by id", Container.class )
+					.setFetchSize( 5 )
+					.scroll() ) {
+				final List<Container> window = new ArrayList<>();
+				while ( results.next() ) {
+					window.add( results.get() );
+					if ( window.size() == 5 ) {
+						statementInspector.clear();
+						session.fetch( window.get( 0 ).labels );
+						// one query initializes the whole window
+						statementInspector.assertExecutedCount( 1 );
+						for ( Container container : window ) {
+							assertThat( isInitialized( container.labels ) ).isTrue();
+							assertThat( container.labels ).hasSize( 2 );
+						}
+						window.clear();
+					}
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testScrollWindows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Container> results = session
+					.createSelectionQuery( "from Container order by id", Container.class )
+					.setFetchSize( 5 )
+					.scroll() ) {
+				final List<Container> window = new ArrayList<>();
+				while ( results.next() ) {
+					window.add( results.get() );
+					if ( window.size() == 5 ) {
+						statementInspector.clear();
+						for ( Container container : window ) {
+							assertThat( container.labels ).hasSize( 2 );
+						}
+						// one query initializes the whole window
+						statementInspector.assertExecutedCount( 1 );
+						window.clear();
+					}
+				}
+			}
+		} );
+	}
+
+	@Entity(name = "Container")
+	@Table(name = "containers")
+	public static class Container {
+		@Id
+		Integer id;
+
+		@ElementCollection
+		@Fetch(FetchMode.SUBSELECT)
+		Set<String> labels = new HashSet<>();
+
+		public Container() {
+		}
+
+		public Container(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import org.hibernate.ResourceBudgetExceededException;
+import org.hibernate.cfg.SessionEventSettings;
+import org.hibernate.stat.SessionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SessionEventSettings#MAX_MANAGED_ENTITIES} and the
+ * resource accounting reported by {@link SessionStatistics}
+ */
+@DomainModel(annotatedClasses = SessionResourceBudgetTest.Gadget.class)
+@ServiceRegistry(settings = {
+		@Setting(name = SessionEventSettings.MAX_MANAGED_ENTITIES, value = "5"),
+		@Setting(name = SessionEventSettings.FAIL_ON_SESSION_BUDGET_EXCEEDED, value = "true")
+})
+@SessionFactory
+public class SessionResourceBudgetTest {
+
+	@BeforeAll
+	public void prepareData(SessionFactoryScope scope) {
+		for ( int i = 0; i < 10; i++ ) {
+			final int id = i;
+			// one session per entity, to stay within the budget
+			scope.inTransaction( session -> session.persist( new Gadget( id ) ) );
+		}
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testWithinBudget(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Gadget where id < 5", Gadget.class ).getResultList() )
+					.hasSize( 5 );
+			final SessionStatistics statistics = session.getStatistics();
+			assertThat( statistics.getStatementCount() ).isEqualTo( 1 );
+			assertThat( statistics.getRowCount() ).isEqualTo( 5 );
+			assertThat( statistics.getPeakEntityCount() ).isEqualTo( 5 );
+
+			session.clear();
+			assertThat( session.createSelectionQuery( "from Gadget where id >= 5", Gadget.class ).getResultList() )
+					.hasSize( 5 );
+			assertThat( statistics.getStatementCount() ).isEqualTo( 2 );
+			assertThat( statistics.getRowCount() ).isEqualTo( 10 );
+			assertThat( statistics.getPeakEntityCount() ).isEqualTo( 5 );
+			assertThat( statistics.getFlushTime() ).isGreaterThanOrEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testBudgetExceeded(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThatThrownBy(
+				() -> session.createSelectionQuery( "from Gadget", Gadget.class ).getResultList()
+		).isInstanceOf( ResourceBudgetExceededException.class ) );
+	}
+
+	@Entity(name = "Gadget")
+	@Table(name = "gadgets")
+	public static class Gadget {
+		@Id
+		Integer id;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id) {
+			this.id = id;
+		}
+	}
+}
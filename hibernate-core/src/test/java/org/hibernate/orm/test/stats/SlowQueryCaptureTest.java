@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.List;
+
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.SlowQuery;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StatisticsSettings#SLOW_QUERY_CAPTURE_SIZE}
+ */
+@DomainModel
+@ServiceRegistry(settings = {
+		@Setting(name = StatisticsSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = JdbcSettings.LOG_SLOW_QUERY, value = "1"),
+		@Setting(name = StatisticsSettings.SLOW_QUERY_CAPTURE_SIZE, value = "2"),
+		@Setting(name = StatisticsSettings.SLOW_QUERY_EXPLAIN, value = "true")
+})
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class SlowQueryCaptureTest {
+
+	private static final String SLOW_QUERY = "select x from system_range(1, ?) where mod(x, ?) = 0";
+
+	@Test
+	public void testSlowQueryCapture(SessionFactoryScope scope) throws InterruptedException {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inSession( session -> assertThat(
+					session.createNativeQuery( SLOW_QUERY, Long.class )
+							.setParameter( 1, 2_000_000L )
+							.setParameter( 2, 1_000_000L )
+							.getResultList()
+			).hasSize( 2 ) );
+		}
+
+		final List<SlowQuery> slowestQueries = statistics.getSlowestQueries();
+		assertThat( slowestQueries ).hasSize( 2 );
+		assertThat( slowestQueries.get( 0 ).getExecutionTime() )
+				.isGreaterThanOrEqualTo( slowestQueries.get( 1 ).getExecutionTime() );
+
+		final SlowQuery slowQuery = slowestQueries.get( 0 );
+		assertThat( slowQuery.getSql() ).isEqualTo( SLOW_QUERY );
+		assertThat( slowQuery.getRowCount() ).isEqualTo( 2 );
+		// the values are masked
+		assertThat( slowQuery.getParameters() ).hasSize( 2 ).doesNotContain( "2000000", "1000000" );
+		assertThat( slowQuery.getCallSite() ).isNotNull();
+		assertThat( slowQuery.getCallSite().getClassName() ).startsWith( SlowQueryCaptureTest.class.getName() );
+
+		// the plan is obtained in the background
+		for ( int i = 0; i < 50 && slowQuery.getExecutionPlan() == null; i++ ) {
+			Thread.sleep( 100 );
+		}
+		assertThat( slowQuery.getExecutionPlan() ).containsIgnoringCase( "system_range" );
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the statistics cached by {@link EntityPersister#getEntityStatistics()}
+ * and {@link CollectionPersister#getCollectionStatistics()}
+ */
+@DomainModel(annotatedClasses = StatisticsHandleTest.Widget.class)
+@SessionFactory(generateStatistics = true)
+public class StatisticsHandleTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testHandlesSurviveClear(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		final EntityPersister entityPersister =
+				scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Widget.class );
+		final CollectionPersister collectionPersister =
+				scope.getSessionFactory().getMappingMetamodel()
+						.getCollectionDescriptor( Widget.class.getName() + ".parts" );
+		final EntityStatistics entityStatistics = entityPersister.getEntityStatistics();
+		final CollectionStatistics collectionStatistics = collectionPersister.getCollectionStatistics();
+		assertThat( entityStatistics ).isSameAs( statistics.getEntityStatistics( entityPersister.getEntityName() ) );
+		assertThat( collectionStatistics ).isSameAs( statistics.getCollectionStatistics( collectionPersister.getRole() ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Widget widget = new Widget( 1 );
+			widget.parts.add( "gear" );
+			session.persist( widget );
+		} );
+		assertThat( entityStatistics.getInsertCount() ).isEqualTo( 1 );
+		assertThat( collectionStatistics.getRecreateCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityInsertCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		assertThat( entityStatistics.getInsertCount() ).isZero();
+		assertThat( collectionStatistics.getRecreateCount() ).isZero();
+		// clearing resets the statistics in place
+		assertThat( entityPersister.getEntityStatistics() ).isSameAs( entityStatistics );
+		assertThat( statistics.getEntityStatistics( entityPersister.getEntityName() ) ).isSameAs( entityStatistics );
+
+		scope.inTransaction( session -> session.find( Widget.class, 1 ).parts.size() );
+		assertThat( entityStatistics.getLoadCount() ).isEqualTo( 1 );
+		assertThat( collectionStatistics.getFetchCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+		assertThat( statistics.getCollectionFetchCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Widget")
+	@Table(name = "widgets")
+	public static class Widget {
+		@Id
+		Integer id;
+
+		@ElementCollection
+		Set<String> parts = new HashSet<>();
+
+		public Widget() {
+		}
+
+		public Widget(Integer id) {
+			this.id = id;
+		}
+	}
+}
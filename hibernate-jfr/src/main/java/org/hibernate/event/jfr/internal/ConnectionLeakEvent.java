@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(ConnectionLeakEvent.NAME)
+@Label("Connection Leak Suspected")
+@Category("Hibernate ORM")
+@Description("Connection Held Outside the Built-in Pool Beyond the Leak Detection Threshold")
+@StackTrace(false)
+@AllowNonPortable
+public class ConnectionLeakEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.ConnectionLeak";
+
+	@Label("Held Time")
+	@Timespan(Timespan.MILLISECONDS)
+	public long heldMillis;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
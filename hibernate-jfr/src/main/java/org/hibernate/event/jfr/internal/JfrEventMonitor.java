@@ -50,6 +50,16 @@ public class JfrEventMonitor implements EventMonitor {
 	private static final EventType collectionRecreateEventType = EventType.getEventType( CollectionRecreateEvent.class );
 	private static final EventType collectionUpdateEventType = EventType.getEventType( CollectionUpdateEvent.class );
 	private static final EventType collectionRemoveEventType = EventType.getEventType( CollectionRemoveEvent.class );
+	private static final EventType repeatedLazyLoadEventType = EventType.getEventType( RepeatedLazyLoadEvent.class );
+	// these events occur once per query, or more, and so are
+	// declared with @StackTrace(false) to keep them cheap
+	private static final EventType hqlParseEventType = EventType.getEventType( HqlParseEvent.class );
+	private static final EventType sqmTranslationEventType = EventType.getEventType( SqmTranslationEvent.class );
+	private static final EventType sqlRenderingEventType = EventType.getEventType( SqlRenderingEvent.class );
+	private static final EventType resultHydrationEventType = EventType.getEventType( ResultHydrationEvent.class );
+	private static final EventType connectionPoolAcquisitionEventType =
+			EventType.getEventType( ConnectionPoolAcquisitionEvent.class );
+	private static final EventType connectionLeakEventType = EventType.getEventType( ConnectionLeakEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -230,12 +240,14 @@ public JdbcBatchExecutionEvent beginJdbcBatchExecutionEvent() {
 	@Override
 	public void completeJdbcBatchExecutionEvent(
 			DiagnosticEvent monitoringEvent,
-			String statementSql) {
+			String statementSql,
+			int batchSize) {
 		if ( monitoringEvent != null ) {
 			final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = (JdbcBatchExecutionEvent) monitoringEvent;
 			jdbcBatchExecutionEvent.end();
 			if ( jdbcBatchExecutionEvent.shouldCommit() ) {
 				jdbcBatchExecutionEvent.sql = statementSql;
+				jdbcBatchExecutionEvent.batchSize = batchSize;
 				jdbcBatchExecutionEvent.commit();
 			}
 		}
@@ -779,6 +791,185 @@ public void completeCollectionRemoveEvent(
 		}
 	}
 
+	@Override
+	public DiagnosticEvent beginRepeatedLazyLoadEvent() {
+		if ( repeatedLazyLoadEventType.isEnabled() ) {
+			final RepeatedLazyLoadEvent event = new RepeatedLazyLoadEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeRepeatedLazyLoadEvent(
+			DiagnosticEvent event,
+			String role,
+			String originatingQuery,
+			int loadCount,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final RepeatedLazyLoadEvent repeatedLazyLoadEvent = (RepeatedLazyLoadEvent) event;
+			repeatedLazyLoadEvent.end();
+			if ( repeatedLazyLoadEvent.shouldCommit() ) {
+				repeatedLazyLoadEvent.sessionIdentifier = getSessionIdentifier( session );
+				repeatedLazyLoadEvent.role = role;
+				repeatedLazyLoadEvent.originatingQuery = originatingQuery;
+				repeatedLazyLoadEvent.loadCount = loadCount;
+				repeatedLazyLoadEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginHqlParseEvent() {
+		if ( hqlParseEventType.isEnabled() ) {
+			final HqlParseEvent event = new HqlParseEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeHqlParseEvent(DiagnosticEvent event, String hql) {
+		if ( event != null ) {
+			final HqlParseEvent hqlParseEvent = (HqlParseEvent) event;
+			hqlParseEvent.end();
+			if ( hqlParseEvent.shouldCommit() ) {
+				hqlParseEvent.hql = hql;
+				hqlParseEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginSqmTranslationEvent() {
+		if ( sqmTranslationEventType.isEnabled() ) {
+			final SqmTranslationEvent event = new SqmTranslationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(DiagnosticEvent event) {
+		if ( event != null ) {
+			final SqmTranslationEvent sqmTranslationEvent = (SqmTranslationEvent) event;
+			sqmTranslationEvent.end();
+			if ( sqmTranslationEvent.shouldCommit() ) {
+				sqmTranslationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginSqlRenderingEvent() {
+		if ( sqlRenderingEventType.isEnabled() ) {
+			final SqlRenderingEvent event = new SqlRenderingEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeSqlRenderingEvent(DiagnosticEvent event, String sql) {
+		if ( event != null ) {
+			final SqlRenderingEvent sqlRenderingEvent = (SqlRenderingEvent) event;
+			sqlRenderingEvent.end();
+			if ( sqlRenderingEvent.shouldCommit() ) {
+				sqlRenderingEvent.sql = sql;
+				sqlRenderingEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginResultHydrationEvent() {
+		if ( resultHydrationEventType.isEnabled() ) {
+			final ResultHydrationEvent event = new ResultHydrationEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeResultHydrationEvent(
+			DiagnosticEvent event,
+			int rowCount,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final ResultHydrationEvent resultHydrationEvent = (ResultHydrationEvent) event;
+			resultHydrationEvent.end();
+			if ( resultHydrationEvent.shouldCommit() ) {
+				resultHydrationEvent.sessionIdentifier = getSessionIdentifier( session );
+				resultHydrationEvent.rowCount = rowCount;
+				resultHydrationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginConnectionPoolAcquisitionEvent() {
+		if ( connectionPoolAcquisitionEventType.isEnabled() ) {
+			final ConnectionPoolAcquisitionEvent event = new ConnectionPoolAcquisitionEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeConnectionPoolAcquisitionEvent(DiagnosticEvent event, boolean success) {
+		if ( event != null ) {
+			final ConnectionPoolAcquisitionEvent acquisitionEvent = (ConnectionPoolAcquisitionEvent) event;
+			acquisitionEvent.end();
+			if ( acquisitionEvent.shouldCommit() ) {
+				acquisitionEvent.success = success;
+				acquisitionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public DiagnosticEvent beginConnectionLeakEvent() {
+		if ( connectionLeakEventType.isEnabled() ) {
+			final ConnectionLeakEvent event = new ConnectionLeakEvent();
+			event.begin();
+			return event;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeConnectionLeakEvent(DiagnosticEvent event, long heldMillis) {
+		if ( event != null ) {
+			final ConnectionLeakEvent connectionLeakEvent = (ConnectionLeakEvent) event;
+			connectionLeakEvent.end();
+			if ( connectionLeakEvent.shouldCommit() ) {
+				connectionLeakEvent.heldMillis = heldMillis;
+				connectionLeakEvent.commit();
+			}
+		}
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		if ( session == null ) {
 			return null;
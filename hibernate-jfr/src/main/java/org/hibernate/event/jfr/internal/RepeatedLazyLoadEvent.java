@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+@Name(RepeatedLazyLoadEvent.NAME)
+@Label("Repeated Lazy Load")
+@Category("Hibernate ORM")
+@Description("Same collection role or entity type lazily fetched repeatedly in one session")
+@StackTrace
+@AllowNonPortable
+public class RepeatedLazyLoadEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.RepeatedLazyLoadEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Collection Role or Entity Name")
+	public String role;
+
+	@Label("Originating Query")
+	public String originatingQuery;
+
+	@Label("Load Count")
+	public int loadCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SqlRenderingEvent.NAME)
+@Label("SQL Rendering")
+@Category("Hibernate ORM")
+@Description("SQL AST Rendering")
+@StackTrace(false)
+@AllowNonPortable
+public class SqlRenderingEvent extends Event implements DiagnosticEvent {
+	public static final String NAME = "org.hibernate.orm.SqlRendering";
+
+	@Label("SQL")
+	public String sql;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
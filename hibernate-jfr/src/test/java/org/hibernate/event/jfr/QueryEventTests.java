@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.event.jfr.internal.HqlParseEvent;
+import org.hibernate.event.jfr.internal.ResultHydrationEvent;
+import org.hibernate.event.jfr.internal.SqlRenderingEvent;
+import org.hibernate.event.jfr.internal.SqmTranslationEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		QueryEventTests.TestEntity.class
+})
+@SessionFactory
+public class QueryEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < 3; i++ ) {
+						session.persist( new TestEntity( i, "name_" + i ) );
+					}
+				}
+		);
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	@EnableEvent(HqlParseEvent.NAME)
+	@EnableEvent(SqmTranslationEvent.NAME)
+	@EnableEvent(SqlRenderingEvent.NAME)
+	@EnableEvent(ResultHydrationEvent.NAME)
+	public void testQueryEvents(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		final String hql = "from TestEntity where name like 'name%' order by id";
+		scope.inTransaction(
+				session -> {
+					final List<TestEntity> results =
+							session.createSelectionQuery( hql, TestEntity.class ).getResultList();
+					assertThat( results ).hasSize( 3 );
+				}
+		);
+
+		final List<RecordedEvent> parseEvents = events( HqlParseEvent.NAME );
+		assertThat( parseEvents ).hasSize( 1 );
+		assertThat( parseEvents.get( 0 ).getString( "hql" ) ).isEqualTo( hql );
+		assertThat( parseEvents.get( 0 ).getStackTrace() ).isNull();
+
+		assertThat( events( SqmTranslationEvent.NAME ) ).hasSize( 1 );
+
+		final List<RecordedEvent> renderingEvents = events( SqlRenderingEvent.NAME );
+		assertThat( renderingEvents ).isNotEmpty();
+		assertThat( renderingEvents ).anySatisfy(
+				event -> assertThat( event.getString( "sql" ).toLowerCase( Locale.ROOT ) )
+						.contains( "select" )
+		);
+
+		final List<RecordedEvent> hydrationEvents = events( ResultHydrationEvent.NAME );
+		assertThat( hydrationEvents ).hasSize( 1 );
+		assertThat( hydrationEvents.get( 0 ).getInt( "rowCount" ) ).isEqualTo( 3 );
+		assertThat( hydrationEvents.get( 0 ).getString( "sessionIdentifier" ) ).isNotNull();
+	}
+
+	@Test
+	@EnableEvent(ResultHydrationEvent.NAME)
+	public void testResultHydrationEventOnFailure(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		scope.inTransaction(
+				session -> assertThatThrownBy( () -> session.createSelectionQuery(
+						"select new " + FailingResult.class.getName() + "(id) from TestEntity order by id",
+						FailingResult.class
+				).getResultList() ).isInstanceOf( RuntimeException.class )
+		);
+
+		// the rows read before the failure are reported
+		final List<RecordedEvent> hydrationEvents = events( ResultHydrationEvent.NAME );
+		assertThat( hydrationEvents ).hasSize( 1 );
+		assertThat( hydrationEvents.get( 0 ).getInt( "rowCount" ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	@EnableEvent(HqlParseEvent.NAME)
+	public void testHqlParseEventNotFiredForCachedPlan(SessionFactoryScope scope) {
+		final String hql = "select count(*) from TestEntity";
+		scope.inTransaction( session -> session.createSelectionQuery( hql, Long.class ).getSingleResult() );
+		jfrEvents.reset();
+		scope.inTransaction( session -> session.createSelectionQuery( hql, Long.class ).getSingleResult() );
+		assertThat( events( HqlParseEvent.NAME ) ).isEmpty();
+	}
+
+	private List<RecordedEvent> events(String name) {
+		return jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( name ) )
+				.toList();
+	}
+
+	public static class FailingResult {
+		public FailingResult(Integer id) {
+			if ( id == 2 ) {
+				throw new IllegalStateException( "Cannot read row " + id );
+			}
+		}
+	}
+
+	@Entity(name = "TestEntity")
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.hibernate.Incubating;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.jdbc.connections.internal.PooledConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.internal.ReplicaRoutingConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link MeterBinder} which exposes the state of the built-in
+ * {@linkplain PooledConnectionProviderImpl connection pool} as the gauges
+ * {@code hibernate.pool.connections.active}, {@code hibernate.pool.connections.idle},
+ * and {@code hibernate.pool.connections.pending}, read from the pool whenever
+ * the registry is scraped.
+ * <p>
+ * The gauges are tagged by {@code pool}, which is {@code primary} for the pool
+ * of connections to the primary database, or {@code replica-1}, {@code replica-2},
+ * and so on for the pools of connections to the
+ * {@linkplain ReplicaRoutingConnectionProviderImpl read replicas}. If the
+ * {@code SessionFactory} does not use the built-in pool, no meters are bound.
+ *
+ * @since 7.0
+ */
+@Incubating
+@NonNullApi
+@NonNullFields
+public class HibernateConnectionPoolMetrics implements MeterBinder {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+	private static final String POOL_TAG_NAME = "pool";
+
+	private final Iterable<Tag> tags;
+
+	private final @Nullable ConnectionProvider connectionProvider;
+
+	/**
+	 * Create {@code HibernateConnectionPoolMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		new HibernateConnectionPoolMetrics( sessionFactory, sessionFactoryName, Tags.of( tags ) ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateConnectionPoolMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateConnectionPoolMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.connectionProvider = sessionFactory.unwrap( SessionFactoryImplementor.class )
+				.getServiceRegistry()
+				.getService( ConnectionProvider.class );
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if ( connectionProvider instanceof PooledConnectionProviderImpl pool ) {
+			bindTo( registry, pool, "primary" );
+		}
+		else if ( connectionProvider instanceof ReplicaRoutingConnectionProviderImpl routing ) {
+			bindTo( registry, routing.getPrimaryPool(), "primary" );
+			final List<PooledConnectionProviderImpl> replicaPools = routing.getReplicaPools();
+			for ( int i = 0; i < replicaPools.size(); i++ ) {
+				bindTo( registry, replicaPools.get( i ), "replica-" + ( i + 1 ) );
+			}
+		}
+	}
+
+	private void bindTo(MeterRegistry registry, PooledConnectionProviderImpl pool, String poolName) {
+		gauge( registry, pool, poolName, "hibernate.pool.connections.active", "Connections in use",
+				PooledConnectionProviderImpl::getActiveConnectionCount );
+		gauge( registry, pool, poolName, "hibernate.pool.connections.idle", "Connections idle in the connection pool",
+				PooledConnectionProviderImpl::getIdleConnectionCount );
+		gauge( registry, pool, poolName, "hibernate.pool.connections.pending", "Threads waiting for a connection",
+				PooledConnectionProviderImpl::getWaitingThreadCount );
+	}
+
+	private void gauge(
+			MeterRegistry registry,
+			PooledConnectionProviderImpl pool,
+			String poolName,
+			String name,
+			String description,
+			ToDoubleFunction<PooledConnectionProviderImpl> f) {
+		Gauge.builder( name, pool, f )
+				.tags( tags )
+				.tag( POOL_TAG_NAME, poolName )
+				.description( description )
+				.register( registry );
+	}
+}
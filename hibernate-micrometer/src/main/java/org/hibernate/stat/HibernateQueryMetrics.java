@@ -32,6 +32,8 @@ public class HibernateQueryMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] PERCENTILES = { 50.0, 95.0, 99.0 };
+
 	private final Iterable<Tag> tags;
 
 	private final SessionFactory sessionFactory;
@@ -179,6 +181,111 @@ void registerQueryMetric(Statistics statistics) {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				FunctionCounter.builder(
+						"hibernate.query.plan.requests",
+						queryStatistics,
+						QueryStatistics::getPlanCacheHitCount
+				)
+						.tags( tags )
+						.tags( "result", "hit", "query", query )
+						.description( "Number of query plan cache hits" )
+						.register( meterRegistry );
+
+				FunctionCounter.builder(
+						"hibernate.query.plan.requests",
+						queryStatistics,
+						QueryStatistics::getPlanCacheMissCount
+				)
+						.tags( tags )
+						.tags( "result", "miss", "query", query )
+						.description( "Number of query plan cache misses" )
+						.register( meterRegistry );
+
+				FunctionCounter.builder(
+						"hibernate.query.plan.uncacheable",
+						queryStatistics,
+						QueryStatistics::getPlanUncacheableCount
+				)
+						.tags( tags )
+						.tags( "query", query )
+						.description( "Number of executions for which the query plan could not be cached" )
+						.register( meterRegistry );
+
+				FunctionCounter.builder(
+						"hibernate.query.plan.compilation",
+						queryStatistics,
+						QueryStatistics::getPlanCompilationTotalMicroseconds
+				)
+						.tags( tags )
+						.tags( "query", query )
+						.baseUnit( "microseconds" )
+						.description( "Overall time spent compiling the query" )
+						.register( meterRegistry );
+
+				FunctionCounter.builder(
+						"hibernate.query.plan.translation",
+						queryStatistics,
+						QueryStatistics::getPlanTranslationTotalMicroseconds
+				)
+						.tags( tags )
+						.tags( "query", query )
+						.baseUnit( "microseconds" )
+						.description( "Overall time spent translating the query to SQL" )
+						.register( meterRegistry );
+
+				registerPercentiles( queryStatistics, query );
+			}
+		}
+
+		/**
+		 * Publish percentiles of the {@link Histogram}s as gauges, following the
+		 * Micrometer convention for client-side percentiles of a {@link Timer} or
+		 * {@link DistributionSummary}, that is, a {@code .percentile} suffix and a
+		 * {@code phi} tag.
+		 */
+		void registerPercentiles(QueryStatistics queryStatistics, String query) {
+			final Histogram executionTime = queryStatistics.getExecutionTimeHistogram();
+			final Histogram executionRows = queryStatistics.getExecutionRowCountHistogram();
+			final Histogram planCompilationTime = queryStatistics.getPlanCompilationTimeHistogram();
+			for ( double percentile : PERCENTILES ) {
+				final String phi = Double.toString( percentile / 100 );
+				if ( executionTime != null ) {
+					TimeGauge.builder(
+							"hibernate.query.execution.percentile",
+							executionTime,
+							TimeUnit.MILLISECONDS,
+							histogram -> histogram.getValueAtPercentile( percentile )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", phi )
+							.description( "Query execution time percentile" )
+							.register( meterRegistry );
+				}
+				if ( executionRows != null ) {
+					Gauge.builder(
+							"hibernate.query.execution.rows.percentile",
+							executionRows,
+							histogram -> histogram.getValueAtPercentile( percentile )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", phi )
+							.baseUnit( "rows" )
+							.description( "Percentile of the number of rows processed by a query execution" )
+							.register( meterRegistry );
+				}
+				if ( planCompilationTime != null ) {
+					TimeGauge.builder(
+							"hibernate.query.plan.compilation.percentile",
+							planCompilationTime,
+							TimeUnit.MICROSECONDS,
+							histogram -> histogram.getValueAtPercentile( percentile )
+					)
+							.tags( tags )
+							.tags( "query", query, "phi", phi )
+							.description( "Query plan compilation time percentile" )
+							.register( meterRegistry );
+				}
 			}
 		}
 	}
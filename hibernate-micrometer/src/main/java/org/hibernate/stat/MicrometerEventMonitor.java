@@ -0,0 +1,667 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.common.lang.NonNullApi;
+import io.micrometer.common.lang.NonNullFields;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.hibernate.Incubating;
+import org.hibernate.LockMode;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link EventMonitor} which records the duration of interactions with
+ * the database and second-level cache as Micrometer {@linkplain Timer timers}.
+ * Unlike {@link HibernateMetrics}, it does not depend on {@link Statistics},
+ * and so it works without {@value org.hibernate.cfg.StatisticsSettings#GENERATE_STATISTICS}.
+ * <p>
+ * The following meters are recorded:
+ * <ul>
+ * <li>{@code hibernate.jdbc.connection.acquisition}, the time taken to obtain
+ *     a JDBC connection,
+ * <li>{@code hibernate.jdbc.statement.execution}, the time taken to execute a
+ *     {@link java.sql.PreparedStatement},
+ * <li>{@code hibernate.jdbc.batch.execution}, the time taken to execute a JDBC
+ *     batch, and {@code hibernate.jdbc.batch.size}, the distribution of batch sizes,
+ * <li>{@code hibernate.cache.get} and {@code hibernate.cache.put}, the latency of
+ *     second-level cache operations, tagged by {@code region} and {@code entity},
+ *     which is the entity name or collection role, and, for gets, by {@code result},
+ * <li>{@code hibernate.query.parse}, {@code hibernate.query.translation},
+ *     {@code hibernate.query.rendering}, and {@code hibernate.query.hydration},
+ *     the time spent in each phase of query processing,
+ * <li>for the built-in
+ *     {@linkplain org.hibernate.engine.jdbc.connections.internal.PooledConnectionProviderImpl
+ *     connection pool}, {@code hibernate.pool.acquisition}, the time taken to obtain a
+ *     connection from the pool, tagged by {@code result}, and {@code hibernate.pool.leaks},
+ *     the number of suspected connection leaks.
+ * </ul>
+ * <p>
+ * As with {@link HibernateMetrics}, every meter is tagged by {@code entityManagerFactory},
+ * the name of the {@code SessionFactory}, and by any additional tags given when the
+ * monitor is created, so that several {@code SessionFactory}s may share a registry.
+ * <p>
+ * The state of the built-in connection pool is exposed by {@link HibernateConnectionPoolMetrics}.
+ * <p>
+ * This monitor is not discovered automatically. It must be enabled by setting
+ * {@value org.hibernate.cfg.StatisticsSettings#EVENT_MONITOR} to an instance
+ * created with the {@link MeterRegistry} it should record to:
+ * <pre>
+ * settings.put( AvailableSettings.EVENT_MONITOR, new MicrometerEventMonitor( registry, "orders" ) );
+ * </pre>
+ * <p>
+ * A {@code SessionFactory} uses only one {@code EventMonitor}, so this monitor
+ * takes the place of Hibernate JFR, if both are present.
+ *
+ * @since 7.0
+ */
+@Incubating
+@NonNullApi
+@NonNullFields
+public class MicrometerEventMonitor implements EventMonitor {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+	private final Iterable<Tag> tags;
+
+	private final Timer connectionAcquisitionTimer;
+	private final Timer statementExecutionTimer;
+	private final Timer batchExecutionTimer;
+	private final DistributionSummary batchSizeSummary;
+	private final Timer hqlParseTimer;
+	private final Timer sqmTranslationTimer;
+	private final Timer sqlRenderingTimer;
+	private final Timer resultHydrationTimer;
+	private final Timer poolAcquisitionTimer;
+	private final Timer failedPoolAcquisitionTimer;
+	private final Counter connectionLeakCounter;
+
+	// the timers of the second-level cache, resolved once for each
+	// entity or collection persister, or for each region
+	private final ConcurrentMap<Region, CacheTimers> regionCacheTimers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<EntityPersister, CacheTimers> entityCacheTimers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<EntityPersister, CacheTimers> naturalIdCacheTimers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<CollectionPersister, CacheTimers> collectionCacheTimers = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a monitor which records to the given registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public MicrometerEventMonitor(MeterRegistry registry, String sessionFactoryName, String... tags) {
+		this( registry, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create a monitor which records to the given registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public MicrometerEventMonitor(MeterRegistry registry, String sessionFactoryName, Iterable<Tag> tags) {
+		this.registry = registry;
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		connectionAcquisitionTimer = Timer.builder( "hibernate.jdbc.connection.acquisition" )
+				.tags( tags )
+				.description( "Time taken to obtain a JDBC connection" )
+				.register( registry );
+		statementExecutionTimer = Timer.builder( "hibernate.jdbc.statement.execution" )
+				.tags( tags )
+				.description( "Time taken to execute a JDBC statement" )
+				.register( registry );
+		batchExecutionTimer = Timer.builder( "hibernate.jdbc.batch.execution" )
+				.tags( tags )
+				.description( "Time taken to execute a JDBC batch" )
+				.register( registry );
+		batchSizeSummary = DistributionSummary.builder( "hibernate.jdbc.batch.size" )
+				.tags( tags )
+				.description( "Number of rows in an executed JDBC batch" )
+				.baseUnit( "rows" )
+				.register( registry );
+		hqlParseTimer = Timer.builder( "hibernate.query.parse" )
+				.tags( tags )
+				.description( "Time taken to parse an HQL query" )
+				.register( registry );
+		sqmTranslationTimer = Timer.builder( "hibernate.query.translation" )
+				.tags( tags )
+				.description( "Time taken to translate a query to a SQL AST" )
+				.register( registry );
+		sqlRenderingTimer = Timer.builder( "hibernate.query.rendering" )
+				.tags( tags )
+				.description( "Time taken to render a SQL AST to SQL" )
+				.register( registry );
+		resultHydrationTimer = Timer.builder( "hibernate.query.hydration" )
+				.tags( tags )
+				.description( "Time taken to read the results of a query" )
+				.register( registry );
+		poolAcquisitionTimer = Timer.builder( "hibernate.pool.acquisition" )
+				.tags( tags )
+				.description( "Time taken to obtain a connection from the connection pool" )
+				.tag( "result", "success" )
+				.register( registry );
+		failedPoolAcquisitionTimer = Timer.builder( "hibernate.pool.acquisition" )
+				.tags( tags )
+				.description( "Time taken to obtain a connection from the connection pool" )
+				.tag( "result", "failure" )
+				.register( registry );
+		connectionLeakCounter = Counter.builder( "hibernate.pool.leaks" )
+				.tags( tags )
+				.description( "Connections held outside the connection pool beyond the leak detection threshold" )
+				.register( registry );
+	}
+
+	/**
+	 * The start time of an operation.
+	 */
+	private static final class TimedEvent implements DiagnosticEvent {
+		private final long startTime = System.nanoTime();
+
+		private void stop(Timer timer) {
+			timer.record( System.nanoTime() - startTime, TimeUnit.NANOSECONDS );
+		}
+	}
+
+	/**
+	 * The timers of the cache operations on one region, for one entity or collection.
+	 */
+	private static final class CacheTimers {
+		private final Timer hit;
+		private final Timer miss;
+		private final Timer put;
+
+		private CacheTimers(MeterRegistry registry, Iterable<Tag> tags, String region, String entity) {
+			hit = cacheGetTimer( registry, tags, region, entity, "hit" );
+			miss = cacheGetTimer( registry, tags, region, entity, "miss" );
+			put = Timer.builder( "hibernate.cache.put" )
+					.description( "Time taken to put an item in the second-level cache" )
+					.tags( tags )
+					.tag( "region", region )
+					.tag( "entity", entity )
+					.register( registry );
+		}
+
+		private static Timer cacheGetTimer(
+				MeterRegistry registry,
+				Iterable<Tag> tags,
+				String region,
+				String entity,
+				String result) {
+			return Timer.builder( "hibernate.cache.get" )
+					.description( "Time taken to get an item from the second-level cache" )
+					.tags( tags )
+					.tag( "region", region )
+					.tag( "entity", entity )
+					.tag( "result", result )
+					.register( registry );
+		}
+
+		private Timer get(boolean hit) {
+			return hit ? this.hit : miss;
+		}
+	}
+
+	private static void stop(@Nullable DiagnosticEvent event, Timer timer) {
+		if ( event instanceof TimedEvent timedEvent ) {
+			timedEvent.stop( timer );
+		}
+	}
+
+	private CacheTimers cacheTimers(Region region) {
+		final CacheTimers timers = regionCacheTimers.get( region );
+		return timers != null
+				? timers
+				: regionCacheTimers.computeIfAbsent( region,
+						key -> new CacheTimers( registry, tags, region.getName(), NONE ) );
+	}
+
+	private CacheTimers cacheTimers(Region region, EntityPersister persister, boolean naturalId) {
+		final ConcurrentMap<EntityPersister, CacheTimers> timersByPersister =
+				naturalId ? naturalIdCacheTimers : entityCacheTimers;
+		final CacheTimers timers = timersByPersister.get( persister );
+		return timers != null
+				? timers
+				: timersByPersister.computeIfAbsent( persister,
+						key -> new CacheTimers( registry, tags, region.getName(), persister.getEntityName() ) );
+	}
+
+	private CacheTimers cacheTimers(Region region, CollectionPersister persister) {
+		final CacheTimers timers = collectionCacheTimers.get( persister );
+		return timers != null
+				? timers
+				: collectionCacheTimers.computeIfAbsent( persister,
+						key -> new CacheTimers( registry, tags, region.getName(), persister.getRole() ) );
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginSessionOpenEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			@Nullable DiagnosticEvent sessionOpenEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginSessionClosedEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			@Nullable DiagnosticEvent sessionClosedEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public DiagnosticEvent beginJdbcConnectionAcquisitionEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeJdbcConnectionAcquisitionEvent(
+			@Nullable DiagnosticEvent jdbcConnectionAcquisitionEvent,
+			SharedSessionContractImplementor session,
+			@Nullable Object tenantId) {
+		stop( jdbcConnectionAcquisitionEvent, connectionAcquisitionTimer );
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginJdbcConnectionReleaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcConnectionReleaseEvent(
+			@Nullable DiagnosticEvent jdbcConnectionReleaseEvent,
+			SharedSessionContractImplementor session,
+			@Nullable Object tenantId) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginJdbcPreparedStatementCreationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			@Nullable DiagnosticEvent jdbcPreparedStatementCreation,
+			String preparedStatementSql) {
+	}
+
+	@Override
+	public DiagnosticEvent beginJdbcPreparedStatementExecutionEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementExecutionEvent(
+			@Nullable DiagnosticEvent jdbcPreparedStatementExecutionEvent,
+			String preparedStatementSql) {
+		stop( jdbcPreparedStatementExecutionEvent, statementExecutionTimer );
+	}
+
+	@Override
+	public DiagnosticEvent beginJdbcBatchExecutionEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			@Nullable DiagnosticEvent jdbcBatchExecutionEvent,
+			String statementSql,
+			int batchSize) {
+		stop( jdbcBatchExecutionEvent, batchExecutionTimer );
+		batchSizeSummary.record( batchSize );
+	}
+
+	@Override
+	public DiagnosticEvent beginCachePutEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			@Nullable DiagnosticEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		stop( cachePutEvent, cacheTimers( region ).put );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			@Nullable DiagnosticEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		completeCachePutEvent( cachePutEvent, session, cachedDomainDataAccess, persister, cacheContentChanged,
+				false, description );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			@Nullable DiagnosticEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			boolean isNatualId,
+			CacheActionDescription description) {
+		stop( cachePutEvent, cacheTimers( cachedDomainDataAccess.getRegion(), persister, isNatualId ).put );
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			@Nullable DiagnosticEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			CollectionPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description) {
+		stop( cachePutEvent, cacheTimers( cachedDomainDataAccess.getRegion(), persister ).put );
+	}
+
+	@Override
+	public DiagnosticEvent beginCacheGetEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			@Nullable DiagnosticEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			boolean hit) {
+		stop( cacheGetEvent, cacheTimers( region ).get( hit ) );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			@Nullable DiagnosticEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			boolean hit) {
+		stop( cacheGetEvent, cacheTimers( region, persister, isNaturalKey ).get( hit ) );
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			@Nullable DiagnosticEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			Region region,
+			CollectionPersister persister,
+			boolean hit) {
+		stop( cacheGetEvent, cacheTimers( region, persister ).get( hit ) );
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginFlushEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(@Nullable DiagnosticEvent flushEvent, FlushEvent event) {
+	}
+
+	@Override
+	public void completeFlushEvent(@Nullable DiagnosticEvent flushEvent, FlushEvent event, boolean autoFlush) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginPartialFlushEvent() {
+		return null;
+	}
+
+	@Override
+	public void completePartialFlushEvent(@Nullable DiagnosticEvent flushEvent, AutoFlushEvent event) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginDirtyCalculationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeDirtyCalculationEvent(
+			@Nullable DiagnosticEvent dirtyCalculationEvent,
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			EntityEntry entry,
+			int[] dirtyProperties) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginPrePartialFlush() {
+		return null;
+	}
+
+	@Override
+	public void completePrePartialFlush(
+			@Nullable DiagnosticEvent prePartialFlush,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginEntityInsertEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeEntityInsertEvent(
+			@Nullable DiagnosticEvent event,
+			@Nullable Object id,
+			String entityName,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginEntityUpdateEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeEntityUpdateEvent(
+			@Nullable DiagnosticEvent event,
+			Object id,
+			String entityName,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginEntityUpsertEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeEntityUpsertEvent(
+			@Nullable DiagnosticEvent event,
+			Object id,
+			String entityName,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginEntityDeleteEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeEntityDeleteEvent(
+			@Nullable DiagnosticEvent event,
+			Object id,
+			String entityName,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginEntityLockEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeEntityLockEvent(
+			@Nullable DiagnosticEvent event,
+			Object id,
+			String entityName,
+			LockMode lockMode,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginCollectionRecreateEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCollectionRecreateEvent(
+			@Nullable DiagnosticEvent event,
+			Object id,
+			String role,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginCollectionUpdateEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCollectionUpdateEvent(
+			@Nullable DiagnosticEvent event,
+			Object id,
+			String role,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginCollectionRemoveEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCollectionRemoveEvent(
+			@Nullable DiagnosticEvent event,
+			Object id,
+			String role,
+			boolean success,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginRepeatedLazyLoadEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeRepeatedLazyLoadEvent(
+			@Nullable DiagnosticEvent event,
+			String role,
+			@Nullable String originatingQuery,
+			int loadCount,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public DiagnosticEvent beginHqlParseEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeHqlParseEvent(@Nullable DiagnosticEvent event, String hql) {
+		stop( event, hqlParseTimer );
+	}
+
+	@Override
+	public DiagnosticEvent beginSqmTranslationEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeSqmTranslationEvent(@Nullable DiagnosticEvent event) {
+		stop( event, sqmTranslationTimer );
+	}
+
+	@Override
+	public DiagnosticEvent beginSqlRenderingEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeSqlRenderingEvent(@Nullable DiagnosticEvent event, String sql) {
+		stop( event, sqlRenderingTimer );
+	}
+
+	@Override
+	public DiagnosticEvent beginResultHydrationEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeResultHydrationEvent(
+			@Nullable DiagnosticEvent event,
+			int rowCount,
+			SharedSessionContractImplementor session) {
+		stop( event, resultHydrationTimer );
+	}
+
+	@Override
+	public DiagnosticEvent beginConnectionPoolAcquisitionEvent() {
+		return new TimedEvent();
+	}
+
+	@Override
+	public void completeConnectionPoolAcquisitionEvent(@Nullable DiagnosticEvent event, boolean success) {
+		stop( event, success ? poolAcquisitionTimer : failedPoolAcquisitionTimer );
+	}
+
+	@Override
+	public @Nullable DiagnosticEvent beginConnectionLeakEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeConnectionLeakEvent(@Nullable DiagnosticEvent event, long heldMillis) {
+		connectionLeakCounter.increment();
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateConnectionPoolMetrics;
+import org.hibernate.stat.MicrometerEventMonitor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HibernateConnectionPoolMetrics}, and for the reporting of
+ * pool acquisitions to the {@link MicrometerEventMonitor} specified by the settings
+ */
+@DomainModel(annotatedClasses = HibernateConnectionPoolMetricsTest.Gadget.class)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.CONNECTION_PROVIDER, value = "pooled"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.EVENT_MONITOR,
+				provider = HibernateConnectionPoolMetricsTest.EventMonitorProvider.class
+		)
+)
+@SessionFactory
+public class HibernateConnectionPoolMetricsTest {
+
+	private static final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	public static class EventMonitorProvider implements SettingProvider.Provider<MicrometerEventMonitor> {
+		@Override
+		public MicrometerEventMonitor getSetting() {
+			return new MicrometerEventMonitor( registry, "test" );
+		}
+	}
+
+	@AfterAll
+	public void tearDown() {
+		registry.clear();
+	}
+
+	@Test
+	public void testGauges(SessionFactoryScope scope) {
+		HibernateConnectionPoolMetrics.monitor( registry, scope.getSessionFactory(), "test" );
+
+		scope.inTransaction( session -> {
+			session.persist( new Gadget( 1 ) );
+			session.flush();
+			// the session holds a connection until the transaction ends
+			assertThat( registry.get( "hibernate.pool.connections.active" )
+					.tags( "entityManagerFactory", "test", "pool", "primary" )
+					.gauge().value() ).isEqualTo( 1 );
+		} );
+		// read from the pool, not from the last acquisition
+		assertThat( registry.get( "hibernate.pool.connections.active" ).gauge().value() ).isZero();
+		assertThat( registry.get( "hibernate.pool.connections.idle" ).gauge().value() ).isPositive();
+		assertThat( registry.get( "hibernate.pool.connections.pending" ).gauge().value() ).isZero();
+
+		// the pool reports to the configured monitor, like the SessionFactory
+		assertThat( registry.get( "hibernate.pool.acquisition" ).tags( "result", "success" )
+				.timer().count() ).isPositive();
+	}
+
+	@Entity(name = "Gadget")
+	public static class Gadget {
+		@Id
+		Integer id;
+
+		public Gadget() {
+		}
+
+		public Gadget(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.MicrometerEventMonitor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MicrometerEventMonitor}, which must work with statistics disabled
+ */
+@DomainModel(annotatedClasses = MicrometerEventMonitorTest.Widget.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "false"),
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5")
+		},
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.EVENT_MONITOR,
+				provider = MicrometerEventMonitorTest.EventMonitorProvider.class
+		)
+)
+@SessionFactory
+public class MicrometerEventMonitorTest {
+
+	private static final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	public static class EventMonitorProvider implements SettingProvider.Provider<MicrometerEventMonitor> {
+		@Override
+		public MicrometerEventMonitor getSetting() {
+			return new MicrometerEventMonitor( registry, "test" );
+		}
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		registry.clear();
+	}
+
+	@Test
+	public void testTimers(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getEventMonitor() ).isInstanceOf( MicrometerEventMonitor.class );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.persist( new Widget( i, "widget " + i ) );
+			}
+		} );
+		assertThat( registry.get( "hibernate.jdbc.connection.acquisition" ).timer().count() ).isPositive();
+		assertThat( registry.get( "hibernate.jdbc.batch.size" ).summary().max() ).isEqualTo( 3 );
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Widget", Widget.class ).getResultList();
+			session.find( Widget.class, 1 );
+		} );
+		assertThat( registry.get( "hibernate.jdbc.statement.execution" ).timer().count() ).isPositive();
+		assertThat( registry.get( "hibernate.query.parse" ).timer().count() ).isPositive();
+		assertThat( registry.get( "hibernate.query.hydration" ).timer().count() ).isPositive();
+
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.inTransaction( session -> session.find( Widget.class, 2 ) );
+		scope.inTransaction( session -> session.find( Widget.class, 2 ) );
+		assertThat( registry.get( "hibernate.cache.get" )
+				.tags( "entity", Widget.class.getName(), "result", "miss" )
+				.timer().count() ).isPositive();
+		assertThat( registry.get( "hibernate.cache.get" )
+				.tags( "entity", Widget.class.getName(), "result", "hit" )
+				.timer().count() ).isPositive();
+		assertThat( registry.get( "hibernate.cache.put" )
+				.tags( "entity", Widget.class.getName() )
+				.timer().count() ).isPositive();
+
+		// every meter carries the name of the SessionFactory
+		assertThat( registry.getMeters() ).isNotEmpty()
+				.allMatch( meter -> "test".equals( meter.getId().getTag( "entityManagerFactory" ) ) );
+	}
+
+	@Entity(name = "Widget")
+	@Table(name = "widgets")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Widget {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Widget() {
+		}
+
+		public Widget(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.testing.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Detects virtual threads pinned to their carrier thread, that is, virtual
+ * threads which block while holding a monitor, or while in native code.
+ * <p>
+ * This is the assertable counterpart of running with
+ * {@code -Djdk.tracePinnedThreads=full}: instead of printing the stack
+ * traces, it records the {@code jdk.VirtualThreadPinned} JFR event, which is
+ * emitted when a pinned virtual thread blocks for longer than 20ms, and
+ * reports the stack trace of each occurrence.
+ * <pre>
+ * try ( VirtualThreadPinningDetector detector = VirtualThreadPinningDetector.start() ) {
+ *     VirtualThreadPinningDetector.runInVirtualThreads( 100, () -&gt; ... );
+ *     assertThat( detector.getPinnedStackTraces() ).isEmpty();
+ * }
+ * </pre>
+ * Virtual threads require JDK 21, so tests should first check
+ * {@link #isVirtualThreadSupported()}.
+ */
+public final class VirtualThreadPinningDetector implements AutoCloseable {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final Recording recording;
+
+	private VirtualThreadPinningDetector() {
+		recording = new Recording();
+		recording.enable( PINNED_EVENT ).withStackTrace();
+		recording.start();
+	}
+
+	/**
+	 * Start recording pinned virtual threads.
+	 */
+	public static VirtualThreadPinningDetector start() {
+		return new VirtualThreadPinningDetector();
+	}
+
+	/**
+	 * Stop recording, and return the stack trace of every virtual thread
+	 * which was pinned since {@link #start()}.
+	 */
+	public List<String> getPinnedStackTraces() {
+		recording.stop();
+		try {
+			final Path file = Files.createTempFile( "pinned-threads", ".jfr" );
+			try {
+				recording.dump( file );
+				final List<String> stackTraces = new ArrayList<>();
+				for ( RecordedEvent event : RecordingFile.readAllEvents( file ) ) {
+					if ( PINNED_EVENT.equals( event.getEventType().getName() ) ) {
+						stackTraces.add( format( event.getStackTrace() ) );
+					}
+				}
+				return stackTraces;
+			}
+			finally {
+				Files.deleteIfExists( file );
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	@Override
+	public void close() {
+		recording.close();
+	}
+
+	/**
+	 * Run the given task concurrently in the given number of virtual threads,
+	 * and wait for all of them to complete, rethrowing the first failure.
+	 */
+	public static void runInVirtualThreads(int threadCount, Task task) throws Exception {
+		final List<Future<?>> futures = new ArrayList<>( threadCount );
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		try {
+			for ( int i = 0; i < threadCount; i++ ) {
+				futures.add( executor.submit( () -> {
+					task.run();
+					return null;
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Does the current JVM support virtual threads?
+	 */
+	public static boolean isVirtualThreadSupported() {
+		try {
+			Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+			return true;
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Obtain {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively,
+	 * since the testing module is compiled for a JDK without virtual threads.
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			throw new UnsupportedOperationException( "Virtual threads are not supported by this JVM", e );
+		}
+	}
+
+	private static String format(RecordedStackTrace stackTrace) {
+		if ( stackTrace == null ) {
+			return "<no stack trace>";
+		}
+		final StringBuilder result = new StringBuilder();
+		for ( RecordedFrame frame : stackTrace.getFrames() ) {
+			result.append( "\tat " )
+					.append( frame.getMethod().getType().getName() )
+					.append( '.' )
+					.append( frame.getMethod().getName() )
+					.append( '(' )
+					.append( frame.getLineNumber() )
+					.append( ")\n" );
+		}
+		return result.toString();
+	}
+
+	@FunctionalInterface
+	public interface Task {
+		void run() throws Exception;
+	}
+}